@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Acquires and executes async jobs the way the async executor does, but on the benchmark thread,
+ * so the throughput of the acquisition and execution itself is measured (in jobs per second).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AsyncJobBenchmark {
+
+    protected static final int JOBS_PER_INVOCATION = 50;
+
+    @Param({ "true", "false" })
+    public boolean exclusive;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected DefaultAsyncJobExecutor asyncExecutor;
+
+    @Setup
+    public void createProcessEngine() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl(FlowableBenchmarks.createJdbcUrl("jobs"));
+        processEngineConfiguration.setHistory("none");
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/asyncTaskProcess.bpmn20.xml")
+                .deploy();
+
+        runtimeService = processEngine.getRuntimeService();
+        jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+
+        // Not started: only used to acquire the jobs, which are executed on the benchmark thread
+        asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setJobServiceConfiguration(jobServiceConfiguration);
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(JOBS_PER_INVOCATION);
+    }
+
+    @Setup(Level.Invocation)
+    public void createJobs() {
+        String processDefinitionKey = exclusive ? "exclusiveAsyncTask" : "nonExclusiveAsyncTask";
+        for (int i = 0; i < JOBS_PER_INVOCATION; i++) {
+            runtimeService.startProcessInstanceByKey(processDefinitionKey);
+        }
+    }
+
+    @TearDown
+    public void closeProcessEngine() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(JOBS_PER_INVOCATION)
+    public int acquireAndExecuteJobs() {
+        List<? extends JobInfoEntity> jobs = jobServiceConfiguration.getCommandExecutor().execute(new AcquireJobsCmd(asyncExecutor));
+        for (JobInfoEntity job : jobs) {
+            new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobServiceConfiguration.getJobEntityManager(), null).run();
+        }
+        return jobs.size();
+    }
+
+}
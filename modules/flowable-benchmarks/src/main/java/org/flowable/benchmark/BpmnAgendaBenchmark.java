@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs process instances through the operations of the BPMN agenda: starting a process instance up to a wait state,
+ * completing a user task and taking the sequence flows of a chain of gateways and pass-through activities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BpmnAgendaBenchmark {
+
+    @Param({ "none", "audit" })
+    public String historyLevel;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected TaskService taskService;
+
+    @Setup
+    public void createProcessEngine() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl(FlowableBenchmarks.createJdbcUrl("bpmn"));
+        processEngineConfiguration.setHistory(historyLevel);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/userTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/benchmark/sequenceFlowChain.bpmn20.xml")
+                .deploy();
+
+        runtimeService = processEngine.getRuntimeService();
+        taskService = processEngine.getTaskService();
+    }
+
+    @TearDown
+    public void closeProcessEngine() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public ProcessInstance startAndCompleteUserTask() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcess");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        return processInstance;
+    }
+
+    @Benchmark
+    public ProcessInstance takeSequenceFlowChain() {
+        return runtimeService.startProcessInstanceByKey("sequenceFlowChain");
+    }
+
+}
@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.common.engine.impl.util.io.BytesStreamSource;
+import org.flowable.engine.impl.bpmn.parser.BpmnModelSnapshotUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares getting the {@link BpmnModel} of a deployed process definition after a cache miss from the BPMN XML
+ * (with and without schema validation) with getting it from the BPMN model snapshot (in models per second).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BpmnModelParseBenchmark {
+
+    @Param({ "userTaskProcess.bpmn20.xml", "sequenceFlowChain.bpmn20.xml" })
+    public String resource;
+
+    protected BpmnXMLConverter bpmnXMLConverter;
+    protected byte[] bpmnXml;
+    protected byte[] snapshot;
+
+    @Setup
+    public void readModel() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("org/flowable/benchmark/" + resource)) {
+            bpmnXml = IoUtil.readInputStream(inputStream, resource);
+        }
+
+        bpmnXMLConverter = new BpmnXMLConverter();
+        snapshot = BpmnModelSnapshotUtil.createSnapshot(parseXml(false), bpmnXml);
+    }
+
+    @Benchmark
+    public BpmnModel parseXmlWithSchemaValidation() {
+        return parseXml(true);
+    }
+
+    @Benchmark
+    public BpmnModel parseXmlWithoutSchemaValidation() {
+        return parseXml(false);
+    }
+
+    @Benchmark
+    public BpmnModel readSnapshot() {
+        return BpmnModelSnapshotUtil.readSnapshot(snapshot, bpmnXml);
+    }
+
+    protected BpmnModel parseXml(boolean validateSchema) {
+        return bpmnXMLConverter.convertToBpmnModel(new BytesStreamSource(bpmnXml), validateSchema, false);
+    }
+
+}
@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.cmmn.api.CmmnRuntimeService;
+import org.flowable.cmmn.api.CmmnTaskService;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cfg.StandaloneInMemCmmnEngineConfiguration;
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Completes a human task on which the entry sentries of several plan items (one of them with an if part) depend,
+ * which makes the criteria evaluation of the CMMN agenda activate and complete the rest of the case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CmmnSentryBenchmark {
+
+    protected CmmnEngine cmmnEngine;
+    protected CmmnRuntimeService cmmnRuntimeService;
+    protected CmmnTaskService cmmnTaskService;
+
+    @Setup
+    public void createCmmnEngine() {
+        CmmnEngineConfiguration cmmnEngineConfiguration = new StandaloneInMemCmmnEngineConfiguration();
+        cmmnEngineConfiguration.setJdbcUrl(FlowableBenchmarks.createJdbcUrl("cmmn"));
+        cmmnEngine = cmmnEngineConfiguration.buildCmmnEngine();
+
+        cmmnEngine.getCmmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/sentryCase.cmmn")
+                .deploy();
+
+        cmmnRuntimeService = cmmnEngine.getCmmnRuntimeService();
+        cmmnTaskService = cmmnEngine.getCmmnTaskService();
+    }
+
+    @TearDown
+    public void closeCmmnEngine() {
+        cmmnEngine.close();
+    }
+
+    @Benchmark
+    public CaseInstance evaluateSentries() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("sentryCase")
+                .variable("approved", true)
+                .start();
+
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.complete(task.getId());
+        return caseInstance;
+    }
+
+}
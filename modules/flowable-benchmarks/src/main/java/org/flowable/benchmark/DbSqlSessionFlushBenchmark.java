@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the flush of the DbSqlSession at the end of a command that inserts a number of entities,
+ * with and without jdbc batching of the flush.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DbSqlSessionFlushBenchmark {
+
+    protected static final String BYTE_ARRAY_NAME = "flush-benchmark";
+
+    @Param({ "10", "100" })
+    public int entityCount;
+
+    @Param({ "false", "true" })
+    public boolean jdbcBatchFlushEnabled;
+
+    protected ProcessEngine processEngine;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected byte[] bytes = new byte[256];
+
+    @Setup
+    public void createProcessEngine() {
+        processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl(FlowableBenchmarks.createJdbcUrl("flush"));
+        processEngineConfiguration.setJdbcBatchFlushEnabled(jdbcBatchFlushEnabled);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedEntities() throws SQLException {
+        try (Connection connection = processEngineConfiguration.getDataSource().getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate("delete from ACT_GE_BYTEARRAY where NAME_ = '" + BYTE_ARRAY_NAME + "'");
+        }
+    }
+
+    @TearDown
+    public void closeProcessEngine() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public int insertAndFlush() {
+        return processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            ByteArrayEntityManager byteArrayEntityManager = CommandContextUtil.getByteArrayEntityManager(commandContext);
+            for (int i = 0; i < entityCount; i++) {
+                ByteArrayEntity byteArrayEntity = byteArrayEntityManager.create();
+                byteArrayEntity.setName(BYTE_ARRAY_NAME);
+                byteArrayEntity.setBytes(bytes);
+                byteArrayEntityManager.insert(byteArrayEntity);
+            }
+            return entityCount;
+        });
+    }
+
+}
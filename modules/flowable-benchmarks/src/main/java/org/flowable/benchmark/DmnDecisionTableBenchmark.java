@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DmnDecisionService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a decision table of which the input matches a rule near the top, or only the last rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DmnDecisionTableBenchmark {
+
+    @Param({ "firstRule", "lastRule" })
+    public String matchingRule;
+
+    @Param({ "false", "true" })
+    public boolean historyEnabled;
+
+    protected DmnEngine dmnEngine;
+    protected DmnDecisionService dmnDecisionService;
+    protected int age;
+    protected String category;
+
+    @Setup
+    public void createDmnEngine() {
+        DmnEngineConfiguration dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setJdbcUrl(FlowableBenchmarks.createJdbcUrl("dmn"));
+        dmnEngineConfiguration.setDatabaseSchemaUpdate(DmnEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        dmnEngineConfiguration.setHistoryEnabled(historyEnabled);
+        dmnEngine = dmnEngineConfiguration.buildDmnEngine();
+
+        dmnEngine.getDmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/decisionTable.dmn")
+                .deploy();
+
+        dmnDecisionService = dmnEngine.getDmnDecisionService();
+
+        if ("firstRule".equals(matchingRule)) {
+            age = 3;
+            category = "A";
+        } else {
+            age = 100;
+            category = "Z";
+        }
+    }
+
+    @TearDown
+    public void closeDmnEngine() {
+        dmnEngine.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> executeDecisionTable() {
+        return dmnDecisionService.createExecuteDecisionBuilder()
+                .decisionKey("benchmarkDecision")
+                .variable("age", age)
+                .variable("category", category)
+                .executeWithSingleResult();
+    }
+
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.ValueExpressionCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates JUEL expressions through the {@link DefaultExpressionManager}, both including the parsing of the expression text
+ * (as happens for every expression that isn't cached) and for an expression that was created before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExpressionBenchmark {
+
+    @Param({ "${amount}", "${amount > 1000 && customer.type == 'gold' || priority >= 3}" })
+    public String expressionText;
+
+    @Param({ "false", "true" })
+    public boolean compilerEnabled;
+
+    protected DefaultExpressionManager expressionManager;
+    protected Expression expression;
+    protected VariableContainer variableContainer;
+
+    @Setup
+    public void createExpressionManager() {
+        expressionManager = new DefaultExpressionManager(new HashMap<>());
+        if (compilerEnabled) {
+            expressionManager.setExpressionCompiler(new ValueExpressionCompiler());
+        }
+        expression = expressionManager.createExpression(expressionText);
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("type", "gold");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 1500);
+        variables.put("customer", customer);
+        variables.put("priority", 2);
+        variableContainer = new BenchmarkVariableContainer(variables);
+    }
+
+    @Benchmark
+    public Object createAndEvaluate() {
+        return expressionManager.createExpression(expressionText).getValue(variableContainer);
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return expression.getValue(variableContainer);
+    }
+
+    protected static class BenchmarkVariableContainer implements VariableContainer {
+
+        protected Map<String, Object> variables;
+
+        public BenchmarkVariableContainer(Map<String, Object> variables) {
+            this.variables = variables;
+        }
+
+        @Override
+        public boolean hasVariable(String variableName) {
+            return variables.containsKey(variableName);
+        }
+
+        @Override
+        public Object getVariable(String variableName) {
+            return variables.get(variableName);
+        }
+
+        @Override
+        public void setVariable(String variableName, Object variableValue) {
+            variables.put(variableName, variableValue);
+        }
+
+        @Override
+        public void setTransientVariable(String variableName, Object variableValue) {
+            variables.put(variableName, variableValue);
+        }
+
+        @Override
+        public String getTenantId() {
+            return null;
+        }
+    }
+
+}
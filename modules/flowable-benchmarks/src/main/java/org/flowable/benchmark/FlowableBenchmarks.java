@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.UUID;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main class of the benchmarks, started with <code>exec:exec</code> (see the pom of this module, which does not build an executable jar).
+ * Without arguments, all benchmarks are run and the results are written as json to
+ * <code>jmh-result.json</code>, so runs against different versions or configurations can be compared.
+ * With arguments (<code>-Dbenchmark.args</code>), the regular JMH command line is used (e.g. <code>BpmnAgendaBenchmark -rf csv</code>).
+ */
+public class FlowableBenchmarks {
+
+    public static final String RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+        } else {
+            runAll();
+        }
+    }
+
+    protected static void runAll() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FlowableBenchmarks.class.getPackage().getName() + ".*Benchmark")
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT_FILE)
+                .build();
+
+        new Runner(options).run();
+    }
+
+    /**
+     * Every benchmark (and fork) uses its own in-memory database.
+     */
+    public static String createJdbcUrl(String benchmarkName) {
+        return "jdbc:h2:mem:flowable-" + benchmarkName + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=1000";
+    }
+
+}
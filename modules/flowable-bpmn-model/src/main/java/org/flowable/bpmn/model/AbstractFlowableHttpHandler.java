@@ -22,12 +22,14 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public abstract class AbstractFlowableHttpHandler extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String implementationType;
     protected String implementation;
     protected List<FieldExtension> fieldExtensions = new ArrayList<>();
 
     @JsonIgnore
-    protected Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
+    protected transient Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
 
     public String getImplementationType() {
         return implementationType;
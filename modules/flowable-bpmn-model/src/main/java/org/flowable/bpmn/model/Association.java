@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class Association extends Artifact {
 
+    private static final long serialVersionUID = 1L;
+
     protected AssociationDirection associationDirection = AssociationDirection.NONE;
     protected String sourceRef;
     protected String targetRef;
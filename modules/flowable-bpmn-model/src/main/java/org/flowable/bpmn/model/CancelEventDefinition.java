@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class CancelEventDefinition extends EventDefinition {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public CancelEventDefinition clone() {
         CancelEventDefinition clone = new CancelEventDefinition();
@@ -20,6 +20,8 @@ import java.util.List;
  */
 public class CaseServiceTask extends ServiceTask {
 
+    private static final long serialVersionUID = 1L;
+
     protected String caseDefinitionKey;
     protected String caseInstanceName;
     protected boolean sameDeployment;
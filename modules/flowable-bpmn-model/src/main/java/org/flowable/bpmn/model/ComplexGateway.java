@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class ComplexGateway extends Gateway {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public ComplexGateway clone() {
         ComplexGateway clone = new ComplexGateway();
@@ -17,6 +17,8 @@ import java.util.List;
 
 public class DataAssociation extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String sourceRef;
     protected String targetRef;
     protected String transformation;
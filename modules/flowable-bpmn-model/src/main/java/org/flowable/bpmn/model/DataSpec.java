@@ -14,6 +14,8 @@ package org.flowable.bpmn.model;
 
 public class DataSpec extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String itemSubjectRef;
     protected boolean isCollection;
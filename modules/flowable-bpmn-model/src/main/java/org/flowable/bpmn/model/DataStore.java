@@ -14,6 +14,8 @@ package org.flowable.bpmn.model;
 
 public class DataStore extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String dataState;
     protected String itemSubjectRef;
@@ -19,6 +19,8 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class DoubleDataObject extends ValuedDataObject {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public void setValue(Object value) {
     	if (value instanceof String && !StringUtils.isEmpty(((String) value).trim())) {
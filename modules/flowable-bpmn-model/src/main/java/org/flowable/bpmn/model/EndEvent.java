@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class EndEvent extends Event {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public EndEvent clone() {
         EndEvent clone = new EndEvent();
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class ErrorEventDefinition extends EventDefinition {
 
+    private static final long serialVersionUID = 1L;
+
     protected String errorCode;
 
     public String getErrorCode() {
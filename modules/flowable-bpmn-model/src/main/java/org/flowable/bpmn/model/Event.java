@@ -20,6 +20,8 @@ import java.util.List;
  */
 public abstract class Event extends FlowNode {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<EventDefinition> eventDefinitions = new ArrayList<>();
     protected List<IOParameter> inParameters = new ArrayList<>();
     protected List<IOParameter> outParameters = new ArrayList<>();
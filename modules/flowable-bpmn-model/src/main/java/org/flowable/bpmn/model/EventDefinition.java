@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public abstract class EventDefinition extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public abstract EventDefinition clone();
 }
@@ -20,6 +20,8 @@ package org.flowable.bpmn.model;
  */
 public class EventListener extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String events;
     protected String implementationType;
     protected String implementation;
@@ -17,4 +17,5 @@ package org.flowable.bpmn.model;
  */
 public class EventSubProcess extends SubProcess {
 
+    private static final long serialVersionUID = 1L;
 }
@@ -21,6 +21,8 @@ import org.apache.commons.lang3.StringUtils;
 
 public class ExtensionElement extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String namespacePrefix;
     protected String namespace;
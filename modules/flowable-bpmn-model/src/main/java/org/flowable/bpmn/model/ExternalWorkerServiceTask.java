@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class ExternalWorkerServiceTask extends ServiceTask {
 
+    private static final long serialVersionUID = 1L;
+
     protected String topic;
 
     public String getTopic() {
@@ -22,6 +22,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public abstract class FlowElement extends BaseElement implements HasExecutionListeners {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String documentation;
     protected List<FlowableListener> executionListeners = new ArrayList<>();
@@ -23,6 +23,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public abstract class FlowNode extends FlowElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected boolean asynchronous;
     protected boolean notExclusive;
 
@@ -30,7 +32,7 @@ public abstract class FlowNode extends FlowElement {
     protected List<SequenceFlow> outgoingFlows = new ArrayList<>();
 
     @JsonIgnore
-    protected Object behavior;
+    protected transient Object behavior;
 
     public FlowNode() {
 
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class FlowableHttpRequestHandler extends AbstractFlowableHttpHandler {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public FlowableHttpRequestHandler clone() {
         FlowableHttpRequestHandler clone = new FlowableHttpRequestHandler();
@@ -23,6 +23,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public class FlowableListener extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String event;
     protected String implementationType;
     protected String implementation;
@@ -32,7 +34,7 @@ public class FlowableListener extends BaseElement {
     protected String customPropertiesResolverImplementation;
 
     @JsonIgnore
-    protected Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
+    protected transient Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
     
     public FlowableListener() {
         // Always generate a random identifier to look up the listener while executing the logic
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class IOParameter extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String source;
     protected String sourceExpression;
     protected String target;
@@ -17,6 +17,8 @@ import java.util.List;
 
 public class IOSpecification extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<DataSpec> dataInputs = new ArrayList<>();
     protected List<DataSpec> dataOutputs = new ArrayList<>();
     protected List<String> dataInputRefs = new ArrayList<>();
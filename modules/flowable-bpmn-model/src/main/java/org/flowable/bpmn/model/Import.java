@@ -14,6 +14,8 @@ package org.flowable.bpmn.model;
 
 public class Import extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String importType;
     protected String location;
     protected String namespace;
@@ -17,6 +17,8 @@ import java.util.List;
 
 public class Interface extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String implementationRef;
     protected List<Operation> operations = new ArrayList<>();
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class IntermediateCatchEvent extends Event {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public IntermediateCatchEvent clone() {
         IntermediateCatchEvent clone = new IntermediateCatchEvent();
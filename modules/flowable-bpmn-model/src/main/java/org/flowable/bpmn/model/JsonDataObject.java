@@ -28,6 +28,8 @@ import com.fasterxml.jackson.databind.util.StdDateFormat;
  */
 public class JsonDataObject extends ValuedDataObject {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public void setValue(Object value) {
     	if (value instanceof String && !StringUtils.isEmpty(((String) value).trim())) {
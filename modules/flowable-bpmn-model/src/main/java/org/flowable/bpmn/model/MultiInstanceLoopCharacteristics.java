@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class MultiInstanceLoopCharacteristics extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String inputDataItem;
     protected String collectionString;
     protected CollectionHandler collectionHandler;
@@ -17,6 +17,8 @@ import java.util.List;
 
 public class Operation extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String implementationRef;
     protected String inMessageRef;
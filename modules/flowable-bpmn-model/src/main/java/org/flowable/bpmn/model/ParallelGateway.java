@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class ParallelGateway extends Gateway {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public ParallelGateway clone() {
         ParallelGateway clone = new ParallelGateway();
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class Pool extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String processRef;
     protected boolean executable = true;
@@ -26,6 +26,8 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class Process extends BaseElement implements FlowElementsContainer, HasExecutionListeners {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected boolean executable = true;
     protected String documentation;
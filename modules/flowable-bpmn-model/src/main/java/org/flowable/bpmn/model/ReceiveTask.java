@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class ReceiveTask extends Task {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public ReceiveTask clone() {
         ReceiveTask clone = new ReceiveTask();
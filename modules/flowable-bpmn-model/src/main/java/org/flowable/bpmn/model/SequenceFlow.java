@@ -23,6 +23,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public class SequenceFlow extends FlowElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String conditionExpression;
     protected String sourceRef;
     protected String targetRef;
@@ -20,6 +20,8 @@ import java.util.List;
  */
 public class ServiceTask extends TaskWithFieldExtensions {
 
+    private static final long serialVersionUID = 1L;
+
     public static final String DMN_TASK = "dmn";
     public static final String MAIL_TASK = "mail";
     public static final String HTTP_TASK = "http";
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class Signal extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     public static final String SCOPE_GLOBAL = "global";
     public static final String SCOPE_PROCESS_INSTANCE = "processInstance";
 
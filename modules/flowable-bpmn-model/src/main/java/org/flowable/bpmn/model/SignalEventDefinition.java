@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class SignalEventDefinition extends EventDefinition {
 
+    private static final long serialVersionUID = 1L;
+
     protected String signalRef;
     protected String signalExpression;
     protected boolean async;
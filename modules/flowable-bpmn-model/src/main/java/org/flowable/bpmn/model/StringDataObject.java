@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class StringDataObject extends ValuedDataObject {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public void setValue(Object value) {
         this.value = value.toString();
@@ -20,6 +20,8 @@ import java.util.List;
  */
 public abstract class TaskWithFieldExtensions extends Task {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<FieldExtension> fieldExtensions = new ArrayList<>();
 
     public List<FieldExtension> getFieldExtensions() {
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class ThrowEvent extends Event {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public ThrowEvent clone() {
         ThrowEvent clone = new ThrowEvent();
@@ -14,4 +14,5 @@ package org.flowable.bpmn.model;
 
 public class Transaction extends SubProcess {
 
+    private static final long serialVersionUID = 1L;
 }
@@ -24,6 +24,8 @@ import java.util.Set;
  */
 public class UserTask extends Task {
 
+    private static final long serialVersionUID = 1L;
+
     protected String assignee;
     protected String owner;
     protected String priority;
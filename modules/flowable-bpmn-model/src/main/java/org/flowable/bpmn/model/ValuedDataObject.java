@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public abstract class ValuedDataObject extends DataObject {
 
+    private static final long serialVersionUID = 1L;
+
     protected Object value;
 
     public Object getValue() {
@@ -16,6 +16,8 @@ import org.flowable.bpmn.model.ServiceTask;
 
 public class AlfrescoMailTask extends ServiceTask {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public AlfrescoMailTask clone() {
         AlfrescoMailTask clone = new AlfrescoMailTask();
@@ -16,6 +16,8 @@ import org.flowable.bpmn.model.StartEvent;
 
 public class AlfrescoStartEvent extends StartEvent {
 
+    private static final long serialVersionUID = 1L;
+
     protected String runAs;
     protected String scriptProcessor;
 
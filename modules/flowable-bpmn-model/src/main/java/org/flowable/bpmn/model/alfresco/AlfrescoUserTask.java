@@ -16,6 +16,8 @@ import org.flowable.bpmn.model.UserTask;
 
 public class AlfrescoUserTask extends UserTask {
 
+    private static final long serialVersionUID = 1L;
+
     public static final String ALFRESCO_SCRIPT_TASK_LISTENER = "org.alfresco.repo.workflow.activiti.tasklistener.ScriptTaskListener";
 
     protected String runAs;
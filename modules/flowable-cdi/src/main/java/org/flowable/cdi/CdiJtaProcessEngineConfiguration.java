@@ -28,6 +28,7 @@ public class CdiJtaProcessEngineConfiguration extends JtaProcessEngineConfigurat
 
     @Override
     public void initCommandInvoker() {
+        initFlightRecorderAgendaOperationRunner();
         if (commandInvoker == null) {
             commandInvoker = new CdiCommandInvoker(agendaOperationRunner);
         }
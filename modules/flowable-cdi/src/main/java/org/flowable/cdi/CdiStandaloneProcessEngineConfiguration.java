@@ -28,6 +28,7 @@ public class CdiStandaloneProcessEngineConfiguration extends StandaloneProcessEn
 
     @Override
     public void initCommandInvoker() {
+        initFlightRecorderAgendaOperationRunner();
         if (commandInvoker == null) {
             commandInvoker = new CdiCommandInvoker(agendaOperationRunner);
         }
@@ -48,6 +48,7 @@ import org.flowable.cmmn.engine.impl.CmmnManagementServiceImpl;
 import org.flowable.cmmn.engine.impl.CmmnRepositoryServiceImpl;
 import org.flowable.cmmn.engine.impl.CmmnTaskServiceImpl;
 import org.flowable.cmmn.engine.impl.DefaultCmmnHistoryCleaningManager;
+import org.flowable.cmmn.engine.impl.agenda.CaseFlightRecorderAgendaOperationRunner;
 import org.flowable.cmmn.engine.impl.agenda.CmmnEngineAgendaFactory;
 import org.flowable.cmmn.engine.impl.agenda.CmmnEngineAgendaSessionFactory;
 import org.flowable.cmmn.engine.impl.agenda.DefaultCmmnEngineAgendaFactory;
@@ -221,6 +222,7 @@ import org.flowable.common.engine.impl.HasExpressionManagerEngineConfiguration;
 import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
 import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
@@ -235,6 +237,7 @@ import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
+import org.flowable.common.engine.impl.el.ValueExpressionCompiler;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsAnyExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsExpressionFunction;
@@ -268,6 +271,7 @@ import org.flowable.entitylink.service.impl.db.EntityLinkDbSchemaManager;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.db.EventSubscriptionDbSchemaManager;
 import org.flowable.form.api.FormFieldHandler;
 import org.flowable.identitylink.service.IdentityLinkEventHandler;
@@ -430,6 +434,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    /**
+     * Whether expressions are compiled into a tree of nodes with resolved operators and folded constants
+     * instead of being interpreted from their JUEL parse tree on every evaluation. See {@link ValueExpressionCompiler}.
+     */
+    protected boolean expressionCompilerEnabled;
 
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
@@ -531,6 +540,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected InternalJobParentStateResolver internalJobParentStateResolver;
     protected List<String> enabledJobCategories;
+
+    /**
+     * The number of shards the async jobs are divided in. When larger than 0, the async executors of the different nodes
+     * divide the shards among each other and each node only acquires the jobs of its own shards (unless the global acquire lock is used).
+     * Disabled (0) by default.
+     */
+    protected int jobShardCount;
     protected String jobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     protected String historyJobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     
@@ -634,6 +650,18 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected ThreadFactory asyncExecutorThreadFactory;
 
+    /**
+     * Whether the async task executor runs every job on its own virtual thread (JDK 21+), instead of on the thread pool.
+     * The pool and queue settings are then ignored and the number of jobs in flight is limited by {@link #asyncExecutorMaxConcurrentTasks}.
+     * Default false.
+     */
+    protected boolean asyncExecutorUseVirtualThreads;
+
+    /**
+     * The maximum number of jobs executed at the same time when {@link #asyncExecutorUseVirtualThreads} is enabled. Default 1024.
+     */
+    protected int asyncExecutorMaxConcurrentTasks = 1024;
+
     protected String asyncExecutorTenantId = AbstractEngineConfiguration.NO_TENANT_ID;
 
     /**
@@ -680,6 +708,20 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime = 5 * 1000;
 
+    /**
+     * Whether the async job and timer job acquisition threads adapt the number of acquired jobs and the wait time between acquisitions
+     * to the outcome of the previous acquisitions (full, partial or empty batches, optimistic locking failures and a full queue).
+     * The max jobs per acquisition and acquire wait times are then used as the upper bound of the batch size and the first idle wait time.
+     * By default false.
+     */
+    protected boolean asyncExecutorAdaptiveAcquisitionEnabled;
+
+    /**
+     * Whether an async job that is created (and already locked) by this node is executed from the inserted job entity after the transaction commits,
+     * instead of being fetched again from the database by the async executor thread. By default false.
+     */
+    protected boolean asyncExecutorJobHandOffEnabled;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it.
      * While doing this, the 'name' of the lock owner is written into a column of the job.
@@ -767,6 +809,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isAsyncHistoryEnabled;
     protected boolean asyncHistoryExecutorActivate;
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
+    // Grouped history jobs are written in a compact binary format instead of json (takes precedence over gzip compression)
+    protected boolean isAsyncHistoryCompactFormatEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
@@ -804,6 +848,14 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     
     protected EventRegistryEventConsumer eventRegistryEventConsumer;
 
+    /**
+     * Keeps a node-local index of the event subscriptions, so that events from the event registry for which no event subscription exists
+     * are ignored without querying the database. The index is reconciled with the database at the given interval, which also picks up
+     * the event subscriptions created by other nodes: in a cluster, events can be missed in between for subscriptions created on another node.
+     */
+    protected boolean enableEventSubscriptionCorrelationIndex;
+    protected long eventSubscriptionCorrelationIndexReconciliationIntervalInMs = 300000L;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     /**
@@ -925,6 +977,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initFailedJobCommandFactory();
         initJobServiceConfiguration();
         initAsyncExecutor();
+        initEventSubscriptionCorrelationIndexTaskExecutor();
         initAsyncHistoryExecutor();
         initScriptingEngines();
         configuratorsAfterInit();
@@ -1083,6 +1136,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
+
+            if (expressionCompilerEnabled) {
+                cmmnExpressionManager.setExpressionCompiler(new ValueExpressionCompiler());
+            }
             
             expressionManager = cmmnExpressionManager;
         }
@@ -1099,11 +1156,17 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     @Override
     public void initCommandInvoker() {
+        initFlightRecorderAgendaOperationRunner();
         if (this.commandInvoker == null) {
             this.commandInvoker = new CmmnCommandInvoker(agendaOperationRunner);
         }
     }
 
+    @Override
+    protected AgendaOperationRunner createFlightRecorderAgendaOperationRunner(AgendaOperationRunner agendaOperationRunner) {
+        return new CaseFlightRecorderAgendaOperationRunner(agendaOperationRunner, getEngineScopeType());
+    }
+
     @Override
     public void initSessionFactories() {
         super.initSessionFactories();
@@ -1281,11 +1344,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
-            }
+            caseDefinitionCache = createDeploymentCache("caseDefinition", caseDefinitionCacheLimit);
         }
     }
 
@@ -1691,12 +1750,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.eventSubscriptionServiceConfiguration.setIdGenerator(this.idGenerator);
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+        this.eventSubscriptionServiceConfiguration.setEnableCorrelationIndex(this.enableEventSubscriptionCorrelationIndex);
+        this.eventSubscriptionServiceConfiguration.setCorrelationIndexReconciliationIntervalInMs(this.eventSubscriptionCorrelationIndexReconciliationIntervalInMs);
         
         this.eventSubscriptionServiceConfiguration.init();
 
         addServiceConfiguration(EngineConfigurationConstants.KEY_EVENT_SUBSCRIPTION_SERVICE_CONFIG, this.eventSubscriptionServiceConfiguration);
     }
     
+    public void initEventSubscriptionCorrelationIndexTaskExecutor() {
+        EventSubscriptionCorrelationIndex correlationIndex = eventSubscriptionServiceConfiguration.getCorrelationIndex();
+        if (correlationIndex != null && correlationIndex.getReconciliationTaskExecutor() == null) {
+            // Reconciling on the async task executor, instead of on the thread that handles an event
+            correlationIndex.setReconciliationTaskExecutor(asyncTaskExecutor);
+        }
+    }
+
     protected EventSubscriptionServiceConfiguration instantiateEventSubscriptionServiceConfiguration() {
         return new EventSubscriptionServiceConfiguration(ScopeTypes.CMMN);
     }
@@ -1840,6 +1909,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setAsyncExecutorJobHandOffEnabled(this.asyncExecutorJobHandOffEnabled);
+            this.jobServiceConfiguration.setFlightRecorderEventsEnabled(isFlightRecorderEventsActive());
     
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1855,6 +1926,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             jobServiceConfiguration.setJobTypeAsyncHistory(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             jobServiceConfiguration.setJobTypeAsyncHistoryZipped(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
+            jobServiceConfiguration.setAsyncHistoryCompactFormatEnabled(isAsyncHistoryCompactFormatEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
             
@@ -1864,6 +1936,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
             }
+
+            this.jobServiceConfiguration.setJobShardCount(this.jobShardCount);
         }
     }
 
@@ -1924,6 +1998,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
             defaultAsyncTaskExecutor.setThreadFactory(asyncExecutorThreadFactory);
 
+            // Virtual threads
+            defaultAsyncTaskExecutor.setUseVirtualThreads(asyncExecutorUseVirtualThreads);
+            defaultAsyncTaskExecutor.setMaxConcurrentTasks(asyncExecutorMaxConcurrentTasks);
+
             // Core thread timeout
             defaultAsyncTaskExecutor.setAllowCoreThreadTimeout(asyncExecutorAllowCoreThreadTimeout);
 
@@ -1963,6 +2041,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
+            defaultAsyncExecutor.setAdaptiveAcquisitionEnabled(asyncExecutorAdaptiveAcquisitionEnabled);
 
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
@@ -2775,6 +2854,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isExpressionCompilerEnabled() {
+        return expressionCompilerEnabled;
+    }
+
+    public CmmnEngineConfiguration setExpressionCompilerEnabled(boolean expressionCompilerEnabled) {
+        this.expressionCompilerEnabled = expressionCompilerEnabled;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -3224,6 +3312,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableEventSubscriptionCorrelationIndex() {
+        return enableEventSubscriptionCorrelationIndex;
+    }
+
+    public CmmnEngineConfiguration setEnableEventSubscriptionCorrelationIndex(boolean enableEventSubscriptionCorrelationIndex) {
+        this.enableEventSubscriptionCorrelationIndex = enableEventSubscriptionCorrelationIndex;
+        return this;
+    }
+
+    public long getEventSubscriptionCorrelationIndexReconciliationIntervalInMs() {
+        return eventSubscriptionCorrelationIndexReconciliationIntervalInMs;
+    }
+
+    public CmmnEngineConfiguration setEventSubscriptionCorrelationIndexReconciliationIntervalInMs(long eventSubscriptionCorrelationIndexReconciliationIntervalInMs) {
+        this.eventSubscriptionCorrelationIndexReconciliationIntervalInMs = eventSubscriptionCorrelationIndexReconciliationIntervalInMs;
+        return this;
+    }
+
     public AsyncExecutor getAsyncExecutor() {
         return asyncExecutor;
     }
@@ -3377,6 +3483,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return asyncExecutorUseVirtualThreads;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorUseVirtualThreads(boolean asyncExecutorUseVirtualThreads) {
+        this.asyncExecutorUseVirtualThreads = asyncExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentTasks() {
+        return asyncExecutorMaxConcurrentTasks;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMaxConcurrentTasks(int asyncExecutorMaxConcurrentTasks) {
+        this.asyncExecutorMaxConcurrentTasks = asyncExecutorMaxConcurrentTasks;
+        return this;
+    }
+
     public int getAsyncExecutorMaxTimerJobsPerAcquisition() {
         return asyncExecutorMaxTimerJobsPerAcquisition;
     }
@@ -3422,6 +3546,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveAcquisitionEnabled() {
+        return asyncExecutorAdaptiveAcquisitionEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAdaptiveAcquisitionEnabled(boolean asyncExecutorAdaptiveAcquisitionEnabled) {
+        this.asyncExecutorAdaptiveAcquisitionEnabled = asyncExecutorAdaptiveAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorJobHandOffEnabled() {
+        return asyncExecutorJobHandOffEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorJobHandOffEnabled(boolean asyncExecutorJobHandOffEnabled) {
+        this.asyncExecutorJobHandOffEnabled = asyncExecutorJobHandOffEnabled;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -3575,6 +3717,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncHistoryCompactFormatEnabled() {
+        return isAsyncHistoryCompactFormatEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryCompactFormatEnabled(boolean isAsyncHistoryCompactFormatEnabled) {
+        this.isAsyncHistoryCompactFormatEnabled = isAsyncHistoryCompactFormatEnabled;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
@@ -3848,6 +3999,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getJobShardCount() {
+        return jobShardCount;
+    }
+
+    public CmmnEngineConfiguration setJobShardCount(int jobShardCount) {
+        this.jobShardCount = jobShardCount;
+        return this;
+    }
+
     public String getJobExecutionScope() {
         return jobExecutionScope;
     }
@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.agenda;
+
+import org.flowable.cmmn.engine.impl.agenda.operation.CmmnOperation;
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.jfr.AgendaOperationEvent;
+import org.flowable.common.engine.impl.jfr.FlightRecorderAgendaOperationRunner;
+
+/**
+ * {@link FlightRecorderAgendaOperationRunner} that adds the case instance of a {@link CmmnOperation} to the recorded event.
+ */
+public class CaseFlightRecorderAgendaOperationRunner extends FlightRecorderAgendaOperationRunner {
+
+    public CaseFlightRecorderAgendaOperationRunner(AgendaOperationRunner delegate, String engine) {
+        super(delegate, engine);
+    }
+
+    @Override
+    protected void populateEvent(AgendaOperationEvent event, Runnable operation) {
+        if (operation instanceof CmmnOperation) {
+            event.setProcessInstanceId(((CmmnOperation) operation).getCaseInstanceId());
+        }
+    }
+
+}
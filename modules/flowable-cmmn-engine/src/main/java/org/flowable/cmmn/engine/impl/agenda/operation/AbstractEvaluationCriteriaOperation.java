@@ -28,6 +28,7 @@ import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.EntityWithSentryPartInstances;
@@ -503,6 +504,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateEntryCriteria(PlanItemInstanceEntity planItemInstanceEntity, PlanItem planItem) {
         List<Criterion> criteria = planItem.getEntryCriteria();
         if (criteria != null && !criteria.isEmpty()) {
+            SentryDependencyIndex sentryDependencyIndex = getSentryDependencyIndex(planItemInstanceEntity);
+            if (sentryDependencyIndex != null && !sentryDependencyIndex.canEntryCriteriaBeSatisfied(planItem, planItemLifeCycleEvent)) {
+                return null;
+            }
             return evaluateCriteria(planItemInstanceEntity, criteria);
         }
         return null;
@@ -512,15 +517,41 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateExitCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, HasExitCriteria hasExitCriteria) {
         List<Criterion> criteria = hasExitCriteria.getExitCriteria();
         if (criteria != null && !criteria.isEmpty()) {
+            SentryDependencyIndex sentryDependencyIndex = getSentryDependencyIndex(entityWithSentryPartInstances);
+            if (sentryDependencyIndex != null && !sentryDependencyIndex.canExitCriteriaBeSatisfied(hasExitCriteria, planItemLifeCycleEvent)) {
+                return null;
+            }
             return evaluateCriteria(entityWithSentryPartInstances, criteria);
         }
         return null;
     }
 
+    /**
+     * @return the index of the sentries of the case definition of the given case or plan item instance,
+     *      used to skip criteria that can't be satisfied by the current life cycle event.
+     */
+    protected SentryDependencyIndex getSentryDependencyIndex(EntityWithSentryPartInstances entityWithSentryPartInstances) {
+        String caseDefinitionId = null;
+        if (entityWithSentryPartInstances instanceof PlanItemInstanceEntity) {
+            PlanItemInstanceEntity planItemInstanceEntity = (PlanItemInstanceEntity) entityWithSentryPartInstances;
+            // injected plan items are based on the model of another case definition
+            caseDefinitionId = planItemInstanceEntity.getDerivedCaseDefinitionId() != null
+                    ? planItemInstanceEntity.getDerivedCaseDefinitionId() : planItemInstanceEntity.getCaseDefinitionId();
+        } else if (entityWithSentryPartInstances instanceof CaseInstanceEntity) {
+            caseDefinitionId = ((CaseInstanceEntity) entityWithSentryPartInstances).getCaseDefinitionId();
+        }
+
+        if (caseDefinitionId == null) {
+            return null;
+        }
+        return CaseDefinitionUtil.getSentryDependencyIndex(caseDefinitionId);
+    }
+
     /**
      * @return Returns the criterion that is satisfied. If none is satisfied, null is returned.
      */
     protected Criterion evaluateCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, List<Criterion> criteria) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
         for (Criterion criterion : criteria) {
 
             Sentry sentry = criterion.getSentry();
@@ -528,7 +559,6 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
             // There can be zero or more on parts and zero or one if part.
             // All defined parts need to be satisfied for the sentry to trigger.
 
-            CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
             if (sentry.getOnParts().size() == 1 && sentry.getSentryIfPart() == null) { // Only one on part and no if part: no need to fetch the previously satisfied onparts
                 if (planItemLifeCycleEvent != null) {
                     SentryOnPart sentryOnPart = sentry.getOnParts().get(0);
@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.HasExitCriteria;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryOnPart;
+
+/**
+ * Index of which entry and exit criteria can be satisfied by which plan item life cycle event, built once per deployed case definition.
+ *
+ * <p>
+ * A criterion whose sentry has exactly one on part and no if part can only be satisfied by the life cycle event (source plan item and
+ * transition) of that on part. The criteria of a plan item (or of the plan model) that only consist of such sentries therefore don't need
+ * to be evaluated for other events. Criteria with an if part or multiple on parts depend on variables or on previously satisfied sentry
+ * parts, and are always evaluated.
+ * </p>
+ * <p>
+ * Plan items (and plan models) are indexed by identity, so plan items of another model (e.g. injected from another case definition)
+ * are unknown to the index and their criteria are always evaluated too.
+ * </p>
+ */
+public class SentryDependencyIndex {
+
+    protected Set<Object> indexedOwners = createIdentitySet();
+
+    protected Map<String, Set<Object>> entryCriteriaOwnersByEvent = new HashMap<>();
+    protected Set<Object> alwaysEvaluatedEntryCriteriaOwners = createIdentitySet();
+
+    protected Map<String, Set<Object>> exitCriteriaOwnersByEvent = new HashMap<>();
+    protected Set<Object> alwaysEvaluatedExitCriteriaOwners = createIdentitySet();
+
+    public SentryDependencyIndex(CmmnModel cmmnModel) {
+        for (Case caze : cmmnModel.getCases()) {
+            if (caze.getPlanModel() != null) {
+                indexedOwners.add(caze.getPlanModel());
+                addCriteria(caze.getPlanModel(), caze.getPlanModel().getExitCriteria(), exitCriteriaOwnersByEvent, alwaysEvaluatedExitCriteriaOwners);
+                addPlanItems(caze.getPlanModel());
+            }
+        }
+    }
+
+    protected void addPlanItems(PlanFragment planFragment) {
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            indexedOwners.add(planItem);
+            addCriteria(planItem, planItem.getEntryCriteria(), entryCriteriaOwnersByEvent, alwaysEvaluatedEntryCriteriaOwners);
+            addCriteria(planItem, planItem.getExitCriteria(), exitCriteriaOwnersByEvent, alwaysEvaluatedExitCriteriaOwners);
+
+            if (planItem.getPlanItemDefinition() instanceof PlanFragment) {
+                addPlanItems((PlanFragment) planItem.getPlanItemDefinition());
+            }
+        }
+    }
+
+    protected void addCriteria(Object owner, List<Criterion> criteria, Map<String, Set<Object>> ownersByEvent, Set<Object> alwaysEvaluatedOwners) {
+        if (criteria == null) {
+            return;
+        }
+
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry != null && sentry.getSentryIfPart() == null && sentry.getOnParts().size() == 1) {
+                SentryOnPart sentryOnPart = sentry.getOnParts().get(0);
+                ownersByEvent.computeIfAbsent(getEventKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), key -> createIdentitySet())
+                        .add(owner);
+            } else {
+                alwaysEvaluatedOwners.add(owner);
+            }
+        }
+    }
+
+    /**
+     * @return false if none of the entry criteria of the plan item can be satisfied by the life cycle event.
+     */
+    public boolean canEntryCriteriaBeSatisfied(PlanItem planItem, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        return canCriteriaBeSatisfied(planItem, planItemLifeCycleEvent, entryCriteriaOwnersByEvent, alwaysEvaluatedEntryCriteriaOwners);
+    }
+
+    /**
+     * @return false if none of the exit criteria of the plan item or plan model can be satisfied by the life cycle event.
+     */
+    public boolean canExitCriteriaBeSatisfied(HasExitCriteria hasExitCriteria, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        return canCriteriaBeSatisfied(hasExitCriteria, planItemLifeCycleEvent, exitCriteriaOwnersByEvent, alwaysEvaluatedExitCriteriaOwners);
+    }
+
+    protected boolean canCriteriaBeSatisfied(Object owner, PlanItemLifeCycleEvent planItemLifeCycleEvent,
+            Map<String, Set<Object>> ownersByEvent, Set<Object> alwaysEvaluatedOwners) {
+
+        if (owner == null || !indexedOwners.contains(owner) || alwaysEvaluatedOwners.contains(owner)) {
+            // e.g. plan items that were injected from another case definition
+            return true;
+        }
+
+        if (planItemLifeCycleEvent == null || planItemLifeCycleEvent.getPlanItem() == null) {
+            return false;
+        }
+
+        Set<Object> owners = ownersByEvent.get(getEventKey(planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition()));
+        return owners != null && owners.contains(owner);
+    }
+
+    protected String getEventKey(String sourceRef, String transition) {
+        return sourceRef + '#' + transition;
+    }
+
+    protected static Set<Object> createIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
@@ -31,6 +31,7 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -139,6 +140,15 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected Collection<String> findIndexedEventSubscriptionIds(String scopeType, String eventType, Collection<String> tenantIds, Collection<String> configurations) {
+        EventSubscriptionCorrelationIndex correlationIndex = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getCorrelationIndex();
+        if (correlationIndex == null) {
+            return null;
+        }
+        return correlationIndex.findEventSubscriptionIds(commandExecutor, eventType, tenantIds, configurations);
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor, cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration());
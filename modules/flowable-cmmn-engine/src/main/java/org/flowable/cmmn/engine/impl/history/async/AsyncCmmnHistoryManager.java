@@ -215,7 +215,22 @@ public class AsyncCmmnHistoryManager extends AbstractAsyncCmmnHistoryManager {
         if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) { 
             ObjectNode data = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
             addCommonVariableFields(variable, data, updateTime);
-            getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, data);
+
+            ObjectNode variableCreatedData = getVariableData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_CREATED, variable.getId(), false);
+            if (variableCreatedData != null) {
+                // The variable was created in the same transaction: the historic variable is created with the latest value right away
+                String createTime = getStringFromJson(variableCreatedData, CmmnAsyncHistoryConstants.FIELD_CREATE_TIME);
+                String timeStamp = getStringFromJson(variableCreatedData, AsyncHistorySession.TIMESTAMP);
+                variableCreatedData.removeAll();
+                variableCreatedData.setAll(data);
+                putIfNotNull(variableCreatedData, CmmnAsyncHistoryConstants.FIELD_CREATE_TIME, createTime);
+                putIfNotNull(variableCreatedData, AsyncHistorySession.TIMESTAMP, timeStamp);
+
+            } else {
+                // Only the latest update of the transaction needs to be applied
+                getVariableData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, variable.getId(), true);
+                getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, data);
+            }
         }
     }
 
@@ -225,7 +240,12 @@ public class AsyncCmmnHistoryManager extends AbstractAsyncCmmnHistoryManager {
             ObjectNode data = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
             putIfNotNull(data, CmmnAsyncHistoryConstants.FIELD_ID, variable.getId());
             putIfNotNull(data, CmmnAsyncHistoryConstants.FIELD_REVISION, variable.getRevision());
-            getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_REMOVED, data);
+
+            getVariableData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, variable.getId(), true);
+            if (getVariableData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_CREATED, variable.getId(), true) == null) {
+                // A variable that is created and removed in the same transaction never gets a historic variable
+                getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_REMOVED, data);
+            }
         }
     }
     
@@ -396,6 +416,29 @@ public class AsyncCmmnHistoryManager extends AbstractAsyncCmmnHistoryManager {
         }
     }
     
+    protected ObjectNode getVariableData(String type, String variableId, boolean removeFromAsyncHistorySession) {
+        Map<JobServiceConfiguration, AsyncHistorySession.AsyncHistorySessionData> sessionData = getAsyncHistorySession().getSessionData();
+        if (sessionData != null && variableId != null) {
+            AsyncHistorySession.AsyncHistorySessionData asyncHistorySessionData = sessionData.get(getJobServiceConfiguration());
+            if (asyncHistorySessionData != null) {
+                Map<String, List<ObjectNode>> jobData = asyncHistorySessionData.getJobData();
+                if (jobData != null && jobData.containsKey(type)) {
+                    Iterator<ObjectNode> variableDataIterator = jobData.get(type).iterator();
+                    while (variableDataIterator.hasNext()) {
+                        ObjectNode variableData = variableDataIterator.next();
+                        if (variableId.equals(getStringFromJson(variableData, CmmnAsyncHistoryConstants.FIELD_ID))) {
+                            if (removeFromAsyncHistorySession) {
+                                variableDataIterator.remove();
+                            }
+                            return variableData;
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     protected JobServiceConfiguration getJobServiceConfiguration() {
         return cmmnEngineConfiguration.getJobServiceConfiguration();
     }
@@ -85,7 +85,10 @@ public class VariableCreatedHistoryJsonTransformer extends AbstractHistoryJsonTr
         
         Date time = getDateFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_CREATE_TIME);
         historicVariableInstanceEntity.setCreateTime(time);
-        historicVariableInstanceEntity.setLastUpdatedTime(time);
+
+        // Differs from the create time when the variable was also updated in the transaction that created it
+        Date lastUpdatedTime = getDateFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_LAST_UPDATE_TIME);
+        historicVariableInstanceEntity.setLastUpdatedTime(lastUpdatedTime != null ? lastUpdatedTime : time);
 
         historicVariableService.insertHistoricVariableInstance(historicVariableInstanceEntity);
     }
@@ -190,7 +190,7 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         params.put("expirationTime", expirationTime);
         params.put("lockOwner", lockOwner);
 
-        int result = getDbSqlSession().update("updateCaseInstanceLockTime", params);
+        int result = getDbSqlSession().update("updateCaseInstanceLockTime", params, getManagedEntityClass());
         if (result == 0) {
             throw new FlowableOptimisticLockingException("Could not lock case instance");
         }
@@ -200,14 +200,14 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
     public void clearLockTime(String caseInstanceId) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("id", caseInstanceId);
-        getDbSqlSession().update("clearCaseInstanceLockTime", params);
+        getDbSqlSession().update("clearCaseInstanceLockTime", params, getManagedEntityClass());
     }
 
     @Override
     public void clearAllLockTimes(String lockOwner) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("lockOwner", lockOwner);
-        getDbSqlSession().update("clearAllCaseInstanceLockTimes", params);
+        getDbSqlSession().update("clearAllCaseInstanceLockTimes", params, getManagedEntityClass());
     }
 
 }
@@ -276,6 +276,44 @@ public class AsyncCmmnHistoryTest extends CustomCmmnConfigurationFlowableTestCas
         assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId()).variableName("test").singleResult()).isNull();
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/async/AsyncCmmnHistoryTest.testVariables.cmmn")
+    public void testVariablesCreatedAndUpdatedInSameTransaction() throws JsonProcessingException {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneHumanTaskCase").start();
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "amount", 10);
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "amount", 20);
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "temporary", "value");
+            cmmnRuntimeService.removeVariable(caseInstance.getId(), "temporary");
+            return null;
+        });
+
+        // Only the creation of the variable with its latest value is recorded
+        List<String> historyTypes = new ArrayList<>();
+        for (HistoryJob historyJob : cmmnManagementService.createHistoryJobQuery().list()) {
+            JsonNode historyJsonNode = cmmnEngineConfiguration.getObjectMapper().readTree(cmmnManagementService.getHistoryJobHistoryJson(historyJob.getId()));
+            for (JsonNode jsonNode : historyJsonNode) {
+                if (jsonNode.has("type")) {
+                    historyTypes.add(jsonNode.get("type").asText());
+                }
+            }
+        }
+        assertThat(historyTypes)
+                .containsOnlyOnce("cmmn-variable-created")
+                .doesNotContain("cmmn-variable-updated", "cmmn-variable-removed");
+
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+        assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId()).list())
+                .extracting(HistoricVariableInstance::getVariableName, HistoricVariableInstance::getValue)
+                .containsExactly(tuple("amount", 20));
+
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "amount", 30);
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+        assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult().getValue()).isEqualTo(30);
+    }
+
     @Test
     @CmmnDeployment
     public void testHumanTask() {
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemTransition;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class SentryDependencyIndexTest extends FlowableCmmnTestCase {
+
+    @Test
+    @CmmnDeployment
+    public void testSentryDependencyIndex() {
+        String caseDefinitionId = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("sentryDependencyIndex").singleResult().getId();
+        CmmnModel cmmnModel = cmmnEngineConfiguration.getCommandExecutor()
+                .execute(commandContext -> CaseDefinitionUtil.getCmmnModel(caseDefinitionId));
+        SentryDependencyIndex sentryDependencyIndex = cmmnEngineConfiguration.getCommandExecutor()
+                .execute(commandContext -> CaseDefinitionUtil.getSentryDependencyIndex(caseDefinitionId));
+
+        PlanItemLifeCycleEvent completeA = new PlanItemLifeCycleEvent(cmmnModel.findPlanItem("planItemA"), PlanItemTransition.COMPLETE);
+        PlanItemLifeCycleEvent startA = new PlanItemLifeCycleEvent(cmmnModel.findPlanItem("planItemA"), PlanItemTransition.START);
+        PlanItemLifeCycleEvent completeB = new PlanItemLifeCycleEvent(cmmnModel.findPlanItem("planItemB"), PlanItemTransition.COMPLETE);
+
+        // single on part without if part: only the matching event can satisfy the sentry
+        assertThat(sentryDependencyIndex.canEntryCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemB"), completeA)).isTrue();
+        assertThat(sentryDependencyIndex.canEntryCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemB"), startA)).isFalse();
+        assertThat(sentryDependencyIndex.canEntryCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemB"), completeB)).isFalse();
+        assertThat(sentryDependencyIndex.canEntryCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemB"), null)).isFalse();
+        assertThat(sentryDependencyIndex.canExitCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemStage"), completeB)).isTrue();
+        assertThat(sentryDependencyIndex.canExitCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemStage"), completeA)).isFalse();
+
+        // if parts and multiple on parts depend on variables or earlier events and are always evaluated
+        assertThat(sentryDependencyIndex.canEntryCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemC"), completeB)).isTrue();
+        assertThat(sentryDependencyIndex.canEntryCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemC"), null)).isTrue();
+        assertThat(sentryDependencyIndex.canEntryCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemE"), startA)).isTrue();
+
+        // plan items without criteria of that kind
+        assertThat(sentryDependencyIndex.canExitCriteriaBeSatisfied(cmmnModel.findPlanItem("planItemB"), completeA)).isFalse();
+
+        // plan items of another model (e.g. injected from another case definition) are unknown, even when their id is the same
+        PlanItem otherPlanItem = new PlanItem();
+        otherPlanItem.setId("planItemB");
+        assertThat(sentryDependencyIndex.canEntryCriteriaBeSatisfied(otherPlanItem, startA)).isTrue();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/SentryDependencyIndexTest.testSentryDependencyIndex.cmmn")
+    public void testSentriesAreTriggeredWithIndex() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("sentryDependencyIndex")
+                .variable("goToC", false)
+                .start();
+
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("A", "D");
+
+        cmmnTaskService.complete(getTask(caseInstance, "D").getId());
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("A");
+
+        cmmnTaskService.complete(getTask(caseInstance, "A").getId(), Collections.singletonMap("goToC", true));
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("B", "C", "E");
+
+        cmmnTaskService.complete(getTask(caseInstance, "B").getId());
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("C");
+    }
+
+    protected List<String> getActiveTaskNames(CaseInstance caseInstance) {
+        return cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list()
+                .stream().map(Task::getName).collect(Collectors.toList());
+    }
+
+    protected Task getTask(CaseInstance caseInstance, String name) {
+        return cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName(name).singleResult();
+    }
+
+}
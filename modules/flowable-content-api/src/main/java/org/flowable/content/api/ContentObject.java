@@ -34,4 +34,14 @@ public interface ContentObject {
      *         after usage to prevent resources leaking.
      */
     InputStream getContent();
+
+    /**
+     * @param offset the position of the first byte to read
+     * @param length the maximum number of bytes to read, or a negative number to read until the end of the content
+     * @return a new inputstream to read the given range of the content from. Caller should close the inputstream after usage to prevent resources leaking.
+     *         Implementations backed by random access storage should override this to avoid reading the content before the offset.
+     */
+    default InputStream getContent(long offset, long length) {
+        return new ContentRangeInputStream(getContent(), offset, length);
+    }
 }
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.api;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link InputStream} that only returns a range of the bytes of the wrapped stream. The bytes before the range are skipped on the first read.
+ */
+public class ContentRangeInputStream extends FilterInputStream {
+
+    protected long offset;
+    protected long remaining;
+
+    /**
+     * @param inputStream the stream to read the range from
+     * @param offset the position of the first byte of the range
+     * @param length the maximum number of bytes to read, or a negative number to read until the end of the stream
+     */
+    public ContentRangeInputStream(InputStream inputStream, long offset, long length) {
+        super(inputStream);
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must be positive: " + offset);
+        }
+        this.offset = offset;
+        this.remaining = length < 0 ? Long.MAX_VALUE : length;
+    }
+
+    protected void skipToOffset() throws IOException {
+        while (offset > 0) {
+            long skipped = in.skip(offset);
+            if (skipped <= 0) {
+                if (in.read() == -1) {
+                    remaining = 0;
+                    offset = 0;
+                    return;
+                }
+                skipped = 1;
+            }
+            offset -= skipped;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        skipToOffset();
+        if (remaining <= 0) {
+            return -1;
+        }
+        int result = in.read();
+        if (result != -1) {
+            remaining--;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        skipToOffset();
+        if (remaining <= 0) {
+            return -1;
+        }
+        int read = in.read(b, off, (int) Math.min(len, remaining));
+        if (read > 0) {
+            remaining -= read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        skipToOffset();
+        long skipped = in.skip(Math.min(n, remaining));
+        if (skipped > 0) {
+            remaining -= skipped;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (offset > 0) {
+            return 0;
+        }
+        return (int) Math.min(in.available(), remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // mark is not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+}
@@ -27,6 +27,14 @@ public interface ContentService {
 
     InputStream getContentItemData(String contentItemId);
 
+    /**
+     * @param contentItemId the id of the content item
+     * @param offset the position of the first byte to read
+     * @param length the maximum number of bytes to read, or a negative number to read until the end of the content
+     * @return the given range of the data of the content item, used for partial downloads
+     */
+    InputStream getContentItemData(String contentItemId, long offset, long length);
+
     void deleteContentItem(String contentItemId);
 
     void deleteContentItemsByProcessInstanceId(String processInstanceId);
@@ -51,6 +51,11 @@ public class ContentServiceImpl extends CommonEngineServiceImpl<ContentEngineCon
         return commandExecutor.execute(new GetContentItemStreamCmd(contentItemId));
     }
 
+    @Override
+    public InputStream getContentItemData(String contentItemId, long offset, long length) {
+        return commandExecutor.execute(new GetContentItemStreamCmd(contentItemId, offset, length));
+    }
+
     @Override
     public void deleteContentItem(String contentItemId) {
         commandExecutor.execute(new DeleteContentItemCmd(contentItemId));
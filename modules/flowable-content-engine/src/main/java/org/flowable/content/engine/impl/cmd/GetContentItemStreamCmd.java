@@ -32,16 +32,27 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
     private static final long serialVersionUID = 1L;
 
     protected String contentItemId;
+    protected long offset;
+    protected long length = -1;
 
     public GetContentItemStreamCmd(String contentItemId) {
         this.contentItemId = contentItemId;
     }
 
+    public GetContentItemStreamCmd(String contentItemId, long offset, long length) {
+        this.contentItemId = contentItemId;
+        this.offset = offset;
+        this.length = length;
+    }
+
     @Override
     public InputStream execute(CommandContext commandContext) {
         if (contentItemId == null) {
             throw new FlowableIllegalArgumentException("contentItemId is null");
         }
+        if (offset < 0) {
+            throw new FlowableIllegalArgumentException("offset is negative");
+        }
 
         ContentItem contentItem = CommandContextUtil.getContentItemEntityManager().findById(contentItemId);
         if (contentItem == null) {
@@ -50,6 +61,9 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
 
         ContentStorage contentStorage = CommandContextUtil.getContentEngineConfiguration().getContentStorage();
         ContentObject contentObject = contentStorage.getContentObject(contentItem.getContentStoreId());
+        if (offset > 0 || length >= 0) {
+            return contentObject.getContent(offset, length);
+        }
         return contentObject.getContent();
     }
 
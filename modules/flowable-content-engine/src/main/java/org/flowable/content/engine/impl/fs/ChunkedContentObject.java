@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.engine.impl.fs.ContentAddressedFileSystemContentStorage.ChunkedContentManifest;
+
+/**
+ * {@link ContentObject}, backed by the chunks of a {@link ContentAddressedFileSystemContentStorage}.
+ * The chunks are opened lazily while the content is read.
+ */
+public class ChunkedContentObject implements ContentObject {
+
+    protected ContentAddressedFileSystemContentStorage contentStorage;
+    protected String id;
+    protected ChunkedContentManifest manifest;
+    protected InputStream inputStream;
+
+    public ChunkedContentObject(ContentAddressedFileSystemContentStorage contentStorage, String id, ChunkedContentManifest manifest) {
+        this.contentStorage = contentStorage;
+        this.id = id;
+        this.manifest = manifest;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public long getContentLength() {
+        return manifest.getContentLength();
+    }
+
+    @Override
+    public InputStream getContent() {
+        if (inputStream == null) {
+            inputStream = getContent(0, -1);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public InputStream getContent(long offset, long length) {
+        return new SequenceInputStream(new ChunkStreamEnumeration(offset, length < 0 ? Long.MAX_VALUE : length));
+    }
+
+    public ChunkedContentManifest getManifest() {
+        return manifest;
+    }
+
+    /**
+     * Opens the chunks overlapping with the range one at a time, so only one chunk file is open while reading.
+     */
+    protected class ChunkStreamEnumeration implements Enumeration<InputStream> {
+
+        protected int chunkIndex;
+        protected long chunkStart;
+        protected long offset;
+        protected long remaining;
+
+        public ChunkStreamEnumeration(long offset, long length) {
+            this.offset = offset;
+            this.remaining = length;
+            skipChunksBeforeOffset();
+        }
+
+        protected void skipChunksBeforeOffset() {
+            List<Integer> chunkLengths = manifest.getChunkLengths();
+            while (chunkIndex < chunkLengths.size() && chunkStart + chunkLengths.get(chunkIndex) <= offset) {
+                chunkStart += chunkLengths.get(chunkIndex);
+                chunkIndex++;
+            }
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return remaining > 0 && chunkIndex < manifest.getChunkHashes().size();
+        }
+
+        @Override
+        public InputStream nextElement() {
+            if (!hasMoreElements()) {
+                throw new NoSuchElementException();
+            }
+
+            int chunkLength = manifest.getChunkLengths().get(chunkIndex);
+            long offsetInChunk = Math.max(0, offset - chunkStart);
+            long lengthInChunk = Math.min(chunkLength - offsetInChunk, remaining);
+            InputStream chunkStream = contentStorage.openChunk(manifest.getChunkHashes().get(chunkIndex), offsetInChunk, lengthInChunk);
+
+            remaining -= lengthInChunk;
+            chunkStart += chunkLength;
+            chunkIndex++;
+            return chunkStream;
+        }
+    }
+
+}
@@ -0,0 +1,435 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentObjectStorageMetadata;
+import org.flowable.content.api.ContentRangeInputStream;
+import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+
+import com.fasterxml.uuid.EthernetAddress;
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedGenerator;
+
+/**
+ * {@link ContentStorage} that splits content into fixed size chunks, which are stored once per distinct content (identified by their SHA-256 hash).
+ * Storing the same content multiple times therefore only stores a new manifest listing the chunks of the content.
+ *
+ * Under the root folder, the chunks are stored in a 'chunks' folder and the manifests in a 'manifests' folder. A chunk is compressed
+ * when compression is enabled and the compressed chunk is smaller than the original one. Every chunk has a reference count, and is
+ * removed when the last content referencing it is deleted or updated.
+ *
+ * Reading a range of the content only reads the chunks overlapping with that range. Large uncompressed chunks are memory-mapped.
+ *
+ * Note that this implementation, like {@link SimpleFileSystemContentStorage}, does not store the passed metadata.
+ * The reference counts are guarded by locks in this instance, so one content root folder should not be shared by multiple engines.
+ */
+public class ContentAddressedFileSystemContentStorage implements ContentStorage {
+
+    private static final TimeBasedGenerator UUID_GENERATOR = Generators.timeBasedGenerator(EthernetAddress.fromInterface());
+
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    protected static final String CHUNKS_FOLDER = "chunks";
+    protected static final String MANIFESTS_FOLDER = "manifests";
+    protected static final String REFERENCE_COUNT_SUFFIX = ".ref";
+    protected static final String TEMP_SUFFIX = "_TEMP";
+
+    protected static final int MANIFEST_VERSION = 1;
+    protected static final int CHUNK_HEADER_LENGTH = 1;
+    protected static final byte CHUNK_UNCOMPRESSED = 0;
+    protected static final byte CHUNK_DEFLATED = 1;
+
+    protected static final int LOCK_COUNT = 64;
+
+    protected File contentFolderRoot;
+    protected File chunksFolder;
+    protected File manifestsFolder;
+
+    protected int chunkSize = DEFAULT_CHUNK_SIZE;
+    protected boolean compressionEnabled = true;
+    protected long memoryMappingThreshold = FileRangeUtil.DEFAULT_MEMORY_MAPPING_THRESHOLD;
+
+    protected final Object[] chunkLocks = new Object[LOCK_COUNT];
+
+    public ContentAddressedFileSystemContentStorage(File contentFolderRoot) {
+        this.contentFolderRoot = contentFolderRoot;
+        this.chunksFolder = createOrGetFolder(contentFolderRoot, CHUNKS_FOLDER);
+        this.manifestsFolder = createOrGetFolder(contentFolderRoot, MANIFESTS_FOLDER);
+        for (int i = 0; i < chunkLocks.length; i++) {
+            chunkLocks[i] = new Object();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public ContentObject createContentObject(InputStream contentStream, Map<String, Object> metaData) {
+        return createContentObject(contentStream, (ContentObjectStorageMetadata) null);
+    }
+
+    @Override
+    public ContentObject createContentObject(InputStream contentStream, ContentObjectStorageMetadata metaData) {
+        String id = UUID_GENERATOR.generate().toString();
+        ChunkedContentManifest manifest = storeChunks(contentStream);
+        writeManifest(id, manifest);
+        return new ChunkedContentObject(this, id, manifest);
+    }
+
+    @Override
+    @Deprecated
+    public ContentObject updateContentObject(String id, InputStream contentStream, Map<String, Object> metaData) {
+        return updateContentObject(id, contentStream, (ContentObjectStorageMetadata) null);
+    }
+
+    @Override
+    public ContentObject updateContentObject(String id, InputStream contentStream, ContentObjectStorageMetadata metaData) {
+        ChunkedContentManifest previousManifest = readManifest(id);
+        ChunkedContentManifest manifest = storeChunks(contentStream);
+        writeManifest(id, manifest);
+        releaseChunks(previousManifest);
+        return new ChunkedContentObject(this, id, manifest);
+    }
+
+    @Override
+    public ContentObject getContentObject(String id) {
+        return new ChunkedContentObject(this, id, readManifest(id));
+    }
+
+    @Override
+    public Map<String, Object> getMetaData() {
+        // This implementation doesn't support metadata
+        return null;
+    }
+
+    @Override
+    public void deleteContentObject(String id) {
+        ChunkedContentManifest manifest = readManifest(id);
+        if (!getManifestFile(id).delete()) {
+            throw new ContentStorageException("Error while deleting content with id: " + id);
+        }
+        releaseChunks(manifest);
+    }
+
+    @Override
+    public String getContentStoreName() {
+        return "file";
+    }
+
+    /**
+     * Stores the chunks of the given stream that are not stored yet, and increments the reference count of all of them.
+     */
+    protected ChunkedContentManifest storeChunks(InputStream contentStream) {
+        List<String> chunkHashes = new ArrayList<>();
+        List<Integer> chunkLengths = new ArrayList<>();
+        byte[] buffer = new byte[chunkSize];
+        MessageDigest digest = createDigest();
+
+        try {
+            int read;
+            while ((read = IOUtils.read(contentStream, buffer)) > 0) {
+                digest.reset();
+                digest.update(buffer, 0, read);
+                String hash = toHex(digest.digest());
+                storeChunk(hash, buffer, read);
+                chunkHashes.add(hash);
+                chunkLengths.add(read);
+                if (read < buffer.length) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            releaseChunks(new ChunkedContentManifest(chunkHashes, chunkLengths));
+            throw new ContentStorageException("Error while reading content", e);
+        }
+
+        return new ChunkedContentManifest(chunkHashes, chunkLengths);
+    }
+
+    protected void storeChunk(String hash, byte[] buffer, int length) {
+        synchronized (getChunkLock(hash)) {
+            File chunkFile = getChunkFile(hash);
+            if (!chunkFile.exists()) {
+                File folder = chunkFile.getParentFile();
+                if (!folder.exists()) {
+                    folder.mkdirs();
+                }
+                writeFileAtomically(chunkFile, createChunkData(buffer, length));
+            }
+            File referenceCountFile = getReferenceCountFile(hash);
+            writeFileAtomically(referenceCountFile, String.valueOf(readReferenceCount(referenceCountFile) + 1).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    protected byte[] createChunkData(byte[] buffer, int length) {
+        if (compressionEnabled) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + CHUNK_HEADER_LENGTH);
+            compressed.write(CHUNK_DEFLATED);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(compressed, deflater)) {
+                deflaterOutputStream.write(buffer, 0, length);
+            } catch (IOException e) {
+                throw new ContentStorageException("Error while compressing content", e);
+            } finally {
+                deflater.end();
+            }
+
+            if (compressed.size() < length + CHUNK_HEADER_LENGTH) {
+                return compressed.toByteArray();
+            }
+        }
+
+        byte[] data = new byte[length + CHUNK_HEADER_LENGTH];
+        data[0] = CHUNK_UNCOMPRESSED;
+        System.arraycopy(buffer, 0, data, CHUNK_HEADER_LENGTH, length);
+        return data;
+    }
+
+    /**
+     * Decrements the reference count of the chunks of the given manifest, and deletes the chunks that are no longer referenced.
+     */
+    protected void releaseChunks(ChunkedContentManifest manifest) {
+        for (String hash : manifest.getChunkHashes()) {
+            synchronized (getChunkLock(hash)) {
+                File referenceCountFile = getReferenceCountFile(hash);
+                long referenceCount = readReferenceCount(referenceCountFile) - 1;
+                if (referenceCount > 0) {
+                    writeFileAtomically(referenceCountFile, String.valueOf(referenceCount).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    getChunkFile(hash).delete();
+                    referenceCountFile.delete();
+                }
+            }
+        }
+    }
+
+    protected InputStream openChunk(String hash, long offset, long length) {
+        File chunkFile = getChunkFile(hash);
+        if (!chunkFile.exists()) {
+            throw new ContentStorageException("Content chunk " + hash + " was not found (path: " + chunkFile + ")");
+        }
+
+        try (FileInputStream headerStream = new FileInputStream(chunkFile)) {
+            int header = headerStream.read();
+            if (header == CHUNK_UNCOMPRESSED) {
+                return FileRangeUtil.openRange(chunkFile, CHUNK_HEADER_LENGTH + offset, length, memoryMappingThreshold);
+            } else if (header != CHUNK_DEFLATED) {
+                throw new ContentStorageException("Content chunk " + hash + " has an unknown format");
+            }
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while reading content chunk " + hash, e);
+        }
+
+        InputStream inflated = new InflaterInputStream(FileRangeUtil.openRange(chunkFile, CHUNK_HEADER_LENGTH, -1, -1));
+        return new ContentRangeInputStream(inflated, offset, length);
+    }
+
+    protected void writeManifest(String id, ChunkedContentManifest manifest) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MANIFEST_VERSION);
+            out.writeInt(manifest.getChunkHashes().size());
+            for (int i = 0; i < manifest.getChunkHashes().size(); i++) {
+                out.writeUTF(manifest.getChunkHashes().get(i));
+                out.writeInt(manifest.getChunkLengths().get(i));
+            }
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while writing manifest of content with id: " + id, e);
+        }
+        writeFileAtomically(getManifestFile(id), bytes.toByteArray());
+    }
+
+    protected ChunkedContentManifest readManifest(String id) {
+        File manifestFile = getManifestFile(id);
+        if (!manifestFile.exists()) {
+            throw new ContentNotFoundException("Content with id: " + id + " was not found (path: " + manifestFile + ")");
+        }
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream(manifestFile))) {
+            int version = in.readInt();
+            if (version != MANIFEST_VERSION) {
+                throw new ContentStorageException("Unsupported manifest version " + version + " for content with id: " + id);
+            }
+            int chunkCount = in.readInt();
+            List<String> chunkHashes = new ArrayList<>(chunkCount);
+            List<Integer> chunkLengths = new ArrayList<>(chunkCount);
+            for (int i = 0; i < chunkCount; i++) {
+                chunkHashes.add(in.readUTF());
+                chunkLengths.add(in.readInt());
+            }
+            return new ChunkedContentManifest(chunkHashes, chunkLengths);
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while reading manifest of content with id: " + id, e);
+        }
+    }
+
+    protected long readReferenceCount(File referenceCountFile) {
+        if (!referenceCountFile.exists()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(new String(Files.readAllBytes(referenceCountFile.toPath()), StandardCharsets.UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            throw new ContentStorageException("Error while reading reference count " + referenceCountFile, e);
+        }
+    }
+
+    protected void writeFileAtomically(File file, byte[] data) {
+        // The temp file has a unique name, so concurrent writes of the same file never write to the same temp file
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(file.getParentFile().toPath(), file.getName(), TEMP_SUFFIX);
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                out.write(data);
+            }
+            Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (tempFile != null) {
+                tempFile.toFile().delete();
+            }
+            throw new ContentStorageException("Error while writing content to " + file, e);
+        }
+    }
+
+    protected File getManifestFile(String id) {
+        if (id == null || id.isEmpty() || id.contains("/") || id.contains("\\") || id.contains("..")) {
+            throw new ContentStorageException("Illegal content id: " + id);
+        }
+        return new File(manifestsFolder, id);
+    }
+
+    protected File getChunkFile(String hash) {
+        return new File(new File(chunksFolder, hash.substring(0, 2)), hash);
+    }
+
+    protected File getReferenceCountFile(String hash) {
+        return new File(new File(chunksFolder, hash.substring(0, 2)), hash + REFERENCE_COUNT_SUFFIX);
+    }
+
+    protected Object getChunkLock(String hash) {
+        return chunkLocks[(hash.hashCode() & Integer.MAX_VALUE) % chunkLocks.length];
+    }
+
+    protected File createOrGetFolder(File parentFolder, String name) {
+        File folder = new File(parentFolder, name);
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new ContentStorageException("Could not create content folder " + folder.getAbsolutePath());
+        }
+        return folder;
+    }
+
+    protected MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new ContentStorageException("SHA-256 is not available", e);
+        }
+    }
+
+    protected static String toHex(byte[] bytes) {
+        char[] hexDigits = "0123456789abcdef".toCharArray();
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = hexDigits[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = hexDigits[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public ContentAddressedFileSystemContentStorage setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public ContentAddressedFileSystemContentStorage setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+        return this;
+    }
+
+    public long getMemoryMappingThreshold() {
+        return memoryMappingThreshold;
+    }
+
+    public ContentAddressedFileSystemContentStorage setMemoryMappingThreshold(long memoryMappingThreshold) {
+        this.memoryMappingThreshold = memoryMappingThreshold;
+        return this;
+    }
+
+    /**
+     * The chunks of one content object, in order.
+     */
+    public static class ChunkedContentManifest {
+
+        protected final List<String> chunkHashes;
+        protected final List<Integer> chunkLengths;
+        protected final long contentLength;
+
+        public ChunkedContentManifest(List<String> chunkHashes, List<Integer> chunkLengths) {
+            this.chunkHashes = Collections.unmodifiableList(chunkHashes);
+            this.chunkLengths = Collections.unmodifiableList(chunkLengths);
+            long length = 0;
+            for (Integer chunkLength : chunkLengths) {
+                length += chunkLength;
+            }
+            this.contentLength = length;
+        }
+
+        public List<String> getChunkHashes() {
+            return chunkHashes;
+        }
+
+        public List<Integer> getChunkLengths() {
+            return chunkLengths;
+        }
+
+        public long getContentLength() {
+            return contentLength;
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.apache.commons.io.input.BoundedInputStream;
+import org.flowable.content.api.ContentStorageException;
+
+/**
+ * Opens streams on a range of a file, without reading the bytes before the range.
+ * Large ranges are memory-mapped, so reading them doesn't copy the file through the heap in small buffers.
+ */
+public class FileRangeUtil {
+
+    public static final long DEFAULT_MEMORY_MAPPING_THRESHOLD = 8L * 1024 * 1024;
+
+    /**
+     * @param file the file to read
+     * @param position the position of the first byte to read
+     * @param length the maximum number of bytes to read, or a negative number to read until the end of the file
+     * @param memoryMappingThreshold ranges of at least this size are memory-mapped, a negative value disables memory mapping
+     */
+    public static InputStream openRange(File file, long position, long length, long memoryMappingThreshold) {
+        long fileLength = file.length();
+        long start = Math.min(position, fileLength);
+        long rangeLength = length < 0 ? fileLength - start : Math.min(length, fileLength - start);
+
+        try {
+            if (memoryMappingThreshold >= 0 && rangeLength >= memoryMappingThreshold && rangeLength <= Integer.MAX_VALUE) {
+                try (FileInputStream fileInputStream = new FileInputStream(file)) {
+                    // The mapping stays valid after the channel is closed
+                    MappedByteBuffer buffer = fileInputStream.getChannel().map(FileChannel.MapMode.READ_ONLY, start, rangeLength);
+                    return new ByteBufferInputStream(buffer);
+                }
+            }
+
+            FileInputStream fileInputStream = new FileInputStream(file);
+            try {
+                fileInputStream.getChannel().position(start);
+            } catch (IOException e) {
+                fileInputStream.close();
+                throw e;
+            }
+            return new BoundedInputStream(fileInputStream, rangeLength);
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while opening file stream for " + file, e);
+        }
+    }
+
+    protected static class ByteBufferInputStream extends InputStream {
+
+        protected final ByteBuffer buffer;
+
+        public ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            int skipped = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+}
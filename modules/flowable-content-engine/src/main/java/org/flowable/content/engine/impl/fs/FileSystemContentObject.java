@@ -32,6 +32,7 @@ public class FileSystemContentObject implements ContentObject {
     protected InputStream inputStream;
     protected String id;
     protected Long length;
+    protected long memoryMappingThreshold = FileRangeUtil.DEFAULT_MEMORY_MAPPING_THRESHOLD;
 
     public FileSystemContentObject(File file, String id) {
         this.file = file;
@@ -68,4 +69,17 @@ public class FileSystemContentObject implements ContentObject {
         return inputStream;
     }
 
+    @Override
+    public InputStream getContent(long offset, long length) {
+        return FileRangeUtil.openRange(file, offset, length, memoryMappingThreshold);
+    }
+
+    public long getMemoryMappingThreshold() {
+        return memoryMappingThreshold;
+    }
+
+    public void setMemoryMappingThreshold(long memoryMappingThreshold) {
+        this.memoryMappingThreshold = memoryMappingThreshold;
+    }
+
 }
@@ -157,6 +157,29 @@ public class ContentItemTest extends AbstractFlowableContentTest {
                 .isInstanceOf(FlowableObjectNotFoundException.class);
     }
 
+    @Test
+    public void getContentItemDataRange() throws Exception {
+        ContentItem contentItem = contentService.newContentItem();
+        contentItem.setName("testItem");
+        contentItem.setMimeType("text/plain");
+        contentItem.setTaskId("123456");
+        try (InputStream in = this.getClass().getClassLoader().getResourceAsStream("test.txt")) {
+            contentService.saveContentItem(contentItem, in);
+        }
+
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 1, 3)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("ell");
+        }
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 2, -1)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("llo");
+        }
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 10, 5)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEmpty();
+        }
+
+        contentService.deleteContentItem(contentItem.getId());
+    }
+
     @Test
     public void createAndDeleteUncategorizedContentTwice() throws Exception {
         createSimpleUncategorizedContentItemWithoutIdWithData();
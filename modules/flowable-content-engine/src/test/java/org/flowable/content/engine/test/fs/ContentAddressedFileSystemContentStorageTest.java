@@ -0,0 +1,157 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.test.fs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentObjectStorageMetadata;
+import org.flowable.content.engine.impl.fs.ContentAddressedFileSystemContentStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentAddressedFileSystemContentStorageTest {
+
+    @TempDir
+    File contentFolderRoot;
+
+    @Test
+    void identicalContentIsStoredOnce() throws IOException {
+        ContentAddressedFileSystemContentStorage contentStorage = new ContentAddressedFileSystemContentStorage(contentFolderRoot).setChunkSize(1024);
+        byte[] data = randomBytes(5000);
+
+        ContentObject first = contentStorage.createContentObject(new ByteArrayInputStream(data), (ContentObjectStorageMetadata) null);
+        ContentObject second = contentStorage.createContentObject(new ByteArrayInputStream(data), (ContentObjectStorageMetadata) null);
+
+        assertThat(first.getId()).isNotEqualTo(second.getId());
+        assertThat(first.getContentLength()).isEqualTo(5000);
+        assertThat(countChunkFiles()).isEqualTo(5);
+        assertThat(read(contentStorage.getContentObject(second.getId()).getContent())).isEqualTo(data);
+
+        contentStorage.deleteContentObject(first.getId());
+        assertThat(countChunkFiles()).isEqualTo(5);
+        assertThat(read(contentStorage.getContentObject(second.getId()).getContent())).isEqualTo(data);
+
+        contentStorage.deleteContentObject(second.getId());
+        assertThat(countChunkFiles()).isZero();
+        assertThatThrownBy(() -> contentStorage.getContentObject(second.getId()))
+                .isInstanceOf(ContentNotFoundException.class);
+    }
+
+    @Test
+    void compressibleContentIsCompressed() throws IOException {
+        ContentAddressedFileSystemContentStorage contentStorage = new ContentAddressedFileSystemContentStorage(contentFolderRoot);
+        byte[] data = repeat("flowable content ", 10000);
+
+        ContentObject contentObject = contentStorage.createContentObject(new ByteArrayInputStream(data), (ContentObjectStorageMetadata) null);
+
+        assertThat(sizeOfChunkFiles()).isLessThan(data.length / 10);
+        assertThat(read(contentStorage.getContentObject(contentObject.getId()).getContent())).isEqualTo(data);
+    }
+
+    @Test
+    void rangeReadsOnlyReturnTheRange() throws IOException {
+        byte[] data = randomBytes(10000);
+        byte[] compressibleData = repeat("0123456789", 1000);
+
+        for (boolean compressionEnabled : new boolean[] { true, false }) {
+            ContentAddressedFileSystemContentStorage contentStorage = new ContentAddressedFileSystemContentStorage(contentFolderRoot)
+                    .setChunkSize(1000)
+                    .setCompressionEnabled(compressionEnabled)
+                    .setMemoryMappingThreshold(500);
+
+            for (byte[] content : Arrays.asList(data, compressibleData)) {
+                String id = contentStorage.createContentObject(new ByteArrayInputStream(content), (ContentObjectStorageMetadata) null).getId();
+                ContentObject contentObject = contentStorage.getContentObject(id);
+
+                assertThat(read(contentObject.getContent(0, -1))).isEqualTo(content);
+                assertThat(read(contentObject.getContent(1500, 2000))).isEqualTo(Arrays.copyOfRange(content, 1500, 3500));
+                assertThat(read(contentObject.getContent(999, 2))).isEqualTo(Arrays.copyOfRange(content, 999, 1001));
+                assertThat(read(contentObject.getContent(9000, 5000))).isEqualTo(Arrays.copyOfRange(content, 9000, 10000));
+                assertThat(read(contentObject.getContent(20000, 10))).isEmpty();
+
+                contentStorage.deleteContentObject(id);
+            }
+        }
+
+        assertThat(countChunkFiles()).isZero();
+    }
+
+    @Test
+    void updateReleasesPreviousChunks() throws IOException {
+        ContentAddressedFileSystemContentStorage contentStorage = new ContentAddressedFileSystemContentStorage(contentFolderRoot).setChunkSize(1024);
+
+        String id = contentStorage.createContentObject(new ByteArrayInputStream(randomBytes(3000)), (ContentObjectStorageMetadata) null).getId();
+        byte[] updatedData = "updated".getBytes(StandardCharsets.UTF_8);
+        contentStorage.updateContentObject(id, new ByteArrayInputStream(updatedData), (ContentObjectStorageMetadata) null);
+
+        assertThat(countChunkFiles()).isEqualTo(1);
+        assertThat(read(contentStorage.getContentObject(id).getContent())).isEqualTo(updatedData);
+        try (Stream<Path> files = Files.walk(contentFolderRoot.toPath())) {
+            assertThat(files.filter(path -> path.getFileName().toString().endsWith("_TEMP"))).isEmpty();
+        }
+    }
+
+    protected byte[] read(InputStream inputStream) throws IOException {
+        try (InputStream in = inputStream) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+
+    protected byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    protected byte[] repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    protected long countChunkFiles() throws IOException {
+        try (Stream<Path> files = chunkFiles()) {
+            return files.count();
+        }
+    }
+
+    protected long sizeOfChunkFiles() throws IOException {
+        try (Stream<Path> files = chunkFiles()) {
+            return files.mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+
+    protected Stream<Path> chunkFiles() throws IOException {
+        return Files.walk(new File(contentFolderRoot, "chunks").toPath())
+                .filter(Files::isRegularFile)
+                .filter(path -> !path.getFileName().toString().endsWith(".ref"));
+    }
+
+}
@@ -36,7 +36,6 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
@@ -205,6 +204,14 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to index the literal input entries of the decision tables, so that only the rules that can match
+     * the input values are evaluated instead of all the rules of a decision table.
+     *
+     * The decision results are the same as without the index, but the audit trail only contains the evaluated rules.
+     */
+    protected boolean enableDecisionTableIndex;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -488,11 +495,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
         // Decision cache
         if (definitionCache == null) {
-            if (decisionCacheLimit <= 0) {
-                definitionCache = new DefaultDeploymentCache<>();
-            } else {
-                definitionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
-            }
+            definitionCache = createDeploymentCache("decision", decisionCacheLimit);
         }
 
         deploymentManager = new DeploymentManager(definitionCache, this);
@@ -1095,6 +1098,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isEnableDecisionTableIndex() {
+        return enableDecisionTableIndex;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionTableIndex(boolean enableDecisionTableIndex) {
+        this.enableDecisionTableIndex = enableDecisionTableIndex;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -12,9 +12,12 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -31,6 +34,8 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.index.DecisionTableIndex;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionRule;
 import org.flowable.dmn.model.DecisionTable;
@@ -54,6 +59,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     protected ExpressionManager expressionManager;
     protected ObjectMapper objectMapper;
 
+    // the decision tables are part of the cached DMN definitions, the index of a decision table is removed with it
+    protected Map<DecisionTable, DecisionTableIndex> decisionTableIndexes = Collections.synchronizedMap(new WeakHashMap<>());
+
     public RuleEngineExecutorImpl(Map<String, AbstractHitPolicy> hitPolicyBehaviors, ExpressionManager expressionManager, ObjectMapper objectMapper) {
         this.hitPolicyBehaviors = hitPolicyBehaviors;
         this.expressionManager = expressionManager;
@@ -116,8 +124,13 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            // rules that are not a candidate cannot match the input values and are not evaluated
+            BitSet candidateRules = findCandidateRules(decisionTable, executionContext);
+
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int i = 0; i < rules.size(); i++) {
+                DecisionRule rule = rules.get(i);
+                boolean ruleResult = (candidateRules == null || candidateRules.get(i)) && executeRule(rule, executionContext);
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
@@ -158,6 +171,28 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End table evaluation: {}", decisionTable.getId());
     }
 
+    /**
+     * Returns the positions of the rules that can match the input values when the decision table index is enabled, null otherwise.
+     */
+    protected BitSet findCandidateRules(DecisionTable decisionTable, ELExecutionContext executionContext) {
+        if (!CommandContextUtil.getDmnEngineConfiguration().isEnableDecisionTableIndex()) {
+            return null;
+        }
+
+        DecisionTableIndex decisionTableIndex = getDecisionTableIndex(decisionTable);
+        if (decisionTableIndex.isEmpty()) {
+            return null;
+        }
+
+        BitSet candidateRules = decisionTableIndex.findCandidateRules(executionContext);
+        LOGGER.debug("Evaluating {} of {} rules of table {}", candidateRules.cardinality(), decisionTable.getRules().size(), decisionTable.getId());
+        return candidateRules;
+    }
+
+    public DecisionTableIndex getDecisionTableIndex(DecisionTable decisionTable) {
+        return decisionTableIndexes.computeIfAbsent(decisionTable, table -> DecisionTableIndex.create(table, expressionManager));
+    }
+
     protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
@@ -348,6 +383,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     @Override
     public void setExpressionManager(ExpressionManager expressionManager) {
         this.expressionManager = expressionManager;
+        this.decisionTableIndexes.clear();
     }
 
     @Override
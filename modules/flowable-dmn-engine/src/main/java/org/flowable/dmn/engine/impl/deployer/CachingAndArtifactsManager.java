@@ -14,12 +14,15 @@ package org.flowable.dmn.engine.impl.deployer;
 
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -47,10 +50,27 @@ public class CachingAndArtifactsManager {
                 cacheEntry = new DecisionCacheEntry(decisionEntity, dmnDefinition, decision);
             }
 
+            if (dmnEngineConfiguration.isEnableDecisionTableIndex()) {
+                createDecisionTableIndexes(dmnDefinition, dmnEngineConfiguration.getRuleEngineExecutor());
+            }
+
             decisionCache.add(decisionEntity.getId(), cacheEntry);
 
             // Add to deployment for further usage
             deployment.addDeployedArtifact(decisionEntity);
         }
     }
+
+    /**
+     * Creates the indexes of the decision tables when deploying, instead of when they are first executed.
+     */
+    protected void createDecisionTableIndexes(DmnDefinition dmnDefinition, RuleEngineExecutor ruleEngineExecutor) {
+        if (ruleEngineExecutor instanceof RuleEngineExecutorImpl) {
+            for (Decision decision : dmnDefinition.getDecisions()) {
+                if (decision.getExpression() instanceof DecisionTable) {
+                    ((RuleEngineExecutorImpl) ruleEngineExecutor).getDecisionTableIndex((DecisionTable) decision.getExpression());
+                }
+            }
+        }
+    }
 }
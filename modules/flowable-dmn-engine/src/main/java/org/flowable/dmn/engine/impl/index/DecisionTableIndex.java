@@ -0,0 +1,192 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.engine.impl.el.ELExecutionContext;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the literal input entries of a {@link DecisionTable}, used to find the rules that can match the input values
+ * of an execution without evaluating the input entries of all rules.
+ * <p>
+ * The input entries of an input clause are indexed when the input expression is a variable (or property) reference and
+ * the literal input entries of the input clause are all string literals or all number literals (see {@link InputEntryLiteral}).
+ * A rule is only excluded by an input entry when all input entries before it are empty or indexed literals: the evaluation of
+ * such a rule stops at that input entry without evaluating any other expression. All other rules remain candidates and are
+ * evaluated as usual, so the decision result is the same as when all rules are evaluated.
+ */
+public class DecisionTableIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionTableIndex.class);
+
+    protected static final Pattern INPUT_EXPRESSION_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)*");
+
+    protected int ruleCount;
+    protected List<InputClauseIndex> inputClauseIndexes;
+
+    public DecisionTableIndex(int ruleCount, List<InputClauseIndex> inputClauseIndexes) {
+        this.ruleCount = ruleCount;
+        this.inputClauseIndexes = inputClauseIndexes;
+    }
+
+    public static DecisionTableIndex create(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        List<InputClause> inputs = decisionTable.getInputs();
+        List<DecisionRule> rules = decisionTable.getRules();
+        int ruleCount = rules.size();
+
+        // the rules are evaluated with their input entries in order, which has to be the order of the input clauses
+        InputEntryLiteral[][] literals = new InputEntryLiteral[ruleCount][inputs.size()];
+        boolean[][] emptyEntries = new boolean[ruleCount][inputs.size()];
+        for (int rule = 0; rule < ruleCount; rule++) {
+            List<RuleInputClauseContainer> inputEntries = rules.get(rule).getInputEntries();
+            if (inputEntries.size() != inputs.size()) {
+                return new DecisionTableIndex(ruleCount, Collections.emptyList());
+            }
+
+            for (int input = 0; input < inputs.size(); input++) {
+                RuleInputClauseContainer inputEntry = inputEntries.get(input);
+                if (inputEntry.getInputClause() != inputs.get(input) || inputEntry.getInputEntry() == null) {
+                    return new DecisionTableIndex(ruleCount, Collections.emptyList());
+                }
+
+                String inputEntryText = inputEntry.getInputEntry().getText();
+                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                    emptyEntries[rule][input] = true;
+                } else {
+                    literals[rule][input] = InputEntryLiteral.parse(inputEntryText);
+                }
+            }
+        }
+
+        // an input clause is only indexed when its literals are all of the same type
+        Boolean[] numericInputs = new Boolean[inputs.size()];
+        Expression[] inputExpressions = new Expression[inputs.size()];
+        for (int input = 0; input < inputs.size(); input++) {
+            if (!isIndexableInputExpression(inputs.get(input))) {
+                continue;
+            }
+
+            boolean stringLiterals = false;
+            boolean numberLiterals = false;
+            for (int rule = 0; rule < ruleCount; rule++) {
+                if (literals[rule][input] != null) {
+                    if (literals[rule][input].isNumeric()) {
+                        numberLiterals = true;
+                    } else {
+                        stringLiterals = true;
+                    }
+                }
+            }
+
+            if (stringLiterals == numberLiterals) {
+                continue;
+            }
+
+            try {
+                inputExpressions[input] = expressionManager.createExpression("#{" + inputs.get(input).getInputExpression().getText() + "}");
+                numericInputs[input] = numberLiterals;
+            } catch (Exception e) {
+                LOGGER.debug("Input clause {} of decision table {} is not indexed", inputs.get(input).getId(), decisionTable.getId(), e);
+            }
+        }
+
+        // the number of leading input entries of a rule that are empty or indexed literals
+        int[] indexedInputEntryCounts = new int[ruleCount];
+        for (int rule = 0; rule < ruleCount; rule++) {
+            int input = 0;
+            while (input < inputs.size() && (emptyEntries[rule][input]
+                    || (literals[rule][input] != null && numericInputs[input] != null && numericInputs[input] == literals[rule][input].isNumeric()))) {
+                input++;
+            }
+            indexedInputEntryCounts[rule] = input;
+        }
+
+        List<InputClauseIndex> inputClauseIndexes = new ArrayList<>();
+        for (int input = 0; input < inputs.size(); input++) {
+            if (numericInputs[input] == null) {
+                continue;
+            }
+
+            InputClauseIndex inputClauseIndex = new InputClauseIndex(inputExpressions[input], numericInputs[input], ruleCount);
+            boolean indexedRules = false;
+            for (int rule = 0; rule < ruleCount; rule++) {
+                if (input < indexedInputEntryCounts[rule] && literals[rule][input] != null) {
+                    inputClauseIndex.addRule(rule, literals[rule][input]);
+                    indexedRules = true;
+                } else {
+                    inputClauseIndex.addNotIndexedRule(rule);
+                }
+            }
+
+            if (indexedRules) {
+                inputClauseIndex.complete();
+                inputClauseIndexes.add(inputClauseIndex);
+            }
+        }
+
+        LOGGER.debug("Created index with {} input clause(s) for decision table {}", inputClauseIndexes.size(), decisionTable.getId());
+
+        return new DecisionTableIndex(ruleCount, inputClauseIndexes);
+    }
+
+    protected static boolean isIndexableInputExpression(InputClause inputClause) {
+        return inputClause.getInputExpression() != null && inputClause.getInputExpression().getText() != null
+                && INPUT_EXPRESSION_PATTERN.matcher(inputClause.getInputExpression().getText()).matches();
+    }
+
+    /**
+     * Returns the positions of the rules in the decision table that can match the input values of the execution.
+     */
+    public BitSet findCandidateRules(ELExecutionContext executionContext) {
+        BitSet candidateRules = new BitSet(ruleCount);
+        candidateRules.set(0, ruleCount);
+
+        for (InputClauseIndex inputClauseIndex : inputClauseIndexes) {
+            BitSet matchingRules = inputClauseIndex.findMatchingRules(executionContext);
+            if (matchingRules == null) {
+                // the literal input entries of this input clause could fail to evaluate,
+                // so the rules cannot be excluded by the input entries after it
+                break;
+            }
+            candidateRules.and(matchingRules);
+        }
+
+        return candidateRules;
+    }
+
+    public boolean isEmpty() {
+        return inputClauseIndexes.isEmpty();
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public List<InputClauseIndex> getInputClauseIndexes() {
+        return inputClauseIndexes;
+    }
+}
@@ -0,0 +1,214 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.dmn.engine.impl.el.ELExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the literal input entries of one input clause of a decision table.
+ * <p>
+ * String literals are indexed in a hash map. Number literals are indexed in a hash map (==) and in arrays of bounds
+ * sorted for binary search (&lt;, &lt;=, &gt; and &gt;=). The bounds are compared as doubles and treated as inclusive,
+ * so a rule found for an input value can still evaluate to false, but a rule that is not found always evaluates to false.
+ */
+public class InputClauseIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InputClauseIndex.class);
+
+    protected Expression inputExpression;
+    protected boolean numeric;
+
+    /**
+     * The rules that cannot be excluded by this input clause, as their input entry is not indexed.
+     */
+    protected BitSet notIndexedRules;
+    protected Map<Object, BitSet> equalityRules = new HashMap<>();
+
+    /**
+     * The bounds of the &lt; and &lt;= input entries in ascending order, with the matching rules.
+     */
+    protected double[] upperBounds;
+    protected int[] upperBoundRules;
+
+    /**
+     * The bounds of the &gt; and &gt;= input entries in ascending order, with the matching rules.
+     */
+    protected double[] lowerBounds;
+    protected int[] lowerBoundRules;
+
+    protected List<double[]> upperBoundEntries = new ArrayList<>();
+    protected List<double[]> lowerBoundEntries = new ArrayList<>();
+
+    public InputClauseIndex(Expression inputExpression, boolean numeric, int ruleCount) {
+        this.inputExpression = inputExpression;
+        this.numeric = numeric;
+        this.notIndexedRules = new BitSet(ruleCount);
+    }
+
+    public void addNotIndexedRule(int rule) {
+        notIndexedRules.set(rule);
+    }
+
+    public void addRule(int rule, InputEntryLiteral literal) {
+        if (literal.isEquality()) {
+            equalityRules.computeIfAbsent(getKey(literal.getValue()), key -> new BitSet()).set(rule);
+
+        } else if (literal.isUpperBound()) {
+            upperBoundEntries.add(new double[] { ((Double) literal.getValue()), rule });
+
+        } else {
+            lowerBoundEntries.add(new double[] { ((Double) literal.getValue()), rule });
+        }
+    }
+
+    /**
+     * Sorts the bounds of the range entries; no rules can be added afterwards.
+     */
+    public void complete() {
+        upperBoundEntries.sort(Comparator.comparingDouble(entry -> entry[0]));
+        upperBounds = new double[upperBoundEntries.size()];
+        upperBoundRules = new int[upperBoundEntries.size()];
+        for (int i = 0; i < upperBoundEntries.size(); i++) {
+            upperBounds[i] = upperBoundEntries.get(i)[0];
+            upperBoundRules[i] = (int) upperBoundEntries.get(i)[1];
+        }
+
+        lowerBoundEntries.sort(Comparator.comparingDouble(entry -> entry[0]));
+        lowerBounds = new double[lowerBoundEntries.size()];
+        lowerBoundRules = new int[lowerBoundEntries.size()];
+        for (int i = 0; i < lowerBoundEntries.size(); i++) {
+            lowerBounds[i] = lowerBoundEntries.get(i)[0];
+            lowerBoundRules[i] = (int) lowerBoundEntries.get(i)[1];
+        }
+
+        upperBoundEntries = null;
+        lowerBoundEntries = null;
+    }
+
+    /**
+     * Returns the rules that can match the input value of the execution, or null when the input value cannot be used
+     * for the index (it cannot be resolved or it is not of the type of the indexed literals).
+     */
+    public BitSet findMatchingRules(ELExecutionContext executionContext) {
+        Object value;
+        try {
+            VariableContainerWrapper variableContainer = new VariableContainerWrapper(executionContext.getStackVariables());
+            variableContainer.setInstanceId(executionContext.getInstanceId());
+            variableContainer.setScopeType(executionContext.getScopeType());
+            variableContainer.setTenantId(executionContext.getTenantId());
+            value = inputExpression.getValue(variableContainer);
+
+        } catch (Exception e) {
+            LOGGER.debug("Could not resolve input expression {} for the decision table index", inputExpression.getExpressionText(), e);
+            return null;
+        }
+
+        Object key;
+        if (numeric) {
+            Double number = getDoubleValue(value);
+            if (number == null) {
+                return null;
+            }
+            key = number;
+        } else if (value instanceof String) {
+            key = value;
+        } else {
+            return null;
+        }
+
+        BitSet matchingRules = (BitSet) notIndexedRules.clone();
+
+        BitSet equalRules = equalityRules.get(key);
+        if (equalRules != null) {
+            matchingRules.or(equalRules);
+        }
+
+        if (numeric) {
+            double number = (Double) key;
+            for (int i = findFirstIndex(upperBounds, number, false); i < upperBounds.length; i++) {
+                matchingRules.set(upperBoundRules[i]);
+            }
+            int lowerBoundCount = findFirstIndex(lowerBounds, number, true);
+            for (int i = 0; i < lowerBoundCount; i++) {
+                matchingRules.set(lowerBoundRules[i]);
+            }
+        }
+
+        return matchingRules;
+    }
+
+    /**
+     * Returns the index of the first bound that is larger than (or, when not strict, larger than or equal to) the given number.
+     */
+    protected int findFirstIndex(double[] bounds, double number, boolean strict) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (bounds[middle] < number || (strict && bounds[middle] == number)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    protected Object getKey(Object literalValue) {
+        if (literalValue instanceof Double) {
+            // -0.0 and 0.0 are equal numbers, but not equal Double objects
+            return (Double) literalValue + 0.0d;
+        }
+        return literalValue;
+    }
+
+    protected Double getDoubleValue(Object value) {
+        double number;
+        if (value instanceof BigDecimal || value instanceof BigInteger || value instanceof Double || value instanceof Float
+                || value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            number = ((Number) value).doubleValue();
+        } else {
+            return null;
+        }
+
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            return null;
+        }
+        return number + 0.0d;
+    }
+
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    public Expression getInputExpression() {
+        return inputExpression;
+    }
+
+    public BitSet getNotIndexedRules() {
+        return notIndexedRules;
+    }
+}
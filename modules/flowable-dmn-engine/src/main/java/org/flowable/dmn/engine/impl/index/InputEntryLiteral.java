@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An input entry that compares the input value with a literal: a string literal (equality only)
+ * or a number literal with an optional ==, &lt;, &lt;=, &gt; or &gt;= operator.
+ */
+public class InputEntryLiteral {
+
+    protected static final Pattern INPUT_ENTRY_PATTERN = Pattern.compile("(==|<=|>=|<|>)?\\s*(\"[^\"\\\\{}#$]*\"|'[^'\\\\{}#$]*'|-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?)");
+
+    // larger integer literals are no longer long values
+    protected static final int MAX_INTEGER_DIGITS = 18;
+
+    protected String operator;
+    protected Object value;
+
+    public InputEntryLiteral(String operator, Object value) {
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /**
+     * Parses the text of an input entry, returns null when the input entry is not a supported literal comparison.
+     */
+    public static InputEntryLiteral parse(String inputEntryText) {
+        // fn_ functions are replaced in the whole input entry, string literals included
+        if (inputEntryText == null || inputEntryText.contains("fn_")) {
+            return null;
+        }
+
+        Matcher matcher = INPUT_ENTRY_PATTERN.matcher(inputEntryText);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String operator = matcher.group(1) != null ? matcher.group(1) : "==";
+        String literal = matcher.group(2);
+
+        if (literal.startsWith("\"") || literal.startsWith("'")) {
+            if (!"==".equals(operator)) {
+                return null;
+            }
+            return new InputEntryLiteral(operator, literal.substring(1, literal.length() - 1));
+        }
+
+        boolean integer = matcher.group(3) == null && matcher.group(4) == null;
+        if (integer && literal.replace("-", "").length() > MAX_INTEGER_DIGITS) {
+            return null;
+        }
+
+        double number = Double.parseDouble(literal);
+        if (Double.isInfinite(number)) {
+            return null;
+        }
+        return new InputEntryLiteral(operator, number);
+    }
+
+    public boolean isNumeric() {
+        return value instanceof Double;
+    }
+
+    public boolean isEquality() {
+        return "==".equals(operator);
+    }
+
+    public boolean isUpperBound() {
+        return "<".equals(operator) || "<=".equals(operator);
+    }
+
+    public boolean isLowerBound() {
+        return ">".equals(operator) || ">=".equals(operator);
+    }
+
+    public String getOperator() {
+        return operator;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionService;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DecisionTableIndexTest {
+
+    protected static final String RESOURCE = "org/flowable/dmn/engine/test/runtime/DecisionTableIndexTest.rates.dmn";
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @After
+    public void resetDecisionTableIndex() {
+        getDmnEngineConfiguration().setEnableDecisionTableIndex(false);
+        getDmnEngineConfiguration().setStrictMode(true);
+    }
+
+    @Test
+    @DmnDeployment(resources = RESOURCE)
+    public void testSameResultsWithIndex() {
+        Object[][] inputs = {
+                { "gold", 1500, "SOUTH" },
+                { "gold", 1000, "SOUTH" },
+                { "gold", 999.5, "NORTH" },
+                { "silver", 500, "EAST" },
+                { "silver", 501L, "EAST" },
+                { "bronze", 42, "EAST" },
+                { "bronze", 42.0, "WEST" },
+                { "bronze", 100, "SOUTH" },
+                { "bronze", 20000, "SOUTH" },
+                { "platinum", 0, "WEST" },
+                { "unknown", -0.0, "NORTH" },
+                { "unknown", 10000, "WEST" },
+                { 42, 42, 42 },
+                { "silver", null, "EAST" },
+                { "silver", "600", "EAST" },
+        };
+
+        String[] decisionKeys = { "ratesRuleOrder", "ratesFirst", "ratesUnique", "ratesAny", "ratesPriority", "ratesOutputOrder", "ratesCollectSum" };
+        for (boolean strictMode : new boolean[] { true, false }) {
+            getDmnEngineConfiguration().setStrictMode(strictMode);
+            for (String decisionKey : decisionKeys) {
+                for (Object[] input : inputs) {
+                    getDmnEngineConfiguration().setEnableDecisionTableIndex(false);
+                    DecisionExecutionAuditContainer expected = execute(decisionKey, input);
+
+                    getDmnEngineConfiguration().setEnableDecisionTableIndex(true);
+                    DecisionExecutionAuditContainer actual = execute(decisionKey, input);
+
+                    String description = decisionKey + " " + Arrays.toString(input) + (strictMode ? " strict" : "");
+                    assertThat(actual.isFailed()).as(description).isEqualTo(expected.isFailed());
+                    assertThat(actual.getExceptionMessage()).as(description).isEqualTo(expected.getExceptionMessage());
+                    assertThat(actual.getValidationMessage()).as(description).isEqualTo(expected.getValidationMessage());
+                    assertThat(actual.getDecisionResult()).as(description).isEqualTo(expected.getDecisionResult());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DmnDeployment(resources = RESOURCE)
+    public void testHitPolicyViolationsWithIndex() {
+        getDmnEngineConfiguration().setEnableDecisionTableIndex(true);
+        getDmnEngineConfiguration().setStrictMode(true);
+
+        // both the 'bronze south' and the 'large' rule match
+        assertThat(execute("ratesUnique", new Object[] { "bronze", 20000, "SOUTH" }).isFailed()).isTrue();
+        assertThat(execute("ratesUnique", new Object[] { "bronze", 100, "SOUTH" }).isFailed()).isFalse();
+
+        // the 'premium' and the 'standard' rule match
+        assertThat(execute("ratesAny", new Object[] { "gold", 999.5, "NORTH" }).isFailed()).isTrue();
+        assertThat(execute("ratesAny", new Object[] { "gold", 1500, "SOUTH" }).isFailed()).isFalse();
+    }
+
+    @Test
+    @DmnDeployment(resources = RESOURCE)
+    public void testOnlyCandidateRulesEvaluated() {
+        getDmnEngineConfiguration().setEnableDecisionTableIndex(true);
+
+        DecisionExecutionAuditContainer auditContainer = execute("ratesRuleOrder", new Object[] { "gold", 1500, "SOUTH" });
+
+        assertThat(auditContainer.isFailed()).isFalse();
+        assertThat(auditContainer.getDecisionResult())
+                .extracting("rate")
+                .containsExactly("gold large");
+
+        // the rule with the complex customer type input entry cannot be excluded by the index
+        assertThat(auditContainer.getRuleExecutions()).containsOnlyKeys(1, 7);
+    }
+
+    protected DecisionExecutionAuditContainer execute(String decisionKey, Object[] input) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customerType", input[0]);
+        variables.put("amount", input[1]);
+        variables.put("region", input[2]);
+
+        DmnDecisionService dmnDecisionService = flowableDmnRule.getDmnEngine().getDmnDecisionService();
+        return dmnDecisionService.createExecuteDecisionBuilder()
+                .decisionKey(decisionKey)
+                .variables(variables)
+                .executeWithAuditTrail();
+    }
+
+    protected DmnEngineConfiguration getDmnEngineConfiguration() {
+        return flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+    }
+}
@@ -97,6 +97,8 @@ import org.flowable.common.engine.impl.interceptor.DefaultCommandInvoker;
 import org.flowable.common.engine.impl.interceptor.LogInterceptor;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.interceptor.TransactionContextInterceptor;
+import org.flowable.common.engine.impl.jfr.FlightRecorderAgendaOperationRunner;
+import org.flowable.common.engine.impl.jfr.FlowableFlightRecorder;
 import org.flowable.common.engine.impl.lock.LockManager;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.common.engine.impl.logging.LoggingListener;
@@ -106,6 +108,11 @@ import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheDecorator;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -235,6 +242,39 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
+    /**
+     * If set to true, the inserts, updates and deletes of a flush are sent to the database as jdbc batches
+     * (statements of the same type for the same entity class end up in one batch) instead of one round trip per statement.
+     * Optimistic locking is still verified for every row, using the update counts of the batch.
+     * Requires a jdbc driver that returns the update counts of a batch. Default false.
+     */
+    protected boolean isJdbcBatchFlushEnabled;
+
+    /**
+     * Optional second-level cache, shared by all commands, for read-mostly entities (e.g. properties, deployments or process definitions)
+     * that are fetched by id. Only the entity types configured on the cache are stored. Default null (no second-level cache).
+     */
+    protected SharedEntityCache sharedEntityCache;
+
+    /**
+     * If set to true, the definition caches (process, case, decision, form, ... definitions) that are not explicitly set
+     * are created as {@link ConcurrentDeploymentCache}, which doesn't use one global lock for all lookups, instead of {@link DefaultDeploymentCache}.
+     * Default false.
+     */
+    protected boolean concurrentDeploymentCacheEnabled;
+
+    /**
+     * Wraps the definition caches that are created by the engine itself, see {@link #createDeploymentCache(String, int)}. Default null.
+     */
+    protected DeploymentCacheDecorator deploymentCacheDecorator;
+
+    /**
+     * Emit JDK Flight Recorder events for commands, agenda operations, DbSqlSession flushes and job executions
+     * (see the org.flowable.common.engine.impl.jfr package). Only has an effect on runtimes that provide JFR.
+     * The events are only recorded while a recording with the Flowable events enabled is running. Default true.
+     */
+    protected boolean flightRecorderEventsEnabled = true;
+
     protected String mybatisMappingFile;
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
@@ -624,6 +664,8 @@ public abstract class AbstractEngineConfiguration {
                         classLoader, useClassForNameClassLoading, clock, objectMapper);
                 engineConfigurations.put(engineCfgKey, this);
                 commandContextInterceptor.setEngineConfigurations(engineConfigurations);
+                commandContextInterceptor.setEngineScopeType(getEngineScopeType());
+                commandContextInterceptor.setFlightRecorderEventsEnabled(isFlightRecorderEventsActive());
                 interceptors.add(commandContextInterceptor);
             }
 
@@ -776,12 +818,58 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setJdbcBatchFlushEnabled(isJdbcBatchFlushEnabled);
+        dbSqlSessionFactory.setFlightRecorderEventsEnabled(isFlightRecorderEventsActive());
+        dbSqlSessionFactory.setSharedEntityCache(sharedEntityCache);
 
         initDbSqlSessionFactoryEntitySettings();
 
         addSessionFactory(dbSqlSessionFactory);
     }
 
+    protected <T> DeploymentCache<T> createDeploymentCache(int cacheLimit) {
+        return createDeploymentCache(null, cacheLimit);
+    }
+
+    /**
+     * Creates a definition cache with the given limit (no limit when 0 or negative),
+     * taking {@link #isConcurrentDeploymentCacheEnabled()} and the {@link #getDeploymentCacheDecorator()} into account.
+     */
+    protected <T> DeploymentCache<T> createDeploymentCache(String cacheName, int cacheLimit) {
+        DeploymentCache<T> deploymentCache;
+        if (concurrentDeploymentCacheEnabled) {
+            deploymentCache = cacheLimit <= 0 ? new ConcurrentDeploymentCache<>() : new ConcurrentDeploymentCache<>(cacheLimit);
+        } else {
+            deploymentCache = cacheLimit <= 0 ? new DefaultDeploymentCache<>() : new DefaultDeploymentCache<>(cacheLimit);
+        }
+
+        if (deploymentCacheDecorator != null) {
+            deploymentCache = deploymentCacheDecorator.decorate(cacheName, deploymentCache);
+        }
+        return deploymentCache;
+    }
+
+    /**
+     * Wraps the {@link #getAgendaOperationRunner()} to record an {@link org.flowable.common.engine.impl.jfr.AgendaOperationEvent} per operation,
+     * when {@link #isFlightRecorderEventsActive()}. Needs to be called before the command invoker is created.
+     */
+    public void initFlightRecorderAgendaOperationRunner() {
+        if (isFlightRecorderEventsActive() && agendaOperationRunner != null && !(agendaOperationRunner instanceof FlightRecorderAgendaOperationRunner)) {
+            agendaOperationRunner = createFlightRecorderAgendaOperationRunner(agendaOperationRunner);
+        }
+    }
+
+    protected AgendaOperationRunner createFlightRecorderAgendaOperationRunner(AgendaOperationRunner agendaOperationRunner) {
+        return new FlightRecorderAgendaOperationRunner(agendaOperationRunner, getEngineScopeType());
+    }
+
+    /**
+     * @return whether Flight Recorder events are enabled and the runtime provides JFR.
+     */
+    public boolean isFlightRecorderEventsActive() {
+        return flightRecorderEventsEnabled && FlowableFlightRecorder.isAvailable();
+    }
+
     public DbSqlSessionFactory createDbSqlSessionFactory() {
         return new DbSqlSessionFactory(usePrefixId);
     }
@@ -1548,6 +1636,51 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isJdbcBatchFlushEnabled() {
+        return isJdbcBatchFlushEnabled;
+    }
+
+    public AbstractEngineConfiguration setJdbcBatchFlushEnabled(boolean isJdbcBatchFlushEnabled) {
+        this.isJdbcBatchFlushEnabled = isJdbcBatchFlushEnabled;
+        return this;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+        return this;
+    }
+
+    public boolean isConcurrentDeploymentCacheEnabled() {
+        return concurrentDeploymentCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setConcurrentDeploymentCacheEnabled(boolean concurrentDeploymentCacheEnabled) {
+        this.concurrentDeploymentCacheEnabled = concurrentDeploymentCacheEnabled;
+        return this;
+    }
+
+    public DeploymentCacheDecorator getDeploymentCacheDecorator() {
+        return deploymentCacheDecorator;
+    }
+
+    public AbstractEngineConfiguration setDeploymentCacheDecorator(DeploymentCacheDecorator deploymentCacheDecorator) {
+        this.deploymentCacheDecorator = deploymentCacheDecorator;
+        return this;
+    }
+
+    public boolean isFlightRecorderEventsEnabled() {
+        return flightRecorderEventsEnabled;
+    }
+
+    public AbstractEngineConfiguration setFlightRecorderEventsEnabled(boolean flightRecorderEventsEnabled) {
+        this.flightRecorderEventsEnabled = flightRecorderEventsEnabled;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
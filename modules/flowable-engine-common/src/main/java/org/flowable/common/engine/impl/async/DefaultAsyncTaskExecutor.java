@@ -19,7 +19,11 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -98,14 +102,40 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
 
     protected RejectedExecutionHandler rejectedExecutionHandler;
 
+    /**
+     * Whether every task is executed on its own virtual thread, instead of on a bounded thread pool with a queue.
+     * The number of tasks that run at the same time is then limited by {@link #maxConcurrentTasks} instead of by the pool and queue size.
+     * Virtual threads need a JDK 21+ runtime: on older runtimes a new platform thread per task is used (with the same limit).
+     */
+    protected boolean useVirtualThreads;
+
+    /**
+     * The maximum number of tasks that are executed at the same time when {@link #useVirtualThreads} is enabled.
+     * Tasks offered while this limit is reached are rejected right away, the same as when the queue of the thread pool is full.
+     */
+    protected int maxConcurrentTasks = 1024;
+
+    protected String virtualThreadNamePrefix = "flowable-async-job-executor-virtual-thread-";
+
+    /**
+     * Limits the concurrent tasks when virtual threads are used, null otherwise.
+     */
+    protected Semaphore concurrencyLimiter;
+
+    /**
+     * The executor used by {@link #execute(Runnable)} and {@link #submit(Runnable)}.
+     * This is the executor service itself, or a wrapper around it that takes the concurrency limit into account.
+     */
+    protected Executor taskExecutor;
+
     @Override
     public void execute(Runnable task) {
-        executorService.execute(task);
+        taskExecutor.execute(task);
     }
 
     @Override
     public CompletableFuture<?> submit(Runnable task) {
-        return CompletableFuture.runAsync(task, executorService);
+        return CompletableFuture.runAsync(task, taskExecutor);
     }
 
     @Override
@@ -117,14 +147,46 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
                 sneakyThrow(exception);
                 return null;
             }
-        }, executorService);
+        }, taskExecutor);
     }
 
     public void start() {
         if (executorService == null) {
-            this.executorService = initializeExecutor();
+            if (useVirtualThreads) {
+                this.executorService = initializeVirtualThreadExecutor();
+            } else {
+                this.executorService = initializeExecutor();
+            }
             this.executorNeedsShutdown = true;
         }
+
+        if (useVirtualThreads) {
+            this.concurrencyLimiter = new Semaphore(maxConcurrentTasks);
+            this.taskExecutor = this::executeWithConcurrencyLimit;
+        } else {
+            this.taskExecutor = executorService;
+        }
+    }
+
+    protected void executeWithConcurrencyLimit(Runnable task) {
+        // Rejecting immediately, like a full queue does: the submitting thread can be a transaction commit handing off jobs,
+        // which shouldn't block. A rejected job is unacquired and picked up again by the acquisition.
+        if (!concurrencyLimiter.tryAcquire()) {
+            throw new RejectedExecutionException("The maximum of " + maxConcurrentTasks + " concurrent tasks is reached");
+        }
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    concurrencyLimiter.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            concurrencyLimiter.release();
+            throw e;
+        }
     }
 
     @Override
@@ -149,6 +211,41 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
         }
     }
 
+    protected ExecutorService initializeVirtualThreadExecutor() {
+        ThreadFactory virtualThreadFactory;
+        if (threadFactory != null) {
+            logger.info("Using the configured thread factory instead of virtual threads, one thread per task");
+            virtualThreadFactory = threadFactory;
+        } else {
+            virtualThreadFactory = createVirtualThreadFactory();
+        }
+
+        if (virtualThreadFactory == null) {
+            logger.warn("Virtual threads are not supported by this JVM, using a new platform thread per task with naming pattern {}", threadPoolNamingPattern);
+            virtualThreadFactory = new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build();
+        }
+
+        logger.info("Creating thread-per-task executor service with maxConcurrentTasks {}", maxConcurrentTasks);
+        // No core threads and no queue: every task gets a new thread, the number of threads is limited by the concurrency limiter
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), virtualThreadFactory);
+    }
+
+    /**
+     * Returns a factory for virtual threads, or null when the JVM doesn't support them.
+     * Reflection is used, as the engine is compiled against a JDK that doesn't have the virtual thread API.
+     */
+    protected ThreadFactory createVirtualThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, virtualThreadNamePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Could not create virtual thread factory", e);
+            return null;
+        }
+    }
+
     protected ExecutorService initializeExecutor() {
         if (threadPoolQueue == null) {
             logger.info("Creating thread pool queue of size {}", queueSize);
@@ -244,6 +341,10 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
         return threadFactory;
     }
 
+    /**
+     * Sets the factory for the threads of the pool. When {@link #setUseVirtualThreads(boolean) virtual threads} are enabled,
+     * this factory is used to create the thread for every task instead of a virtual thread factory.
+     */
     public void setThreadFactory(ThreadFactory threadFactory) {
         this.threadFactory = threadFactory;
     }
@@ -256,8 +357,35 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
         this.rejectedExecutionHandler = rejectedExecutionHandler;
     }
 
+    public boolean isUseVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public void setMaxConcurrentTasks(int maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
+    public String getVirtualThreadNamePrefix() {
+        return virtualThreadNamePrefix;
+    }
+
+    public void setVirtualThreadNamePrefix(String virtualThreadNamePrefix) {
+        this.virtualThreadNamePrefix = virtualThreadNamePrefix;
+    }
+
     @Override
     public int getRemainingCapacity() {
+        if (concurrencyLimiter != null) {
+            return concurrencyLimiter.availablePermits();
+        }
         return threadPoolQueue.remainingCapacity();
     }
 }
@@ -18,21 +18,33 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.Transaction;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.jfr.DbSqlSessionFlushEvent;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheCommittedInvalidationListener;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
@@ -59,6 +71,22 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    /**
+     * Only used when jdbc batch flushing is enabled: a {@link SqlSession} with a batch executor, sharing the connection of the regular {@link #sqlSession}.
+     */
+    protected SqlSession batchSqlSession;
+
+    /**
+     * Only used when jdbc batch flushing is enabled: the entities for which the number of affected rows needs to be verified
+     * (updates and deletes of entities with a revision) once the batch has been executed.
+     */
+    protected Map<Entity, Boolean> batchedOptimisticLockEntities = new IdentityHashMap<>();
+
+    /**
+     * Only used when a shared entity cache is configured: repeats the invalidations of this session once the transaction is committed.
+     */
+    protected SharedEntityCacheCommittedInvalidationListener sharedEntityCacheCommittedInvalidationListener;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -107,6 +135,20 @@ public class DbSqlSession implements Session {
         return getSqlSession().update(updateStatement, parameters);
     }
 
+    /**
+     * Executes the update statement directly, like {@link #update(String, Object)}.
+     * The passed class is the type of the entities changed by the statement: as the statement can change any number of them
+     * (without increasing their revision), all entities of that type are invalidated in the shared entity cache.
+     */
+    public int update(String statement, Object parameters, Class<? extends Entity> entityClass) {
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        if (sharedEntityCache != null && sharedEntityCache.isCacheable(entityClass)) {
+            sharedEntityCache.invalidateAll(entityClass);
+            addCommittedSharedEntityCacheInvalidation(sharedEntityCache, entityClass, null, Integer.MAX_VALUE);
+        }
+        return update(statement, parameters);
+    }
+
     // delete
     // ///////////////////////////////////////////////////////////////////
 
@@ -294,6 +336,7 @@ public class DbSqlSession implements Session {
     public <T extends Entity> T selectById(Class<T> entityClass, String id, boolean useCache) {
         T entity = null;
 
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
         if (useCache) {
             entity = entityCache.findInCache(entityClass, id);
             if (entity != null) {
@@ -301,6 +344,14 @@ public class DbSqlSession implements Session {
             }
         }
 
+        if (sharedEntityCache != null && sharedEntityCache.isCacheable(entityClass)) {
+            entity = sharedEntityCache.get(entityClass, id);
+            if (entity != null) {
+                entityCache.put(entity, true);
+                return entity;
+            }
+        }
+
         String selectStatement = dbSqlSessionFactory.getSelectStatement(entityClass);
         selectStatement = dbSqlSessionFactory.mapStatement(selectStatement);
         entity = (T) sqlSession.selectOne(selectStatement, id);
@@ -308,6 +359,10 @@ public class DbSqlSession implements Session {
             return null;
         }
 
+        if (sharedEntityCache != null) {
+            sharedEntityCache.put(entity); // needs to happen before putting it in the entity cache, which stores the original state on the entity
+        }
+
         entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
         return entity;
     }
@@ -353,6 +408,12 @@ public class DbSqlSession implements Session {
 
     @Override
     public void flush() {
+        DbSqlSessionFlushEvent flushEvent = null;
+        if (dbSqlSessionFactory.isFlightRecorderEventsEnabled()) {
+            flushEvent = new DbSqlSessionFlushEvent();
+            flushEvent.begin();
+        }
+
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
@@ -360,9 +421,39 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        // The counts need to be taken before flushing, as flushing clears the inserted, updated and deleted objects
+        int nrOfInserts = flushEvent != null ? countEntities(insertedObjects) : 0;
+        int nrOfUpdates = updatedObjects.size();
+        int nrOfDeletes = flushEvent != null ? countEntities(deletedObjects) : 0;
+        int nrOfBulkDeletes = flushEvent != null ? countBulkDeleteOperations() : 0;
+
         flushInserts();
         flushUpdates();
         flushDeletes();
+
+        if (isJdbcBatchFlushEnabled()) {
+            flushBatchStatements();
+        }
+
+        if (flushEvent != null) {
+            flushEvent.complete(nrOfInserts, nrOfUpdates, nrOfDeletes, nrOfBulkDeletes);
+        }
+    }
+
+    protected int countEntities(Map<Class<? extends Entity>, Map<String, Entity>> entitiesByClass) {
+        int count = 0;
+        for (Map<String, Entity> entities : entitiesByClass.values()) {
+            count += entities.size();
+        }
+        return count;
+    }
+
+    protected int countBulkDeleteOperations() {
+        int count = 0;
+        for (List<BulkDeleteOperation> operations : bulkDeleteOperations.values()) {
+            count += operations.size();
+        }
+        return count;
     }
 
     /**
@@ -511,7 +602,7 @@ public class DbSqlSession implements Session {
         }
 
         LOGGER.debug("inserting: {}", entity);
-        sqlSession.insert(insertStatement, entity);
+        getFlushSqlSession().insert(insertStatement, entity);
 
         // See https://activiti.atlassian.net/browse/ACT-1290
         if (entity instanceof HasRevision) {
@@ -542,7 +633,7 @@ public class DbSqlSession implements Session {
                 }
                 index++;
             }
-            sqlSession.insert(insertStatement, subList);
+            getFlushSqlSession().insert(insertStatement, subList);
         }
 
         if (hasRevision != null && hasRevision) {
@@ -562,13 +653,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+        if (isJdbcBatchFlushEnabled()) {
+            flushBatchedUpdates();
+            return;
+        }
 
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
-            }
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
 
             LOGGER.debug("updating: {}", updatedObject);
 
@@ -582,10 +673,54 @@ public class DbSqlSession implements Session {
                 ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
             }
 
+            invalidateSharedEntityCache(updatedObject, false);
+
         }
         updatedObjects.clear();
     }
 
+    /**
+     * Adds the updates to the jdbc batch, grouped per entity class so that subsequent updates of the same type end up in the same prepared statement.
+     * The optimistic locking check happens in {@link #flushBatchStatements()}, when the update counts are known.
+     */
+    protected void flushBatchedUpdates() {
+        Map<Class<? extends Entity>, List<Entity>> updatedObjectsByClass = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            updatedObjectsByClass.computeIfAbsent(updatedObject.getClass(), key -> new ArrayList<>()).add(updatedObject);
+        }
+
+        SqlSession flushSqlSession = getFlushSqlSession();
+        for (List<Entity> updatedObjectsOfClass : updatedObjectsByClass.values()) {
+            for (Entity updatedObject : updatedObjectsOfClass) {
+                String updateStatement = getMappedUpdateStatement(updatedObject);
+
+                LOGGER.debug("updating (batched): {}", updatedObject);
+
+                flushSqlSession.update(updateStatement, updatedObject);
+                batchedOptimisticLockEntities.put(updatedObject, Boolean.TRUE);
+
+                // The parameters are bound when the statement is added to the batch, so the revision can be incremented right away.
+                // This is needed for a delete of the same entity later in the same batch.
+                if (updatedObject instanceof HasRevision) {
+                    ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+                }
+
+                invalidateSharedEntityCache(updatedObject, false);
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+        return updateStatement;
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -621,14 +756,22 @@ public class DbSqlSession implements Session {
     protected void flushBulkDeletes(Class<? extends Entity> entityClass, List<BulkDeleteOperation> deleteOperations) {
         // Bulk deletes
         if (deleteOperations != null) {
+            SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+            if (sharedEntityCache != null && !deleteOperations.isEmpty() && sharedEntityCache.isCacheable(entityClass)) {
+                sharedEntityCache.invalidateAll(entityClass);
+                addCommittedSharedEntityCacheInvalidation(sharedEntityCache, entityClass, null, Integer.MAX_VALUE);
+            }
+
             for (BulkDeleteOperation bulkDeleteOperation : deleteOperations) {
-                bulkDeleteOperation.execute(sqlSession, entityClass);
+                bulkDeleteOperation.execute(getFlushSqlSession(), entityClass);
             }
         }
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
         for (Entity entity : entitiesToDelete) {
+            invalidateSharedEntityCache(entity, true);
+
             String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
             if (deleteStatement == null) {
@@ -637,7 +780,13 @@ public class DbSqlSession implements Session {
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
-            if (entity instanceof HasRevision) {
+            if (isJdbcBatchFlushEnabled()) {
+                getFlushSqlSession().delete(deleteStatement, entity);
+                if (entity instanceof HasRevision) {
+                    batchedOptimisticLockEntities.put(entity, Boolean.TRUE);
+                }
+
+            } else if (entity instanceof HasRevision) {
                 int nrOfRowsDeleted = sqlSession.delete(deleteStatement, entity);
                 if (nrOfRowsDeleted == 0) {
                     throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
@@ -648,8 +797,95 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Makes sure the shared entity cache (if any) doesn't hand out the state from before this update or delete anymore.
+     * For an update, the new revision is the lowest revision that can be cached again.
+     * The invalidation is repeated when the transaction is committed.
+     */
+    protected void invalidateSharedEntityCache(Entity entity, boolean deleted) {
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        if (sharedEntityCache != null && sharedEntityCache.isCacheable(entity.getClass())) {
+            int minimumRevision = !deleted && entity instanceof HasRevision ? ((HasRevision) entity).getRevision() : Integer.MAX_VALUE;
+            sharedEntityCache.invalidate(entity.getClass(), entity.getId(), minimumRevision);
+            addCommittedSharedEntityCacheInvalidation(sharedEntityCache, entity.getClass(), entity.getId(), minimumRevision);
+        }
+    }
+
+    protected void addCommittedSharedEntityCacheInvalidation(SharedEntityCache sharedEntityCache, Class<?> entityClass, String entityId, int minimumRevision) {
+        if (sharedEntityCacheCommittedInvalidationListener == null) {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext == null) {
+                return;
+            }
+            sharedEntityCacheCommittedInvalidationListener = new SharedEntityCacheCommittedInvalidationListener(sharedEntityCache);
+            commandContext.addCloseListener(sharedEntityCacheCommittedInvalidationListener);
+        }
+        sharedEntityCacheCommittedInvalidationListener.addInvalidation(entityClass, entityId, minimumRevision);
+    }
+
+    /**
+     * Executes all statements that were added to the jdbc batch during the flush and verifies,
+     * row per row, that updates and deletes of revisioned entities actually affected a row.
+     */
+    protected void flushBatchStatements() {
+        if (batchSqlSession == null) {
+            return;
+        }
+
+        try {
+            List<BatchResult> batchResults = batchSqlSession.flushStatements();
+            for (BatchResult batchResult : batchResults) {
+                verifyBatchResult(batchResult);
+            }
+
+        } finally {
+            batchedOptimisticLockEntities.clear();
+
+            // The regular session didn't see the statements of the batch session, so its local cache could be stale now
+            sqlSession.clearCache();
+        }
+    }
+
+    protected void verifyBatchResult(BatchResult batchResult) {
+        List<Object> parameterObjects = batchResult.getParameterObjects();
+        int[] updateCounts = batchResult.getUpdateCounts();
+        for (int i = 0; i < updateCounts.length && i < parameterObjects.size(); i++) {
+            Object parameterObject = parameterObjects.get(i);
+
+            // Statement.SUCCESS_NO_INFO (-2) means the driver didn't return the row count, in which case there is nothing to verify
+            if (updateCounts[i] == 0 && parameterObject instanceof Entity && batchedOptimisticLockEntities.containsKey(parameterObject)) {
+                throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+            }
+        }
+    }
+
+    protected boolean isJdbcBatchFlushEnabled() {
+        return dbSqlSessionFactory.isJdbcBatchFlushEnabled();
+    }
+
+    /**
+     * Returns the {@link SqlSession} used for executing the inserts, updates and deletes of a flush.
+     * When jdbc batch flushing is enabled, this is a session with a batch executor that uses the same connection (and thus the same transaction)
+     * as the regular session. The transaction of the batch session is never committed, rolled back or closed: that is left to the regular session.
+     */
+    protected SqlSession getFlushSqlSession() {
+        if (!isJdbcBatchFlushEnabled()) {
+            return sqlSession;
+        }
+
+        if (batchSqlSession == null) {
+            Configuration configuration = sqlSession.getConfiguration();
+            Transaction transaction = new ManagedTransaction(sqlSession.getConnection(), false);
+            batchSqlSession = new DefaultSqlSession(configuration, configuration.newExecutor(transaction, ExecutorType.BATCH), false);
+        }
+        return batchSqlSession;
+    }
+
     @Override
     public void close() {
+        if (batchSqlSession != null) {
+            batchSqlSession.close();
+        }
         sqlSession.close();
     }
 
@@ -29,6 +29,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -62,6 +63,12 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean jdbcBatchFlushEnabled;
+
+    protected boolean flightRecorderEventsEnabled;
+
+    protected SharedEntityCache sharedEntityCache;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -202,6 +209,30 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isJdbcBatchFlushEnabled() {
+        return jdbcBatchFlushEnabled;
+    }
+
+    public void setJdbcBatchFlushEnabled(boolean jdbcBatchFlushEnabled) {
+        this.jdbcBatchFlushEnabled = jdbcBatchFlushEnabled;
+    }
+
+    public boolean isFlightRecorderEventsEnabled() {
+        return flightRecorderEventsEnabled;
+    }
+
+    public void setFlightRecorderEventsEnabled(boolean flightRecorderEventsEnabled) {
+        this.flightRecorderEventsEnabled = flightRecorderEventsEnabled;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public void setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -88,6 +88,20 @@ public final class TreeValueExpression extends ValueExpression {
 		return structure;
 	}
 	
+	/**
+	 * Answer the root node of the parsed expression.
+	 */
+	public ExpressionNode getNode() {
+		return node;
+	}
+
+	/**
+	 * Answer the bindings (functions, variables and type converter) of the expression.
+	 */
+	public Bindings getBindings() {
+		return bindings;
+	}
+
 	@Override
 	public Class<?> getExpectedType() {
 		return type;
@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import org.flowable.common.engine.impl.de.odysseus.el.TreeValueExpression;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.flowable.common.engine.impl.javax.el.ValueReference;
+
+/**
+ * A {@link ValueExpression} that evaluates its value through the nodes created by the {@link ValueExpressionCompiler}.
+ * Everything else (e.g. setting a value) is delegated to the interpreted expression.
+ */
+public class CompiledValueExpression extends ValueExpression {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final TreeValueExpression delegate;
+    protected final transient ValueExpressionCompiler.CompiledNode root;
+    protected final transient Bindings bindings;
+
+    public CompiledValueExpression(TreeValueExpression delegate, ValueExpressionCompiler.CompiledNode root, Bindings bindings) {
+        this.delegate = delegate;
+        this.root = root;
+        this.bindings = bindings;
+    }
+
+    @Override
+    public Object getValue(ELContext context) {
+        Object value = root.eval(context);
+        Class<?> expectedType = delegate.getExpectedType();
+        if (expectedType != null) {
+            value = bindings.convert(value, expectedType);
+        }
+        return value;
+    }
+
+    @Override
+    public void setValue(ELContext context, Object value) {
+        delegate.setValue(context, value);
+    }
+
+    @Override
+    public Class<?> getType(ELContext context) {
+        return delegate.getType(context);
+    }
+
+    @Override
+    public Class<?> getExpectedType() {
+        return delegate.getExpectedType();
+    }
+
+    @Override
+    public boolean isReadOnly(ELContext context) {
+        return delegate.isReadOnly(context);
+    }
+
+    @Override
+    public ValueReference getValueReference(ELContext context) {
+        return delegate.getValueReference(context);
+    }
+
+    @Override
+    public String getExpressionString() {
+        return delegate.getExpressionString();
+    }
+
+    @Override
+    public boolean isLiteralText() {
+        return delegate.isLiteralText();
+    }
+
+    public TreeValueExpression getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CompiledValueExpression)) {
+            return false;
+        }
+        return delegate.equals(((CompiledValueExpression) obj).delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    /**
+     * The compiled nodes are not serializable, the interpreted expression is used after deserialization.
+     */
+    protected Object writeReplace() {
+        return delegate;
+    }
+
+}
@@ -55,6 +55,8 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+
+    protected ValueExpressionCompiler expressionCompiler;
     
     protected List<ELResolver> preDefaultResolvers;
     protected List<ELResolver> postDefaultResolvers;
@@ -86,6 +88,9 @@ public class DefaultExpressionManager implements ExpressionManager {
         String expressionText = text.trim();
         
         ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class);
+        if (expressionCompiler != null) {
+            valueExpression = expressionCompiler.compile(valueExpression);
+        }
         Expression expression = createJuelExpression(text, valueExpression);
         
         if (isCacheEnabled(text)) {
@@ -158,7 +163,8 @@ public class DefaultExpressionManager implements ExpressionManager {
     }
     
     protected ELResolver createBeanElResolver() {
-        return new BeanELResolver();
+        // Resolved methods are only cached when expressions are compiled, like the compilation itself this is opt-in
+        return new BeanELResolver(false, expressionCompiler != null);
     }
 
     @Override
@@ -235,6 +241,14 @@ public class DefaultExpressionManager implements ExpressionManager {
         this.expressionTextLengthCacheLimit = expressionTextLengthCacheLimit;
     }
 
+    public ValueExpressionCompiler getExpressionCompiler() {
+        return expressionCompiler;
+    }
+
+    public void setExpressionCompiler(ValueExpressionCompiler expressionCompiler) {
+        this.expressionCompiler = expressionCompiler;
+    }
+
     public void addPreDefaultResolver(ELResolver elResolver) {
         if (this.preDefaultResolvers == null) {
             this.preDefaultResolvers = new ArrayList<>();
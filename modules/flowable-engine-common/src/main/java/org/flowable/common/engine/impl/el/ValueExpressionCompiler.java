@@ -0,0 +1,497 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.impl.de.odysseus.el.TreeValueExpression;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.LocalMessages;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.NumberOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.ExpressionNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Node;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBinary;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBoolean;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBracket;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstChoice;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstComposite;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstDot;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstEval;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstIdentifier;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstMethod;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNested;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNull;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNumber;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstParameters;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstString;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstText;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstUnary;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ELException;
+import org.flowable.common.engine.impl.javax.el.MethodNotFoundException;
+import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+
+/**
+ * Turns the parse tree of a JUEL {@link ValueExpression} into a tree of {@link CompiledNode}s.
+ * <p>
+ * The common shapes of an expression (literals, variable lookups, property access, method calls, comparisons,
+ * arithmetic, boolean logic and choices) are translated into nodes with the operator already resolved and
+ * constant sub expressions already evaluated. Identifiers, properties and methods are still resolved through
+ * the {@link org.flowable.common.engine.impl.javax.el.ELResolver} of the context, so the semantics of the
+ * expression are exactly those of the interpreted expression.
+ * Any other node (e.g. functions) is evaluated by the JUEL interpreter as part of the compiled tree.
+ *
+ * @see DefaultExpressionManager#setExpressionCompiler(ValueExpressionCompiler)
+ */
+public class ValueExpressionCompiler {
+
+    /**
+     * @return the compiled value expression or the given value expression in case it can't be compiled
+     */
+    public ValueExpression compile(ValueExpression valueExpression) {
+        if (!(valueExpression instanceof TreeValueExpression)) {
+            return valueExpression;
+        }
+
+        TreeValueExpression treeValueExpression = (TreeValueExpression) valueExpression;
+        ExpressionNode root = treeValueExpression.getNode();
+        if (!(root instanceof AstNode)) {
+            return valueExpression;
+        }
+
+        Bindings bindings = treeValueExpression.getBindings();
+        CompiledNode compiledRoot = compile(root, bindings);
+        if (compiledRoot instanceof InterpretedNode) {
+            // Nothing was compiled, no need to wrap the expression
+            return valueExpression;
+        }
+
+        return new CompiledValueExpression(treeValueExpression, compiledRoot, bindings);
+    }
+
+    protected CompiledNode compile(Node treeNode, Bindings bindings) {
+        AstNode node = (AstNode) treeNode;
+        Class<?> nodeClass = node.getClass();
+        if (nodeClass == AstEval.class || nodeClass == AstNested.class) {
+            return compile(node.getChild(0), bindings);
+
+        } else if (nodeClass == AstString.class || nodeClass == AstNumber.class || nodeClass == AstBoolean.class
+                || nodeClass == AstNull.class || nodeClass == AstText.class) {
+            return new ConstantNode(node.eval(bindings, null));
+
+        } else if (nodeClass == AstIdentifier.class) {
+            AstIdentifier identifier = (AstIdentifier) node;
+            if (!bindings.isVariableBound(identifier.getIndex())) {
+                return new IdentifierNode(identifier.getName());
+            }
+
+        } else if (nodeClass == AstDot.class) {
+            AstDot dot = (AstDot) node;
+            return new PropertyNode(compile(dot.getChild(0), bindings), new ConstantNode(dot.getPropertyName()), dot.isStrict());
+
+        } else if (nodeClass == AstBracket.class) {
+            AstBracket bracket = (AstBracket) node;
+            return new PropertyNode(compile(bracket.getChild(0), bindings), compile(bracket.getChild(1), bindings), bracket.isStrict());
+
+        } else if (nodeClass == AstMethod.class) {
+            return compileMethod((AstMethod) node, bindings);
+
+        } else if (nodeClass == AstBinary.class) {
+            return compileBinary((AstBinary) node, bindings);
+
+        } else if (nodeClass == AstUnary.class) {
+            return compileUnary((AstUnary) node, bindings);
+
+        } else if (nodeClass == AstChoice.class) {
+            return new ChoiceNode(compile(node.getChild(0), bindings), compile(node.getChild(1), bindings),
+                    compile(node.getChild(2), bindings), bindings);
+
+        } else if (nodeClass == AstComposite.class) {
+            CompiledNode[] children = new CompiledNode[node.getCardinality()];
+            for (int i = 0; i < children.length; i++) {
+                children[i] = compile(node.getChild(i), bindings);
+            }
+            return new CompositeNode(children, bindings);
+        }
+
+        return new InterpretedNode(node, bindings);
+    }
+
+    protected CompiledNode compileMethod(AstMethod method, Bindings bindings) {
+        Node property = method.getChild(0);
+        AstParameters parameters = (AstParameters) method.getChild(1);
+
+        CompiledNode base;
+        CompiledNode name;
+        if (property.getClass() == AstDot.class) {
+            base = compile(property.getChild(0), bindings);
+            name = new ConstantNode(((AstDot) property).getPropertyName());
+        } else if (property.getClass() == AstBracket.class) {
+            base = compile(property.getChild(0), bindings);
+            name = compile(property.getChild(1), bindings);
+        } else {
+            return new InterpretedNode(method, bindings);
+        }
+
+        List<CompiledNode> compiledParameters = new ArrayList<>(parameters.getCardinality());
+        for (int i = 0; i < parameters.getCardinality(); i++) {
+            compiledParameters.add(compile(parameters.getChild(i), bindings));
+        }
+        return new MethodNode(base, name, compiledParameters.toArray(new CompiledNode[0]), bindings);
+    }
+
+    protected CompiledNode compileBinary(AstBinary binary, Bindings bindings) {
+        CompiledNode left = compile(binary.getChild(0), bindings);
+        CompiledNode right = compile(binary.getChild(1), bindings);
+
+        AstBinary.Operator operator = binary.getOperator();
+        if (operator == AstBinary.AND) {
+            return new AndNode(left, right, bindings);
+        } else if (operator == AstBinary.OR) {
+            return new OrNode(left, right, bindings);
+        }
+
+        BinaryOperation operation = getBinaryOperation(operator);
+        if (operation == null) {
+            return new InterpretedNode(binary, bindings);
+        }
+
+        BinaryNode binaryNode = new BinaryNode(left, right, operation, bindings);
+        if (left instanceof ConstantNode && right instanceof ConstantNode) {
+            return foldConstant(binaryNode);
+        }
+        return binaryNode;
+    }
+
+    protected BinaryOperation getBinaryOperation(AstBinary.Operator operator) {
+        if (operator == AstBinary.EQ) {
+            return BooleanOperations::eq;
+        } else if (operator == AstBinary.NE) {
+            return BooleanOperations::ne;
+        } else if (operator == AstBinary.GT) {
+            return BooleanOperations::gt;
+        } else if (operator == AstBinary.GE) {
+            return BooleanOperations::ge;
+        } else if (operator == AstBinary.LT) {
+            return BooleanOperations::lt;
+        } else if (operator == AstBinary.LE) {
+            return BooleanOperations::le;
+        } else if (operator == AstBinary.ADD) {
+            return NumberOperations::add;
+        } else if (operator == AstBinary.SUB) {
+            return NumberOperations::sub;
+        } else if (operator == AstBinary.MUL) {
+            return NumberOperations::mul;
+        } else if (operator == AstBinary.DIV) {
+            return NumberOperations::div;
+        } else if (operator == AstBinary.MOD) {
+            return NumberOperations::mod;
+        }
+        return null;
+    }
+
+    protected CompiledNode compileUnary(AstUnary unary, Bindings bindings) {
+        CompiledNode child = compile(unary.getChild(0), bindings);
+
+        UnaryOperation operation;
+        AstUnary.Operator operator = unary.getOperator();
+        if (operator == AstUnary.NOT) {
+            operation = (converter, value) -> !converter.convert(value, Boolean.class);
+        } else if (operator == AstUnary.EMPTY) {
+            operation = BooleanOperations::empty;
+        } else if (operator == AstUnary.NEG) {
+            operation = NumberOperations::neg;
+        } else {
+            return new InterpretedNode(unary, bindings);
+        }
+
+        UnaryNode unaryNode = new UnaryNode(child, operation, bindings);
+        if (child instanceof ConstantNode) {
+            return foldConstant(unaryNode);
+        }
+        return unaryNode;
+    }
+
+    protected CompiledNode foldConstant(CompiledNode node) {
+        try {
+            return new ConstantNode(node.eval(null));
+        } catch (ELException e) {
+            // Keep the error for evaluation time, as the interpreter would do
+            return node;
+        }
+    }
+
+    /**
+     * A node of a compiled expression.
+     */
+    public abstract static class CompiledNode {
+
+        public abstract Object eval(ELContext context);
+
+    }
+
+    protected interface BinaryOperation {
+
+        Object apply(TypeConverter converter, Object left, Object right);
+
+    }
+
+    protected interface UnaryOperation {
+
+        Object apply(TypeConverter converter, Object value);
+
+    }
+
+    protected static class ConstantNode extends CompiledNode {
+
+        protected final Object value;
+
+        public ConstantNode(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return value;
+        }
+    }
+
+    protected static class InterpretedNode extends CompiledNode {
+
+        protected final AstNode node;
+        protected final Bindings bindings;
+
+        public InterpretedNode(AstNode node, Bindings bindings) {
+            this.node = node;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return node.eval(bindings, context);
+        }
+    }
+
+    protected static class IdentifierNode extends CompiledNode {
+
+        protected final String name;
+
+        public IdentifierNode(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            context.setPropertyResolved(false);
+            Object result = context.getELResolver().getValue(context, null, name);
+            if (!context.isPropertyResolved()) {
+                throw new PropertyNotFoundException(LocalMessages.get("error.identifier.property.notfound", name));
+            }
+            return result;
+        }
+    }
+
+    protected static class PropertyNode extends CompiledNode {
+
+        protected final CompiledNode base;
+        protected final CompiledNode property;
+        protected final boolean strict;
+
+        public PropertyNode(CompiledNode base, CompiledNode property, boolean strict) {
+            this.base = base;
+            this.property = property;
+            this.strict = strict;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            Object baseValue = base.eval(context);
+            if (baseValue == null) {
+                return null;
+            }
+            Object propertyValue = property.eval(context);
+            if (propertyValue == null && strict) {
+                return null;
+            }
+            context.setPropertyResolved(false);
+            Object result = context.getELResolver().getValue(context, baseValue, propertyValue);
+            if (!context.isPropertyResolved()) {
+                throw new PropertyNotFoundException(LocalMessages.get("error.property.property.notfound", propertyValue, baseValue));
+            }
+            return result;
+        }
+    }
+
+    protected static class MethodNode extends CompiledNode {
+
+        protected final CompiledNode base;
+        protected final CompiledNode name;
+        protected final CompiledNode[] parameters;
+        protected final Bindings bindings;
+
+        public MethodNode(CompiledNode base, CompiledNode name, CompiledNode[] parameters, Bindings bindings) {
+            this.base = base;
+            this.name = name;
+            this.parameters = parameters;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            Object baseValue = base.eval(context);
+            if (baseValue == null) {
+                return null;
+            }
+            Object method = name.eval(context);
+            if (method == null) {
+                throw new PropertyNotFoundException(LocalMessages.get("error.property.method.notfound", "null", baseValue));
+            }
+            String methodName = bindings.convert(method, String.class);
+
+            Object[] parameterValues = new Object[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                parameterValues[i] = parameters[i].eval(context);
+            }
+
+            context.setPropertyResolved(false);
+            Object result = context.getELResolver().invoke(context, baseValue, methodName, null, parameterValues);
+            if (!context.isPropertyResolved()) {
+                throw new MethodNotFoundException(LocalMessages.get("error.property.method.notfound", methodName, baseValue.getClass()));
+            }
+            return result;
+        }
+    }
+
+    protected static class BinaryNode extends CompiledNode {
+
+        protected final CompiledNode left;
+        protected final CompiledNode right;
+        protected final BinaryOperation operation;
+        protected final Bindings bindings;
+
+        public BinaryNode(CompiledNode left, CompiledNode right, BinaryOperation operation, Bindings bindings) {
+            this.left = left;
+            this.right = right;
+            this.operation = operation;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return operation.apply(bindings, left.eval(context), right.eval(context));
+        }
+    }
+
+    protected static class AndNode extends CompiledNode {
+
+        protected final CompiledNode left;
+        protected final CompiledNode right;
+        protected final Bindings bindings;
+
+        public AndNode(CompiledNode left, CompiledNode right, Bindings bindings) {
+            this.left = left;
+            this.right = right;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            Boolean leftValue = bindings.convert(left.eval(context), Boolean.class);
+            return Boolean.TRUE.equals(leftValue) ? bindings.convert(right.eval(context), Boolean.class) : Boolean.FALSE;
+        }
+    }
+
+    protected static class OrNode extends CompiledNode {
+
+        protected final CompiledNode left;
+        protected final CompiledNode right;
+        protected final Bindings bindings;
+
+        public OrNode(CompiledNode left, CompiledNode right, Bindings bindings) {
+            this.left = left;
+            this.right = right;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            Boolean leftValue = bindings.convert(left.eval(context), Boolean.class);
+            return Boolean.TRUE.equals(leftValue) ? Boolean.TRUE : bindings.convert(right.eval(context), Boolean.class);
+        }
+    }
+
+    protected static class UnaryNode extends CompiledNode {
+
+        protected final CompiledNode child;
+        protected final UnaryOperation operation;
+        protected final Bindings bindings;
+
+        public UnaryNode(CompiledNode child, UnaryOperation operation, Bindings bindings) {
+            this.child = child;
+            this.operation = operation;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return operation.apply(bindings, child.eval(context));
+        }
+    }
+
+    protected static class ChoiceNode extends CompiledNode {
+
+        protected final CompiledNode question;
+        protected final CompiledNode yes;
+        protected final CompiledNode no;
+        protected final Bindings bindings;
+
+        public ChoiceNode(CompiledNode question, CompiledNode yes, CompiledNode no, Bindings bindings) {
+            this.question = question;
+            this.yes = yes;
+            this.no = no;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            Boolean value = bindings.convert(question.eval(context), Boolean.class);
+            return value.booleanValue() ? yes.eval(context) : no.eval(context);
+        }
+    }
+
+    protected static class CompositeNode extends CompiledNode {
+
+        protected final CompiledNode[] children;
+        protected final Bindings bindings;
+
+        public CompositeNode(CompiledNode[] children, Bindings bindings) {
+            this.children = children;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            StringBuilder builder = new StringBuilder(16);
+            for (CompiledNode child : children) {
+                builder.append(bindings.convert(child.eval(context), String.class));
+            }
+            return builder.toString();
+        }
+    }
+
+}
@@ -19,6 +19,8 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.jfr.CommandEvent;
+import org.flowable.common.engine.impl.jfr.FlowableFlightRecorder;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +41,8 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
     protected Clock clock;
     protected ObjectMapper objectMapper;
     protected Map<String, AbstractEngineConfiguration> engineConfigurations = new HashMap<>();
+    protected String engineScopeType;
+    protected boolean flightRecorderEventsEnabled;
 
     public CommandContextInterceptor() {
     }
@@ -58,6 +62,12 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
         CommandContext commandContext = Context.getCommandContext();
 
         boolean contextReused = false;
+
+        CommandEvent commandEvent = null;
+        if (flightRecorderEventsEnabled) {
+            commandEvent = new CommandEvent();
+            commandEvent.begin();
+        }
         
         // We need to check the exception, because the transaction can be in a
         // rollback state, and some other command is being fired to compensate (eg. decrementing job retries)
@@ -95,6 +105,10 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
             } finally {
                 // Pop from stack
                 Context.removeCommandContext();
+
+                if (commandEvent != null) {
+                    commandEvent.complete(engineScopeType, command, contextReused, commandContext.getException());
+                }
             }
         }
 
@@ -133,5 +147,24 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
     public void setEngineConfigurations(Map<String, AbstractEngineConfiguration> engineConfigurations) {
         this.engineConfigurations = engineConfigurations;
     }
+
+    public String getEngineScopeType() {
+        return engineScopeType;
+    }
+
+    public void setEngineScopeType(String engineScopeType) {
+        this.engineScopeType = engineScopeType;
+    }
+
+    public boolean isFlightRecorderEventsEnabled() {
+        return flightRecorderEventsEnabled;
+    }
+
+    /**
+     * Records a {@link CommandEvent} for every command. Only to be enabled when {@link FlowableFlightRecorder#isAvailable()}.
+     */
+    public void setFlightRecorderEventsEnabled(boolean flightRecorderEventsEnabled) {
+        this.flightRecorderEventsEnabled = flightRecorderEventsEnabled;
+    }
     
 }
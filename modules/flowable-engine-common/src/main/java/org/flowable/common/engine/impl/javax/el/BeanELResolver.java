@@ -21,6 +21,7 @@ import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -104,6 +105,7 @@ public class BeanELResolver extends ELResolver {
 
 	private final boolean readOnly;
 	private final ConcurrentHashMap<Class<?>, BeanProperties> cache;
+	private final ConcurrentHashMap<MethodKey, Method> methodCache;
 	
 	private ExpressionFactory defaultFactory;
 
@@ -118,8 +120,17 @@ public class BeanELResolver extends ELResolver {
 	 * Creates a new BeanELResolver whose read-only status is determined by the given parameter.
 	 */
 	public BeanELResolver(boolean readOnly) {
+		this(readOnly, false);
+	}
+
+	/**
+	 * Flowable addition: creates a new BeanELResolver whose read-only status is determined by the given parameter
+	 * and that caches the methods it resolves for method invocations when <code>methodCacheEnabled</code> is true.
+	 */
+	public BeanELResolver(boolean readOnly, boolean methodCacheEnabled) {
 		this.readOnly = readOnly;
 		this.cache = new ConcurrentHashMap<>();
+		this.methodCache = methodCacheEnabled ? new ConcurrentHashMap<>() : null;
 	}
 
 	/**
@@ -466,7 +477,7 @@ public class BeanELResolver extends ELResolver {
 			}
 			String name = method.toString();
 			ExpressionFactory factory = getExpressionFactory(context);
-			Method target = Util.findMethod(base.getClass(), base, name, paramTypes, params, factory);
+			Method target = findMethod(base, name, paramTypes, params, factory);
 			if (target == null) {
 				throw new MethodNotFoundException("Cannot find method " + name + " with " + params.length + " parameters in " + base.getClass());
 			}
@@ -484,6 +495,41 @@ public class BeanELResolver extends ELResolver {
 		return result;
 	}
 
+	/**
+	 * Flowable addition: resolving the method to invoke is done through reflection on every invocation,
+	 * so when enabled, the resolved method is cached per bean class, method name and parameter classes. Only methods
+	 * that were selected without coercing any of the parameters are cached, as the outcome of the
+	 * coercion rules can depend on the parameter values themselves.
+	 */
+	private Method findMethod(Object base, String name, Class<?>[] paramTypes, Object[] params, ExpressionFactory factory) {
+		if (paramTypes != null || methodCache == null) {
+			return Util.findMethod(base.getClass(), base, name, paramTypes, params, factory);
+		}
+
+		MethodKey key = new MethodKey(base.getClass(), name, params);
+		Method target = methodCache.get(key);
+		if (target == null) {
+			target = Util.findMethod(base.getClass(), base, name, null, params, factory);
+			if (target != null && isCacheable(target, params)) {
+				methodCache.putIfAbsent(key, target);
+			}
+		}
+		return target;
+	}
+
+	private static boolean isCacheable(Method method, Object[] params) {
+		if (method.isVarArgs()) {
+			return false;
+		}
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < params.length; i++) {
+			if (params[i] == null || !Util.isAssignableFrom(params[i].getClass(), parameterTypes[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Lookup an expression factory used to coerce method parameters in context under key
 	 * <code>"javax.el.ExpressionFactory"</code>.
@@ -557,5 +603,48 @@ public class BeanELResolver extends ELResolver {
 				classes.remove();
 			}
 		}
+		if (methodCache != null) {
+			Iterator<MethodKey> methodKeys = methodCache.keySet().iterator();
+			while (methodKeys.hasNext()) {
+				if (loader == methodKeys.next().beanClass.getClassLoader()) {
+					methodKeys.remove();
+				}
+			}
+		}
+	}
+
+	private static final class MethodKey {
+
+		private final Class<?> beanClass;
+		private final String name;
+		private final Class<?>[] paramClasses;
+		private final int hash;
+
+		MethodKey(Class<?> beanClass, String name, Object[] params) {
+			this.beanClass = beanClass;
+			this.name = name;
+			this.paramClasses = new Class<?>[params.length];
+			for (int i = 0; i < params.length; i++) {
+				paramClasses[i] = params[i] == null ? null : params[i].getClass();
+			}
+			this.hash = 31 * (31 * beanClass.hashCode() + name.hashCode()) + Arrays.hashCode(paramClasses);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof MethodKey)) {
+				return false;
+			}
+			MethodKey other = (MethodKey) obj;
+			return beanClass == other.beanClass && name.equals(other.name) && Arrays.equals(paramClasses, other.paramClasses);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
 	}
 }
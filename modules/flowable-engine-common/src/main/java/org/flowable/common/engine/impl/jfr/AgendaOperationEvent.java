@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the execution of an operation of the agenda.
+ *
+ * @see FlightRecorderAgendaOperationRunner
+ */
+@Name("org.flowable.AgendaOperation")
+@Label("Agenda Operation")
+@Description("Execution of an operation planned on the agenda")
+@Category(FlowableFlightRecorder.CATEGORY)
+@StackTrace(false)
+public class AgendaOperationEvent extends Event {
+
+    @Label("Engine")
+    protected String engine;
+
+    @Label("Operation Class")
+    protected String operationClass;
+
+    @Label("Process Definition Key")
+    @Description("The key of the process or case definition the operation is executed for")
+    protected String processDefinitionKey;
+
+    @Label("Process Instance Id")
+    @Description("The id of the process or case instance the operation is executed for")
+    protected String processInstanceId;
+
+    @Label("Tenant Id")
+    protected String tenantId;
+
+    public void setEngine(String engine) {
+        this.engine = engine;
+    }
+
+    public void setOperationClass(String operationClass) {
+        this.operationClass = operationClass;
+    }
+
+    public void setProcessDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+    }
+
+    public void setProcessInstanceId(String processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+}
@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.jfr;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the execution of a {@link Command}, including the closing (and flushing) of its command context.
+ *
+ * @see org.flowable.common.engine.impl.interceptor.CommandContextInterceptor
+ */
+@Name("org.flowable.Command")
+@Label("Command")
+@Description("Execution of an engine command")
+@Category(FlowableFlightRecorder.CATEGORY)
+@StackTrace(false)
+public class CommandEvent extends Event {
+
+    @Label("Engine")
+    protected String engine;
+
+    @Label("Command Class")
+    protected String commandClass;
+
+    @Label("Nested")
+    @Description("Whether the command reused the command context of the command that called it")
+    protected boolean nested;
+
+    @Label("Exception Class")
+    protected String exceptionClass;
+
+    public void complete(String engine, Command<?> command, boolean nested, Throwable exception) {
+        end();
+        if (shouldCommit()) {
+            this.engine = engine;
+            this.commandClass = command.getClass().getName();
+            this.nested = nested;
+            if (exception != null) {
+                this.exceptionClass = exception.getClass().getName();
+            }
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.jfr;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the flush of a {@link org.flowable.common.engine.impl.db.DbSqlSession}, with the number of flushed entities.
+ */
+@Name("org.flowable.DbSqlSessionFlush")
+@Label("DbSqlSession Flush")
+@Description("Flush of the inserted, updated and deleted entities of a command to the database")
+@Category(FlowableFlightRecorder.CATEGORY)
+@StackTrace(false)
+public class DbSqlSessionFlushEvent extends Event {
+
+    @Label("Command Class")
+    protected String commandClass;
+
+    @Label("Inserted Entities")
+    protected int insertedEntities;
+
+    @Label("Updated Entities")
+    protected int updatedEntities;
+
+    @Label("Deleted Entities")
+    protected int deletedEntities;
+
+    @Label("Bulk Deletes")
+    protected int bulkDeletes;
+
+    public void complete(int insertedEntities, int updatedEntities, int deletedEntities, int bulkDeletes) {
+        end();
+        if (shouldCommit()) {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext != null && commandContext.getCommand() != null) {
+                this.commandClass = commandContext.getCommand().getClass().getName();
+            }
+            this.insertedEntities = insertedEntities;
+            this.updatedEntities = updatedEntities;
+            this.deletedEntities = deletedEntities;
+            this.bulkDeletes = bulkDeletes;
+            commit();
+        }
+    }
+
+}
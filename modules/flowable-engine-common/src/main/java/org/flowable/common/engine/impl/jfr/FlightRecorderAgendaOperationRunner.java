@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.jfr;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * {@link AgendaOperationRunner} that records an {@link AgendaOperationEvent} for every operation executed by the delegate runner.
+ *
+ * Engines can override {@link #populateEvent(AgendaOperationEvent, Runnable)} to add the definition and instance the operation works on.
+ */
+public class FlightRecorderAgendaOperationRunner implements AgendaOperationRunner {
+
+    protected AgendaOperationRunner delegate;
+    protected String engine;
+
+    public FlightRecorderAgendaOperationRunner(AgendaOperationRunner delegate, String engine) {
+        this.delegate = delegate;
+        this.engine = engine;
+    }
+
+    @Override
+    public void executeOperation(CommandContext commandContext, Runnable runnable) {
+        AgendaOperationEvent event = new AgendaOperationEvent();
+        event.begin();
+        try {
+            delegate.executeOperation(commandContext, runnable);
+
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setEngine(engine);
+                event.setOperationClass(runnable.getClass().getName());
+                populateEvent(event, runnable);
+                event.commit();
+            }
+        }
+    }
+
+    protected void populateEvent(AgendaOperationEvent event, Runnable operation) {
+        // Nothing to add by default
+    }
+
+    public AgendaOperationRunner getDelegate() {
+        return delegate;
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+
+}
@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.jfr;
+
+/**
+ * Entry point for the JDK Flight Recorder events of the engines.
+ *
+ * The event classes of this package extend {@code jdk.jfr.Event}, which is not available on every Java 8 runtime.
+ * They are therefore only created when {@link #isAvailable()} returns true, so that they never get loaded on a runtime without JFR.
+ * When no recording is running (or the events are disabled in the recording settings), creating and committing an event is close to free,
+ * which makes it possible to keep the events enabled in production and only start a recording when needed.
+ *
+ * @see CommandEvent
+ * @see AgendaOperationEvent
+ * @see DbSqlSessionFlushEvent
+ * @see JobExecutionEvent
+ */
+public final class FlowableFlightRecorder {
+
+    public static final String CATEGORY = "Flowable";
+
+    private static final boolean AVAILABLE = determineAvailability();
+
+    private FlowableFlightRecorder() {
+    }
+
+    /**
+     * @return whether the JDK Flight Recorder API is available on the current runtime.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    private static boolean determineAvailability() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlowableFlightRecorder.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+}
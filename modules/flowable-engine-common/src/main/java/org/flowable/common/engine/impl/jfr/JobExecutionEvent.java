@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the execution of a job by the async executor.
+ */
+@Name("org.flowable.JobExecution")
+@Label("Job Execution")
+@Description("Execution of a job by the async executor")
+@Category(FlowableFlightRecorder.CATEGORY)
+@StackTrace(false)
+public class JobExecutionEvent extends Event {
+
+    @Label("Job Id")
+    protected String jobId;
+
+    @Label("Job Handler Type")
+    protected String jobHandlerType;
+
+    @Label("Process Definition Id")
+    @Description("The id of the process or case definition the job belongs to")
+    protected String processDefinitionId;
+
+    @Label("Tenant Id")
+    protected String tenantId;
+
+    @Label("Exception Class")
+    protected String exceptionClass;
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public void setJobHandlerType(String jobHandlerType) {
+        this.jobHandlerType = jobHandlerType;
+    }
+
+    public void setProcessDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public void setExceptionClass(String exceptionClass) {
+        this.exceptionClass = exceptionClass;
+    }
+
+}
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A {@link SharedEntityCacheInvalidationHook} that forwards invalidations to other caches in the same JVM.
+ * Stands in for a real cluster broadcaster when multiple engines share one database within one process (e.g. in tests).
+ */
+public class LocalSharedEntityCacheInvalidationBroadcaster implements SharedEntityCacheInvalidationHook {
+
+    protected List<SharedEntityCache> caches = new CopyOnWriteArrayList<>();
+
+    public void register(SharedEntityCache cache) {
+        caches.add(cache);
+    }
+
+    public void unregister(SharedEntityCache cache) {
+        caches.remove(cache);
+    }
+
+    @Override
+    public void invalidated(SharedEntityCache source, Class<?> entityClass, String entityId, int minimumRevision) {
+        for (SharedEntityCache cache : caches) {
+            if (cache != source) {
+                cache.invalidateLocally(entityClass, entityId, minimumRevision);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A second-level cache for {@link Entity} instances that is shared between all commands of an engine,
+ * as opposed to the {@link EntityCache}, which only lives for the duration of one command.
+ * 
+ * Only meant for read-mostly entity types. An implementation never hands out the same instance twice:
+ * every {@link #get(Class, String)} returns a new, detached copy that the caller is free to change.
+ * 
+ * Staleness is prevented through the revision of the entities: when an entity is updated or deleted, the cache is invalidated
+ * with the new revision and will not accept any older revision for that entity afterwards.
+ */
+public interface SharedEntityCache {
+
+    /**
+     * @return whether entities of the given type are stored in this cache.
+     */
+    boolean isCacheable(Class<?> entityClass);
+
+    /**
+     * @return a copy of the cached entity of the given type and id, or null if it is not cached (or expired).
+     */
+    <T extends Entity> T get(Class<T> entityClass, String id);
+
+    /**
+     * Stores a copy of the given entity, as it was loaded from the database, unless a newer revision of the entity is known to exist.
+     */
+    void put(Entity entity);
+
+    /**
+     * Removes the entity of the given type and id from the cache and rejects any revision lower than the given revision from now on.
+     * The invalidation is propagated to the {@link SharedEntityCacheInvalidationHook}, if any.
+     */
+    void invalidate(Class<?> entityClass, String id, int minimumRevision);
+
+    /**
+     * Removes all entities of the given type, for example when they were deleted with a bulk statement.
+     * The invalidation is propagated to the {@link SharedEntityCacheInvalidationHook}, if any.
+     */
+    void invalidateAll(Class<?> entityClass);
+
+    /**
+     * Same as {@link #invalidate(Class, String, int)}, but without propagating the invalidation.
+     * Used to apply invalidations that were received from other nodes. A null id invalidates all entities of the given type.
+     */
+    void invalidateLocally(Class<?> entityClass, String id, int minimumRevision);
+
+    void clear();
+
+}
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+
+/**
+ * Repeats the invalidations of a command once its transaction is committed. Invalidations happen when the changes are flushed,
+ * which is before the commit: a concurrent command can still read (and cache) the old state in between.
+ * Runs after the {@link org.flowable.common.engine.impl.interceptor.TransactionCommandContextCloseListener}, which commits the transaction.
+ */
+public class SharedEntityCacheCommittedInvalidationListener implements CommandContextCloseListener {
+
+    protected SharedEntityCache sharedEntityCache;
+    protected List<Invalidation> invalidations = new ArrayList<>();
+
+    public SharedEntityCacheCommittedInvalidationListener(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+    }
+
+    public void addInvalidation(Class<?> entityClass, String entityId, int minimumRevision) {
+        invalidations.add(new Invalidation(entityClass, entityId, minimumRevision));
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        for (Invalidation invalidation : invalidations) {
+            if (invalidation.entityId != null) {
+                sharedEntityCache.invalidate(invalidation.entityClass, invalidation.entityId, invalidation.minimumRevision);
+            } else {
+                sharedEntityCache.invalidateAll(invalidation.entityClass);
+            }
+        }
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+    }
+
+    @Override
+    public Integer order() {
+        return 10100;
+    }
+
+    @Override
+    public boolean multipleAllowed() {
+        return true;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    protected static class Invalidation {
+
+        protected final Class<?> entityClass;
+        protected final String entityId;
+        protected final int minimumRevision;
+
+        protected Invalidation(Class<?> entityClass, String entityId, int minimumRevision) {
+            this.entityClass = entityClass;
+            this.entityId = entityId;
+            this.minimumRevision = minimumRevision;
+        }
+    }
+}
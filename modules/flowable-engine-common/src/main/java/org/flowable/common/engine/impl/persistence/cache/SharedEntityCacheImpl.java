@@ -0,0 +1,365 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link SharedEntityCache}, bounded in number of entries and with a time-to-live per entry.
+ * 
+ * The cache keeps a private copy of each entity and hands out a new copy on every hit. Copies are made field by field
+ * (collections, maps and dates are copied, other values are shared), so cacheable entity types need a no-arg constructor
+ * and should only hold column values when loaded from the database, which is the case for the regular entity implementations.
+ * 
+ * Invalidations leave a marker (with the minimum acceptable revision) behind for the duration of the time-to-live.
+ * This way, a concurrent command that loaded the old revision before the update was committed can't put it back in the cache.
+ * Markers are never evicted before they expire.
+ * 
+ * Only entity types with a revision ({@link HasRevision}) can be cached: a stale copy of an entity without a revision
+ * can't be told apart from the current one. Registering any other type (for example a deployment entity) is rejected.
+ */
+public class SharedEntityCacheImpl implements SharedEntityCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedEntityCacheImpl.class);
+
+    protected Set<Class<?>> cacheableEntityClasses;
+    protected int maxSize;
+    protected long timeToLiveMillis;
+    protected SharedEntityCacheInvalidationHook invalidationHook;
+
+    protected Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    protected Map<Class<?>, Long> classInvalidationExpirationTimes = new ConcurrentHashMap<>();
+    protected Map<Class<?>, List<Field>> entityFields = new ConcurrentHashMap<>();
+    protected final Object evictionLock = new Object();
+    protected AtomicLong entrySequence = new AtomicLong();
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+    protected AtomicLong evictionCount = new AtomicLong();
+    protected AtomicLong invalidationCount = new AtomicLong();
+
+    public SharedEntityCacheImpl(Collection<Class<?>> cacheableEntityClasses) {
+        this(cacheableEntityClasses, 10000, 60000L);
+    }
+
+    public SharedEntityCacheImpl(Collection<Class<?>> cacheableEntityClasses, int maxSize, long timeToLiveMillis) {
+        for (Class<?> cacheableEntityClass : cacheableEntityClasses) {
+            if (!HasRevision.class.isAssignableFrom(cacheableEntityClass)) {
+                throw new FlowableIllegalArgumentException("Entity type " + cacheableEntityClass.getName()
+                        + " has no revision and can't be cached in the shared entity cache");
+            }
+        }
+        this.cacheableEntityClasses = new HashSet<>(cacheableEntityClasses);
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    @Override
+    public boolean isCacheable(Class<?> entityClass) {
+        return cacheableEntityClasses.contains(entityClass);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T get(Class<T> entityClass, String id) {
+        if (id == null) {
+            return null;
+        }
+
+        CacheKey key = new CacheKey(entityClass, id);
+        CacheEntry entry = entries.get(key);
+        if (entry == null || entry.entity == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        T entity = (T) copy(entry.entity);
+        if (entity != null) {
+            hitCount.incrementAndGet();
+        } else {
+            entries.remove(key, entry);
+            missCount.incrementAndGet();
+        }
+        return entity;
+    }
+
+    @Override
+    public void put(Entity entity) {
+        if (entity.getId() == null || !(entity instanceof HasRevision) || !isCacheable(entity.getClass())) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Long classInvalidationExpirationTime = classInvalidationExpirationTimes.get(entity.getClass());
+        if (classInvalidationExpirationTime != null) {
+            if (classInvalidationExpirationTime > now) {
+                return;
+            }
+            classInvalidationExpirationTimes.remove(entity.getClass(), classInvalidationExpirationTime);
+        }
+
+        Entity entityCopy = copy(entity);
+        if (entityCopy == null) {
+            return;
+        }
+
+        int revision = ((HasRevision) entity).getRevision();
+        CacheEntry newEntry = new CacheEntry(entityCopy, revision, now + timeToLiveMillis, entrySequence.incrementAndGet());
+        entries.compute(new CacheKey(entity.getClass(), entity.getId()), (key, existingEntry) -> {
+            if (existingEntry != null && !existingEntry.isExpired(now) && existingEntry.revision > revision) {
+                return existingEntry; // a newer revision exists (or the entity was deleted)
+            }
+            return newEntry;
+        });
+
+        if (entries.size() > maxSize) {
+            evict(now);
+        }
+    }
+
+    @Override
+    public void invalidate(Class<?> entityClass, String id, int minimumRevision) {
+        invalidateLocally(entityClass, id, minimumRevision);
+        if (invalidationHook != null) {
+            invalidationHook.invalidated(this, entityClass, id, minimumRevision);
+        }
+    }
+
+    @Override
+    public void invalidateAll(Class<?> entityClass) {
+        invalidate(entityClass, null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void invalidateLocally(Class<?> entityClass, String id, int minimumRevision) {
+        if (!isCacheable(entityClass)) {
+            return;
+        }
+
+        invalidationCount.incrementAndGet();
+        long expirationTime = System.currentTimeMillis() + timeToLiveMillis;
+        if (id == null) {
+            classInvalidationExpirationTimes.put(entityClass, expirationTime);
+            entries.keySet().removeIf(key -> key.entityClass == entityClass);
+
+        } else {
+            CacheEntry marker = new CacheEntry(null, minimumRevision, expirationTime, entrySequence.incrementAndGet());
+            entries.merge(new CacheKey(entityClass, id), marker,
+                    (existingEntry, newEntry) -> existingEntry.entity == null && existingEntry.revision > minimumRevision ? existingEntry : newEntry);
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        classInvalidationExpirationTimes.clear();
+    }
+
+    /**
+     * Removes the expired entries and, when that's not enough, the oldest cached entities until the cache is at 90% of its max size.
+     * Invalidation markers are only removed when expired, otherwise a stale revision could be cached again.
+     */
+    protected void evict(long now) {
+        synchronized (evictionLock) {
+            if (entries.size() <= maxSize) {
+                return;
+            }
+
+            int sizeBefore = entries.size();
+            entries.values().removeIf(entry -> entry.isExpired(now));
+
+            int targetSize = (int) (maxSize * 0.9);
+            if (entries.size() > targetSize) {
+                List<Map.Entry<CacheKey, CacheEntry>> sortedEntries = new ArrayList<>();
+                for (Map.Entry<CacheKey, CacheEntry> entry : entries.entrySet()) {
+                    if (entry.getValue().entity != null) {
+                        sortedEntries.add(entry);
+                    }
+                }
+                // Entries put in the same millisecond have the same expiration time, the one put first is the oldest
+                sortedEntries.sort(Comparator.<Map.Entry<CacheKey, CacheEntry>>comparingLong(entry -> entry.getValue().expirationTime)
+                        .thenComparingLong(entry -> entry.getValue().sequence));
+                int nrOfEntriesToRemove = Math.min(sortedEntries.size(), entries.size() - targetSize);
+                for (int i = 0; i < nrOfEntriesToRemove; i++) {
+                    Map.Entry<CacheKey, CacheEntry> entry = sortedEntries.get(i);
+                    entries.remove(entry.getKey(), entry.getValue());
+                }
+            }
+
+            evictionCount.addAndGet(Math.max(0, sizeBefore - entries.size()));
+        }
+    }
+
+    protected Entity copy(Entity entity) {
+        try {
+            Entity copy = entity.getClass().getDeclaredConstructor().newInstance();
+            for (Field field : getEntityFields(entity.getClass())) {
+                field.set(copy, copyValue(field.get(entity)));
+            }
+            return copy;
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Could not copy entity {} for the shared entity cache", entity, e);
+            return null;
+        }
+    }
+
+    protected Object copyValue(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        } else if (value instanceof List) {
+            return new ArrayList<>((List<?>) value);
+        } else if (value instanceof Set) {
+            return new LinkedHashSet<>((Set<?>) value);
+        } else if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        }
+        return value;
+    }
+
+    protected List<Field> getEntityFields(Class<?> entityClass) {
+        return entityFields.computeIfAbsent(entityClass, key -> {
+            List<Field> fields = new ArrayList<>();
+            Class<?> currentClass = key;
+            while (currentClass != null && currentClass != Object.class) {
+                for (Field field : currentClass.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+                currentClass = currentClass.getSuperclass();
+            }
+            return fields;
+        });
+    }
+
+    // getters and setters //////////////////////////////////////////////////////
+
+    public Set<Class<?>> getCacheableEntityClasses() {
+        return cacheableEntityClasses;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getTimeToLiveMillis() {
+        return timeToLiveMillis;
+    }
+
+    public SharedEntityCacheInvalidationHook getInvalidationHook() {
+        return invalidationHook;
+    }
+
+    public void setInvalidationHook(SharedEntityCacheInvalidationHook invalidationHook) {
+        this.invalidationHook = invalidationHook;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    protected static class CacheKey {
+
+        protected final Class<?> entityClass;
+        protected final String id;
+
+        protected CacheKey(Class<?> entityClass, String id) {
+            this.entityClass = entityClass;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return entityClass == other.entityClass && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entityClass, id);
+        }
+    }
+
+    /**
+     * An entry without entity is an invalidation marker.
+     */
+    protected static class CacheEntry {
+
+        protected final Entity entity;
+        protected final int revision;
+        protected final long expirationTime;
+        protected final long sequence;
+
+        protected CacheEntry(Entity entity, int revision, long expirationTime, long sequence) {
+            this.entity = entity;
+            this.revision = revision;
+            this.expirationTime = expirationTime;
+            this.sequence = sequence;
+        }
+
+        protected boolean isExpired(long now) {
+            return expirationTime <= now;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+/**
+ * Gets notified of every local invalidation of a {@link SharedEntityCache}, so that it can be propagated to the caches of
+ * other nodes (which should apply it with {@link SharedEntityCache#invalidateLocally(Class, String, int)}).
+ */
+public interface SharedEntityCacheInvalidationHook {
+
+    /**
+     * @param source the cache that was invalidated
+     * @param entityClass the type of the invalidated entity
+     * @param entityId the id of the invalidated entity, or null when all entities of the type were invalidated
+     * @param minimumRevision the lowest revision of the entity that can still be cached
+     */
+    void invalidated(SharedEntityCache source, Class<?> entityClass, String entityId, int minimumRevision);
+
+}
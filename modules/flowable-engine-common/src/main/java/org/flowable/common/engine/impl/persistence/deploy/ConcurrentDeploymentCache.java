@@ -0,0 +1,242 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DeploymentCache} meant for heavy concurrent use: unlike the {@link DefaultDeploymentCache}, which guards one map with one monitor,
+ * threads don't all contend on the same lock.
+ * 
+ * Without a limit, this is a plain {@link ConcurrentHashMap}. With a limit, the cache is split in segments (by hash of the id),
+ * each one an access-ordered LRU map with its own lock and its own share of the limit. Eviction is therefore LRU per segment,
+ * which is close to a global LRU when the cache is big enough. Small caches (limit below 16) use one segment, i.e. an exact LRU.
+ * 
+ * Hits, misses and evictions are counted.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected static final int MAX_SEGMENTS = 16;
+    protected static final int MIN_ENTRIES_PER_SEGMENT = 8;
+
+    protected Map<String, T> unboundedCache;
+    protected Segment<T>[] segments;
+
+    protected LongAdder hitCount = new LongAdder();
+    protected LongAdder missCount = new LongAdder();
+    protected LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this.unboundedCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentDeploymentCache(int limit) {
+        int nrOfSegments = 1;
+        while (nrOfSegments < MAX_SEGMENTS && nrOfSegments * 2 * MIN_ENTRIES_PER_SEGMENT <= limit) {
+            nrOfSegments *= 2;
+        }
+
+        this.segments = new Segment[nrOfSegments];
+        for (int i = 0; i < nrOfSegments; i++) {
+            int segmentLimit = limit / nrOfSegments + (i < limit % nrOfSegments ? 1 : 0);
+            segments[i] = new Segment<>(segmentLimit, evictionCount);
+        }
+    }
+
+    @Override
+    public T get(String id) {
+        T value;
+        if (unboundedCache != null) {
+            value = unboundedCache.get(id);
+        } else {
+            Segment<T> segment = segmentFor(id);
+            segment.lock.lock();
+            try {
+                value = segment.map.get(id);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+
+        if (value != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void add(String id, T object) {
+        if (unboundedCache != null) {
+            unboundedCache.put(id, object);
+            return;
+        }
+
+        Segment<T> segment = segmentFor(id);
+        segment.lock.lock();
+        try {
+            segment.map.put(id, object);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        if (unboundedCache != null) {
+            unboundedCache.remove(id);
+            return;
+        }
+
+        Segment<T> segment = segmentFor(id);
+        segment.lock.lock();
+        try {
+            segment.map.remove(id);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(String id) {
+        if (unboundedCache != null) {
+            return unboundedCache.containsKey(id);
+        }
+
+        Segment<T> segment = segmentFor(id);
+        segment.lock.lock();
+        try {
+            return segment.map.containsKey(id);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (unboundedCache != null) {
+            unboundedCache.clear();
+            return;
+        }
+
+        for (Segment<T> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        if (unboundedCache != null) {
+            return unboundedCache.values();
+        }
+
+        List<T> all = new ArrayList<>();
+        for (Segment<T> segment : segments) {
+            segment.lock.lock();
+            try {
+                all.addAll(segment.map.values());
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return Collections.unmodifiableList(all);
+    }
+
+    @Override
+    public int size() {
+        if (unboundedCache != null) {
+            return unboundedCache.size();
+        }
+
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    protected Segment<T> segmentFor(String id) {
+        int hash = id != null ? id.hashCode() : 0;
+        hash ^= (hash >>> 16); // spread the higher bits, as the number of segments is a power of two
+        return segments[hash & (segments.length - 1)];
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    protected static class Segment<T> {
+
+        protected final ReentrantLock lock = new ReentrantLock();
+        protected final Map<String, T> map;
+
+        protected Segment(int limit, LongAdder evictionCount) {
+            // +1 is needed, because the entry is inserted first, before it is removed
+            // true will keep the 'access-order', which is needed to have a real LRU cache
+            this.map = new LinkedHashMap<String, T>(limit + 1, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                    boolean removeEldest = size() > limit;
+                    if (removeEldest) {
+                        evictionCount.increment();
+                        if (LOGGER.isTraceEnabled()) {
+                            LOGGER.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
+                        }
+                    }
+                    return removeEldest;
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+/**
+ * Wraps the definition caches an engine creates itself (e.g. to collect statistics about them).
+ *
+ * @see org.flowable.common.engine.impl.AbstractEngineConfiguration#setDeploymentCacheDecorator(DeploymentCacheDecorator)
+ */
+public interface DeploymentCacheDecorator {
+
+    /**
+     * @param cacheName the name of the cache (e.g. processDefinition or caseDefinition), can be null for caches created by custom code
+     * @param deploymentCache the cache created by the engine
+     * @return the cache the engine should use
+     */
+    <T> DeploymentCache<T> decorate(String cacheName, DeploymentCache<T> deploymentCache);
+
+}
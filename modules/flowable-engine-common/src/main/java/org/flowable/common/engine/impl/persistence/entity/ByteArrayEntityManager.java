@@ -12,6 +12,7 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -30,4 +31,12 @@ public interface ByteArrayEntityManager extends EntityManager<ByteArrayEntity> {
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Opens a stream on the bytes of the {@link ByteArrayEntity} with the given id, without loading the entity in memory.
+     * The stream is backed by the open JDBC result set, so it needs to be consumed and closed in the current command context.
+     *
+     * @return the stream of the bytes, or null when there is no such byte array or its bytes are null
+     */
+    InputStream openBytesStream(String byteArrayEntityId);
+
 }
\ No newline at end of file
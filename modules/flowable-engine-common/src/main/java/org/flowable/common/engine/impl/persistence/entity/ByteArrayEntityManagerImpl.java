@@ -13,6 +13,7 @@
 
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -43,6 +44,11 @@ public class ByteArrayEntityManagerImpl
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public InputStream openBytesStream(String byteArrayEntityId) {
+        return dataManager.openBytesStream(byteArrayEntityId);
+    }
+
     @Override
     protected FlowableEventDispatcher getEventDispatcher() {
         return eventDispatcherSupplier.get();
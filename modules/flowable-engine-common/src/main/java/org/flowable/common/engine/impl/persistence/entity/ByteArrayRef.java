@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 
@@ -61,6 +63,22 @@ public class ByteArrayRef implements Serializable {
         return (entity != null ? entity.getBytes() : null);
     }
 
+    /**
+     * Returns the bytes as a stream that needs to be closed by the caller.
+     * When the entity has not been loaded yet and there is an active command context, the bytes are streamed from the database
+     * instead of being loaded in memory. Such a stream needs to be consumed within that command context.
+     *
+     * @return the bytes as a stream or null if there are no bytes
+     */
+    public InputStream getInputStream(String engineType) {
+        if (id != null && entity == null && Context.getCommandContext() != null) {
+            return getEngineConfiguration(engineType).getByteArrayEntityManager().openBytesStream(id);
+        }
+
+        byte[] bytes = getBytes(engineType);
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
     /**
      * Returns the byte array from the {@link #getBytes(String)} method as {@link StandardCharsets#UTF_8} {@link String}.
      *
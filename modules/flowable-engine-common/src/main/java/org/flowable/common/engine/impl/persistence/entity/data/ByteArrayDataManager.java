@@ -12,6 +12,7 @@
  */
 package org.flowable.common.engine.impl.persistence.entity.data;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
@@ -25,4 +26,6 @@ public interface ByteArrayDataManager extends DataManager<ByteArrayEntity> {
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    InputStream openBytesStream(String byteArrayEntityId);
+
 }
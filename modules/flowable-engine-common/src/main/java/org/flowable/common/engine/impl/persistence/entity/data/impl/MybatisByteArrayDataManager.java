@@ -12,10 +12,19 @@
  */
 package org.flowable.common.engine.impl.persistence.entity.data.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityImpl;
 import org.flowable.common.engine.impl.persistence.entity.data.ByteArrayDataManager;
@@ -52,8 +61,81 @@ public class MybatisByteArrayDataManager extends AbstractDataManager<ByteArrayEn
         getDbSqlSession().delete("deleteByteArrayNoRevisionCheck", byteArrayEntityId, ByteArrayEntityImpl.class);
     }
 
+    @Override
+    public InputStream openBytesStream(String byteArrayEntityId) {
+        // An entity in the cache can have changes that are not flushed yet
+        ByteArrayEntity cachedEntity = getEntityCache().findInCache(getManagedEntityClass(), byteArrayEntityId);
+        if (cachedEntity != null) {
+            byte[] bytes = cachedEntity.getBytes();
+            return bytes != null ? new ByteArrayInputStream(bytes) : null;
+        }
+
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        String sql = "select BYTES_ from " + dbSqlSession.getDbSqlSessionFactory().getDatabaseTablePrefix() + "ACT_GE_BYTEARRAY where ID_ = ?";
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = dbSqlSession.getSqlSession().getConnection().prepareStatement(sql);
+            statement.setString(1, byteArrayEntityId);
+            resultSet = statement.executeQuery();
+            if (resultSet.next()) {
+                InputStream bytesStream = resultSet.getBinaryStream(1);
+                if (bytesStream != null) {
+                    return new ResultSetInputStream(bytesStream, resultSet, statement);
+                }
+            }
+            closeSilently(resultSet, statement);
+            return null;
+
+        } catch (SQLException e) {
+            closeSilently(resultSet, statement);
+            throw new FlowableException("Could not read the bytes of byte array " + byteArrayEntityId, e);
+        }
+    }
+
+    protected static void closeSilently(ResultSet resultSet, PreparedStatement statement) {
+        try {
+            if (resultSet != null) {
+                resultSet.close();
+            }
+        } catch (SQLException e) {
+            // Exception is silently ignored
+        }
+        try {
+            if (statement != null) {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            // Exception is silently ignored
+        }
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return idGenerator;
     }
+
+    /**
+     * Keeps the result set and statement open while the bytes are read, since most drivers invalidate the stream when they are closed.
+     */
+    protected static class ResultSetInputStream extends FilterInputStream {
+
+        protected final ResultSet resultSet;
+        protected final PreparedStatement statement;
+
+        public ResultSetInputStream(InputStream bytesStream, ResultSet resultSet, PreparedStatement statement) {
+            super(bytesStream);
+            this.resultSet = resultSet;
+            this.statement = statement;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                closeSilently(resultSet, statement);
+            }
+        }
+    }
 }
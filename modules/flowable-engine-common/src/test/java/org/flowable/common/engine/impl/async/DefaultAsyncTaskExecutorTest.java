@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultAsyncTaskExecutorTest {
+
+    protected DefaultAsyncTaskExecutor executor = new DefaultAsyncTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void virtualThreadsRunMoreTasksThanThePoolSize() throws Exception {
+        executor.setUseVirtualThreads(true);
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueSize(2);
+        executor.setMaxConcurrentTasks(50);
+        executor.start();
+
+        CountDownLatch allStarted = new CountDownLatch(50);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 50; i++) {
+            executor.execute(() -> {
+                allStarted.countDown();
+                awaitQuietly(release);
+            });
+        }
+
+        // All tasks are blocked at the same time, which is impossible with 2 threads and a queue of 2
+        assertThat(allStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getRemainingCapacity()).isZero();
+
+        release.countDown();
+        waitForRemainingCapacity(50);
+    }
+
+    @Test
+    void concurrencyLimitRejectsImmediately() throws Exception {
+        executor.setUseVirtualThreads(true);
+        executor.setMaxConcurrentTasks(2);
+        executor.start();
+
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> awaitQuietly(release));
+
+        assertThat(executor.getRemainingCapacity()).isZero();
+        long start = System.currentTimeMillis();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(System.currentTimeMillis() - start).isLessThan(500L);
+
+        release.countDown();
+        waitForRemainingCapacity(2);
+    }
+
+    @Test
+    void customThreadFactoryUsedWithVirtualThreads() throws Exception {
+        AtomicInteger createdThreads = new AtomicInteger();
+        executor.setUseVirtualThreads(true);
+        executor.setThreadFactory(runnable -> {
+            createdThreads.incrementAndGet();
+            return new Thread(runnable);
+        });
+        executor.start();
+
+        AtomicInteger counter = new AtomicInteger();
+        executor.submit(counter::incrementAndGet).get(10, TimeUnit.SECONDS);
+        assertThat(counter.get()).isEqualTo(1);
+        assertThat(createdThreads.get()).isEqualTo(1);
+    }
+
+    protected void waitForRemainingCapacity(int expectedCapacity) {
+        long end = System.currentTimeMillis() + 10000L;
+        while (executor.getRemainingCapacity() != expectedCapacity && System.currentTimeMillis() < end) {
+            sleepQuietly(10L);
+        }
+        assertThat(executor.getRemainingCapacity()).isEqualTo(expectedCapacity);
+    }
+
+    protected static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
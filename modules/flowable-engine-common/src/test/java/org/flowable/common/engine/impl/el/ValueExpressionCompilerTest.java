@@ -0,0 +1,196 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.common.engine.impl.de.odysseus.el.util.SimpleContext;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.junit.jupiter.api.Test;
+
+class ValueExpressionCompilerTest {
+
+    protected DefaultExpressionManager interpretingExpressionManager = new DefaultExpressionManager(null);
+    protected DefaultExpressionManager compilingExpressionManager = createCompilingExpressionManager();
+
+    @Test
+    void compiledExpressionsEvaluateLikeInterpretedExpressions() {
+        List<String> expressions = Arrays.asList(
+                "${amount}",
+                "${amount > 1000 && customer.type == 'gold' || priority >= 3}",
+                "${amount >= 1000 and priority lt 2}",
+                "${customer['type']}",
+                "${customer[typeKey]}",
+                "${order.total * 2 + 1}",
+                "${order.total / 4}",
+                "${order.total % 7 - 1}",
+                "${order.describe('express')}",
+                "${order.describe(priority)}",
+                "${order.multiply('3')}",
+                "${empty emptyList}",
+                "${not approved}",
+                "${-amount}",
+                "${approved ? 'yes' : 'no'}",
+                "Hello ${customer.type} customer with priority ${priority}",
+                "${1 + 2 * 3}",
+                "${'a' == 'a' && (2 > 1)}",
+                "${nullValue.type}",
+                "${nullValue.describe('x')}",
+                "${variableContainer.getVariable('amount')}"
+        );
+
+        for (String expression : expressions) {
+            Object interpretedValue = interpretingExpressionManager.createExpression(expression).getValue(createVariableContainer());
+            Object compiledValue = compilingExpressionManager.createExpression(expression).getValue(createVariableContainer());
+            assertThat(compiledValue).as(expression).isEqualTo(interpretedValue);
+        }
+    }
+
+    @Test
+    void compiledExpressionsFailLikeInterpretedExpressions() {
+        assertThatThrownBy(() -> compilingExpressionManager.createExpression("${unknown > 1}").getValue(createVariableContainer()))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Unknown property used in expression: ${unknown > 1}");
+
+        assertThatThrownBy(() -> compilingExpressionManager.createExpression("${order.unknown()}").getValue(createVariableContainer()))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Unknown method used in expression: ${order.unknown()}");
+    }
+
+    @Test
+    void overloadedMethodsAreResolvedForEachParameterType() {
+        Expression expression = compilingExpressionManager.createExpression("${order.describe(value)}");
+
+        VariableContainer variableContainer = createVariableContainer();
+        variableContainer.setVariable("value", "text");
+        assertThat(expression.getValue(variableContainer)).isEqualTo("string text");
+
+        variableContainer.setVariable("value", 42L);
+        assertThat(expression.getValue(variableContainer)).isEqualTo("number 42");
+
+        variableContainer.setVariable("value", "again");
+        assertThat(expression.getValue(variableContainer)).isEqualTo("string again");
+    }
+
+    @Test
+    void setValueIsDelegatedToTheInterpretedExpression() {
+        VariableContainer variableContainer = createVariableContainer();
+        compilingExpressionManager.createExpression("${amount}").setValue(5, variableContainer);
+
+        assertThat(variableContainer.getVariable("amount")).isEqualTo(5);
+    }
+
+    @Test
+    void compiledExpressionsOnlyEqualCompiledExpressions() {
+        ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl();
+        ValueExpression interpreted = expressionFactory.createValueExpression(new SimpleContext(), "${amount > 1}", Object.class);
+        ValueExpressionCompiler compiler = new ValueExpressionCompiler();
+        ValueExpression compiled = compiler.compile(interpreted);
+        ValueExpression otherCompiled = compiler.compile(expressionFactory.createValueExpression(new SimpleContext(), "${amount > 1}", Object.class));
+
+        assertThat(compiled).isInstanceOf(CompiledValueExpression.class);
+        assertThat(compiled).isEqualTo(otherCompiled);
+        assertThat(compiled).hasSameHashCodeAs(otherCompiled);
+        assertThat(compiled).isNotEqualTo(interpreted);
+        assertThat(interpreted).isNotEqualTo(compiled);
+    }
+
+    protected DefaultExpressionManager createCompilingExpressionManager() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(null);
+        expressionManager.setExpressionCompiler(new ValueExpressionCompiler());
+        return expressionManager;
+    }
+
+    protected VariableContainer createVariableContainer() {
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("type", "gold");
+
+        MapVariableContainer variableContainer = new MapVariableContainer();
+        variableContainer.setVariable("amount", 1500);
+        variableContainer.setVariable("priority", 2L);
+        variableContainer.setVariable("approved", true);
+        variableContainer.setVariable("customer", customer);
+        variableContainer.setVariable("typeKey", "type");
+        variableContainer.setVariable("order", new Order(21));
+        variableContainer.setVariable("emptyList", Collections.emptyList());
+        variableContainer.setVariable("nullValue", null);
+        return variableContainer;
+    }
+
+    public static class Order {
+
+        protected final long total;
+
+        public Order(long total) {
+            this.total = total;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public String describe(String value) {
+            return "string " + value;
+        }
+
+        public String describe(Long value) {
+            return "number " + value;
+        }
+
+        public long multiply(long factor) {
+            return total * factor;
+        }
+    }
+
+    protected static class MapVariableContainer implements VariableContainer {
+
+        protected final Map<String, Object> variables = new HashMap<>();
+
+        @Override
+        public boolean hasVariable(String variableName) {
+            return variables.containsKey(variableName);
+        }
+
+        @Override
+        public Object getVariable(String variableName) {
+            return variables.get(variableName);
+        }
+
+        @Override
+        public void setVariable(String variableName, Object variableValue) {
+            variables.put(variableName, variableValue);
+        }
+
+        @Override
+        public void setTransientVariable(String variableName, Object variableValue) {
+            variables.put(variableName, variableValue);
+        }
+
+        @Override
+        public String getTenantId() {
+            return null;
+        }
+    }
+
+}
@@ -42,6 +42,7 @@ import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.JobUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.VariablePrefetchUtil;
 import org.flowable.engine.interceptor.MigrationContext;
 import org.flowable.engine.logging.LogMDC;
 import org.flowable.job.api.Job;
@@ -146,6 +147,9 @@ public class ContinueProcessOperation extends AbstractOperation {
     protected void executeSynchronous(FlowNode flowNode) {
         CommandContextUtil.getActivityInstanceEntityManager(commandContext).recordActivityStart(execution);
 
+        // Fetch the variables the flow node declares to need, before the listeners and behavior read them
+        VariablePrefetchUtil.prefetchVariables(execution, flowNode);
+
         // Execution listener: event 'start'
         if (CollectionUtil.isNotEmpty(flowNode.getExecutionListeners())) {
             executeExecutionListeners(flowNode, ExecutionListener.EVENTNAME_START);
@@ -190,6 +194,7 @@ public class ContinueProcessOperation extends AbstractOperation {
     }
 
     protected void executeMultiInstanceSynchronous(FlowNode flowNode) {
+        VariablePrefetchUtil.prefetchVariables(execution, flowNode);
 
         // Execution listener: event 'start'
         if (CollectionUtil.isNotEmpty(flowNode.getExecutionListeners())) {
@@ -334,6 +339,10 @@ public class ContinueProcessOperation extends AbstractOperation {
         LOGGER.debug("Sequence flow '{}' encountered. Continuing process by following it using execution {}", sequenceFlow.getId(), execution.getId());
 
         execution.setActive(targetFlowElement instanceof FlowNode);
+        continueThroughTargetFlowElement();
+    }
+
+    protected void continueThroughTargetFlowElement() {
         agenda.planContinueProcessOperation(execution);
     }
 
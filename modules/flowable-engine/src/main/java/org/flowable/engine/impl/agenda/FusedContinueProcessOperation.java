@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.agenda;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * Continue process operation of the {@link FusedFlowableEngineAgenda}, which continues from a sequence flow
+ * into its target flow node with the same operation instance when nothing else is planned on the agenda.
+ */
+public class FusedContinueProcessOperation extends ContinueProcessOperation {
+
+    public FusedContinueProcessOperation(CommandContext commandContext, ExecutionEntity execution) {
+        super(commandContext, execution);
+    }
+
+    @Override
+    protected void continueThroughTargetFlowElement() {
+        if (agenda instanceof FusedFlowableEngineAgenda && ((FusedFlowableEngineAgenda) agenda).canContinueDirectly(execution)) {
+            ((FusedFlowableEngineAgenda) agenda).executeFusedOperation(this);
+        } else {
+            super.continueThroughTargetFlowElement();
+        }
+    }
+
+}
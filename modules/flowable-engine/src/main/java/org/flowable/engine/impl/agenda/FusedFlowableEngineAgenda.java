@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.agenda;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * {@link org.flowable.engine.FlowableEngineAgenda} that fuses the operations of straight-line sections of a process.
+ *
+ * Leaving a flow node normally takes three operations: taking the outgoing sequence flow, continuing through the sequence flow
+ * and continuing into the next flow node. When such an operation would be the only one on the agenda, it is the next one the
+ * command invoker would execute anyway, so it is executed directly (reusing the same operation instance when continuing from
+ * the sequence flow into the flow node). Operations are never fused when other operations are planned,
+ * which keeps the order of listeners, events and history identical to the {@link DefaultFlowableEngineAgenda}.
+ */
+public class FusedFlowableEngineAgenda extends DefaultFlowableEngineAgenda {
+
+    protected AgendaOperationRunner agendaOperationRunner;
+
+    public FusedFlowableEngineAgenda(CommandContext commandContext) {
+        super(commandContext);
+    }
+
+    @Override
+    public void planContinueProcessOperation(ExecutionEntity execution) {
+        planOperation(new FusedContinueProcessOperation(commandContext, execution), execution);
+    }
+
+    @Override
+    public void planTakeOutgoingSequenceFlowsOperation(ExecutionEntity execution, boolean evaluateConditions) {
+        planOperation(new FusedTakeOutgoingSequenceFlowsOperation(commandContext, execution, evaluateConditions), execution);
+    }
+
+    /**
+     * @return whether an operation on the given execution can continue directly instead of planning a new operation.
+     */
+    public boolean canContinueDirectly(ExecutionEntity execution) {
+        return operations.isEmpty() && futureOperations.isEmpty() && !execution.isEnded();
+    }
+
+    /**
+     * Executes the continue process operation that was planned for the given execution,
+     * when it is the only operation on the agenda.
+     */
+    public void executePlannedContinueProcessOperation(ExecutionEntity execution) {
+        if (operations.size() != 1 || !futureOperations.isEmpty() || execution.isEnded()) {
+            return;
+        }
+
+        Runnable operation = operations.peek();
+        if (operation instanceof FusedContinueProcessOperation && ((FusedContinueProcessOperation) operation).getExecution() == execution) {
+            operations.poll();
+            executeFusedOperation(operation);
+        }
+    }
+
+    /**
+     * Executes the given operation directly instead of planning it,
+     * through the {@link AgendaOperationRunner} like the operations executed by the command invoker.
+     */
+    public void executeFusedOperation(Runnable operation) {
+        getAgendaOperationRunner().executeOperation(commandContext, operation);
+    }
+
+    protected AgendaOperationRunner getAgendaOperationRunner() {
+        if (agendaOperationRunner == null) {
+            agendaOperationRunner = CommandContextUtil.getProcessEngineConfiguration(commandContext).getAgendaOperationRunner();
+        }
+        return agendaOperationRunner;
+    }
+
+}
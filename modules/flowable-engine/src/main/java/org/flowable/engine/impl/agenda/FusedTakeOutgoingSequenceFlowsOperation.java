@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.agenda;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * Take outgoing sequence flows operation of the {@link FusedFlowableEngineAgenda}, which directly executes
+ * the continuation through the outgoing sequence flow when that is the only operation it planned.
+ */
+public class FusedTakeOutgoingSequenceFlowsOperation extends TakeOutgoingSequenceFlowsOperation {
+
+    public FusedTakeOutgoingSequenceFlowsOperation(CommandContext commandContext, ExecutionEntity executionEntity, boolean evaluateConditions) {
+        super(commandContext, executionEntity, evaluateConditions);
+    }
+
+    @Override
+    public void run() {
+        super.run();
+
+        if (agenda instanceof FusedFlowableEngineAgenda) {
+            ((FusedFlowableEngineAgenda) agenda).executePlannedContinueProcessOperation(execution);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.agenda;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.jfr.AgendaOperationEvent;
+import org.flowable.common.engine.impl.jfr.FlightRecorderAgendaOperationRunner;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * {@link FlightRecorderAgendaOperationRunner} that adds the process definition key, process instance and tenant
+ * of the execution of an {@link AbstractOperation} to the recorded event.
+ */
+public class ProcessFlightRecorderAgendaOperationRunner extends FlightRecorderAgendaOperationRunner {
+
+    public ProcessFlightRecorderAgendaOperationRunner(AgendaOperationRunner delegate, String engine) {
+        super(delegate, engine);
+    }
+
+    @Override
+    protected void populateEvent(AgendaOperationEvent event, Runnable operation) {
+        if (operation instanceof AbstractOperation) {
+            ExecutionEntity execution = ((AbstractOperation) operation).getExecution();
+            if (execution != null) {
+                event.setProcessDefinitionKey(execution.getProcessDefinitionKey());
+                event.setProcessInstanceId(execution.getProcessInstanceId());
+                event.setTenantId(execution.getTenantId());
+            }
+        }
+    }
+
+}
@@ -25,6 +25,8 @@ import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ExecutionGraphUtil;
+import org.flowable.engine.impl.util.FlowNodeReachabilityIndex;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,12 +69,13 @@ public class InclusiveGatewayActivityBehavior extends GatewayActivityBehavior im
         lockFirstParentScope(execution);
 
         Collection<ExecutionEntity> allExecutions = executionEntityManager.findChildExecutionsByProcessInstanceId(execution.getProcessInstanceId());
+        FlowNodeReachabilityIndex reachabilityIndex = ProcessDefinitionUtil.getReachabilityIndex(execution.getProcessDefinitionId());
         Iterator<ExecutionEntity> executionIterator = allExecutions.iterator();
         boolean oneExecutionCanReachGatewayInstance = false;
         while (!oneExecutionCanReachGatewayInstance && executionIterator.hasNext()) {
             ExecutionEntity executionEntity = executionIterator.next();
             if (!executionEntity.getActivityId().equals(execution.getCurrentActivityId())) {
-                if (ExecutionGraphUtil.isReachable(execution.getProcessDefinitionId(), executionEntity.getActivityId(), execution.getCurrentActivityId())) {
+                if (ExecutionGraphUtil.isReachable(reachabilityIndex, execution.getProcessDefinitionId(), executionEntity.getActivityId(), execution.getCurrentActivityId())) {
                     //Now check if they are in the same "execution path"
                     if (executionEntity.getParentId().equals(execution.getParentId())) {
                         oneExecutionCanReachGatewayInstance = true;
@@ -27,6 +27,7 @@ import org.flowable.bpmn.model.StartEvent;
 import org.flowable.bpmn.model.SubProcess;
 import org.flowable.bpmn.model.UserTask;
 import org.flowable.bpmn.model.ValuedDataObject;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.repository.EngineDeployment;
@@ -38,6 +39,8 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.DynamicBpmnService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.bpmn.parser.BpmnModelSnapshotUtil;
+import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
@@ -71,6 +74,10 @@ public class BpmnDeployer implements EngineDeployer {
     public void deploy(EngineDeployment deployment, Map<String, Object> deploymentSettings) {
         LOGGER.debug("Processing deployment {}", deployment.getName());
 
+        if (deployment.isNew()) {
+            verifyNoBpmnModelSnapshotResources(deployment);
+        }
+
         // The ParsedDeployment represents the deployment, the process definitions, and the BPMN
         // resource, parse, and model associated with each process definition.
         ParsedDeployment parsedDeployment = parsedDeploymentBuilderFactory
@@ -85,6 +92,7 @@ public class BpmnDeployer implements EngineDeployer {
 
         createAndPersistNewDiagramsIfNeeded(parsedDeployment);
         setProcessDefinitionDiagramNames(parsedDeployment);
+        createAndPersistBpmnModelSnapshotsIfNeeded(parsedDeployment);
 
         if (deployment.isNew()) {
             if (!deploymentSettings.containsKey(DeploymentSettings.IS_DERIVED_DEPLOYMENT)) {
@@ -139,6 +147,50 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * BPMN model snapshots are always created by the engine. Deploying a resource with the name of a snapshot is rejected,
+     * as the model of such a resource would be used instead of the BPMN XML when the snapshots are enabled.
+     */
+    protected void verifyNoBpmnModelSnapshotResources(EngineDeployment deployment) {
+        if (deployment.getResources() == null) {
+            return;
+        }
+        for (EngineResource resource : deployment.getResources().values()) {
+            if (!resource.isGenerated() && resource.getName() != null && resource.getName().endsWith(BpmnModelSnapshotUtil.RESOURCE_SUFFIX)) {
+                throw new FlowableIllegalArgumentException("Resource " + resource.getName() + " can't be deployed, resources ending with "
+                        + BpmnModelSnapshotUtil.RESOURCE_SUFFIX + " are reserved for the BPMN model snapshots created by the engine");
+            }
+        }
+    }
+
+    /**
+     * Persists the snapshots of the BPMN models that were created while parsing a new deployment, as generated resources of the deployment.
+     * These are used instead of the XML when the deployment is parsed again after a cache miss.
+     */
+    protected void createAndPersistBpmnModelSnapshotsIfNeeded(ParsedDeployment parsedDeployment) {
+        final ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        final DeploymentEntity deploymentEntity = parsedDeployment.getDeployment();
+        if (!processEngineConfiguration.isBpmnModelSnapshotEnabled() || !deploymentEntity.isNew()) {
+            return;
+        }
+
+        final ResourceEntityManager resourceEntityManager = processEngineConfiguration.getResourceEntityManager();
+
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            BpmnParse bpmnParse = parsedDeployment.getBpmnParseForProcessDefinition(processDefinition);
+            String snapshotResourceName = BpmnModelSnapshotUtil.getSnapshotResourceName(parsedDeployment.getResourceForProcessDefinition(processDefinition).getName());
+            if (bpmnParse.getBpmnModelSnapshot() != null && !deploymentEntity.getResources().containsKey(snapshotResourceName)) {
+                ResourceEntity resource = resourceEntityManager.create();
+                resource.setName(snapshotResourceName);
+                resource.setBytes(bpmnParse.getBpmnModelSnapshot());
+                resource.setDeploymentId(deploymentEntity.getId());
+                resource.setGenerated(true);
+                resourceEntityManager.insert(resource, false);
+                deploymentEntity.addResource(resource);
+            }
+        }
+    }
+
     /**
      * Updates all the process definition entities to have the correct diagram resource name. Must be called after createAndPersistNewDiagramsAsNeeded to ensure that any newly-created diagrams already
      * have their resources attached to the deployment.
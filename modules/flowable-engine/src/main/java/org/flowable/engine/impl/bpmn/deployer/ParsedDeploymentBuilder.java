@@ -20,11 +20,14 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
+import org.flowable.engine.impl.bpmn.parser.BpmnModelSnapshotUtil;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +78,20 @@ public class ParsedDeploymentBuilder {
                 .deployment(deployment)
                 .name(resourceName);
 
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (processEngineConfiguration != null && processEngineConfiguration.isBpmnModelSnapshotEnabled()) {
+            bpmnParse.bpmnModelSnapshotXml(resource.getBytes());
+            if (deployment.isNew()) {
+                bpmnParse.setCreateBpmnModelSnapshot(true);
+            } else {
+                // Only snapshots created by the engine are used, see BpmnDeployer#verifyNoBpmnModelSnapshotResources
+                EngineResource snapshotResource = deployment.getResources().get(BpmnModelSnapshotUtil.getSnapshotResourceName(resourceName));
+                if (snapshotResource != null && snapshotResource.isGenerated()) {
+                    bpmnParse.bpmnModelSnapshot(snapshotResource.getBytes());
+                }
+            }
+        }
+
         if (deploymentSettings != null) {
 
             // Schema validation if needed
@@ -0,0 +1,152 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.ProcessEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates and reads binary snapshots of a {@link BpmnModel}, as it is right after the conversion from XML.
+ * A snapshot is stored as a generated resource next to the BPMN resource of a deployment, so that redeploying the deployment
+ * after a process definition cache miss can rebuild the model without parsing (and validating) the XML again.
+ *
+ * A snapshot starts with a format version, the engine version that wrote it and the SHA-256 hash of the XML it was created from.
+ * Snapshots written by another engine version (the model classes might have changed) or for other XML are ignored,
+ * in which case the XML is parsed instead. Only the model classes and the JDK types used by the model are deserialized.
+ */
+public class BpmnModelSnapshotUtil {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnModelSnapshotUtil.class);
+
+    public static final String RESOURCE_SUFFIX = ".bpmnsnapshot";
+
+    protected static final int MAGIC = 0x46424d53; // FBMS
+    protected static final int FORMAT_VERSION = 2;
+
+    protected static final Set<String> ALLOWED_JDK_CLASS_NAMES = new HashSet<>(Arrays.asList(
+            "java.lang.Boolean", "java.lang.Double", "java.lang.Enum", "java.lang.Integer", "java.lang.Long", "java.lang.Number", "java.lang.String",
+            "java.util.ArrayList", "java.util.Date", "java.util.HashMap", "java.util.HashSet", "java.util.LinkedHashMap"));
+
+    public static String getSnapshotResourceName(String bpmnResourceName) {
+        return bpmnResourceName + RESOURCE_SUFFIX;
+    }
+
+    /**
+     * @param bpmnXml the XML the model was converted from, the snapshot can only be read together with the same XML
+     * @return the snapshot of the model, or null if the model can't be serialized (e.g. a data object with a value that isn't serializable)
+     */
+    public static byte[] createSnapshot(BpmnModel bpmnModel, byte[] bpmnXml) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(ProcessEngine.VERSION);
+
+            byte[] xmlHash = hash(bpmnXml);
+            out.writeInt(xmlHash.length);
+            out.write(xmlHash);
+
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(out);
+            objectOutputStream.writeObject(bpmnModel);
+            objectOutputStream.flush();
+
+        } catch (IOException e) {
+            LOGGER.warn("Could not create snapshot of BPMN model {}, the XML will be parsed when the model is needed again", bpmnModel.getSourceSystemId(), e);
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param bpmnXml the XML the model is needed for
+     * @return the model of the snapshot, or null if the snapshot was written by another engine version, was created from other XML or can't be read
+     */
+    public static BpmnModel readSnapshot(byte[] snapshot, byte[] bpmnXml) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+
+            String engineVersion = in.readUTF();
+            if (!ProcessEngine.VERSION.equals(engineVersion)) {
+                LOGGER.debug("Ignoring BPMN model snapshot of engine version {}", engineVersion);
+                return null;
+            }
+
+            byte[] xmlHash = new byte[in.readInt()];
+            in.readFully(xmlHash);
+            if (!MessageDigest.isEqual(xmlHash, hash(bpmnXml))) {
+                LOGGER.debug("Ignoring BPMN model snapshot that was not created from the given XML");
+                return null;
+            }
+
+            return (BpmnModel) new BpmnModelObjectInputStream(in).readObject();
+
+        } catch (IOException | ClassNotFoundException | ClassCastException | NegativeArraySizeException e) {
+            LOGGER.warn("Could not read BPMN model snapshot, the XML will be parsed instead", e);
+            return null;
+        }
+    }
+
+    protected static byte[] hash(byte[] bpmnXml) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bpmnXml);
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowableException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Only resolves the classes that can be part of a {@link BpmnModel}.
+     */
+    protected static class BpmnModelObjectInputStream extends ObjectInputStream {
+
+        public BpmnModelObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String className = desc.getName();
+            if (!className.startsWith("org.flowable.bpmn.model.") && !ALLOWED_JDK_CLASS_NAMES.contains(className)) {
+                throw new InvalidClassException(className, "class is not allowed in a BPMN model snapshot");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("proxy classes are not allowed in a BPMN model snapshot");
+        }
+    }
+
+}
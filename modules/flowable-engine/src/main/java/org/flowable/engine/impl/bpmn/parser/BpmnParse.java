@@ -85,6 +85,15 @@ public class BpmnParse implements BpmnXMLConstants {
 
     protected BpmnModel bpmnModel;
 
+    /** Snapshot to rebuild the model from instead of parsing the XML, see {@link BpmnModelSnapshotUtil}. */
+    protected byte[] bpmnModelSnapshot;
+
+    /** The XML the snapshot belongs to, a snapshot is only used and created when this is set. */
+    protected byte[] bpmnModelSnapshotXml;
+
+    /** Whether a snapshot of the model should be created after the XML is parsed. */
+    protected boolean createBpmnModelSnapshot;
+
     protected String targetNamespace;
 
     /** The deployment to which the parsed process definitions will be added. */
@@ -144,10 +153,17 @@ public class BpmnParse implements BpmnXMLConstants {
                 encoding = processEngineConfiguration.getXmlEncoding();
             }
 
-            if (encoding != null) {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
+            BpmnModel snapshotBpmnModel = bpmnModelSnapshot != null && bpmnModelSnapshotXml != null
+                    ? BpmnModelSnapshotUtil.readSnapshot(bpmnModelSnapshot, bpmnModelSnapshotXml) : null;
+            boolean parsedFromXml = snapshotBpmnModel == null;
+            if (snapshotBpmnModel != null) {
+                bpmnModel = snapshotBpmnModel;
             } else {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
+                if (encoding != null) {
+                    bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
+                } else {
+                    bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
+                }
             }
 
             // XSD validation goes first, then process/semantic validation
@@ -186,6 +202,11 @@ public class BpmnParse implements BpmnXMLConstants {
                 }
             }
 
+            if (parsedFromXml && createBpmnModelSnapshot && bpmnModelSnapshotXml != null) {
+                // Taken before the parse handlers attach the behaviors, which are rebuilt from the snapshot
+                bpmnModelSnapshot = BpmnModelSnapshotUtil.createSnapshot(bpmnModel, bpmnModelSnapshotXml);
+            }
+
             bpmnModel.setSourceSystemId(sourceSystemId);
             bpmnModel.setEventSupport(new FlowableEventSupport());
 
@@ -466,6 +487,28 @@ public class BpmnParse implements BpmnXMLConstants {
         this.bpmnModel = bpmnModel;
     }
 
+    public BpmnParse bpmnModelSnapshot(byte[] bpmnModelSnapshot) {
+        this.bpmnModelSnapshot = bpmnModelSnapshot;
+        return this;
+    }
+
+    public BpmnParse bpmnModelSnapshotXml(byte[] bpmnModelSnapshotXml) {
+        this.bpmnModelSnapshotXml = bpmnModelSnapshotXml;
+        return this;
+    }
+
+    public byte[] getBpmnModelSnapshot() {
+        return bpmnModelSnapshot;
+    }
+
+    public boolean isCreateBpmnModelSnapshot() {
+        return createBpmnModelSnapshot;
+    }
+
+    public void setCreateBpmnModelSnapshot(boolean createBpmnModelSnapshot) {
+        this.createBpmnModelSnapshot = createBpmnModelSnapshot;
+    }
+
     public ActivityBehaviorFactory getActivityBehaviorFactory() {
         return activityBehaviorFactory;
     }
@@ -50,6 +50,7 @@ import org.flowable.common.engine.impl.HasExpressionManagerEngineConfiguration;
 import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
 import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
@@ -63,6 +64,7 @@ import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
+import org.flowable.common.engine.impl.el.ValueExpressionCompiler;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsAnyExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsExpressionFunction;
@@ -146,6 +148,8 @@ import org.flowable.engine.impl.SchemaOperationsProcessEngineBuild;
 import org.flowable.engine.impl.TaskServiceImpl;
 import org.flowable.engine.impl.agenda.AgendaSessionFactory;
 import org.flowable.engine.impl.agenda.DefaultFlowableEngineAgendaFactory;
+import org.flowable.engine.impl.agenda.FusedFlowableEngineAgendaFactory;
+import org.flowable.engine.impl.agenda.ProcessFlightRecorderAgendaOperationRunner;
 import org.flowable.engine.impl.app.AppDeployer;
 import org.flowable.engine.impl.app.AppResourceConverterImpl;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
@@ -365,6 +369,7 @@ import org.flowable.entitylink.service.impl.db.EntityLinkDbSchemaManager;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.db.EventSubscriptionDbSchemaManager;
 import org.flowable.form.api.FormFieldHandler;
 import org.flowable.identitylink.service.IdentityLinkEventHandler;
@@ -514,6 +519,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected boolean isAsyncHistoryEnabled;
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
+    // Grouped history jobs are written in a compact binary format instead of json (takes precedence over gzip compression)
+    protected boolean isAsyncHistoryCompactFormatEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
@@ -652,6 +659,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected ThreadFactory asyncExecutorThreadFactory;
 
+    /**
+     * Whether the async task executor runs every job on its own virtual thread (JDK 21+), instead of on the thread pool.
+     * The pool and queue settings are then ignored and the number of jobs in flight is limited by {@link #asyncExecutorMaxConcurrentTasks}.
+     * Default false.
+     */
+    protected boolean asyncExecutorUseVirtualThreads;
+
+    /**
+     * The maximum number of jobs executed at the same time when {@link #asyncExecutorUseVirtualThreads} is enabled. Default 1024.
+     */
+    protected int asyncExecutorMaxConcurrentTasks = 1024;
+
     /**
      * The number of timer jobs that are acquired during one query (before a job is executed, an acquirement thread fetches jobs from the database and puts them on the queue).
      *
@@ -692,6 +711,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime = 5 * 1000;
 
+    /**
+     * Whether the async job and timer job acquisition threads adapt the number of acquired jobs and the wait time between acquisitions
+     * to the outcome of the previous acquisitions (full, partial or empty batches, optimistic locking failures and a full queue).
+     * The max jobs per acquisition and acquire wait times are then used as the upper bound of the batch size and the first idle wait time.
+     * By default false.
+     */
+    protected boolean asyncExecutorAdaptiveAcquisitionEnabled;
+
+    /**
+     * Whether an async job that is created (and already locked) by this node is executed from the inserted job entity after the transaction commits,
+     * instead of being fetched again from the database by the async executor thread. By default false.
+     */
+    protected boolean asyncExecutorJobHandOffEnabled;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it. While doing this, the 'name' of the lock owner is written into a column of the job.
      * <p>
@@ -787,10 +820,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryExecutorAsyncJobLockTimeInMillis = 60 * 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsInterval = 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsPageSize = 3;
+
+    // When larger than 1, the history jobs are executed in batches of this size by a dedicated writer thread of the async history executor.
+    // The history jobs stay the durable record: a job that can't be buffered or whose batch fails is executed on its own.
+    protected int asyncHistoryExecutorBatchSize = 1;
+    protected int asyncHistoryExecutorBatchQueueSize = 2048;
     protected boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
 
     protected List<String> enabledJobCategories;
+
+    /**
+     * The number of shards the async jobs are divided in. When larger than 0, the async executors of the different nodes
+     * divide the shards among each other and each node only acquires the jobs of its own shards (unless the global acquire lock is used).
+     * Disabled (0) by default.
+     */
+    protected int jobShardCount;
     protected String jobExecutionScope;
     protected String historyJobExecutionScope;
     
@@ -856,6 +901,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      * <p>
      * And the changes to the java object will be reflected in the database. Otherwise, a manual call to setVariable will be needed.
      * <p>
+     * Tracking needs the original bytes of the variable, so tracked variables are read into memory before they are deserialized.
+     * When false, runtime serializable variables are deserialized straight from the database stream.
+     * <p>
      * By default true for backwards compatibility.
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
@@ -889,6 +937,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    /**
+     * Whether expressions are compiled into a tree of nodes with resolved operators and folded constants
+     * instead of being interpreted from their JUEL parse tree on every evaluation. See {@link ValueExpressionCompiler}.
+     */
+    protected boolean expressionCompilerEnabled;
 
     protected BusinessCalendarManager businessCalendarManager;
 
@@ -918,6 +971,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected EventRegistryEventConsumer eventRegistryEventConsumer;
 
+    /**
+     * Keeps a node-local index of the event subscriptions, so that events from the event registry for which no event subscription exists
+     * are ignored without querying the database. The index is reconciled with the database at the given interval, which also picks up
+     * the event subscriptions created by other nodes: in a cluster, events can be missed in between for subscriptions created on another node.
+     */
+    protected boolean enableEventSubscriptionCorrelationIndex;
+    protected long eventSubscriptionCorrelationIndexReconciliationIntervalInMs = 300000L;
+
     /**
      * Set this to true if you want to have extra checks on the BPMN xml that is parsed. See http://www.jorambarrez.be/blog/2013/02/19/uploading-a-funny-xml -can-bring-down-your-server/
      * <p>
@@ -926,6 +987,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean enableSafeBpmnXml;
 
+    /**
+     * Set this to true to store a binary snapshot of each parsed BPMN model as a generated resource of new deployments.
+     * When a process definition is no longer in the cache, the model is then rebuilt from the snapshot instead of parsing the XML again.
+     * Snapshots written by another engine version are ignored.
+     */
+    protected boolean bpmnModelSnapshotEnabled;
+
     /**
      * The following settings will determine the amount of entities loaded at once when the engine needs to load multiple entities (eg. when suspending a process definition with all its process
      * instances).
@@ -962,6 +1030,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     // agenda factory
     protected FlowableEngineAgendaFactory agendaFactory;
+    // When true and no agenda factory is set, straight-line operations are fused on the agenda (see FusedFlowableEngineAgenda)
+    protected boolean agendaOperationFusionEnabled;
 
     protected SchemaManager identityLinkSchemaManager;
     protected SchemaManager entityLinkSchemaManager;
@@ -1109,6 +1179,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initJobServiceConfiguration();
         initBatchServiceConfiguration();
         initAsyncExecutor();
+        initEventSubscriptionCorrelationIndexTaskExecutor();
         initAsyncHistoryExecutor();
 
         configuratorsAfterInit();
@@ -1142,6 +1213,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     @Override
     public void initCommandInvoker() {
+        initFlightRecorderAgendaOperationRunner();
         if (commandInvoker == null) {
             if (enableVerboseExecutionTreeLogging) {
                 this.commandInvoker = new LoggingExecutionTreeCommandInvoker(agendaOperationRunner);
@@ -1152,6 +1224,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    @Override
+    protected AgendaOperationRunner createFlightRecorderAgendaOperationRunner(AgendaOperationRunner agendaOperationRunner) {
+        return new ProcessFlightRecorderAgendaOperationRunner(agendaOperationRunner, getEngineScopeType());
+    }
+
     @Override
     public String getEngineCfgKey() {
         return EngineConfigurationConstants.KEY_PROCESS_ENGINE_CONFIG;
@@ -1589,12 +1666,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.eventSubscriptionServiceConfiguration.setIdGenerator(this.idGenerator);
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+        this.eventSubscriptionServiceConfiguration.setEnableCorrelationIndex(this.enableEventSubscriptionCorrelationIndex);
+        this.eventSubscriptionServiceConfiguration.setCorrelationIndexReconciliationIntervalInMs(this.eventSubscriptionCorrelationIndexReconciliationIntervalInMs);
         
         this.eventSubscriptionServiceConfiguration.init();
         
         addServiceConfiguration(EngineConfigurationConstants.KEY_EVENT_SUBSCRIPTION_SERVICE_CONFIG, this.eventSubscriptionServiceConfiguration);
     }
     
+    public void initEventSubscriptionCorrelationIndexTaskExecutor() {
+        EventSubscriptionCorrelationIndex correlationIndex = eventSubscriptionServiceConfiguration.getCorrelationIndex();
+        if (correlationIndex != null && correlationIndex.getReconciliationTaskExecutor() == null) {
+            // Reconciling on the async task executor, instead of on the thread that handles an event
+            correlationIndex.setReconciliationTaskExecutor(asyncTaskExecutor);
+        }
+    }
+
     protected EventSubscriptionServiceConfiguration instantiateEventSubscriptionServiceConfiguration() {
         return new EventSubscriptionServiceConfiguration(ScopeTypes.BPMN);
     }
@@ -1684,6 +1771,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setAsyncExecutorJobHandOffEnabled(this.asyncExecutorJobHandOffEnabled);
+            this.jobServiceConfiguration.setFlightRecorderEventsEnabled(isFlightRecorderEventsActive());
 
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1705,6 +1794,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             jobServiceConfiguration.setJobTypeAsyncHistory(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             jobServiceConfiguration.setJobTypeAsyncHistoryZipped(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
+            jobServiceConfiguration.setAsyncHistoryCompactFormatEnabled(isAsyncHistoryCompactFormatEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
 
@@ -1718,6 +1808,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
             }
+
+            this.jobServiceConfiguration.setJobShardCount(this.jobShardCount);
         }
     }
 
@@ -1822,11 +1914,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
-            }
+            processDefinitionCache = createDeploymentCache("processDefinition", processDefinitionCacheLimit);
         }
     }
 
@@ -1842,21 +1930,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAppResourceCache() {
         if (appResourceCache == null) {
-            if (appResourceCacheLimit <= 0) {
-                appResourceCache = new DefaultDeploymentCache<>();
-            } else {
-                appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
-            }
+            appResourceCache = createDeploymentCache("appResource", appResourceCacheLimit);
         }
     }
 
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
-            if (knowledgeBaseCacheLimit <= 0) {
-                knowledgeBaseCache = new DefaultDeploymentCache<>();
-            } else {
-                knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
-            }
+            knowledgeBaseCache = createDeploymentCache("knowledgeBase", knowledgeBaseCacheLimit);
         }
     }
 
@@ -2229,6 +2309,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             defaultAsyncTaskExecutor.setThreadFactory(asyncExecutorThreadFactory);
 
+            // Virtual threads
+            defaultAsyncTaskExecutor.setUseVirtualThreads(asyncExecutorUseVirtualThreads);
+            defaultAsyncTaskExecutor.setMaxConcurrentTasks(asyncExecutorMaxConcurrentTasks);
+
             // Core thread timeout
             defaultAsyncTaskExecutor.setAllowCoreThreadTimeout(asyncExecutorAllowCoreThreadTimeout);
 
@@ -2272,6 +2356,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
+            defaultAsyncExecutor.setAdaptiveAcquisitionEnabled(asyncExecutorAdaptiveAcquisitionEnabled);
 
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
@@ -2364,6 +2449,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 defaultAsyncHistoryExecutor.setResetExpiredJobsInterval(asyncHistoryExecutorResetExpiredJobsInterval);
                 defaultAsyncHistoryExecutor.setResetExpiredJobsPageSize(asyncHistoryExecutorResetExpiredJobsPageSize);
 
+                // Batch writing
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorBatchSize);
+                defaultAsyncHistoryExecutor.setHistoryJobBatchQueueSize(asyncHistoryExecutorBatchQueueSize);
+
                 asyncHistoryExecutor = defaultAsyncHistoryExecutor;
 
                 if (asyncHistoryExecutor.getJobServiceConfiguration() == null) {
@@ -2575,6 +2664,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
+            if (expressionCompilerEnabled) {
+                processExpressionManager.setExpressionCompiler(new ValueExpressionCompiler());
+            }
+
             if (preDefaultELResolvers != null) {
                 preDefaultELResolvers.forEach(processExpressionManager::addPreDefaultResolver);
             }
@@ -2606,7 +2699,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAgendaFactory() {
         if (this.agendaFactory == null) {
-            this.agendaFactory = new DefaultFlowableEngineAgendaFactory();
+            if (agendaOperationFusionEnabled) {
+                this.agendaFactory = new FusedFlowableEngineAgendaFactory();
+            } else {
+                this.agendaFactory = new DefaultFlowableEngineAgendaFactory();
+            }
         }
     }
 
@@ -2797,6 +2894,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public void close() {
         super.close();
 
+        if (idGenerator instanceof DbIdGenerator) {
+            ((DbIdGenerator) idGenerator).shutdown();
+        }
+
         if (asyncTaskExecutor != null && shutdownAsyncTaskExecutor) {
             // Only shutdown if it was created by this configuration
             asyncTaskExecutor.shutdown();
@@ -3456,6 +3557,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isExpressionCompilerEnabled() {
+        return expressionCompilerEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setExpressionCompilerEnabled(boolean expressionCompilerEnabled) {
+        this.expressionCompilerEnabled = expressionCompilerEnabled;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3578,6 +3688,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAgendaOperationFusionEnabled() {
+        return agendaOperationFusionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAgendaOperationFusionEnabled(boolean agendaOperationFusionEnabled) {
+        this.agendaOperationFusionEnabled = agendaOperationFusionEnabled;
+        return this;
+    }
+
     public Map<String, JobHandler> getJobHandlers() {
         return jobHandlers;
     }
@@ -3947,6 +4066,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isBpmnModelSnapshotEnabled() {
+        return bpmnModelSnapshotEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setBpmnModelSnapshotEnabled(boolean bpmnModelSnapshotEnabled) {
+        this.bpmnModelSnapshotEnabled = bpmnModelSnapshotEnabled;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setEventDispatcher(FlowableEventDispatcher eventDispatcher) {
         this.eventDispatcher = eventDispatcher;
@@ -4007,6 +4135,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableEventSubscriptionCorrelationIndex() {
+        return enableEventSubscriptionCorrelationIndex;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableEventSubscriptionCorrelationIndex(boolean enableEventSubscriptionCorrelationIndex) {
+        this.enableEventSubscriptionCorrelationIndex = enableEventSubscriptionCorrelationIndex;
+        return this;
+    }
+
+    public long getEventSubscriptionCorrelationIndexReconciliationIntervalInMs() {
+        return eventSubscriptionCorrelationIndexReconciliationIntervalInMs;
+    }
+
+    public ProcessEngineConfigurationImpl setEventSubscriptionCorrelationIndexReconciliationIntervalInMs(long eventSubscriptionCorrelationIndexReconciliationIntervalInMs) {
+        this.eventSubscriptionCorrelationIndexReconciliationIntervalInMs = eventSubscriptionCorrelationIndexReconciliationIntervalInMs;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
@@ -4413,6 +4559,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncHistoryCompactFormatEnabled() {
+        return isAsyncHistoryCompactFormatEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryCompactFormatEnabled(boolean isAsyncHistoryCompactFormatEnabled) {
+        this.isAsyncHistoryCompactFormatEnabled = isAsyncHistoryCompactFormatEnabled;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
@@ -4859,6 +5014,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return asyncExecutorUseVirtualThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorUseVirtualThreads(boolean asyncExecutorUseVirtualThreads) {
+        this.asyncExecutorUseVirtualThreads = asyncExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentTasks() {
+        return asyncExecutorMaxConcurrentTasks;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentTasks(int asyncExecutorMaxConcurrentTasks) {
+        this.asyncExecutorMaxConcurrentTasks = asyncExecutorMaxConcurrentTasks;
+        return this;
+    }
+
     public int getAsyncExecutorMaxTimerJobsPerAcquisition() {
         return asyncExecutorMaxTimerJobsPerAcquisition;
     }
@@ -4904,6 +5077,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveAcquisitionEnabled() {
+        return asyncExecutorAdaptiveAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveAcquisitionEnabled(boolean asyncExecutorAdaptiveAcquisitionEnabled) {
+        this.asyncExecutorAdaptiveAcquisitionEnabled = asyncExecutorAdaptiveAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorJobHandOffEnabled() {
+        return asyncExecutorJobHandOffEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobHandOffEnabled(boolean asyncExecutorJobHandOffEnabled) {
+        this.asyncExecutorJobHandOffEnabled = asyncExecutorJobHandOffEnabled;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -5012,6 +5203,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getJobShardCount() {
+        return jobShardCount;
+    }
+
+    public ProcessEngineConfigurationImpl setJobShardCount(int jobShardCount) {
+        this.jobShardCount = jobShardCount;
+        return this;
+    }
+
     public String getJobExecutionScope() {
         return jobExecutionScope;
     }
@@ -5147,6 +5347,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncHistoryExecutorBatchSize() {
+        return asyncHistoryExecutorBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorBatchSize(int asyncHistoryExecutorBatchSize) {
+        this.asyncHistoryExecutorBatchSize = asyncHistoryExecutorBatchSize;
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorBatchQueueSize() {
+        return asyncHistoryExecutorBatchQueueSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorBatchQueueSize(int asyncHistoryExecutorBatchQueueSize) {
+        this.asyncHistoryExecutorBatchQueueSize = asyncHistoryExecutorBatchQueueSize;
+        return this;
+    }
+
     public boolean isAsyncExecutorMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -13,37 +13,192 @@
 
 package org.flowable.engine.impl.db;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.IdBlock;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
+ * Hands out ids from blocks that are reserved in the database (the 'next.dbid' property).
+ * 
+ * Ids are taken from the current block without locking. Only when a block is used up, a new block is taken,
+ * which is done by one thread while the others wait for it.
+ * 
+ * Optionally (see {@link #setPrefetchEnabled(boolean)}) the next block is fetched in the background before the current block is used up,
+ * so that getting a new block normally doesn't happen on the thread that needs the id.
+ * When {@link #setMaxIdBlockSize(int)} is bigger than the {@link #setIdBlockSize(int) id block size}, the size of the blocks
+ * adapts to the consumption rate: it is doubled when a block was used up faster than {@link #setTargetIdBlockDurationMillis(long)}
+ * and halved (but never below the id block size) when it took more than four times that duration.
+ * 
  * @author Tom Baeyens
  */
 public class DbIdGenerator implements IdGenerator {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbIdGenerator.class);
+
     protected int idBlockSize;
-    protected long nextId;
-    protected long lastId = -1;
+    protected int maxIdBlockSize;
+    protected long targetIdBlockDurationMillis = 5000L;
+
+    protected boolean prefetchEnabled;
+    protected double prefetchThreshold = 0.25;
+    protected ExecutorService prefetchExecutor;
+    protected boolean shutdownPrefetchExecutor;
 
     protected CommandExecutor commandExecutor;
     protected CommandConfig commandConfig;
 
+    protected volatile IdRange currentRange = new IdRange(0, -1, 0, 0);
+    protected volatile int currentIdBlockSize;
+    protected final ReentrantLock newBlockLock = new ReentrantLock();
+    protected final AtomicReference<CompletableFuture<IdBlock>> prefetchedBlock = new AtomicReference<>();
+
+    // metrics
+    protected final AtomicLong fetchedIdBlockCount = new AtomicLong();
+    protected final AtomicLong prefetchedIdBlockCount = new AtomicLong();
+    protected final AtomicLong blockingIdBlockFetchCount = new AtomicLong();
+    protected final AtomicLong blockingIdBlockFetchTimeNanos = new AtomicLong();
+
     @Override
-    public synchronized String getNextId() {
-        if (lastId < nextId) {
-            getNewBlock();
+    public String getNextId() {
+        while (true) {
+            IdRange range = currentRange;
+            long id = range.nextId.getAndIncrement();
+            if (id <= range.lastId) {
+                if (id == range.prefetchTriggerId) {
+                    prefetchNewBlock();
+                }
+                return Long.toString(id);
+            }
+
+            getNewBlock(range);
+        }
+    }
+
+    /**
+     * Replaces the exhausted range with a new one. Only one thread does this: the other threads that ran out of ids
+     * wait on the lock and will see the new range afterwards.
+     */
+    protected void getNewBlock(IdRange exhaustedRange) {
+        newBlockLock.lock();
+        try {
+            if (currentRange != exhaustedRange) {
+                return; // another thread already got a new block
+            }
+
+            IdBlock idBlock = takePrefetchedBlock();
+            if (idBlock == null) {
+                long start = System.nanoTime();
+                idBlock = fetchIdBlock(getCurrentIdBlockSize());
+                blockingIdBlockFetchCount.incrementAndGet();
+                blockingIdBlockFetchTimeNanos.addAndGet(System.nanoTime() - start);
+            }
+
+            if (exhaustedRange.lastId >= 0) {
+                adaptIdBlockSize(exhaustedRange);
+            }
+
+            long nrOfIds = idBlock.getLastId() - idBlock.getNextId() + 1;
+            long prefetchTriggerId = prefetchEnabled ? idBlock.getLastId() - (long) (nrOfIds * prefetchThreshold) : Long.MIN_VALUE;
+            currentRange = new IdRange(idBlock.getNextId(), idBlock.getLastId(), prefetchTriggerId, System.nanoTime());
+
+        } finally {
+            newBlockLock.unlock();
+        }
+    }
+
+    protected IdBlock fetchIdBlock(int size) {
+        IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(size));
+        fetchedIdBlockCount.incrementAndGet();
+        return idBlock;
+    }
+
+    protected void prefetchNewBlock() {
+        CompletableFuture<IdBlock> future = new CompletableFuture<>();
+        if (!prefetchedBlock.compareAndSet(null, future)) {
+            return; // a prefetch is already pending
+        }
+
+        int size = getCurrentIdBlockSize();
+        try {
+            ensurePrefetchExecutor().execute(() -> {
+                try {
+                    future.complete(fetchIdBlock(size));
+                    prefetchedIdBlockCount.incrementAndGet();
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not schedule prefetch of id block", e);
+            future.completeExceptionally(e);
+        }
+    }
+
+    protected IdBlock takePrefetchedBlock() {
+        CompletableFuture<IdBlock> future = prefetchedBlock.getAndSet(null);
+        if (future == null) {
+            return null;
+        }
+
+        try {
+            return future.join();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Prefetching of id block failed, fetching a new block instead", e);
+            return null;
+        }
+    }
+
+    protected void adaptIdBlockSize(IdRange exhaustedRange) {
+        if (maxIdBlockSize <= idBlockSize) {
+            return;
+        }
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - exhaustedRange.startNanoTime);
+        int size = getCurrentIdBlockSize();
+        if (durationMillis < targetIdBlockDurationMillis) {
+            currentIdBlockSize = (int) Math.min((long) size * 2, maxIdBlockSize);
+        } else if (durationMillis > 4 * targetIdBlockDurationMillis) {
+            currentIdBlockSize = Math.max(size / 2, idBlockSize);
+        }
+    }
+
+    protected ExecutorService ensurePrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            synchronized (this) {
+                if (prefetchExecutor == null) {
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                            new BasicThreadFactory.Builder().namingPattern("flowable-id-block-prefetch-%d").daemon(true).build());
+                    executor.allowCoreThreadTimeOut(true);
+                    prefetchExecutor = executor;
+                    shutdownPrefetchExecutor = true;
+                }
+            }
         }
-        long _nextId = nextId++;
-        return Long.toString(_nextId);
+        return prefetchExecutor;
     }
 
-    protected synchronized void getNewBlock() {
-        IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
-        this.nextId = idBlock.getNextId();
-        this.lastId = idBlock.getLastId();
+    /**
+     * Stops the prefetch executor, in case it was created by this id generator.
+     */
+    public void shutdown() {
+        if (prefetchExecutor != null && shutdownPrefetchExecutor) {
+            prefetchExecutor.shutdownNow();
+            prefetchExecutor = null;
+        }
     }
 
     public int getIdBlockSize() {
@@ -54,6 +209,54 @@ public class DbIdGenerator implements IdGenerator {
         this.idBlockSize = idBlockSize;
     }
 
+    public int getCurrentIdBlockSize() {
+        return currentIdBlockSize > 0 ? currentIdBlockSize : idBlockSize;
+    }
+
+    public int getMaxIdBlockSize() {
+        return maxIdBlockSize;
+    }
+
+    public void setMaxIdBlockSize(int maxIdBlockSize) {
+        this.maxIdBlockSize = maxIdBlockSize;
+    }
+
+    public long getTargetIdBlockDurationMillis() {
+        return targetIdBlockDurationMillis;
+    }
+
+    public void setTargetIdBlockDurationMillis(long targetIdBlockDurationMillis) {
+        this.targetIdBlockDurationMillis = targetIdBlockDurationMillis;
+    }
+
+    public boolean isPrefetchEnabled() {
+        return prefetchEnabled;
+    }
+
+    public void setPrefetchEnabled(boolean prefetchEnabled) {
+        this.prefetchEnabled = prefetchEnabled;
+    }
+
+    public double getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    /**
+     * The fraction of the current block that is left when the next block is prefetched. Default 0.25.
+     */
+    public void setPrefetchThreshold(double prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    public ExecutorService getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
+    public void setPrefetchExecutor(ExecutorService prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+        this.shutdownPrefetchExecutor = false;
+    }
+
     public CommandExecutor getCommandExecutor() {
         return commandExecutor;
     }
@@ -69,4 +272,38 @@ public class DbIdGenerator implements IdGenerator {
     public void setCommandConfig(CommandConfig commandConfig) {
         this.commandConfig = commandConfig;
     }
+
+    public long getFetchedIdBlockCount() {
+        return fetchedIdBlockCount.get();
+    }
+
+    public long getPrefetchedIdBlockCount() {
+        return prefetchedIdBlockCount.get();
+    }
+
+    /**
+     * @return the number of times a thread asking for an id had to wait for a new block to be fetched from the database.
+     */
+    public long getBlockingIdBlockFetchCount() {
+        return blockingIdBlockFetchCount.get();
+    }
+
+    public long getBlockingIdBlockFetchTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(blockingIdBlockFetchTimeNanos.get());
+    }
+
+    protected static class IdRange {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+        protected final long prefetchTriggerId;
+        protected final long startNanoTime;
+
+        protected IdRange(long nextId, long lastId, long prefetchTriggerId, long startNanoTime) {
+            this.nextId = new AtomicLong(nextId);
+            this.lastId = lastId;
+            this.prefetchTriggerId = prefetchTriggerId;
+            this.startNanoTime = startNanoTime;
+        }
+    }
 }
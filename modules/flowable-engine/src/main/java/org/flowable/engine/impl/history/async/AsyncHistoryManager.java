@@ -352,7 +352,21 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
             
             putIfNotNull(data, HistoryJsonConstants.LAST_UPDATED_TIME, updateTime);
             
-            getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_UPDATED, data);
+            ObjectNode variableCreatedData = getVariableData(HistoryJsonConstants.TYPE_VARIABLE_CREATED, variable.getId(), false);
+            if (variableCreatedData != null) {
+                // The variable was created in the same transaction: the historic variable is created with the latest value right away
+                String createTime = getStringFromJson(variableCreatedData, HistoryJsonConstants.CREATE_TIME);
+                String timeStamp = getStringFromJson(variableCreatedData, AsyncHistorySession.TIMESTAMP);
+                variableCreatedData.removeAll();
+                variableCreatedData.setAll(data);
+                putIfNotNull(variableCreatedData, HistoryJsonConstants.CREATE_TIME, createTime);
+                putIfNotNull(variableCreatedData, AsyncHistorySession.TIMESTAMP, timeStamp);
+
+            } else {
+                // Only the latest update of the transaction needs to be applied
+                getVariableData(HistoryJsonConstants.TYPE_VARIABLE_UPDATED, variable.getId(), true);
+                getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_UPDATED, data);
+            }
         }
     }
 
@@ -369,7 +383,11 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
             putIfNotNull(data, HistoryJsonConstants.ID, variable.getId());
             putIfNotNull(data, HistoryJsonConstants.REVISION, variable.getRevision());
             
-            getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_REMOVED, data);
+            getVariableData(HistoryJsonConstants.TYPE_VARIABLE_UPDATED, variable.getId(), true);
+            if (getVariableData(HistoryJsonConstants.TYPE_VARIABLE_CREATED, variable.getId(), true) == null) {
+                // A variable that is created and removed in the same transaction never gets a historic variable
+                getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_REMOVED, data);
+            }
         }
     }
 
@@ -569,6 +587,29 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
         return null;
     }
 
+    protected ObjectNode getVariableData(String type, String variableId, boolean removeFromAsyncHistorySession) {
+        Map<JobServiceConfiguration, AsyncHistorySessionData> sessionData = getAsyncHistorySession().getSessionData();
+        if (sessionData != null && variableId != null) {
+            AsyncHistorySessionData asyncHistorySessionData = sessionData.get(getJobServiceConfiguration());
+            if (asyncHistorySessionData != null) {
+                Map<String, List<ObjectNode>> jobData = asyncHistorySessionData.getJobData();
+                if (jobData != null && jobData.containsKey(type)) {
+                    Iterator<ObjectNode> variableDataIterator = jobData.get(type).iterator();
+                    while (variableDataIterator.hasNext()) {
+                        ObjectNode variableData = variableDataIterator.next();
+                        if (variableId.equals(getStringFromJson(variableData, HistoryJsonConstants.ID))) {
+                            if (removeFromAsyncHistorySession) {
+                                variableDataIterator.remove();
+                            }
+                            return variableData;
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     protected JobServiceConfiguration getJobServiceConfiguration() {
         return getProcessEngineConfiguration().getJobServiceConfiguration();
     }
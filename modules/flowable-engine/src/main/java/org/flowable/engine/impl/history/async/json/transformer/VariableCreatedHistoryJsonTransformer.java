@@ -82,7 +82,10 @@ public class VariableCreatedHistoryJsonTransformer extends AbstractHistoryJsonTr
         
         Date time = getDateFromJson(historicalData, HistoryJsonConstants.CREATE_TIME);
         historicVariableInstanceEntity.setCreateTime(time);
-        historicVariableInstanceEntity.setLastUpdatedTime(time);
+
+        // Set when the variable was also updated in the transaction that created it
+        Date lastUpdatedTime = getDateFromJson(historicalData, HistoryJsonConstants.LAST_UPDATED_TIME);
+        historicVariableInstanceEntity.setLastUpdatedTime(lastUpdatedTime != null ? lastUpdatedTime : time);
 
         historicVariableService.insertHistoricVariableInstance(historicVariableInstanceEntity);
     }
@@ -16,6 +16,7 @@ import java.io.Serializable;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
+import org.flowable.engine.impl.util.FlowNodeReachabilityIndex;
 import org.flowable.engine.repository.ProcessDefinition;
 
 /**
@@ -28,11 +29,13 @@ public class ProcessDefinitionCacheEntry implements Serializable {
     protected ProcessDefinition processDefinition;
     protected BpmnModel bpmnModel;
     protected Process process;
+    protected FlowNodeReachabilityIndex reachabilityIndex;
 
     public ProcessDefinitionCacheEntry(ProcessDefinition processDefinition, BpmnModel bpmnModel, Process process) {
         this.processDefinition = processDefinition;
         this.bpmnModel = bpmnModel;
         this.process = process;
+        this.reachabilityIndex = FlowNodeReachabilityIndex.createIfNeeded(process);
     }
 
     public ProcessDefinition getProcessDefinition() {
@@ -59,4 +62,15 @@ public class ProcessDefinitionCacheEntry implements Serializable {
         this.process = process;
     }
 
+    /**
+     * @return the reachability of the flow nodes of the process, or null when the process has no inclusive gateway
+     */
+    public FlowNodeReachabilityIndex getReachabilityIndex() {
+        return reachabilityIndex;
+    }
+
+    public void setReachabilityIndex(FlowNodeReachabilityIndex reachabilityIndex) {
+        this.reachabilityIndex = reachabilityIndex;
+    }
+
 }
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity;
 
 import static java.util.Comparator.comparing;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
@@ -146,6 +147,11 @@ public interface ExecutionEntity extends DelegateExecution, Execution, ProcessIn
     
     Object setVariableLocal(String variableName, Object value, ExecutionEntity sourceExecution, boolean fetchAllVariables);
 
+    /**
+     * Fetches the given variables of this execution and its parents with one query per scope, instead of loading all variables on first access.
+     */
+    void prefetchVariables(Collection<String> variableNames);
+
     FlowElement getOriginatingCurrentFlowElement();
     
     void setOriginatingCurrentFlowElement(FlowElement flowElement);
@@ -282,7 +282,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateExecutionTenantIdForDeployment", params);
+        getDbSqlSession().update("updateExecutionTenantIdForDeployment", params, getManagedEntityClass());
     }
 
     @Override
@@ -293,7 +293,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         params.put("expirationTime", expirationTime);
         params.put("lockOwner", lockOwner);
 
-        int result = getDbSqlSession().update("updateProcessInstanceLockTime", params);
+        int result = getDbSqlSession().update("updateProcessInstanceLockTime", params, getManagedEntityClass());
         if (result == 0) {
             throw new FlowableOptimisticLockingException("Could not lock process instance");
         }
@@ -301,21 +301,21 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     @Override
     public void updateAllExecutionRelatedEntityCountFlags(boolean newValue) {
-        getDbSqlSession().update("updateExecutionRelatedEntityCountEnabled", newValue);
+        getDbSqlSession().update("updateExecutionRelatedEntityCountEnabled", newValue, getManagedEntityClass());
     }
 
     @Override
     public void clearProcessInstanceLockTime(String processInstanceId) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("id", processInstanceId);
-        getDbSqlSession().update("clearProcessInstanceLockTime", params);
+        getDbSqlSession().update("clearProcessInstanceLockTime", params, getManagedEntityClass());
     }
 
     @Override
     public void clearAllProcessInstanceLockTimes(String lockOwner) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("lockOwner", lockOwner);
-        getDbSqlSession().update("clearAllProcessInstanceLockTimes", params);
+        getDbSqlSession().update("clearAllProcessInstanceLockTimes", params, getManagedEntityClass());
     }
 
 }
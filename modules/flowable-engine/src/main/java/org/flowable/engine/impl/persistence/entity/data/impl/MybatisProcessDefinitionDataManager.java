@@ -166,7 +166,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateProcessDefinitionTenantIdForDeploymentId", params);
+        getDbSqlSession().update("updateProcessDefinitionTenantIdForDeploymentId", params, getManagedEntityClass());
     }
 
     @Override
@@ -174,7 +174,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         HashMap<String, Object> params = new HashMap<>();
         params.put("processDefinitionId", processDefinitionId);
         params.put("version", version);
-        getDbSqlSession().update("updateProcessDefinitionVersionForProcessDefinitionId", params);
+        getDbSqlSession().update("updateProcessDefinitionVersionForProcessDefinitionId", params, getManagedEntityClass());
     }
 
 }
@@ -102,6 +102,16 @@ public class ExecutionGraphUtil {
         return isReachable(process, sourceElement, targetElement, visitedElements);
     }
 
+    /**
+     * Same as {@link #isReachable(String, String, String)}, but uses the given precomputed index (which can be null) when it knows both elements.
+     */
+    public static boolean isReachable(FlowNodeReachabilityIndex reachabilityIndex, String processDefinitionId, String sourceElementId, String targetElementId) {
+        if (reachabilityIndex != null && reachabilityIndex.containsElement(sourceElementId) && reachabilityIndex.containsElement(targetElementId)) {
+            return reachabilityIndex.isReachable(sourceElementId, targetElementId);
+        }
+        return isReachable(processDefinitionId, sourceElementId, targetElementId);
+    }
+
     public static boolean isReachable(Process process, FlowNode sourceElement, FlowNode targetElement, Set<String> visitedElements) {
         
         // Special case: start events in an event subprocess might exist as an execution and are most likely be able to reach the target
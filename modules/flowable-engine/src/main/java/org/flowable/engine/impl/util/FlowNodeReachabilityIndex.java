@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.InclusiveGateway;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.SubProcess;
+
+/**
+ * Precomputed answers of {@link ExecutionGraphUtil#isReachable(String, String, String)} for all flow nodes of a {@link Process},
+ * stored as one bitset of reachable flow nodes per flow node.
+ *
+ * The bitsets are computed with exactly the same graph walk as {@link ExecutionGraphUtil#isReachable(Process, FlowNode, FlowNode, java.util.Set)},
+ * so the inclusive gateway join can check every active execution with a single bit lookup instead of walking the process model again.
+ * The index takes (number of flow nodes)² bits, and is therefore only created for processes that contain an inclusive gateway.
+ *
+ * @see org.flowable.engine.impl.bpmn.behavior.InclusiveGatewayActivityBehavior
+ */
+public class FlowNodeReachabilityIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Flow node ids and sequence flow ids (which resolve to the index of their target flow node) to the index of the flow node */
+    protected Map<String, Integer> elementIndexes = new HashMap<>();
+
+    /** The flow nodes that can be reached from the flow node with the index of the array element */
+    protected BitSet[] reachableFlowNodes;
+
+    /**
+     * @return the index of the given process, or null when the process has no inclusive gateway
+     */
+    public static FlowNodeReachabilityIndex createIfNeeded(Process process) {
+        if (process == null || process.findFlowElementsOfType(InclusiveGateway.class, true).isEmpty()) {
+            return null;
+        }
+        return new FlowNodeReachabilityIndex(process);
+    }
+
+    public FlowNodeReachabilityIndex(Process process) {
+        List<FlowNode> flowNodes = process.findFlowElementsOfType(FlowNode.class, true);
+        for (int i = 0; i < flowNodes.size(); i++) {
+            elementIndexes.put(flowNodes.get(i).getId(), i);
+        }
+
+        for (SequenceFlow sequenceFlow : process.findFlowElementsOfType(SequenceFlow.class, true)) {
+            Integer targetIndex = elementIndexes.get(sequenceFlow.getTargetRef());
+            if (targetIndex != null && !elementIndexes.containsKey(sequenceFlow.getId())) {
+                elementIndexes.put(sequenceFlow.getId(), targetIndex);
+            }
+        }
+
+        // The parent sub process is where the walk continues for flow nodes without outgoing sequence flow
+        SubProcess[] parentSubProcesses = new SubProcess[flowNodes.size()];
+        for (int i = 0; i < flowNodes.size(); i++) {
+            FlowNode flowNode = flowNodes.get(i);
+            if (flowNode.getOutgoingFlows().isEmpty()) {
+                FlowElementsContainer parentElement = process.findParent(flowNode);
+                if (parentElement instanceof SubProcess) {
+                    parentSubProcesses[i] = (SubProcess) parentElement;
+                }
+            }
+        }
+
+        reachableFlowNodes = new BitSet[flowNodes.size()];
+        for (int i = 0; i < flowNodes.size(); i++) {
+            BitSet reachable = new BitSet(flowNodes.size());
+            collectReachableFlowNodes(process, flowNodes.get(i), parentSubProcesses, new BitSet(flowNodes.size()), reachable);
+            reachableFlowNodes[i] = reachable;
+        }
+    }
+
+    /**
+     * Mirrors {@link ExecutionGraphUtil#isReachable(Process, FlowNode, FlowNode, java.util.Set)}, but marks every flow node the walk would
+     * have matched against the target instead of stopping at the first match.
+     */
+    protected void collectReachableFlowNodes(Process process, FlowNode sourceElement, SubProcess[] parentSubProcesses, BitSet visitedElements, BitSet reachable) {
+        if (sourceElement instanceof StartEvent && ExecutionGraphUtil.isInEventSubprocess(sourceElement)) {
+            return;
+        }
+
+        int sourceIndex = elementIndexes.get(sourceElement.getId());
+        if (sourceElement.getOutgoingFlows().isEmpty()) {
+            visitedElements.set(sourceIndex);
+
+            SubProcess parentSubProcess = parentSubProcesses[sourceIndex];
+            if (parentSubProcess == null) {
+                return;
+            }
+            sourceElement = parentSubProcess;
+            sourceIndex = elementIndexes.get(sourceElement.getId());
+        }
+
+        reachable.set(sourceIndex);
+        visitedElements.set(sourceIndex);
+
+        for (SequenceFlow sequenceFlow : sourceElement.getOutgoingFlows()) {
+            FlowElement sequenceFlowTarget = process.getFlowElement(sequenceFlow.getTargetRef(), true);
+            if (sequenceFlowTarget instanceof FlowNode && !visitedElements.get(elementIndexes.get(sequenceFlowTarget.getId()))) {
+                collectReachableFlowNodes(process, (FlowNode) sequenceFlowTarget, parentSubProcesses, visitedElements, reachable);
+            }
+        }
+    }
+
+    public boolean containsElement(String elementId) {
+        return elementIndexes.containsKey(elementId);
+    }
+
+    /**
+     * Same as {@link ExecutionGraphUtil#isReachable(String, String, String)}, for elements for which {@link #containsElement(String)} returns true.
+     */
+    public boolean isReachable(String sourceElementId, String targetElementId) {
+        return reachableFlowNodes[elementIndexes.get(sourceElementId)].get(elementIndexes.get(targetElementId));
+    }
+
+}
@@ -94,6 +94,23 @@ public class ProcessDefinitionUtil {
         }
     }
 
+    /**
+     * @return the index to check whether flow nodes of the process definition can reach each other,
+     *         or null when the process definition has no inclusive gateway or is a v5 process definition
+     */
+    public static FlowNodeReachabilityIndex getReachabilityIndex(String processDefinitionId) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (processEngineConfiguration == null) {
+            return null;
+        }
+
+        DeploymentManager deploymentManager = processEngineConfiguration.getDeploymentManager();
+
+        // This will check the cache in the findDeployedProcessDefinitionById and resolveProcessDefinition method
+        ProcessDefinition processDefinitionEntity = deploymentManager.findDeployedProcessDefinitionById(processDefinitionId);
+        return deploymentManager.resolveProcessDefinition(processDefinitionEntity).getReachabilityIndex();
+    }
+
     public static BpmnModel getBpmnModel(String processDefinitionId) {
         if (CommandContextUtil.getProcessEngineConfiguration() == null) {
             return Flowable5Util.getFlowable5CompatibilityHandler().getProcessDefinitionBpmnModel(processDefinitionId);
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.bpmn.model.ExtensionElement;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * Applies the variable prefetch hint of a flow element, e.g.
+ *
+ * <pre>
+ * &lt;extensionElements&gt;
+ *   &lt;flowable:prefetchVariables&gt;amount, customer&lt;/flowable:prefetchVariables&gt;
+ * &lt;/extensionElements&gt;
+ * </pre>
+ *
+ * The named variables are fetched with one query per scope before the flow element is executed,
+ * so reading them does not load all variables of the process instance.
+ */
+public class VariablePrefetchUtil {
+
+    public static final String ELEMENT_PREFETCH_VARIABLES = "prefetchVariables";
+
+    public static void prefetchVariables(ExecutionEntity execution, FlowElement flowElement) {
+        Set<String> variableNames = getPrefetchVariableNames(flowElement);
+        if (!variableNames.isEmpty()) {
+            execution.prefetchVariables(variableNames);
+        }
+    }
+
+    public static Set<String> getPrefetchVariableNames(FlowElement flowElement) {
+        Set<String> variableNames = new LinkedHashSet<>();
+        List<ExtensionElement> prefetchElements = flowElement.getExtensionElements().get(ELEMENT_PREFETCH_VARIABLES);
+        if (prefetchElements != null) {
+            for (ExtensionElement prefetchElement : prefetchElements) {
+                for (String variableName : StringUtils.split(StringUtils.defaultString(prefetchElement.getElementText()), ", \t\r\n")) {
+                    variableNames.add(variableName);
+                }
+            }
+        }
+        return variableNames;
+    }
+
+}
@@ -46,6 +46,11 @@ public class BpmnAggregatedVariableType implements VariableType {
         return value instanceof BpmnAggregation;
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
+
     @Override
     public boolean isReadOnly() {
         return true;
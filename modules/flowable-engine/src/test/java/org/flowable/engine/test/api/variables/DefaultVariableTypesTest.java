@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Date;
+
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.DateType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.EmptyCollectionType;
+import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.StringType;
+import org.junit.jupiter.api.Test;
+
+class DefaultVariableTypesTest {
+
+    @Test
+    void findVariableTypeForStringsDependsOnLength() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+
+        assertThat(variableTypes.findVariableType("short").getTypeName()).isEqualTo(StringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType("much longer").getTypeName()).isEqualTo(LongStringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType("short").getTypeName()).isEqualTo(StringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(null).getTypeName()).isEqualTo(NullType.TYPE_NAME);
+    }
+
+    @Test
+    void findVariableTypeIsStableForSameClass() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(2).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(new Date()).getTypeName()).isEqualTo(DateType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(Collections.emptyList()).getTypeName()).isEqualTo(EmptyCollectionType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(5L).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(6L).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+    }
+
+    @Test
+    void findVariableTypeTakesAddedAndRemovedTypesIntoAccount() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        assertThat(variableTypes.findVariableType(5L).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+
+        VariableType oddLongType = new OddLongType();
+        variableTypes.addType(oddLongType, 0);
+        assertThat(variableTypes.findVariableType(5L).getTypeName()).isEqualTo(OddLongType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(6L).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(7L).getTypeName()).isEqualTo(OddLongType.TYPE_NAME);
+
+        variableTypes.removeType(oddLongType);
+        assertThat(variableTypes.findVariableType(5L).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+    }
+
+    @Test
+    void findVariableTypeScansForSubclassOverridingIsAbleToStore() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        variableTypes.addType(new OddLongSerializableType(), 0);
+
+        assertThat(variableTypes.findVariableType(5L).getTypeName()).isEqualTo(OddLongSerializableType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(6L).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(7L).getTypeName()).isEqualTo(OddLongSerializableType.TYPE_NAME);
+    }
+
+    protected DefaultVariableTypes createVariableTypes() {
+        DefaultVariableTypes variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new StringType(5));
+        variableTypes.addType(new LongStringType(6));
+        variableTypes.addType(new IntegerType());
+        variableTypes.addType(new DateType());
+        variableTypes.addType(new EmptyCollectionType());
+        variableTypes.addType(new SerializableType());
+        return variableTypes;
+    }
+
+    /**
+     * A custom type that inherits isAbleToStoreDeterminedByClass from a built-in type, but looks at the value.
+     */
+    protected static class OddLongSerializableType extends SerializableType {
+
+        public static final String TYPE_NAME = "oddLongSerializable";
+
+        @Override
+        public String getTypeName() {
+            return TYPE_NAME;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof Long && (Long) value % 2 != 0;
+        }
+    }
+
+    /**
+     * A custom type that does not report that it only looks at the class of a value.
+     */
+    protected static class OddLongType implements VariableType {
+
+        public static final String TYPE_NAME = "oddLong";
+
+        @Override
+        public String getTypeName() {
+            return TYPE_NAME;
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof Long && (Long) value % 2 != 0;
+        }
+
+        @Override
+        public void setValue(Object value, ValueFields valueFields) {
+            valueFields.setLongValue((Long) value);
+        }
+
+        @Override
+        public Object getValue(ValueFields valueFields) {
+            return valueFields.getLongValue();
+        }
+    }
+}
@@ -15,11 +15,13 @@ package org.flowable.engine.test.api.variables;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.test.HistoryTestHelper;
@@ -142,6 +144,45 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testStreamSerializableValue() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new TestSerializableVariable(20))
+                .start();
+
+        VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "var");
+        String byteArrayId = variableInstance.getByteArrayRef().getId();
+
+        byte[] streamedBytes = managementService.executeCommand(commandContext -> {
+            InputStream bytesStream = processEngineConfiguration.getByteArrayEntityManager().openBytesStream(byteArrayId);
+            try {
+                return IoUtil.readInputStream(bytesStream, "var");
+            } finally {
+                IoUtil.closeSilently(bytesStream);
+            }
+        });
+        assertThat(streamedBytes).isEqualTo(variableInstance.getBytes());
+
+        boolean unknownByteArrayFound = managementService.executeCommand(
+                commandContext -> processEngineConfiguration.getByteArrayEntityManager().openBytesStream("unknown") != null);
+        assertThat(unknownByteArrayFound).isFalse();
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            Object value = managementService.executeCommand(commandContext -> historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .variableName("var")
+                    .singleResult()
+                    .getValue());
+
+            assertThat(value)
+                    .asInstanceOf(type(TestSerializableVariable.class))
+                    .extracting(TestSerializableVariable::getNumber)
+                    .isEqualTo(20);
+        }
+    }
+
     public static class TestUpdateSerializableVariableDelegate implements JavaDelegate {
 
         @Override
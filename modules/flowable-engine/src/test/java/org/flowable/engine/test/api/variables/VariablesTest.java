@@ -20,14 +20,20 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.task.api.Task;
@@ -608,6 +614,48 @@ public class VariablesTest extends PluggableFlowableTestCase {
         assertThat(processInstance.getId()).isEqualTo(processInstanceId);
     }
 
+    @Test
+    @org.flowable.engine.test.Deployment
+    public void testPrefetchVariables() {
+        Map<String, Object> vars = generateVariables();
+        vars.put("amount", 1500);
+        vars.put("customer", "Kermit");
+        String prefetchProcessInstanceId = runtimeService.startProcessInstanceByKey("prefetchVariables", vars).getId();
+
+        TestJavaDelegate16.usedVariableNames = null;
+        Task task = taskService.createTaskQuery().processInstanceId(prefetchProcessInstanceId).singleResult();
+        taskService.complete(task.getId());
+
+        // Only the declared variables that exist are fetched before the service task is executed
+        assertThat(TestJavaDelegate16.usedVariableNames).containsOnly("amount", "customer");
+        assertThat(runtimeService.getVariable(prefetchProcessInstanceId, "greeting")).isEqualTo("Hello Kermit");
+
+        task = taskService.createTaskQuery().processInstanceId(prefetchProcessInstanceId).singleResult();
+        assertThat(task.getName()).isEqualTo("Large amount");
+    }
+
+    @Test
+    public void testRemovePrefetchedVariable() {
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityImpl processInstance = (ExecutionEntityImpl) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId);
+            processInstance.prefetchVariables(Collections.singletonList("stringVar0"));
+            assertThat(processInstance.getUsedVariablesCache()).containsKey("stringVar0");
+
+            processInstance.removeVariable("stringVar0");
+            assertThat(processInstance.getUsedVariablesCache()).doesNotContainKey("stringVar0");
+            assertThat(processInstance.getVariableInstance("stringVar0")).isNull();
+            assertThat(processInstance.getVariable("stringVar0")).isNull();
+            assertThat(processInstance.getVariables()).doesNotContainKey("stringVar0");
+            assertThat(processInstance.getVariableInstances()).doesNotContainKey("stringVar0");
+
+            processInstance.setVariable("stringVar0", "newValue");
+            return null;
+        });
+
+        assertThat(runtimeService.getVariable(processInstanceId, "stringVar0")).isEqualTo("newValue");
+        assertThat(runtimeService.getVariableInstance(processInstanceId, "stringVar0").getValue()).isEqualTo("newValue");
+    }
+
     // Class to test variable serialization
     public static class TestSerializableVariable implements Serializable {
 
@@ -781,4 +829,16 @@ public class VariablesTest extends PluggableFlowableTestCase {
         }
     }
 
+    public static class TestJavaDelegate16 implements JavaDelegate {
+
+        public static Set<String> usedVariableNames;
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            ExecutionEntityImpl processInstance = (ExecutionEntityImpl) ((ExecutionEntity) execution).getProcessInstance();
+            usedVariableNames = new HashSet<>(processInstance.getUsedVariablesCache().keySet());
+            execution.setVariable("greeting", "Hello " + execution.getVariable("customer", false), false);
+        }
+    }
+
 }
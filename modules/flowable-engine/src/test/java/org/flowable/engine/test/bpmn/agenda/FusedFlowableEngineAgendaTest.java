@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.agenda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.flowable.engine.FlowableEngineAgenda;
+import org.flowable.engine.delegate.event.FlowableActivityEvent;
+import org.flowable.engine.delegate.event.FlowableSequenceFlowTakenEvent;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.agenda.AgendaSessionFactory;
+import org.flowable.engine.impl.agenda.FusedContinueProcessOperation;
+import org.flowable.engine.impl.agenda.FusedFlowableEngineAgendaFactory;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class FusedFlowableEngineAgendaTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment
+    public void testEventsAndHistoryAreIdentical() {
+        List<String> defaultEvents = new ArrayList<>();
+        List<String> defaultHistory = runProcess(defaultEvents);
+
+        SessionFactory agendaSessionFactory = processEngineConfiguration.getSessionFactories().get(FlowableEngineAgenda.class);
+        processEngineConfiguration.getSessionFactories().put(FlowableEngineAgenda.class, new AgendaSessionFactory(new FusedFlowableEngineAgendaFactory()));
+        try {
+            List<String> fusedEvents = new ArrayList<>();
+            List<String> fusedHistory = runProcess(fusedEvents);
+
+            assertThat(fusedEvents)
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(defaultEvents);
+            assertThat(fusedHistory)
+                    .contains("serviceTask1", "serviceTask2", "serviceTask3", "serviceTask4", "join", "userTask", "theEnd")
+                    .containsExactlyElementsOf(defaultHistory);
+
+        } finally {
+            processEngineConfiguration.getSessionFactories().put(FlowableEngineAgenda.class, agendaSessionFactory);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/agenda/FusedFlowableEngineAgendaTest.testEventsAndHistoryAreIdentical.bpmn20.xml")
+    public void testFusedOperationsUseAgendaOperationRunner() {
+        Map<Runnable, Integer> executedOperations = new IdentityHashMap<>();
+        AgendaOperationRunner agendaOperationRunner = processEngineConfiguration.getAgendaOperationRunner();
+        SessionFactory agendaSessionFactory = processEngineConfiguration.getSessionFactories().get(FlowableEngineAgenda.class);
+        processEngineConfiguration.setAgendaOperationRunner((commandContext, runnable) -> {
+            executedOperations.merge(runnable, 1, Integer::sum);
+            agendaOperationRunner.executeOperation(commandContext, runnable);
+        });
+        processEngineConfiguration.getSessionFactories().put(FlowableEngineAgenda.class, new AgendaSessionFactory(new FusedFlowableEngineAgendaFactory()));
+        try {
+            runProcess(new ArrayList<>());
+
+        } finally {
+            processEngineConfiguration.setAgendaOperationRunner(agendaOperationRunner);
+            processEngineConfiguration.getSessionFactories().put(FlowableEngineAgenda.class, agendaSessionFactory);
+        }
+
+        // Continuing from a sequence flow into its target flow node executes the same operation instance through the runner again
+        assertThat(executedOperations.entrySet())
+                .anySatisfy(executedOperation -> {
+                    assertThat(executedOperation.getKey()).isInstanceOf(FusedContinueProcessOperation.class);
+                    assertThat(executedOperation.getValue()).isEqualTo(2);
+                });
+    }
+
+    protected List<String> runProcess(List<String> events) {
+        RecordingEventListener eventListener = new RecordingEventListener(events);
+        runtimeService.addEventListener(eventListener);
+        String processInstanceId;
+        try {
+            processInstanceId = runtimeService.startProcessInstanceByKey("fusedAgenda").getId();
+            taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        } finally {
+            runtimeService.removeEventListener(eventListener);
+        }
+
+        assertProcessEnded(processInstanceId);
+
+        List<String> activityIds = new ArrayList<>();
+        for (HistoricActivityInstance activityInstance : historyService.createHistoricActivityInstanceQuery()
+                .processInstanceId(processInstanceId).orderByHistoricActivityInstanceStartTime().asc().list()) {
+            activityIds.add(activityInstance.getActivityId());
+        }
+        return activityIds;
+    }
+
+    protected static class RecordingEventListener implements FlowableEventListener {
+
+        protected final List<String> events;
+
+        public RecordingEventListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            if (event instanceof FlowableSequenceFlowTakenEvent) {
+                events.add(event.getType() + " " + ((FlowableSequenceFlowTakenEvent) event).getId());
+            } else if (event instanceof FlowableActivityEvent) {
+                events.add(event.getType() + " " + ((FlowableActivityEvent) event).getActivityId());
+            } else if (event instanceof FlowableEngineEntityEvent) {
+                events.add(event.getType() + " " + ((FlowableEngineEntityEvent) event).getEntity().getClass().getSimpleName());
+            } else {
+                events.add(event.getType().name());
+            }
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return true;
+        }
+
+        @Override
+        public boolean isFireOnTransactionLifecycleEvent() {
+            return false;
+        }
+
+        @Override
+        public String getOnTransaction() {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.ExecutionGraphUtil;
+import org.flowable.engine.impl.util.FlowNodeReachabilityIndex;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class InclusiveGatewayReachabilityIndexTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testJoinAfterSubprocesses.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testInclusiveGatewayInEventSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testLoop.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.inSubProcessNestedInMultiInstanceParallelSubProcess.bpmn20.xml"
+    })
+    public void testIndexMatchesGraphWalk() {
+        List<ProcessDefinition> processDefinitions = repositoryService.createProcessDefinitionQuery().list();
+        assertThat(processDefinitions).hasSize(4);
+
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            Process process = repositoryService.getBpmnModel(processDefinition.getId()).getMainProcess();
+            FlowNodeReachabilityIndex reachabilityIndex = FlowNodeReachabilityIndex.createIfNeeded(process);
+            assertThat(reachabilityIndex).isNotNull();
+
+            List<FlowNode> flowNodes = process.findFlowElementsOfType(FlowNode.class, true);
+            for (FlowNode source : flowNodes) {
+                for (FlowNode target : flowNodes) {
+                    assertThat(reachabilityIndex.isReachable(source.getId(), target.getId()))
+                            .as("%s reaches %s in %s", source.getId(), target.getId(), process.getId())
+                            .isEqualTo(ExecutionGraphUtil.isReachable(process, source, target, new HashSet<>()));
+                }
+            }
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testNoIndexWithoutInclusiveGateway() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+        assertThat(FlowNodeReachabilityIndex.createIfNeeded(repositoryService.getBpmnModel(processDefinition.getId()).getMainProcess())).isNull();
+    }
+}
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.jfr.AgendaOperationEvent;
+import org.flowable.common.engine.impl.jfr.CommandEvent;
+import org.flowable.common.engine.impl.jfr.DbSqlSessionFlushEvent;
+import org.flowable.common.engine.impl.jfr.FlowableFlightRecorder;
+import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderEventsTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testEventsRecordedForProcessInstanceStart() throws Exception {
+        assumeTrue(FlowableFlightRecorder.isAvailable());
+
+        ProcessInstance processInstance;
+        List<RecordedEvent> events;
+        Path recordingFile = Files.createTempFile("flowable", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.class);
+            recording.enable(AgendaOperationEvent.class);
+            recording.enable(DbSqlSessionFlushEvent.class);
+            recording.start();
+
+            processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+            recording.stop();
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+
+        List<RecordedEvent> commandEvents = eventsOfType(events, "org.flowable.Command");
+        assertThat(commandEvents)
+                .filteredOn(event -> StartProcessInstanceCmd.class.getName().equals(event.getString("commandClass")))
+                .hasSize(1)
+                .first()
+                .satisfies(event -> {
+                    assertThat(event.getString("engine")).isEqualTo(ScopeTypes.BPMN);
+                    assertThat(event.getBoolean("nested")).isFalse();
+                    assertThat(event.getString("exceptionClass")).isNull();
+                });
+
+        assertThat(eventsOfType(events, "org.flowable.AgendaOperation"))
+                .isNotEmpty()
+                .allSatisfy(event -> {
+                    assertThat(event.getString("processDefinitionKey")).isEqualTo("oneTaskProcess");
+                    assertThat(event.getString("processInstanceId")).isEqualTo(processInstance.getId());
+                });
+
+        assertThat(eventsOfType(events, "org.flowable.DbSqlSessionFlush"))
+                .filteredOn(event -> StartProcessInstanceCmd.class.getName().equals(event.getString("commandClass")))
+                .hasSize(1)
+                .first()
+                .satisfies(event -> assertThat(event.getInt("insertedEntities")).isPositive());
+    }
+
+    @Test
+    public void testFlightRecorderEventsEnabledByDefault() {
+        assertThat(processEngineConfiguration.isFlightRecorderEventsEnabled()).isTrue();
+        assertThat(processEngineConfiguration.isFlightRecorderEventsActive()).isEqualTo(FlowableFlightRecorder.isAvailable());
+    }
+
+    protected List<RecordedEvent> eventsOfType(List<RecordedEvent> events, String eventName) {
+        return events.stream()
+                .filter(event -> eventName.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+    }
+
+}
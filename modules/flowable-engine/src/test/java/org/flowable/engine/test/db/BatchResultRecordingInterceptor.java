@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * Records the jdbc batches that are executed when MyBatis executors flush their statements.
+ * Only batch executors return batch results, so nothing is recorded when jdbc batch flushing is disabled.
+ */
+@Intercepts(@Signature(type = Executor.class, method = "flushStatements", args = {}))
+public class BatchResultRecordingInterceptor implements Interceptor {
+
+    protected List<BatchResult> batchResults = new CopyOnWriteArrayList<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object intercept(Invocation invocation) throws Throwable {
+        List<BatchResult> result = (List<BatchResult>) invocation.proceed();
+        batchResults.addAll(result);
+        return result;
+    }
+
+    public List<BatchResult> getBatchResults() {
+        return batchResults;
+    }
+
+    public void reset() {
+        batchResults.clear();
+    }
+
+}
@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
+import org.junit.jupiter.api.Test;
+
+public class JdbcBatchFlushTest extends ResourceFlowableTestCase {
+
+    public JdbcBatchFlushTest() {
+        super("org/flowable/engine/test/db/jdbc-batch-flush.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testProcessInstancesWithBatchFlush() {
+        assertThat(processEngineConfiguration.isJdbcBatchFlushEnabled()).isTrue();
+
+        String processDefinitionId = deployOneTaskTestProcess();
+        for (int i = 0; i < 10; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("counter", i);
+            variables.put("name", "instance" + i);
+            runtimeService.startProcessInstanceById(processDefinitionId, variables);
+        }
+
+        List<ProcessInstance> processInstances = runtimeService.createProcessInstanceQuery().list();
+        assertThat(processInstances).hasSize(10);
+        for (ProcessInstance processInstance : processInstances) {
+            assertThat(runtimeService.getVariables(processInstance.getId())).containsOnlyKeys("counter", "name");
+        }
+
+        List<Task> tasks = taskService.createTaskQuery().list();
+        assertThat(tasks).hasSize(10);
+        for (Task task : tasks) {
+            taskService.setVariable(task.getId(), "counter", 100);
+            taskService.complete(task.getId());
+        }
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(10);
+            assertThat(historyService.createHistoricVariableInstanceQuery().variableName("counter").list())
+                    .extracting(variable -> variable.getValue())
+                    .containsOnly(100);
+        }
+    }
+
+    @Test
+    public void testUpdatesExecutedInOneBatch() {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Task task = taskService.newTask();
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+
+        BatchResultRecordingInterceptor interceptor = getBatchResultRecordingInterceptor();
+        interceptor.reset();
+        managementService.executeCommand(commandContext -> {
+            for (String taskId : taskIds) {
+                CommandContextUtil.getTaskService(commandContext).getTask(taskId).setDescription("batched modification");
+            }
+            return null;
+        });
+
+        // The three task updates are sent to the database as a single jdbc batch
+        assertThat(interceptor.getBatchResults())
+                .filteredOn(batchResult -> batchResult.getParameterObjects().stream().allMatch(TaskEntityImpl.class::isInstance))
+                .extracting(batchResult -> batchResult.getParameterObjects().size())
+                .containsExactly(3);
+
+        for (String taskId : taskIds) {
+            assertThat(taskService.createTaskQuery().taskId(taskId).singleResult().getDescription()).isEqualTo("batched modification");
+            taskService.deleteTask(taskId, true);
+        }
+    }
+
+    @Test
+    public void testRevisionUpdatedWithBatchFlush() {
+        Task task = taskService.newTask();
+        taskService.saveTask(task);
+        assertThat(((TaskEntity) task).getRevision()).isEqualTo(1);
+
+        task.setDescription("first modification");
+        taskService.saveTask(task);
+        assertThat(((TaskEntity) task).getRevision()).isEqualTo(2);
+
+        taskService.deleteTask(task.getId(), true);
+        assertThat(taskService.createTaskQuery().taskId(task.getId()).singleResult()).isNull();
+    }
+
+    @Test
+    public void testOptimisticLockingWithBatchFlush() {
+        Task task = taskService.newTask();
+        taskService.saveTask(task);
+        String taskId = task.getId();
+
+        Task task1 = taskService.createTaskQuery().taskId(taskId).singleResult();
+        Task task2 = taskService.createTaskQuery().taskId(taskId).singleResult();
+
+        task1.setDescription("first modification");
+        taskService.saveTask(task1);
+
+        task2.setDescription("second modification");
+        assertThatThrownBy(() -> taskService.saveTask(task2))
+                .isInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(taskService.createTaskQuery().taskId(taskId).singleResult().getDescription()).isEqualTo("first modification");
+
+        taskService.deleteTask(taskId, true);
+    }
+
+    protected BatchResultRecordingInterceptor getBatchResultRecordingInterceptor() {
+        return processEngineConfiguration.getCustomMybatisInterceptors().stream()
+                .filter(BatchResultRecordingInterceptor.class::isInstance)
+                .map(BatchResultRecordingInterceptor.class::cast)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No batch result recording interceptor configured"));
+    }
+
+}
@@ -0,0 +1,261 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.persistence.cache.LocalSharedEntityCacheInvalidationBroadcaster;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityImpl;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SharedEntityCacheTest extends PluggableFlowableTestCase {
+
+    protected SharedEntityCacheImpl sharedEntityCache;
+
+    @BeforeEach
+    protected void setUp() {
+        sharedEntityCache = new SharedEntityCacheImpl(Arrays.asList(PropertyEntityImpl.class, ProcessDefinitionEntityImpl.class));
+        processEngineConfiguration.getDbSqlSessionFactory().setSharedEntityCache(sharedEntityCache);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.getDbSqlSessionFactory().setSharedEntityCache(null);
+    }
+
+    @Test
+    public void testPropertyServedFromSharedCache() {
+        PropertyEntity first = findProperty("schema.version");
+        assertThat(sharedEntityCache.getHitCount()).isZero();
+
+        PropertyEntity second = findProperty("schema.version");
+        assertThat(sharedEntityCache.getHitCount()).isEqualTo(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getValue()).isEqualTo(first.getValue());
+    }
+
+    @Test
+    public void testUpdateInvalidatesSharedCache() {
+        managementService.executeCommand(commandContext -> {
+            PropertyEntity property = CommandContextUtil.getPropertyEntityManager(commandContext).create();
+            property.setName("sharedCacheTestProperty");
+            property.setValue("one");
+            CommandContextUtil.getPropertyEntityManager(commandContext).insert(property);
+            return null;
+        });
+
+        try {
+            assertThat(findProperty("sharedCacheTestProperty").getValue()).isEqualTo("one");
+            assertThat(findProperty("sharedCacheTestProperty").getValue()).isEqualTo("one");
+            long hitCount = sharedEntityCache.getHitCount();
+            assertThat(hitCount).isPositive();
+
+            managementService.executeCommand(commandContext -> {
+                PropertyEntity property = CommandContextUtil.getPropertyEntityManager(commandContext).findById("sharedCacheTestProperty");
+                property.setValue("two");
+                return null;
+            });
+
+            assertThat(findProperty("sharedCacheTestProperty").getValue()).isEqualTo("two");
+            assertThat(findProperty("sharedCacheTestProperty").getValue()).isEqualTo("two");
+
+        } finally {
+            managementService.executeCommand(commandContext -> {
+                CommandContextUtil.getPropertyEntityManager(commandContext).delete("sharedCacheTestProperty");
+                return null;
+            });
+        }
+
+        assertThat(findProperty("sharedCacheTestProperty")).isNull();
+    }
+
+    @Test
+    public void testProcessDefinitionServedFromSharedCache() {
+        String processDefinitionId = deployOneTaskTestProcess();
+
+        ProcessDefinition first = findProcessDefinition(processDefinitionId);
+        ProcessDefinition second = findProcessDefinition(processDefinitionId);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getKey()).isEqualTo(first.getKey());
+        assertThat(sharedEntityCache.getHitCount()).isPositive();
+
+        repositoryService.suspendProcessDefinitionById(processDefinitionId);
+        assertThat(findProcessDefinition(processDefinitionId).isSuspended()).isTrue();
+
+        repositoryService.activateProcessDefinitionById(processDefinitionId);
+        assertThat(findProcessDefinition(processDefinitionId).isSuspended()).isFalse();
+    }
+
+    @Test
+    public void testOlderRevisionRejectedAfterInvalidation() {
+        PropertyEntityImpl property = new PropertyEntityImpl();
+        property.setName("test");
+        property.setValue("old");
+        property.setRevision(1);
+
+        sharedEntityCache.put(property);
+        assertThat(sharedEntityCache.get(PropertyEntityImpl.class, "test").getValue()).isEqualTo("old");
+
+        sharedEntityCache.invalidate(PropertyEntityImpl.class, "test", 2);
+        assertThat(sharedEntityCache.get(PropertyEntityImpl.class, "test")).isNull();
+
+        // A concurrent command that read the old revision can't put it back
+        sharedEntityCache.put(property);
+        assertThat(sharedEntityCache.get(PropertyEntityImpl.class, "test")).isNull();
+
+        property.setValue("new");
+        property.setRevision(2);
+        sharedEntityCache.put(property);
+        assertThat(sharedEntityCache.get(PropertyEntityImpl.class, "test").getValue()).isEqualTo("new");
+    }
+
+    @Test
+    public void testInvalidationPropagatedToOtherCaches() {
+        SharedEntityCacheImpl otherCache = new SharedEntityCacheImpl(Collections.singletonList(PropertyEntityImpl.class));
+        LocalSharedEntityCacheInvalidationBroadcaster broadcaster = new LocalSharedEntityCacheInvalidationBroadcaster();
+        broadcaster.register(sharedEntityCache);
+        broadcaster.register(otherCache);
+        sharedEntityCache.setInvalidationHook(broadcaster);
+        otherCache.setInvalidationHook(broadcaster);
+
+        PropertyEntityImpl property = new PropertyEntityImpl();
+        property.setName("test");
+        property.setValue("value");
+        sharedEntityCache.put(property);
+        otherCache.put(property);
+
+        sharedEntityCache.invalidate(PropertyEntityImpl.class, "test", 2);
+        assertThat(sharedEntityCache.get(PropertyEntityImpl.class, "test")).isNull();
+        assertThat(otherCache.get(PropertyEntityImpl.class, "test")).isNull();
+    }
+
+    @Test
+    public void testUpdateInvalidatedAgainOnCommit() {
+        managementService.executeCommand(commandContext -> {
+            PropertyEntity property = CommandContextUtil.getPropertyEntityManager(commandContext).create();
+            property.setName("sharedCacheTestProperty");
+            property.setValue("one");
+            CommandContextUtil.getPropertyEntityManager(commandContext).insert(property);
+            return null;
+        });
+
+        try {
+            PropertyEntity oldProperty = findProperty("sharedCacheTestProperty");
+            assertThat(oldProperty.getValue()).isEqualTo("one");
+
+            managementService.executeCommand(commandContext -> {
+                PropertyEntity property = CommandContextUtil.getPropertyEntityManager(commandContext).findById("sharedCacheTestProperty");
+                property.setValue("two");
+
+                // Between the flush and the commit, another command can still read the old row. Losing the invalidation marker
+                // (for example on another node) would then put the old state back in the cache.
+                Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTING, context -> {
+                    sharedEntityCache.clear();
+                    sharedEntityCache.put(oldProperty);
+                });
+                return null;
+            });
+
+            assertThat(findProperty("sharedCacheTestProperty").getValue()).isEqualTo("two");
+
+        } finally {
+            managementService.executeCommand(commandContext -> {
+                CommandContextUtil.getPropertyEntityManager(commandContext).delete("sharedCacheTestProperty");
+                return null;
+            });
+        }
+    }
+
+    @Test
+    public void testEntityWithoutRevisionRejected() {
+        assertThatThrownBy(() -> new SharedEntityCacheImpl(Collections.singletonList(DeploymentEntityImpl.class)))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining(DeploymentEntityImpl.class.getName());
+    }
+
+    @Test
+    public void testStatementUpdateInvalidatesSharedCache() {
+        String processDefinitionId = deployOneTaskTestProcess();
+        ProcessDefinition processDefinition = findProcessDefinition(processDefinitionId);
+        assertThat(findProcessDefinition(processDefinitionId).getTenantId()).isEmpty();
+        assertThat(sharedEntityCache.getHitCount()).isPositive();
+
+        // The tenant id of the process definitions is changed with an update statement that doesn't increase their revision
+        repositoryService.changeDeploymentTenantId(processDefinition.getDeploymentId(), "sharedCacheTenant");
+        assertThat(findProcessDefinition(processDefinitionId).getTenantId()).isEqualTo("sharedCacheTenant");
+
+        repositoryService.changeDeploymentTenantId(processDefinition.getDeploymentId(), "");
+        assertThat(findProcessDefinition(processDefinitionId).getTenantId()).isEmpty();
+    }
+
+    @Test
+    public void testInvalidationMarkersNotEvicted() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(Collections.singletonList(PropertyEntityImpl.class), 10, 60000L);
+        PropertyEntityImpl property = new PropertyEntityImpl();
+        property.setName("test");
+        property.setValue("old");
+        property.setRevision(1);
+        cache.invalidate(PropertyEntityImpl.class, "test", 2);
+
+        for (int i = 0; i < 25; i++) {
+            PropertyEntityImpl otherProperty = new PropertyEntityImpl();
+            otherProperty.setName("test" + i);
+            otherProperty.setValue("value" + i);
+            cache.put(otherProperty);
+        }
+
+        cache.put(property);
+        assertThat(cache.get(PropertyEntityImpl.class, "test")).isNull();
+    }
+
+    @Test
+    public void testMaxSize() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(Collections.singletonList(PropertyEntityImpl.class), 10, 60000L);
+        for (int i = 0; i < 25; i++) {
+            PropertyEntityImpl property = new PropertyEntityImpl();
+            property.setName("test" + i);
+            property.setValue("value" + i);
+            cache.put(property);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.getEvictionCount()).isPositive();
+        assertThat(cache.get(PropertyEntityImpl.class, "test24").getValue()).isEqualTo("value24");
+    }
+
+    protected PropertyEntity findProperty(String name) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getPropertyEntityManager(commandContext).findById(name));
+    }
+
+    protected ProcessDefinitionEntity findProcessDefinition(String processDefinitionId) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId));
+    }
+
+}
@@ -13,26 +13,38 @@
 package org.flowable.engine.test.eventregistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEventBatchException;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -149,6 +161,79 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithCorrelationIndex() {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        EventSubscriptionCorrelationIndex correlationIndex = new EventSubscriptionCorrelationIndex(eventSubscriptionServiceConfiguration, ScopeTypes.BPMN, 300000L);
+
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        eventSubscriptionServiceConfiguration.setCorrelationIndex(correlationIndex);
+        try {
+            variableMap.clear();
+            variableMap.put("customerIdVar", "gonzo");
+            ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+            EventSubscription gonzoEventSubscription = runtimeService.createEventSubscriptionQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult();
+            assertThat(correlationIndex.findEventSubscriptionIds(processEngineConfiguration.getCommandExecutor(), "myEvent", null,
+                    Collections.singletonList(gonzoEventSubscription.getConfiguration())))
+                .containsOnly(gonzoEventSubscription.getId());
+
+            inboundEventChannelAdapter.triggerTestEvent("fozzie");
+            assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+
+            // The subscription of kermit was created before the index was used and is picked up when the index is built from the database
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+
+            inboundEventChannelAdapter.triggerTestEvent("gonzo");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+
+            // The triggered subscriptions are removed from the index
+            assertThat(correlationIndex.findEventSubscriptionIds(processEngineConfiguration.getCommandExecutor(), "myEvent", null,
+                    Collections.singletonList(gonzoEventSubscription.getConfiguration())))
+                .isEmpty();
+
+        } finally {
+            eventSubscriptionServiceConfiguration.setCorrelationIndex(null);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testCorrelationIndexReconciliationOnTaskExecutor() {
+        for (String customerId : Arrays.asList("kermit", "gonzo", "fozzie")) {
+            runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", customerId));
+        }
+        List<EventSubscription> eventSubscriptions = runtimeService.createEventSubscriptionQuery().eventType("myEvent").list();
+        assertThat(eventSubscriptions).hasSize(3);
+
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        EventSubscriptionCorrelationIndex correlationIndex = new EventSubscriptionCorrelationIndex(eventSubscriptionServiceConfiguration, ScopeTypes.BPMN, 300000L);
+        DeferredAsyncTaskExecutor taskExecutor = new DeferredAsyncTaskExecutor();
+        correlationIndex.setReconciliationTaskExecutor(taskExecutor);
+        correlationIndex.setReconciliationPageSize(2);
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        List<String> configurations = eventSubscriptions.stream().map(EventSubscription::getConfiguration).collect(Collectors.toList());
+
+        // The database needs to be queried as long as the index is being built, the lookup does not wait for it
+        assertThat(correlationIndex.findEventSubscriptionIds(commandExecutor, "myEvent", null, configurations)).isNull();
+        assertThat(correlationIndex.findEventSubscriptionIds(commandExecutor, "myEvent", null, configurations)).isNull();
+        assertThat(taskExecutor.tasks).hasSize(1);
+
+        taskExecutor.runTasks();
+        assertThat(correlationIndex.findEventSubscriptionIds(commandExecutor, "myEvent", null, configurations))
+            .containsExactlyInAnyOrderElementsOf(eventSubscriptions.stream().map(EventSubscription::getId).collect(Collectors.toList()));
+        assertThat(correlationIndex.findEventSubscriptionIds(commandExecutor, "otherEvent", null, configurations)).isEmpty();
+        assertThat(taskExecutor.tasks).isEmpty();
+    }
+
     @Test
     @Deployment
     public void testBoundaryEventListenerWithPayload() {
@@ -373,6 +458,73 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testReceiveEventTaskWithCorrelationAndPayload.bpmn20.xml")
+    public void testBatchReceiveEventTaskWithCorrelation() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+
+        // The second event for kermit must not see the event subscription that was deleted by the first one
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "fozzie", "kermit");
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterTask");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).count()).isZero();
+        assertThat(runtimeService.createEventSubscriptionQuery().processInstanceId(kermitProcessInstance.getId()).count()).isZero();
+
+        inboundEventChannelAdapter.triggerTestEvents("gonzo");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterTask");
+        assertThat(runtimeService.getVariables(gonzoProcessInstance.getId()))
+            .containsOnly(
+                entry("customerIdVar", "gonzo"),
+                entry("payload1", "Hello World")
+            );
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartSimpleCorrelationParameter.bpmn20.xml")
+    public void testBatchProcessStart() {
+        inboundEventChannelAdapter.triggerTestEvents("testCustomer", "anotherCustomer", "testCustomer", "testCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(3);
+
+        inboundEventChannelAdapter.triggerTestEvents("anotherCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(3);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testBatchStartOnlyOneInstance() {
+        // The instances started for an event of the batch are visible to the later events of the same batch
+        inboundEventChannelAdapter.triggerTestEvents("testCustomer", "anotherTestCustomer", "testCustomer", "testCustomer", "anotherTestCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(ProcessInstance::getReferenceType)
+            .containsExactly(ReferenceTypes.EVENT_PROCESS, ReferenceTypes.EVENT_PROCESS);
+
+        inboundEventChannelAdapter.triggerTestEvents("testCustomer", "anotherTestCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(2);
+    }
+
+    @Test
+    @Deployment
+    public void testBatchWithFailingEvent() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        ProcessInstance failingProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "failingCustomer"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+
+        assertThatThrownBy(() -> inboundEventChannelAdapter.triggerTestEvents("kermit", "failingCustomer", "gonzo"))
+            .isInstanceOfSatisfying(InboundEventBatchException.class, exception -> assertThat(exception.getFailedEventIndex()).isEqualTo(1));
+
+        // Every event is handled in its own transaction, so the events before the failing one stay handled
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterTask");
+        assertThat(taskService.createTaskQuery().processInstanceId(failingProcessInstance.getId()).count()).isZero();
+        assertThat(runtimeService.createEventSubscriptionQuery().processInstanceId(failingProcessInstance.getId()).singleResult()).isNotNull();
+
+        // The events after the failing one are not handled, they are redelivered together with the failing event
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).count()).isZero();
+        assertThat(runtimeService.createEventSubscriptionQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult()).isNotNull();
+    }
+
     @Test
     public void testRedeployDefinitionWithRuntimeEventSubscriptions() {
         org.flowable.engine.repository.Deployment deployment1 = repositoryService.createDeployment()
@@ -432,6 +584,41 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
             .containsOnly(tuple("myEvent", processDefinition2.getId(), null));
     }
 
+    private static class DeferredAsyncTaskExecutor implements AsyncTaskExecutor {
+
+        protected final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        @Override
+        public CompletableFuture<?> submit(Runnable task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> CompletableFuture<T> submit(Callable<T> task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public int getRemainingCapacity() {
+            return Integer.MAX_VALUE;
+        }
+
+        public void runTasks() {
+            List<Runnable> tasksToRun = new ArrayList<>(tasks);
+            tasks.clear();
+            tasksToRun.forEach(Runnable::run);
+        }
+    }
+
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
 
         public InboundChannelModel inboundChannelModel;
@@ -461,7 +648,27 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
 
         public void triggerTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
+            try {
+                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(createTestEvent(objectMapper, customerId, orderId)));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
 
+        public void triggerTestEvents(String... customerIds) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            List<byte[]> events = new ArrayList<>(customerIds.length);
+            try {
+                for (String customerId : customerIds) {
+                    events.add(objectMapper.writeValueAsBytes(createTestEvent(objectMapper, customerId, null)));
+                }
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+
+        protected ObjectNode createTestEvent(ObjectMapper objectMapper, String customerId, String orderId) {
             ObjectNode json = objectMapper.createObjectNode();
             json.put("type", "myEvent");
             if (customerId != null) {
@@ -473,11 +680,7 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
             }
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
-            try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
+            return json;
         }
 
     }
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncRunnableJobCmd;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncJobHandOffTest {
+
+    protected ProcessEngine processEngine;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected List<ExecuteAsyncRunnableJobCmd> executeJobCommands = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void createProcessEngine() {
+        processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncJobHandOffTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorJobHandOffEnabled(true);
+        processEngineConfiguration.setCustomPreCommandInterceptors(Collections.singletonList(new AbstractCommandInterceptor() {
+
+            @Override
+            public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+                if (command instanceof ExecuteAsyncRunnableJobCmd) {
+                    executeJobCommands.add((ExecuteAsyncRunnableJobCmd) command);
+                }
+                return next.execute(config, command, commandExecutor);
+            }
+        }));
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/AsyncJobHandOffTest.testAsyncChain.bpmn20.xml")
+                .deploy();
+    }
+
+    @AfterEach
+    public void closeProcessEngine() {
+        for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+    }
+
+    @Test
+    public void testJobsCreatedByThisNodeAreHandedOff() {
+        processEngineConfiguration.getAsyncExecutor().start();
+        processEngine.getRuntimeService().startProcessInstanceByKey("asyncChain");
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, processEngine.getManagementService(), 10000L, 100L);
+
+        assertThat(processEngine.getTaskService().createTaskQuery().taskName("Task after chain").count()).isEqualTo(1);
+        assertThat(executeJobCommands)
+                .hasSize(3)
+                .allSatisfy(command -> assertThat(command.getHandedOffJob()).isNotNull());
+    }
+
+    @Test
+    public void testJobsCreatedWithoutActiveAsyncExecutorAreFetched() {
+        // The async executor isn't active when the first job is created, so only that job needs to be acquired and fetched
+        processEngine.getRuntimeService().startProcessInstanceByKey("asyncChain");
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, processEngine.getManagementService(), 10000L, 100L);
+
+        assertThat(processEngine.getTaskService().createTaskQuery().taskName("Task after chain").count()).isEqualTo(1);
+        assertThat(executeJobCommands)
+                .extracting(command -> command.getHandedOffJob() != null)
+                .containsExactly(false, true, true);
+    }
+
+    @Test
+    public void testHandOffDisabled() {
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncExecutorJobHandOffEnabled(false);
+
+        processEngineConfiguration.getAsyncExecutor().start();
+        processEngine.getRuntimeService().startProcessInstanceByKey("asyncChain");
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, processEngine.getManagementService(), 10000L, 100L);
+
+        assertThat(processEngine.getTaskService().createTaskQuery().taskName("Task after chain").count()).isEqualTo(1);
+        assertThat(executeJobCommands)
+                .hasSize(3)
+                .allSatisfy(command -> assertThat(command.getHandedOffJob()).isNull());
+    }
+}
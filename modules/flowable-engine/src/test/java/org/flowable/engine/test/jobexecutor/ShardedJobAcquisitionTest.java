@@ -0,0 +1,145 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.JobShardManager;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ShardedJobAcquisitionTest {
+
+    protected ProcessEngine processEngine;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    @BeforeEach
+    public void createProcessEngine() {
+        processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-ShardedJobAcquisitionTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setJobShardCount(4);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/ShardedJobAcquisitionTest.testShardedAcquisition.bpmn20.xml")
+                .deploy();
+    }
+
+    @AfterEach
+    public void closeProcessEngine() {
+        for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+    }
+
+    @Test
+    public void testShardedAcquisition() {
+        for (int i = 0; i < 20; i++) {
+            processEngine.getRuntimeService().startProcessInstanceByKey("shardedAsync");
+        }
+
+        List<Job> jobs = processEngine.getManagementService().createJobQuery().list();
+        assertThat(jobs).hasSize(20);
+        assertThat(jobs).allSatisfy(job -> assertThat(((JobEntity) job).getShard()).isBetween(0, 3));
+
+        DefaultAsyncJobExecutor firstExecutor = createAsyncExecutor("firstNode");
+        DefaultAsyncJobExecutor secondExecutor = createAsyncExecutor("secondNode");
+        JobShardManager firstShardManager = new JobShardManager(firstExecutor, 4, "");
+        JobShardManager secondShardManager = new JobShardManager(secondExecutor, 4, "");
+
+        try {
+            // The first node is alone and acquires all shards
+            firstShardManager.rebalance();
+            assertThat(firstShardManager.getNrOfNodes()).isEqualTo(1);
+            assertThat(firstShardManager.getOwnedShards()).containsExactly(0, 1, 2, 3);
+
+            // Once both nodes are registered, the shards are divided between them
+            secondShardManager.rebalance();
+            firstShardManager.rebalance();
+            assertThat(firstShardManager.getNrOfNodes()).isEqualTo(2);
+            assertThat(secondShardManager.getNrOfNodes()).isEqualTo(2);
+            assertThat(firstShardManager.getOwnedShards()).containsExactly(0, 2);
+            assertThat(secondShardManager.getOwnedShards()).containsExactly(1, 3);
+
+            List<JobInfoEntity> firstAcquiredJobs = acquireJobs(firstExecutor, firstShardManager.getOwnedShards());
+            List<JobInfoEntity> secondAcquiredJobs = acquireJobs(secondExecutor, secondShardManager.getOwnedShards());
+            assertThat(firstAcquiredJobs).allSatisfy(job -> assertThat(((JobEntity) job).getShard()).isIn(0, 2));
+            assertThat(secondAcquiredJobs).allSatisfy(job -> assertThat(((JobEntity) job).getShard()).isIn(1, 3));
+            assertThat(firstAcquiredJobs.size() + secondAcquiredJobs.size()).isEqualTo(20);
+
+            // When the second node stops, the first node takes over its shards
+            secondShardManager.unregister();
+            firstShardManager.rebalance();
+            assertThat(firstShardManager.getNrOfNodes()).isEqualTo(1);
+            assertThat(firstShardManager.getOwnedShards()).containsExactly(0, 1, 2, 3);
+
+        } finally {
+            firstShardManager.unregister();
+            secondShardManager.unregister();
+        }
+    }
+
+    @Test
+    public void testUnshardedJobsAcquiredByOwnerOfFirstShard() {
+        processEngine.getRuntimeService().startProcessInstanceByKey("shardedAsync");
+        Job job = processEngine.getManagementService().createJobQuery().singleResult();
+
+        assertThat(findJobShard(job.getId())).isNotNull();
+        processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            JobEntity jobEntity = processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager().findById(job.getId());
+            jobEntity.setShard(null);
+            return null;
+        });
+        assertThat(findJobShard(job.getId())).isNull();
+
+        DefaultAsyncJobExecutor asyncExecutor = createAsyncExecutor("node");
+        assertThat(acquireJobs(asyncExecutor, Arrays.asList(1, 2, 3))).isEmpty();
+        assertThat(acquireJobs(asyncExecutor, Collections.singletonList(0)))
+                .extracting(JobInfoEntity::getId)
+                .containsExactly(job.getId());
+    }
+
+    protected Integer findJobShard(String jobId) {
+        return processEngineConfiguration.getCommandExecutor().execute(commandContext -> processEngineConfiguration.getJobServiceConfiguration()
+                .getJobEntityManager().findById(jobId).getShard());
+    }
+
+    protected DefaultAsyncJobExecutor createAsyncExecutor(String lockOwner) {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setJobServiceConfiguration(processEngineConfiguration.getJobServiceConfiguration());
+        asyncExecutor.setLockOwner(lockOwner);
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(100);
+        return asyncExecutor;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<JobInfoEntity> acquireJobs(DefaultAsyncJobExecutor asyncExecutor, List<Integer> shards) {
+        return (List<JobInfoEntity>) processEngineConfiguration.getCommandExecutor().execute(new AcquireJobsCmd(asyncExecutor, 100,
+                processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager(), shards));
+    }
+}
@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.JsonDataObject;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.bpmn.parser.BpmnModelSnapshotUtil;
+import org.flowable.engine.impl.bpmn.parser.BpmnParse;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+
+public class BpmnModelSnapshotTest extends ResourceFlowableTestCase {
+
+    protected static final String RESOURCE_NAME = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml";
+
+    public BpmnModelSnapshotTest() {
+        super("org/flowable/standalone/deploy/bpmn.model.snapshot.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testSnapshotIsDeployedAndUsedAfterCacheMiss() {
+        Deployment deployment = repositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy();
+        try {
+            String snapshotResourceName = BpmnModelSnapshotUtil.getSnapshotResourceName(RESOURCE_NAME);
+            assertThat(repositoryService.getDeploymentResourceNames(deployment.getId())).containsExactlyInAnyOrder(RESOURCE_NAME, snapshotResourceName);
+
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getName()).isEqualTo("my task");
+
+            // The XML is not parsed when a snapshot is present, so an invalid source still gives the model of the snapshot
+            BpmnParse bpmnParse = managementService.executeCommand(commandContext -> {
+                DeploymentEntity deploymentEntity = CommandContextUtil.getDeploymentEntityManager(commandContext).findById(deployment.getId());
+                deploymentEntity.setNew(false);
+                BpmnParse parse = processEngineConfiguration.getBpmnParser().createParse()
+                        .sourceInputStream(new ByteArrayInputStream("not xml".getBytes(StandardCharsets.UTF_8)))
+                        .setSourceSystemId(RESOURCE_NAME)
+                        .deployment(deploymentEntity)
+                        .name(RESOURCE_NAME)
+                        .bpmnModelSnapshot(deploymentEntity.getResources().get(snapshotResourceName).getBytes())
+                        .bpmnModelSnapshotXml(deploymentEntity.getResources().get(RESOURCE_NAME).getBytes());
+                parse.setValidateSchema(false);
+                return parse.execute();
+            });
+            assertThat(bpmnParse.getProcessDefinitions())
+                    .extracting(processDefinition -> processDefinition.getKey())
+                    .containsExactly("oneTaskProcess");
+
+        } finally {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testSnapshotOfOtherEngineVersionIsIgnored() {
+        BpmnModel bpmnModel = repositoryService.getBpmnModel(deployOneTaskTestProcess());
+        byte[] bpmnXml = "<definitions />".getBytes(StandardCharsets.UTF_8);
+        byte[] snapshot = BpmnModelSnapshotUtil.createSnapshot(bpmnModel, bpmnXml);
+        assertThat(BpmnModelSnapshotUtil.readSnapshot(snapshot, bpmnXml).getProcessById("oneTaskProcess")).isNotNull();
+
+        // The engine version is written after the magic number, the format version and the length of the version string
+        snapshot[10]++;
+        assertThat(BpmnModelSnapshotUtil.readSnapshot(snapshot, bpmnXml)).isNull();
+    }
+
+    @Test
+    public void testSnapshotOfOtherXmlIsIgnored() {
+        BpmnModel bpmnModel = repositoryService.getBpmnModel(deployOneTaskTestProcess());
+        byte[] snapshot = BpmnModelSnapshotUtil.createSnapshot(bpmnModel, "<definitions />".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(BpmnModelSnapshotUtil.readSnapshot(snapshot, "<definitions/>".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    public void testSnapshotWithClassOutsideOfModelIsIgnored() {
+        BpmnModel bpmnModel = repositoryService.getBpmnModel(deployOneTaskTestProcess());
+        JsonDataObject dataObject = new JsonDataObject();
+        dataObject.setId("jsonDataObject");
+        dataObject.setValue("{\"amount\": 10}");
+        bpmnModel.getProcessById("oneTaskProcess").getDataObjects().add(dataObject);
+
+        // The JSON value is serialized by Jackson, which is not one of the classes allowed in a snapshot
+        byte[] bpmnXml = "<definitions />".getBytes(StandardCharsets.UTF_8);
+        byte[] snapshot = BpmnModelSnapshotUtil.createSnapshot(bpmnModel, bpmnXml);
+        assertThat(snapshot).isNotNull();
+        assertThat(BpmnModelSnapshotUtil.readSnapshot(snapshot, bpmnXml)).isNull();
+    }
+
+    @Test
+    public void testSnapshotResourceCannotBeDeployed() {
+        assertThatThrownBy(() -> repositoryService.createDeployment()
+                .addClasspathResource(RESOURCE_NAME)
+                .addBytes(BpmnModelSnapshotUtil.getSnapshotResourceName(RESOURCE_NAME), new byte[] { 1, 2, 3 })
+                .deploy())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining(BpmnModelSnapshotUtil.RESOURCE_SUFFIX);
+        assertThat(repositoryService.createDeploymentQuery().count()).isZero();
+    }
+}
@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentDeploymentCacheTest extends ResourceFlowableTestCase {
+
+    public ConcurrentDeploymentCacheTest() {
+        super("org/flowable/standalone/deploy/concurrent.deployment.cache.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testProcessDefinitionCacheLimit() throws IOException {
+        int processDefinitionCacheLimit = 3; // This is set in the configuration above
+
+        assertThat(processEngineConfiguration.getProcessDefinitionCache()).isInstanceOf(ConcurrentDeploymentCache.class);
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration
+                .getProcessDefinitionCache();
+        assertThat(processDefinitionCache.size()).isZero();
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        for (int i = 1; i <= 5; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+
+            if (i < processDefinitionCacheLimit) {
+                assertThat(processDefinitionCache.size()).isEqualTo(i);
+            } else {
+                assertThat(processDefinitionCache.size()).isEqualTo(processDefinitionCacheLimit);
+            }
+        }
+        assertThat(processDefinitionCache.getEvictionCount()).isEqualTo(2);
+
+        // Evicted definitions are transparently deployed again
+        for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().list()) {
+            assertThat(repositoryService.getBpmnModel(processDefinition.getId())).isNotNull();
+        }
+        assertThat(processDefinitionCache.size()).isEqualTo(processDefinitionCacheLimit);
+
+        // Cleanup
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testSegmentedLimit() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100);
+        for (int i = 0; i < 1000; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getAll()).hasSize(100);
+        assertThat(cache.getEvictionCount()).isEqualTo(900);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        cache.add("c", "C");
+
+        assertThat(cache.get("a")).isEqualTo("A");
+        cache.add("d", "D");
+
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(64);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        String id = "id" + ((i * 31 + thread) % 200);
+                        if (cache.get(id) == null) {
+                            cache.add(id, id);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(80000);
+    }
+
+}
@@ -0,0 +1,199 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncRunnableJobCmd;
+import org.flowable.job.service.impl.cmd.ExecuteHistoryJobsCmd;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncHistoryBatchWriterTest extends CustomConfigurationFlowableTestCase {
+
+    protected static final HistoryJobCommandCountingInterceptor historyJobCommandCountingInterceptor = new HistoryJobCommandCountingInterceptor();
+
+    public AsyncHistoryBatchWriterTest() {
+        super("asyncHistoryBatchWriterTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorBatchSize(25);
+        processEngineConfiguration.setAsyncHistoryExecutorBatchQueueSize(10);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+        processEngineConfiguration.setCustomPreCommandInterceptors(Collections.singletonList(historyJobCommandCountingInterceptor));
+    }
+
+    @BeforeEach
+    protected void resetCounters() {
+        historyJobCommandCountingInterceptor.reset();
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+    }
+
+    @Test
+    public void testHistoryJobsAreWrittenInBatches() {
+        deployOneTaskTestProcess();
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.complete(task.getId());
+        }
+
+        // More jobs than fit in the queue of the batch writer, the others are executed one by one
+        long nrOfHistoryJobs = managementService.createHistoryJobQuery().count();
+        assertThat(nrOfHistoryJobs).isGreaterThan(10);
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+
+        waitForHistoryJobExecutorToProcessAllJobs(20000L, 100L);
+
+        // Several jobs were executed in one transaction
+        assertThat(historyJobCommandCountingInterceptor.getNrOfBatches()).isPositive();
+        assertThat(historyJobCommandCountingInterceptor.getNrOfBatchedJobs()).isGreaterThan(historyJobCommandCountingInterceptor.getNrOfBatches());
+        assertThat(historyJobCommandCountingInterceptor.getNrOfBatches()).isLessThan((int) nrOfHistoryJobs);
+
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().finished().list())
+                .extracting(historicProcessInstance -> historicProcessInstance.getId())
+                .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+        assertThat(historyService.createHistoricTaskInstanceQuery().finished().count()).isEqualTo(20);
+    }
+
+    @Test
+    public void testFailingBatchFallsBackToSingleJobExecution() {
+        deployOneTaskTestProcess();
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+
+        historyJobCommandCountingInterceptor.failNextBatch();
+        waitForHistoryJobExecutorToProcessAllJobs(20000L, 100L);
+
+        // The jobs of the failed batch were executed one by one, without losing any history
+        assertThat(historyJobCommandCountingInterceptor.getNrOfFailedBatchJobs()).isPositive();
+        assertThat(historyJobCommandCountingInterceptor.getNrOfSingleJobExecutions()).isGreaterThanOrEqualTo(historyJobCommandCountingInterceptor.getNrOfFailedBatchJobs());
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().list())
+                .extracting(historicProcessInstance -> historicProcessInstance.getId())
+                .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+    }
+
+    @Test
+    public void testBatchWriterIsStartedWithAsyncHistoryExecutor() {
+        DefaultAsyncHistoryJobExecutor asyncHistoryExecutor = (DefaultAsyncHistoryJobExecutor) processEngineConfiguration.getAsyncHistoryExecutor();
+        assertThat(asyncHistoryExecutor.getHistoryJobBatchWriter()).isNull();
+
+        asyncHistoryExecutor.start();
+        try {
+            assertThat(asyncHistoryExecutor.getHistoryJobBatchWriter()).isNotNull();
+        } finally {
+            asyncHistoryExecutor.shutdown();
+        }
+
+        assertThat(asyncHistoryExecutor.getHistoryJobBatchWriter()).isNull();
+    }
+
+    protected static class HistoryJobCommandCountingInterceptor extends AbstractCommandInterceptor {
+
+        protected final AtomicInteger nrOfBatches = new AtomicInteger();
+        protected final AtomicInteger nrOfBatchedJobs = new AtomicInteger();
+        protected final AtomicInteger nrOfFailedBatchJobs = new AtomicInteger();
+        protected final AtomicInteger nrOfSingleJobExecutions = new AtomicInteger();
+        protected final AtomicBoolean failNextBatch = new AtomicBoolean();
+
+        @Override
+        public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+            if (command instanceof ExecuteHistoryJobsCmd) {
+                int nrOfJobs = ((ExecuteHistoryJobsCmd) command).getHistoryJobIds().size();
+                if (failNextBatch.compareAndSet(true, false)) {
+                    nrOfFailedBatchJobs.addAndGet(nrOfJobs);
+                    throw new FlowableException("Failing batch of " + nrOfJobs + " history jobs");
+                }
+                nrOfBatches.incrementAndGet();
+                nrOfBatchedJobs.addAndGet(nrOfJobs);
+
+            } else if (command instanceof ExecuteAsyncRunnableJobCmd) {
+                // The async executor is not active, so these are all history jobs
+                nrOfSingleJobExecutions.incrementAndGet();
+            }
+            return next.execute(config, command, commandExecutor);
+        }
+
+        public void failNextBatch() {
+            failNextBatch.set(true);
+        }
+
+        public void reset() {
+            nrOfBatches.set(0);
+            nrOfBatchedJobs.set(0);
+            nrOfFailedBatchJobs.set(0);
+            nrOfSingleJobExecutions.set(0);
+            failNextBatch.set(false);
+        }
+
+        public int getNrOfBatches() {
+            return nrOfBatches.get();
+        }
+
+        public int getNrOfBatchedJobs() {
+            return nrOfBatchedJobs.get();
+        }
+
+        public int getNrOfFailedBatchJobs() {
+            return nrOfFailedBatchJobs.get();
+        }
+
+        public int getNrOfSingleJobExecutions() {
+            return nrOfSingleJobExecutions.get();
+        }
+    }
+
+}
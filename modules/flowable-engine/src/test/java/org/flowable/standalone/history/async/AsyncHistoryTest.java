@@ -13,10 +13,12 @@
 package org.flowable.standalone.history.async;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
@@ -47,12 +49,14 @@ import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.ResetExpiredJobsRunnable;
 import org.flowable.job.service.impl.history.async.AsyncHistoryDateUtil;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskLogEntry;
 import org.flowable.task.api.history.HistoricTaskLogEntryBuilder;
 import org.flowable.task.api.history.HistoricTaskLogEntryType;
+import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.junit.Assert;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -759,6 +763,48 @@ public class AsyncHistoryTest extends CustomConfigurationFlowableTestCase {
             .doesNotContainNull();
     }
 
+    @Test
+    public void testVariableCreatedAndUpdatedInSameTransaction() {
+        Task task = startOneTaskprocess();
+        String processInstanceId = task.getProcessInstanceId();
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        managementService.executeCommand(commandContext -> {
+            runtimeService.setVariable(processInstanceId, "amount", 10);
+            runtimeService.setVariable(processInstanceId, "amount", 20);
+            runtimeService.setVariable(processInstanceId, "temporary", "value");
+            runtimeService.removeVariable(processInstanceId, "temporary");
+            return null;
+        });
+
+        // Only the creation of the variable with its latest value is recorded
+        HistoryJob historyJob = managementService.createHistoryJobQuery().singleResult();
+        List<String> historyTypes = new ArrayList<>();
+        try {
+            for (JsonNode historyNode : processEngineConfiguration.getObjectMapper().readTree(managementService.getHistoryJobHistoryJson(historyJob.getId()))) {
+                historyTypes.add(historyNode.path(HistoryJsonTransformer.FIELD_NAME_TYPE).asText());
+            }
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+        assertThat(historyTypes)
+                .containsOnlyOnce(HistoryJsonConstants.TYPE_VARIABLE_CREATED)
+                .doesNotContain(HistoryJsonConstants.TYPE_VARIABLE_UPDATED, HistoryJsonConstants.TYPE_VARIABLE_REMOVED);
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).list())
+                .extracting(HistoricVariableInstance::getVariableName, HistoricVariableInstance::getValue)
+                .containsExactly(tuple("amount", 20));
+
+        runtimeService.setVariable(processInstanceId, "amount", 30);
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).singleResult().getValue()).isEqualTo(30);
+
+        finishOneTaskProcess(task);
+    }
+
     @Test
     public void testHistoryJobFailure() {
         Task task = startOneTaskprocess();
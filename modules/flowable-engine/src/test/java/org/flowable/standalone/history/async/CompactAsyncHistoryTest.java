@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.impl.history.async.message.AsyncHistoryJobMessageReceiver;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryCompactFormat;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class CompactAsyncHistoryTest extends CustomConfigurationFlowableTestCase {
+
+    public CompactAsyncHistoryTest() {
+        super("compactAsyncHistoryTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        processEngineConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(true);
+        processEngineConfiguration.setAsyncHistoryCompactFormatEnabled(true);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+    }
+
+    @Test
+    public void testOneTaskProcess() throws Exception {
+        deployOneTaskTestProcess();
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        runtimeService.setVariable(processInstanceId, "myVariable", "test");
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+        List<HistoryJob> jobs = managementService.createHistoryJobQuery().list();
+        assertThat(jobs).hasSize(3);
+        for (HistoryJob job : jobs) {
+            assertThat(job.getJobHandlerType()).isEqualTo(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
+            byte[] bytes = ((HistoryJobEntity) job).getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(null);
+            assertThat(AsyncHistoryCompactFormat.isCompactFormat(bytes)).isTrue();
+
+            JsonNode historyJson = processEngineConfiguration.getObjectMapper().readTree(managementService.getHistoryJobHistoryJson(job.getId()));
+            assertThat(historyJson.isArray()).isTrue();
+            assertThat(historyJson).isNotEmpty();
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime()).isNotNull();
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).singleResult().getValue()).isEqualTo("test");
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list())
+                .extracting(HistoricActivityInstance::getActivityId)
+                .contains("start", "theTask", "theEnd");
+    }
+
+    @Test
+    public void testMessageReceiverDecodesCompactJob() {
+        deployOneTaskTestProcess();
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        HistoryJob job = managementService.createHistoryJobQuery().singleResult();
+
+        List<JsonNode> receivedHistoryData = new ArrayList<>();
+        AsyncHistoryJobMessageReceiver messageReceiver = new AsyncHistoryJobMessageReceiver(processEngineConfiguration.getCommandExecutor(),
+                (historyJobEntity, historyData) -> {
+                    receivedHistoryData.add(historyData);
+                    // Not deleting the job, so that the history executor still processes it
+                    return false;
+                }, processEngineConfiguration.getJobServiceConfiguration());
+        messageReceiver.messageForJobReceived(job.getId());
+
+        assertThat(receivedHistoryData).hasSize(1);
+        assertThat(receivedHistoryData.get(0).isArray()).isTrue();
+        assertThat(receivedHistoryData.get(0)).isNotEmpty();
+        assertThat(receivedHistoryData.get(0).get(0).path(HistoryJsonConstants.TYPE).asText()).isNotEmpty();
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+    }
+
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.engine.impl.db.DbIdGenerator;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DbIdGeneratorTest extends PluggableFlowableTestCase {
+
+    protected DbIdGenerator idGenerator;
+
+    @BeforeEach
+    protected void setUp() {
+        idGenerator = new DbIdGenerator();
+        idGenerator.setIdBlockSize(10);
+        idGenerator.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        idGenerator.setCommandConfig(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew());
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        idGenerator.shutdown();
+    }
+
+    @Test
+    public void testIdsAreUniqueAcrossThreads() throws Exception {
+        idGenerator.setPrefetchEnabled(true);
+
+        Set<String> ids = generateIdsConcurrently(8, 500);
+
+        assertThat(ids).hasSize(8 * 500);
+        assertThat(idGenerator.getFetchedIdBlockCount()).isGreaterThanOrEqualTo(8 * 500 / 10);
+        assertThat(idGenerator.getPrefetchedIdBlockCount()).isPositive();
+    }
+
+    @Test
+    public void testWithoutPrefetch() throws Exception {
+        Set<String> ids = generateIdsConcurrently(4, 100);
+
+        assertThat(ids).hasSize(4 * 100);
+        assertThat(idGenerator.getPrefetchedIdBlockCount()).isZero();
+        assertThat(idGenerator.getBlockingIdBlockFetchCount()).isEqualTo(idGenerator.getFetchedIdBlockCount());
+    }
+
+    @Test
+    public void testAdaptiveIdBlockSize() {
+        idGenerator.setMaxIdBlockSize(80);
+        idGenerator.setTargetIdBlockDurationMillis(60000L);
+
+        long previousId = -1;
+        for (int i = 0; i < 200; i++) {
+            long id = Long.parseLong(idGenerator.getNextId());
+            assertThat(id).isGreaterThan(previousId);
+            previousId = id;
+        }
+
+        // The blocks are used up a lot faster than the target duration, so the block size grows up to the max
+        assertThat(idGenerator.getCurrentIdBlockSize()).isEqualTo(80);
+        assertThat(idGenerator.getFetchedIdBlockCount()).isLessThan(200 / 10);
+    }
+
+    protected Set<String> generateIdsConcurrently(int nrOfThreads, int nrOfIdsPerThread) throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(nrOfThreads);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < nrOfThreads; i++) {
+                futures.add(executorService.submit((Callable<Void>) () -> {
+                    for (int j = 0; j < nrOfIdsPerThread; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        return ids;
+    }
+
+}
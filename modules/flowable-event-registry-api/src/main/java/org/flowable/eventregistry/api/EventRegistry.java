@@ -12,7 +12,9 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.runtime.EventInstance;
@@ -70,6 +72,22 @@ public interface EventRegistry {
      * Events received in adapters should call this method to process events.
      */
     void eventReceived(InboundChannelModel channelModel, String event);
+
+    /**
+     * Events received in adapters that receive events in batches (e.g. the records of one Kafka poll) should call this method to process them.
+     * The events are passed as raw bytes, so they can be deserialized without decoding them to a String first.
+     * Every event is handled separately, in the order of the list, and the first event that fails stops the batch
+     * with an {@link InboundEventBatchException} holding the index of that event.
+     */
+    default void eventsReceived(InboundChannelModel channelModel, List<byte[]> events) {
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                eventReceived(channelModel, new String(events.get(i), StandardCharsets.UTF_8));
+            } catch (RuntimeException e) {
+                throw new InboundEventBatchException(i, e);
+            }
+        }
+    }
     
     /**
      * Send an event to all the registered event consumers.
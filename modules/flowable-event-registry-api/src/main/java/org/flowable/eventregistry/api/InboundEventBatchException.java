@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.api;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Thrown when an event of a batch of inbound events could not be handled.
+ * The events before the failed event have been handled (and committed), the failed event and the events after it have not.
+ */
+public class InboundEventBatchException extends FlowableException {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final int failedEventIndex;
+
+    public InboundEventBatchException(int failedEventIndex, Throwable cause) {
+        super("Failed to handle event " + failedEventIndex + " of the batch: " + cause.getMessage(), cause);
+        this.failedEventIndex = failedEventIndex;
+    }
+
+    /**
+     * The index of the raw event in the batch that failed.
+     */
+    public int getFailedEventIndex() {
+        return failedEventIndex;
+    }
+}
@@ -12,6 +12,9 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * @author Joram Barrez
  * @author Filip Hrisafov
@@ -23,4 +26,26 @@ public interface InboundEventDeserializer<T> {
      */
     T deserialize(String rawEvent);
 
+    /**
+     * Deserialization of a raw event as received by a channel adapter (e.g. the value of a Kafka record).
+     * Decodes the event as an UTF-8 {@link String} by default,
+     * implementations that can read the bytes directly should override this to avoid the intermediate String.
+     */
+    default T deserialize(byte[] rawEvent) {
+        return deserialize(new String(rawEvent, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deserialization of the remaining bytes of the given buffer, see {@link #deserialize(byte[])}.
+     */
+    default T deserialize(ByteBuffer rawEvent) {
+        if (rawEvent.hasArray() && rawEvent.arrayOffset() == 0 && rawEvent.position() == 0 && rawEvent.remaining() == rawEvent.array().length) {
+            return deserialize(rawEvent.array());
+        }
+
+        byte[] bytes = new byte[rawEvent.remaining()];
+        rawEvent.duplicate().get(bytes);
+        return deserialize(bytes);
+    }
+
 }
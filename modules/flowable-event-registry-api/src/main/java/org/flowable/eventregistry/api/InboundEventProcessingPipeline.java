@@ -12,7 +12,10 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author Joram Barrez
@@ -21,5 +24,17 @@ import java.util.Collection;
 public interface InboundEventProcessingPipeline {
 
     Collection<EventRegistryEvent> run(String channelKey, String rawEvent);
+
+    /**
+     * Runs the pipeline for a batch of raw events received on the same channel (e.g. the records of one Kafka poll).
+     * The events of every raw event are passed to the {@code eventsHandler} before the next raw event is run,
+     * so the handler is called exactly once per raw event, in the order of the raw events, until one of them fails.
+     * Runs the pipeline for each event, decoded as UTF-8 String, by default.
+     */
+    default void runBatch(String channelKey, List<byte[]> rawEvents, Consumer<Collection<EventRegistryEvent>> eventsHandler) {
+        for (byte[] rawEvent : rawEvents) {
+            eventsHandler.accept(run(channelKey, new String(rawEvent, StandardCharsets.UTF_8)));
+        }
+    }
     
 }
@@ -12,6 +12,9 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import org.flowable.eventregistry.model.InboundChannelModel;
 
 /**
@@ -21,4 +24,19 @@ public interface InboundEventProcessor {
 
     void eventReceived(InboundChannelModel channelModel, String event);
 
+    /**
+     * Handles a batch of raw events received on the same channel, every event separately and in the order of the list.
+     * Stops at the first event that fails with an {@link InboundEventBatchException} holding the index of that event.
+     * Handles every event, decoded as UTF-8 String, by default.
+     */
+    default void eventsReceived(InboundChannelModel channelModel, List<byte[]> events) {
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                eventReceived(channelModel, new String(events.get(i), StandardCharsets.UTF_8));
+            } catch (RuntimeException e) {
+                throw new InboundEventBatchException(i, e);
+            }
+        }
+    }
+
 }
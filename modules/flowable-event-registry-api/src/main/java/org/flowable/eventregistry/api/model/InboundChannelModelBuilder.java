@@ -188,6 +188,13 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder concurrency(String concurrency);
 
+        /**
+         * Sets whether the records of one poll are received as a batch (true or false, or an expression resolving to one of them).
+         * The events of a batch are deserialized directly from the record values and matched against the event and channel models once per batch,
+         * every event is still handled in its own transaction.
+         */
+        InboundKafkaChannelBuilder batch(String batch);
+
         /**
          * Sets custom properties for this Kafka adapter. See the Spring Kafka docs for more information.
          */
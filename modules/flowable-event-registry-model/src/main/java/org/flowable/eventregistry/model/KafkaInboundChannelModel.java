@@ -30,6 +30,7 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
     protected String topicPattern;
     protected String clientIdPrefix;
     protected String concurrency;
+    protected String batch;
     protected List<CustomProperty> customProperties;
     
     public KafkaInboundChannelModel() {
@@ -77,6 +78,14 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         this.concurrency = concurrency;
     }
 
+    public String getBatch() {
+        return batch;
+    }
+
+    public void setBatch(String batch) {
+        this.batch = batch;
+    }
+
     public List<CustomProperty> getCustomProperties() {
         return customProperties;
     }
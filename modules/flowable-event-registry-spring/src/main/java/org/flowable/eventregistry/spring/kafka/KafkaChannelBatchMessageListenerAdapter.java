@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.kafka;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.utils.Bytes;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.InboundEventBatchException;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.BatchMessageListener;
+
+/**
+ * Passes the records of one poll as one batch to the {@link EventRegistry}.
+ * Works best with a {@code ByteArrayDeserializer} (or {@code ByteBufferDeserializer} / {@code BytesDeserializer}) for the record values,
+ * as the events are then deserialized directly from the bytes of the records. Records without a value are ignored.
+ */
+public class KafkaChannelBatchMessageListenerAdapter implements BatchMessageListener<Object, Object> {
+
+    protected EventRegistry eventRegistry;
+    protected InboundChannelModel inboundChannelModel;
+
+    public KafkaChannelBatchMessageListenerAdapter(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
+        this.eventRegistry = eventRegistry;
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+    /**
+     * When an event of the batch fails, a {@link BatchListenerFailedException} for its record is thrown.
+     * The records before it have been handled and are committed by the container's batch error handler,
+     * only the failed record and the records after it are redelivered.
+     */
+    @Override
+    public void onMessage(List<ConsumerRecord<Object, Object>> data) {
+        List<ConsumerRecord<Object, Object>> eventRecords = new ArrayList<>(data.size());
+        List<byte[]> events = new ArrayList<>(data.size());
+        for (ConsumerRecord<Object, Object> record : data) {
+            if (record.value() != null) {
+                eventRecords.add(record);
+                events.add(getBytes(record.value()));
+            }
+        }
+
+        if (!events.isEmpty()) {
+            try {
+                eventRegistry.eventsReceived(inboundChannelModel, events);
+
+            } catch (InboundEventBatchException e) {
+                ConsumerRecord<Object, Object> failedRecord = eventRecords.get(e.getFailedEventIndex());
+                throw new BatchListenerFailedException("Failed to handle record at offset " + failedRecord.offset() + " of partition "
+                        + failedRecord.topic() + "-" + failedRecord.partition(), e.getCause(), failedRecord);
+            }
+        }
+    }
+
+    protected byte[] getBytes(Object value) {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+
+        } else if (value instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) value;
+            if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+                return buffer.array();
+            }
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return bytes;
+
+        } else if (value instanceof Bytes) {
+            return ((Bytes) value).get();
+
+        } else {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    public EventRegistry getEventRegistry() {
+        return eventRegistry;
+    }
+
+    public void setEventRegistry(EventRegistry eventRegistry) {
+        this.eventRegistry = eventRegistry;
+    }
+
+    public InboundChannelModel getInboundChannelModel() {
+        return inboundChannelModel;
+    }
+
+    public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+}
@@ -106,7 +106,12 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         endpoint.setConcurrency(resolveExpressionAsInteger(channelModel.getConcurrency(), "concurrency"));
         endpoint.setConsumerProperties(resolveProperties(channelModel.getCustomProperties()));
 
-        endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        Boolean batch = resolveExpressionAsBoolean(channelModel.getBatch(), "batch");
+        if (Boolean.TRUE.equals(batch)) {
+            endpoint.setMessageListener(createBatchMessageListener(eventRegistry, channelModel));
+        } else {
+            endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        }
         return endpoint;
     }
 
@@ -133,6 +138,21 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         return result;
     }
 
+    protected Boolean resolveExpressionAsBoolean(String value, String attribute) {
+        Object resolved = resolveExpression(value);
+        Boolean result = null;
+        if (resolved instanceof String) {
+            result = Boolean.parseBoolean((String) resolved);
+        } else if (resolved instanceof Boolean) {
+            result = (Boolean) resolved;
+        } else if (resolved != null) {
+            throw new IllegalStateException(
+                "The [" + attribute + "] must resolve to a Boolean or a String that can be parsed as a Boolean. "
+                    + "Resolved to [" + resolved.getClass() + "] for [" + value + "]");
+        }
+        return result;
+    }
+
     protected String resolveExpressionAsString(String value, String attribute) {
         if (!StringUtils.hasLength(value)) {
             return null;
@@ -207,6 +227,16 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         return kafkaChannelMessageListenerAdapter;
     }
 
+    /**
+     * The listener container determines from the type of the listener whether it needs to pass the records of a poll as a batch.
+     */
+    @SuppressWarnings("unchecked")
+    protected GenericMessageListener<ConsumerRecord<Object, Object>> createBatchMessageListener(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
+        @SuppressWarnings("rawtypes")
+        GenericMessageListener kafkaChannelBatchMessageListenerAdapter = new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        return kafkaChannelBatchMessageListenerAdapter;
+    }
+
     @Override
     public void unregisterChannelModel(ChannelModel channelModel, String tenantId, EventRepositoryService eventRepositoryService) {
         String endpointId = getEndpointId(channelModel, tenantId);
@@ -12,9 +12,9 @@
  */
 package org.flowable.eventregistry.spring.rabbit;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 
 import org.flowable.eventregistry.api.EventRegistry;
@@ -49,11 +49,15 @@ public class RabbitChannelMessageListenerAdapter implements MessageListener {
         MessageProperties messageProperties = message.getMessageProperties();
         String contentType = messageProperties != null ? messageProperties.getContentType() : null;
 
+        if (body != null && stringContentTypes.contains(contentType)) {
+            // The event is deserialized directly from the (UTF-8) bytes of the body
+            eventRegistry.eventsReceived(inboundChannelModel, Collections.singletonList(body));
+            return;
+        }
+
         String rawEvent;
         if (body == null) {
             rawEvent = null;
-        } else if (stringContentTypes.contains(contentType)) {
-            rawEvent = new String(body, StandardCharsets.UTF_8);
         } else {
             rawEvent = Base64.getEncoder().encodeToString(body);
         }
@@ -19,6 +19,7 @@ import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,6 +41,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.errors.TopicExistsException;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -391,6 +393,56 @@ class KafkaChannelDefinitionProcessorTest {
             );
     }
 
+    @Test
+    void batchEventsShouldBeReceivedOnceWhenEventInBatchFails() throws Exception {
+        createTopic("test-batch-customer");
+
+        // The failing consumer rejects the fozzie event once, the retry of the batch then succeeds
+        FailingOnceEventConsumer failingEventConsumer = new FailingOnceEventConsumer("fozzie");
+        testEventConsumer = failingEventConsumer;
+        eventRegistry.registerEventRegistryEventConsumer(testEventConsumer);
+
+        // The records are sent before the channel is registered, so that they are received in one batch
+        for (String customer : Arrays.asList("kermit", "fozzie", "gonzo")) {
+            kafkaTemplate.send("test-batch-customer", "{"
+                + "    \"eventKey\": \"test\","
+                + "    \"customer\": \"" + customer + "\""
+                + "}")
+                .get(5, TimeUnit.SECONDS);
+        }
+
+        eventRepositoryService.createEventModelBuilder()
+            .resourceName("testEvent.event")
+            .key("test")
+            .correlationParameter("customer", EventPayloadTypes.STRING)
+            .deploy();
+
+        eventRepositoryService.createInboundChannelModelBuilder()
+            .key("testBatchChannel")
+            .resourceName("testBatch.channel")
+            .kafkaChannelAdapter("test-batch-customer")
+            .property(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest")
+            .batch("true")
+            .eventProcessingPipeline()
+            .jsonDeserializer()
+            .detectEventKeyUsingJsonField("eventKey")
+            .jsonFieldsMapDirectlyToPayload()
+            .deploy();
+
+        await("receive events")
+            .atMost(Duration.ofSeconds(10))
+            .pollInterval(Duration.ofMillis(200))
+            .untilAsserted(() -> assertThat(testEventConsumer.getEvents()).hasSize(3));
+
+        // Give the container time to redeliver records that were handled before the failing one
+        Thread.sleep(1000);
+
+        assertThat(failingEventConsumer.hasFailed()).isTrue();
+        assertThat(testEventConsumer.getEvents())
+            .extracting(event -> ((EventInstance) event.getEventObject()).getCorrelationParameterInstances().iterator().next().getValue())
+            .containsExactly("kermit", "fozzie", "gonzo");
+    }
+
     @Test
     void eventShouldBeSendAfterOutboundChannelDefinitionIsRegistered() throws Exception {
         createTopic("outbound-customer");
@@ -511,4 +563,28 @@ class KafkaChannelDefinitionProcessorTest {
         }
         topicsToDelete.add(topicName);
     }
+
+    protected static class FailingOnceEventConsumer extends TestEventConsumer {
+
+        protected final String failingCustomer;
+        protected boolean failed;
+
+        public FailingOnceEventConsumer(String failingCustomer) {
+            this.failingCustomer = failingCustomer;
+        }
+
+        @Override
+        public void eventReceived(EventRegistryEvent event) {
+            EventInstance eventInstance = (EventInstance) event.getEventObject();
+            if (!failed && failingCustomer.equals(eventInstance.getCorrelationParameterInstances().iterator().next().getValue())) {
+                failed = true;
+                throw new FlowableException("Failed to handle event of " + failingCustomer);
+            }
+            super.eventReceived(event);
+        }
+
+        public boolean hasFailed() {
+            return failed;
+        }
+    }
 }
@@ -14,6 +14,7 @@ package org.flowable.eventregistry.impl;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.CorrelationKeyGenerator;
@@ -68,6 +69,11 @@ public class DefaultEventRegistry implements EventRegistry {
     public void eventReceived(InboundChannelModel channelModel, String event) {
         inboundEventProcessor.eventReceived(channelModel, event);
     }
+
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, List<byte[]> events) {
+        inboundEventProcessor.eventsReceived(channelModel, events);
+    }
     
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
@@ -13,9 +13,11 @@
 package org.flowable.eventregistry.impl;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.InboundEventBatchException;
 import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.InboundEventProcessor;
 import org.flowable.eventregistry.model.InboundChannelModel;
@@ -44,4 +46,28 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     }
 
+    /**
+     * Runs the pipeline for the raw events of the batch one after the other, in the order in which they were received,
+     * and sends the events of every raw event to the consumers before running the next one, as done for a single event.
+     * The first raw event that fails stops the batch, the events that were already handled are not affected by the failure.
+     */
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, List<byte[]> events) {
+
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        int[] handledEvents = new int[1];
+        try {
+            inboundEventProcessingPipeline.runBatch(channelModel.getKey(), events, eventRegistryEvents -> {
+                for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+                    eventRegistry.sendEventToConsumers(eventRegistryEvent);
+                }
+                handledEvents[0]++;
+            });
+
+        } catch (RuntimeException e) {
+            throw new InboundEventBatchException(handledEvents[0], e);
+        }
+
+    }
+
 }
@@ -27,7 +27,6 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.FullDeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -440,11 +439,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         }
 
         if (eventDefinitionCache == null) {
-            if (eventDefinitionCacheLimit <= 0) {
-                eventDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                eventDefinitionCache = new DefaultDeploymentCache<>(eventDefinitionCacheLimit);
-            }
+            eventDefinitionCache = createDeploymentCache("eventDefinition", eventDefinitionCacheLimit);
         }
         
         if (channelDefinitionCache == null) {
@@ -43,6 +43,12 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    /**
+     * The maximum number of ids from the correlation index that are used to fetch the event subscriptions,
+     * as databases such as Oracle limit the number of values in an 'in' clause.
+     */
+    protected static final int MAX_INDEXED_EVENT_SUBSCRIPTION_IDS = 1000;
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -121,10 +127,9 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
                 .eventType(eventInstance.getEventKey())
                 .scopeType(scopeType);
 
+            Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
             if (!correlationKeys.isEmpty()) {
 
-                Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
-
                 eventSubscriptionQuery.or()
                     .withoutConfiguration()
                     .configurations(allCorrelationKeyValues)
@@ -135,6 +140,9 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
             }
 
+            // Null matches the event subscriptions of all tenants
+            Collection<String> tenantIds = null;
+
             String eventInstanceTenantId = eventInstance.getTenantId();
             if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
 
@@ -144,6 +152,7 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
                     String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
                         .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
 
+                    tenantIds = Arrays.asList(eventInstanceTenantId, defaultTenant);
                     if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
                         eventSubscriptionQuery.or()
                             .tenantId(eventInstance.getTenantId())
@@ -151,22 +160,46 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
                         .endOr();
 
                     } else {
-                        eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
+                        eventSubscriptionQuery.tenantIds(tenantIds);
 
                     }
 
                 } else {
+                    tenantIds = Collections.singletonList(eventInstanceTenantId);
                     eventSubscriptionQuery.tenantId(eventInstanceTenantId);
 
                 }
 
             }
 
+            Collection<String> eventSubscriptionIds = findIndexedEventSubscriptionIds(scopeType, eventInstance.getEventKey(), tenantIds, allCorrelationKeyValues);
+            if (eventSubscriptionIds != null) {
+                if (eventSubscriptionIds.isEmpty()) {
+                    return Collections.emptyList();
+
+                } else if (eventSubscriptionIds.size() <= MAX_INDEXED_EVENT_SUBSCRIPTION_IDS) {
+                    eventSubscriptionQuery.ids(eventSubscriptionIds);
+
+                }
+            }
+
             return eventSubscriptionQuery.list();
 
         });
     }
 
+    /**
+     * Returns the ids of the event subscriptions that can match an event, based on the correlation index of the engine of this consumer.
+     * Event subscriptions without configuration (i.e. correlation key) match any event of their type.
+     *
+     * @param tenantIds the tenant ids of the event subscriptions, null for event subscriptions of any tenant
+     * @param configurations the correlation keys of the event
+     * @return the ids of the event subscriptions, or null when the event subscriptions need to be queried without the index
+     */
+    protected Collection<String> findIndexedEventSubscriptionIds(String scopeType, String eventType, Collection<String> tenantIds, Collection<String> configurations) {
+        return null;
+    }
+
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
 
 }
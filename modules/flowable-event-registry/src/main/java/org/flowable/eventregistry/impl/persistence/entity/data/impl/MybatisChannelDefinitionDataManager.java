@@ -151,7 +151,7 @@ public class MybatisChannelDefinitionDataManager extends AbstractEventDataManage
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateChannelDefinitionTenantIdForDeploymentId", params);
+        getDbSqlSession().update("updateChannelDefinitionTenantIdForDeploymentId", params, getManagedEntityClass());
     }
 
 }
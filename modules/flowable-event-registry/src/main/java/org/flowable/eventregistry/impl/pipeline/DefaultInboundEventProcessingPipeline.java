@@ -13,6 +13,10 @@
 package org.flowable.eventregistry.impl.pipeline;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -60,6 +64,28 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
     @Override
     public Collection<EventRegistryEvent> run(String channelKey, String rawEvent) {
         T event = deserialize(rawEvent);
+        return transform(createEventInstance(channelKey, event, null, null));
+    }
+
+    /**
+     * Deserializes the raw events directly from their bytes (see {@link InboundEventDeserializer#deserialize(byte[])})
+     * and looks up the event and channel models only once per event key and tenant of the batch.
+     */
+    @Override
+    public void runBatch(String channelKey, List<byte[]> rawEvents, Consumer<Collection<EventRegistryEvent>> eventsHandler) {
+        Map<String, EventModel> eventModels = new HashMap<>();
+        Map<String, ChannelModel> channelModels = new HashMap<>();
+        for (byte[] rawEvent : rawEvents) {
+            T event = deserialize(rawEvent);
+            eventsHandler.accept(transform(createEventInstance(channelKey, event, eventModels, channelModels)));
+        }
+    }
+
+    /**
+     * @param eventModels the event models already looked up in the current batch (by event key and tenant), or null when not running a batch
+     * @param channelModels the channel models already looked up in the current batch (by tenant), or null when not running a batch
+     */
+    protected EventInstanceImpl createEventInstance(String channelKey, T event, Map<String, EventModel> eventModels, Map<String, ChannelModel> channelModels) {
         String eventKey = detectEventDefinitionKey(event);
 
         boolean multiTenant = false;
@@ -69,22 +95,41 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
             multiTenant = true;
         }
 
-        EventModel eventModel = multiTenant ? eventRepositoryService.getEventModelByKey(eventKey, tenantId) : eventRepositoryService.getEventModelByKey(eventKey);
-        ChannelModel channelModel = multiTenant ? eventRepositoryService.getChannelModelByKey(channelKey, tenantId) : eventRepositoryService.getChannelModelByKey(channelKey);
-        
-        EventInstanceImpl eventInstance = new EventInstanceImpl(
+        EventModel eventModel;
+        if (eventModels != null) {
+            String lookupTenantId = tenantId;
+            boolean multiTenantLookup = multiTenant;
+            eventModel = eventModels.computeIfAbsent(eventKey + '|' + tenantId, key -> getEventModel(eventKey, lookupTenantId, multiTenantLookup));
+            channelModels.computeIfAbsent(tenantId, key -> getChannelModel(channelKey, lookupTenantId, multiTenantLookup));
+
+        } else {
+            eventModel = getEventModel(eventKey, tenantId, multiTenant);
+            getChannelModel(channelKey, tenantId, multiTenant);
+        }
+
+        return new EventInstanceImpl(
             eventModel.getKey(),
             extractPayload(eventModel, event),
             tenantId
         );
+    }
+
+    protected EventModel getEventModel(String eventKey, String tenantId, boolean multiTenant) {
+        return multiTenant ? eventRepositoryService.getEventModelByKey(eventKey, tenantId) : eventRepositoryService.getEventModelByKey(eventKey);
+    }
 
-        return transform(eventInstance);
+    protected ChannelModel getChannelModel(String channelKey, String tenantId, boolean multiTenant) {
+        return multiTenant ? eventRepositoryService.getChannelModelByKey(channelKey, tenantId) : eventRepositoryService.getChannelModelByKey(channelKey);
     }
 
     public T deserialize(String rawEvent) {
         return inboundEventDeserializer.deserialize(rawEvent);
     }
 
+    public T deserialize(byte[] rawEvent) {
+        return inboundEventDeserializer.deserialize(rawEvent);
+    }
+
     public String detectEventDefinitionKey(T event) {
         return inboundEventKeyDetector.detectEventDefinitionKey(event);
     }
@@ -37,4 +37,13 @@ public class StringToJsonDeserializer implements InboundEventDeserializer<JsonNo
         }
     }
 
+    @Override
+    public JsonNode deserialize(byte[] rawEvent) {
+        try {
+            return objectMapper.readTree(rawEvent);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize event to json", e);
+        }
+    }
+
 }
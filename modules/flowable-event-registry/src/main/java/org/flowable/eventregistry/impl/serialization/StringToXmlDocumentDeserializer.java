@@ -30,10 +30,15 @@ public class StringToXmlDocumentDeserializer implements InboundEventDeserializer
 
     @Override
     public Document deserialize(String rawEvent) {
+        return deserialize(rawEvent.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Document deserialize(byte[] rawEvent) {
         try {
             DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
             DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-            try (InputStream inputStream = new ByteArrayInputStream(rawEvent.getBytes(StandardCharsets.UTF_8))) {
+            try (InputStream inputStream = new ByteArrayInputStream(rawEvent)) {
                 return documentBuilder.parse(inputStream);
             }
         } catch (Exception e) {
@@ -13,10 +13,12 @@
 package org.flowable.eventregistry.test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -27,6 +29,7 @@ import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
+import org.flowable.eventregistry.api.InboundEventBatchException;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
@@ -149,6 +152,57 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
                 );
     }
 
+    @Test
+    public void testDefaultInboundEventPipelineBatch() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("payload1", EventPayloadTypes.STRING)
+                .payload("payload2", EventPayloadTypes.INTEGER)
+                .deploy();
+
+        inboundEventChannelAdapter.triggerTestEvents("customer1", "customer2", "customer1");
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(3);
+        assertThat(testEventConsumer.eventsReceived)
+                .extracting(event -> ((FlowableEventRegistryEvent) event).getEventInstance())
+                .extracting(EventInstance::getEventKey, eventInstance -> eventInstance.getCorrelationParameterInstances().iterator().next().getValue())
+                .containsExactly(
+                        tuple("myEvent", "customer1"),
+                        tuple("myEvent", "customer2"),
+                        tuple("myEvent", "customer1")
+                );
+    }
+
+    @Test
+    public void testDefaultInboundEventPipelineBatchWithInvalidEvent() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("payload1", EventPayloadTypes.STRING)
+                .payload("payload2", EventPayloadTypes.INTEGER)
+                .deploy();
+
+        List<byte[]> events = new ArrayList<>();
+        events.add(inboundEventChannelAdapter.createTestEvent("customer1"));
+        events.add("no json".getBytes(StandardCharsets.UTF_8));
+        events.add(inboundEventChannelAdapter.createTestEvent("customer2"));
+
+        assertThatThrownBy(() -> inboundEventChannelAdapter.eventRegistry.eventsReceived(inboundEventChannelAdapter.inboundChannelModel, events))
+                .isInstanceOfSatisfying(InboundEventBatchException.class, exception -> assertThat(exception.getFailedEventIndex()).isEqualTo(1));
+
+        assertThat(testEventConsumer.eventsReceived)
+                .extracting(event -> ((FlowableEventRegistryEvent) event).getEventInstance())
+                .extracting(eventInstance -> eventInstance.getCorrelationParameterInstances().iterator().next().getValue())
+                .containsExactly("customer1");
+    }
+
     protected TestInboundEventChannelAdapter setupTestChannel() {
         TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
         eventEngineConfiguration.getExpressionManager().getBeans()
@@ -272,6 +326,29 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
             }
         }
 
+        public void triggerTestEvents(String... customerIds) {
+            List<byte[]> events = new ArrayList<>();
+            for (String customerId : customerIds) {
+                events.add(createTestEvent(customerId));
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+
+        public byte[] createTestEvent(String customerId) {
+            ObjectMapper objectMapper = new ObjectMapper();
+
+            ObjectNode json = objectMapper.createObjectNode();
+            json.put("type", "myEvent");
+            json.put("customerId", customerId);
+            json.put("payload1", "Hello World");
+            json.put("payload2", 123);
+            try {
+                return objectMapper.writeValueAsBytes(json);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
     }
 
     private static class Customer {
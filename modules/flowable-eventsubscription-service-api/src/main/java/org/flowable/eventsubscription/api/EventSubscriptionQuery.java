@@ -27,6 +27,9 @@ public interface EventSubscriptionQuery extends Query<EventSubscriptionQuery, Ev
     /** Only select event subscriptions with the given id. **/
     EventSubscriptionQuery id(String id);
 
+    /** Only select event subscriptions with one of the given ids. **/
+    EventSubscriptionQuery ids(Collection<String> ids);
+
     /** Only select event subscriptions with the given type. **/
     EventSubscriptionQuery eventType(String eventType);
 
@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionServiceImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
@@ -40,6 +41,16 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
     protected EventSubscriptionEntityManager eventSubscriptionEntityManager;
     
     protected ObjectMapper objectMapper;
+
+    // CORRELATION INDEX ///////////////////////////////////////////////
+
+    /**
+     * Enables the node-local index of the event subscriptions of the engine (see {@link EventSubscriptionCorrelationIndex}),
+     * which is used to match events from the event registry without querying the database for every event.
+     */
+    protected boolean enableCorrelationIndex;
+    protected long correlationIndexReconciliationIntervalInMs = 300000L;
+    protected EventSubscriptionCorrelationIndex correlationIndex;
     
     public EventSubscriptionServiceConfiguration(String engineName) {
         super(engineName);
@@ -51,6 +62,7 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
     public void init() {
         initDataManagers();
         initEntityManagers();
+        initCorrelationIndex();
     }
 
     // Data managers
@@ -68,6 +80,13 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         }
     }
 
+    public void initCorrelationIndex() {
+        if (correlationIndex == null && enableCorrelationIndex) {
+            // The subscriptions of an engine have the name of the engine as scope type
+            correlationIndex = new EventSubscriptionCorrelationIndex(this, engineName, correlationIndexReconciliationIntervalInMs);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -102,6 +121,33 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         return this;
     }
     
+    public boolean isEnableCorrelationIndex() {
+        return enableCorrelationIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setEnableCorrelationIndex(boolean enableCorrelationIndex) {
+        this.enableCorrelationIndex = enableCorrelationIndex;
+        return this;
+    }
+
+    public long getCorrelationIndexReconciliationIntervalInMs() {
+        return correlationIndexReconciliationIntervalInMs;
+    }
+
+    public EventSubscriptionServiceConfiguration setCorrelationIndexReconciliationIntervalInMs(long correlationIndexReconciliationIntervalInMs) {
+        this.correlationIndexReconciliationIntervalInMs = correlationIndexReconciliationIntervalInMs;
+        return this;
+    }
+
+    public EventSubscriptionCorrelationIndex getCorrelationIndex() {
+        return correlationIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setCorrelationIndex(EventSubscriptionCorrelationIndex correlationIndex) {
+        this.correlationIndex = correlationIndex;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
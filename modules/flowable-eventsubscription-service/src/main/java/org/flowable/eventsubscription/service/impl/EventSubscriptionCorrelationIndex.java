@@ -0,0 +1,424 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.persistence.entity.CompensateEventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.MessageEventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Node-local index of the event registry subscriptions of one scope type, keyed by event type, tenant and configuration
+ * (which holds the correlation key for event registry subscriptions). It allows an event for which no subscription exists
+ * to be ignored without querying the database, and the subscriptions of an event that does match to be fetched by id.
+ * <p>
+ * Subscriptions created or updated through the {@link org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager}
+ * are added directly, deleted subscriptions are removed once the transaction is committed. Subscriptions deleted with a bulk delete
+ * stay in the index until the next reconciliation, which is harmless as the subscriptions are fetched from the database anyway.
+ * <p>
+ * The index is built from the database on first use and rebuilt after every reconciliation interval, which also picks up the subscriptions
+ * that were created by other nodes. In a cluster, a subscription created by another node can therefore be missed until the next reconciliation.
+ * The reconciliation reads the subscriptions page by page and runs on the reconciliation task executor when one is set,
+ * the lookups keep using the current entries (or the database when there are none) in the meantime.
+ */
+public class EventSubscriptionCorrelationIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventSubscriptionCorrelationIndex.class);
+
+    /**
+     * The event types of the subscriptions that are not created for the event registry, these subscriptions are not indexed.
+     */
+    protected static final Collection<String> NON_EVENT_REGISTRY_EVENT_TYPES = Arrays.asList(MessageEventSubscriptionEntity.EVENT_TYPE,
+            SignalEventSubscriptionEntity.EVENT_TYPE, CompensateEventSubscriptionEntity.EVENT_TYPE, "variable");
+
+    protected EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
+    protected String scopeType;
+    protected long reconciliationIntervalInMs;
+    protected int reconciliationPageSize = 1000;
+
+    /**
+     * The executor the reconciliation runs on, so that it does not block the thread handling an event. Null to reconcile on the calling thread.
+     */
+    protected AsyncTaskExecutor reconciliationTaskExecutor;
+
+    /**
+     * Guards the swap of the entries during a reconciliation: changes to the index hold the read lock, the swap holds the write lock.
+     */
+    protected final ReadWriteLock entriesLock = new ReentrantReadWriteLock();
+    protected final AtomicBoolean reconciliationInProgress = new AtomicBoolean();
+
+    /**
+     * Null when the index has not been built yet or has been invalidated, the database needs to be queried in that case.
+     */
+    protected volatile Entries entries;
+    protected volatile long nextReconciliationTime;
+    protected long invalidationCount;
+
+    /**
+     * The subscriptions added since the start of the last and of the previous reconciliation. The subscriptions of transactions that are not
+     * committed yet when the database is read during a reconciliation are kept through these, until the reconciliation after that.
+     */
+    protected volatile Map<String, IndexEntry> addedSinceLastReconciliation = new ConcurrentHashMap<>();
+    protected volatile Map<String, IndexEntry> addedSincePreviousReconciliation = new ConcurrentHashMap<>();
+
+    public EventSubscriptionCorrelationIndex(EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration, String scopeType,
+            long reconciliationIntervalInMs) {
+
+        this.eventSubscriptionServiceConfiguration = eventSubscriptionServiceConfiguration;
+        this.scopeType = scopeType;
+        this.reconciliationIntervalInMs = reconciliationIntervalInMs;
+    }
+
+    /**
+     * Returns the ids of the subscriptions with the given event type that match the given tenants and configurations.
+     * Starts a reconciliation of the index with the database first, when needed.
+     *
+     * @param tenantIds the tenant ids of the subscriptions, null for subscriptions of any tenant
+     * @param configurations the configurations of the subscriptions, subscriptions without a configuration always match
+     * @return the ids of the matching subscriptions, or null when the index is not available and the database needs to be queried instead
+     */
+    public Set<String> findEventSubscriptionIds(CommandExecutor commandExecutor, String eventType, Collection<String> tenantIds, Collection<String> configurations) {
+        reconcileIfRequired(commandExecutor);
+
+        Entries currentEntries = entries;
+        if (currentEntries == null) {
+            return null;
+        }
+
+        Collection<String> eventTypeTenantIds = tenantIds;
+        if (eventTypeTenantIds == null) {
+            eventTypeTenantIds = currentEntries.getTenantIds(eventType);
+        }
+
+        Set<String> eventSubscriptionIds = new HashSet<>();
+        for (String tenantId : eventTypeTenantIds) {
+            String indexTenantId = getIndexTenantId(tenantId);
+            currentEntries.collectEventSubscriptionIds(new IndexKey(eventType, indexTenantId, null), eventSubscriptionIds);
+            if (configurations != null) {
+                for (String configuration : configurations) {
+                    currentEntries.collectEventSubscriptionIds(new IndexKey(eventType, indexTenantId, configuration), eventSubscriptionIds);
+                }
+            }
+        }
+
+        return eventSubscriptionIds;
+    }
+
+    public void addEventSubscription(EventSubscription eventSubscription) {
+        if (!isIndexed(eventSubscription)) {
+            return;
+        }
+
+        IndexEntry indexEntry = new IndexEntry(eventSubscription);
+        entriesLock.readLock().lock();
+        try {
+            addedSinceLastReconciliation.put(indexEntry.id, indexEntry);
+            Entries currentEntries = entries;
+            if (currentEntries != null) {
+                currentEntries.add(indexEntry);
+            }
+
+        } finally {
+            entriesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the subscription from the index once the current transaction is committed, as the subscription can still be matched until then.
+     */
+    public void removeEventSubscription(EventSubscription eventSubscription) {
+        if (!isIndexed(eventSubscription)) {
+            return;
+        }
+
+        IndexEntry indexEntry = new IndexEntry(eventSubscription);
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> remove(indexEntry));
+        } else {
+            remove(indexEntry);
+        }
+    }
+
+    /**
+     * Makes the index unavailable until the next reconciliation, for changes that cannot be applied to the index directly
+     * (e.g. a bulk update of the tenant of the subscriptions). The index is also invalidated once the current transaction is committed,
+     * so that a reconciliation that happened in the meantime does not hide the changes of the transaction.
+     */
+    public void invalidate() {
+        invalidateNow();
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> invalidateNow());
+        }
+    }
+
+    public boolean isReconciliationRequired() {
+        return System.currentTimeMillis() >= nextReconciliationTime;
+    }
+
+    public void reconcileIfRequired(CommandExecutor commandExecutor) {
+        // Only one reconciliation runs at a time, the current entries (or the database when there are none) are used in the meantime
+        if (isReconciliationRequired() && reconciliationInProgress.compareAndSet(false, true)) {
+            AsyncTaskExecutor taskExecutor = reconciliationTaskExecutor;
+            if (taskExecutor == null) {
+                reconcileIfStillRequired(commandExecutor);
+                return;
+            }
+
+            try {
+                taskExecutor.execute(() -> reconcileIfStillRequired(commandExecutor));
+
+            } catch (RuntimeException e) {
+                // E.g. the queue of the executor is full, the next lookup tries again
+                LOGGER.debug("Could not schedule the reconciliation of the event subscription correlation index for scope type {}", scopeType, e);
+                reconciliationInProgress.set(false);
+            }
+        }
+    }
+
+    protected void reconcileIfStillRequired(CommandExecutor commandExecutor) {
+        try {
+            if (isReconciliationRequired()) {
+                reconcile(commandExecutor);
+            }
+
+        } finally {
+            reconciliationInProgress.set(false);
+        }
+    }
+
+    protected void reconcile(CommandExecutor commandExecutor) {
+        long reconciliationStartTime = System.currentTimeMillis();
+        Map<String, IndexEntry> addedBeforeReconciliation;
+        long invalidationCountBeforeReconciliation;
+
+        entriesLock.writeLock().lock();
+        try {
+            invalidationCountBeforeReconciliation = invalidationCount;
+            addedBeforeReconciliation = addedSinceLastReconciliation;
+            addedSincePreviousReconciliation = addedBeforeReconciliation;
+            addedSinceLastReconciliation = new ConcurrentHashMap<>();
+
+        } finally {
+            entriesLock.writeLock().unlock();
+        }
+
+        Entries reconciledEntries = new Entries();
+        int eventSubscriptionCount = 0;
+        try {
+            // Paging on the id in separate transactions, so that neither the result nor the transaction grows with the number of subscriptions
+            String lastId = null;
+            List<EventSubscriptionEntity> eventSubscriptions;
+            do {
+                String afterId = lastId;
+                eventSubscriptions = commandExecutor.execute(commandExecutor.getDefaultConfig().transactionRequiresNew(),
+                        commandContext -> eventSubscriptionServiceConfiguration.getEventSubscriptionEntityManager()
+                                .findEventSubscriptionsForCorrelationIndex(scopeType, NON_EVENT_REGISTRY_EVENT_TYPES, afterId, reconciliationPageSize));
+
+                for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
+                    if (eventSubscription.getEventType() != null) {
+                        reconciledEntries.add(new IndexEntry(eventSubscription));
+                    }
+                    lastId = eventSubscription.getId();
+                }
+                eventSubscriptionCount += eventSubscriptions.size();
+
+            } while (eventSubscriptions.size() == reconciliationPageSize);
+
+        } catch (RuntimeException e) {
+            // The database is queried directly until the next attempt, when the index has not been built yet
+            LOGGER.warn("Could not reconcile the event subscription correlation index for scope type {}, retrying after {} ms", scopeType,
+                    reconciliationIntervalInMs, e);
+            nextReconciliationTime = reconciliationStartTime + reconciliationIntervalInMs;
+            return;
+        }
+
+        for (IndexEntry indexEntry : addedBeforeReconciliation.values()) {
+            reconciledEntries.add(indexEntry);
+        }
+
+        entriesLock.writeLock().lock();
+        try {
+            for (IndexEntry indexEntry : addedSinceLastReconciliation.values()) {
+                reconciledEntries.add(indexEntry);
+            }
+
+            // When the index was invalidated in the meantime, the database could have been read before the invalidating change
+            if (invalidationCount == invalidationCountBeforeReconciliation) {
+                entries = reconciledEntries;
+                nextReconciliationTime = reconciliationStartTime + reconciliationIntervalInMs;
+            }
+
+        } finally {
+            entriesLock.writeLock().unlock();
+        }
+
+        LOGGER.debug("Reconciled the event subscription correlation index for scope type {} with {} event subscriptions", scopeType, eventSubscriptionCount);
+    }
+
+    protected void remove(IndexEntry indexEntry) {
+        entriesLock.readLock().lock();
+        try {
+            addedSinceLastReconciliation.remove(indexEntry.id);
+            addedSincePreviousReconciliation.remove(indexEntry.id);
+            Entries currentEntries = entries;
+            if (currentEntries != null) {
+                currentEntries.remove(indexEntry);
+            }
+
+        } finally {
+            entriesLock.readLock().unlock();
+        }
+    }
+
+    protected void invalidateNow() {
+        entriesLock.writeLock().lock();
+        try {
+            entries = null;
+            nextReconciliationTime = 0L;
+            invalidationCount++;
+
+        } finally {
+            entriesLock.writeLock().unlock();
+        }
+    }
+
+    protected boolean isIndexed(EventSubscription eventSubscription) {
+        return scopeType.equals(eventSubscription.getScopeType()) && eventSubscription.getEventType() != null
+                && !NON_EVENT_REGISTRY_EVENT_TYPES.contains(eventSubscription.getEventType());
+    }
+
+    protected static String getIndexTenantId(String tenantId) {
+        return tenantId != null ? tenantId : AbstractEngineConfiguration.NO_TENANT_ID;
+    }
+
+    public String getScopeType() {
+        return scopeType;
+    }
+
+    public long getReconciliationIntervalInMs() {
+        return reconciliationIntervalInMs;
+    }
+
+    public int getReconciliationPageSize() {
+        return reconciliationPageSize;
+    }
+
+    public void setReconciliationPageSize(int reconciliationPageSize) {
+        this.reconciliationPageSize = reconciliationPageSize;
+    }
+
+    public AsyncTaskExecutor getReconciliationTaskExecutor() {
+        return reconciliationTaskExecutor;
+    }
+
+    public void setReconciliationTaskExecutor(AsyncTaskExecutor reconciliationTaskExecutor) {
+        this.reconciliationTaskExecutor = reconciliationTaskExecutor;
+    }
+
+    protected static class Entries {
+
+        protected final Map<IndexKey, Set<String>> eventSubscriptionIds = new ConcurrentHashMap<>();
+        protected final Map<String, Set<String>> tenantIdsByEventType = new ConcurrentHashMap<>();
+
+        protected void add(IndexEntry indexEntry) {
+            eventSubscriptionIds.computeIfAbsent(indexEntry.key, key -> ConcurrentHashMap.newKeySet()).add(indexEntry.id);
+            tenantIdsByEventType.computeIfAbsent(indexEntry.key.eventType, key -> ConcurrentHashMap.newKeySet()).add(indexEntry.key.tenantId);
+        }
+
+        protected void remove(IndexEntry indexEntry) {
+            eventSubscriptionIds.computeIfPresent(indexEntry.key, (key, ids) -> {
+                ids.remove(indexEntry.id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        protected Collection<String> getTenantIds(String eventType) {
+            Set<String> tenantIds = tenantIdsByEventType.get(eventType);
+            return tenantIds != null ? tenantIds : new HashSet<>();
+        }
+
+        protected void collectEventSubscriptionIds(IndexKey indexKey, Set<String> result) {
+            Set<String> ids = eventSubscriptionIds.get(indexKey);
+            if (ids != null) {
+                result.addAll(ids);
+            }
+        }
+    }
+
+    protected static class IndexEntry {
+
+        protected final String id;
+        protected final IndexKey key;
+
+        protected IndexEntry(EventSubscription eventSubscription) {
+            this.id = eventSubscription.getId();
+            this.key = new IndexKey(eventSubscription.getEventType(), getIndexTenantId(eventSubscription.getTenantId()), eventSubscription.getConfiguration());
+        }
+    }
+
+    protected static class IndexKey {
+
+        protected final String eventType;
+        protected final String tenantId;
+        protected final String configuration;
+
+        protected IndexKey(String eventType, String tenantId, String configuration) {
+            this.eventType = eventType;
+            this.tenantId = tenantId;
+            this.configuration = configuration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IndexKey that = (IndexKey) o;
+            return Objects.equals(eventType, that.eventType) && Objects.equals(tenantId, that.tenantId) && Objects.equals(configuration, that.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(eventType, tenantId, configuration);
+        }
+    }
+
+}
@@ -40,6 +40,7 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
     protected EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
 
     protected String id;
+    protected Collection<String> ids;
     protected String eventType;
     protected String eventName;
     protected String executionId;
@@ -92,6 +93,21 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return this;
     }
 
+    @Override
+    public EventSubscriptionQueryImpl ids(Collection<String> ids) {
+        if (ids == null) {
+            throw new FlowableIllegalArgumentException("Provided event subscription ids is null");
+        }
+
+        if (inOrStatement) {
+            this.currentOrQueryObject.ids = ids;
+        } else {
+            this.ids = ids;
+        }
+
+        return this;
+    }
+
     @Override
     public EventSubscriptionQueryImpl eventType(String eventType) {
         if (eventType == null) {
@@ -429,6 +445,10 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return id;
     }
 
+    public Collection<String> getIds() {
+        return ids;
+    }
+
     public String getEventType() {
         return eventType;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -73,6 +74,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
     List<EventSubscriptionEntity> findEventSubscriptionsByTypeAndProcessDefinitionId(String type, String processDefinitionId, String tenantId);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByScopeIdAndType(String scopeId, String type);
+
+    List<EventSubscriptionEntity> findEventSubscriptionsForCorrelationIndex(String scopeType, Collection<String> excludedEventTypes, String afterId, int maxResults);
     
     List<EventSubscription> findEventSubscriptionsByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl);
 
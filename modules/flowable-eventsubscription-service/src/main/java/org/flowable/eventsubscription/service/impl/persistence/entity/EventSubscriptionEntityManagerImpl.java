@@ -14,6 +14,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -22,6 +23,7 @@ import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineE
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
 
@@ -59,6 +61,37 @@ public class EventSubscriptionEntityManagerImpl
         return dataManager.createGenericEventSubscriptionEntity();
     }
 
+    @Override
+    public void insert(EventSubscriptionEntity entity, boolean fireCreateEvent) {
+        super.insert(entity, fireCreateEvent);
+
+        EventSubscriptionCorrelationIndex correlationIndex = serviceConfiguration.getCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.addEventSubscription(entity);
+        }
+    }
+
+    @Override
+    public EventSubscriptionEntity update(EventSubscriptionEntity entity, boolean fireUpdateEvent) {
+        EventSubscriptionEntity updatedEntity = super.update(entity, fireUpdateEvent);
+
+        EventSubscriptionCorrelationIndex correlationIndex = serviceConfiguration.getCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.addEventSubscription(entity);
+        }
+        return updatedEntity;
+    }
+
+    @Override
+    public void delete(EventSubscriptionEntity entity, boolean fireDeleteEvent) {
+        super.delete(entity, fireDeleteEvent);
+
+        EventSubscriptionCorrelationIndex correlationIndex = serviceConfiguration.getCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.removeEventSubscription(entity);
+        }
+    }
+
     @Override
     public EventSubscription createEventSubscription(EventSubscriptionBuilder eventSubscriptionBuilder) {
         if (SignalEventSubscriptionEntity.EVENT_TYPE.equals(eventSubscriptionBuilder.getEventType())) {
@@ -174,6 +207,11 @@ public class EventSubscriptionEntityManagerImpl
         return dataManager.findEventSubscriptionsByScopeIdAndType(scopeId, type);
     }
 
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsForCorrelationIndex(String scopeType, Collection<String> excludedEventTypes, String afterId, int maxResults) {
+        return dataManager.findEventSubscriptionsForCorrelationIndex(scopeType, excludedEventTypes, afterId, maxResults);
+    }
+
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByName(String type, String eventName, String tenantId) {
         return dataManager.findEventSubscriptionsByName(type, eventName, tenantId);
@@ -192,6 +230,11 @@ public class EventSubscriptionEntityManagerImpl
     @Override
     public void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId) {
         dataManager.updateEventSubscriptionTenantId(oldTenantId, newTenantId);
+
+        EventSubscriptionCorrelationIndex correlationIndex = serviceConfiguration.getCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.invalidate();
+        }
     }
 
     @Override
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -64,6 +65,12 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
     
     List<EventSubscriptionEntity> findEventSubscriptionsByScopeIdAndType(final String scopeId, final String type);
 
+    /**
+     * Returns a page of the event subscriptions of the given scope type, ordered by id and with only the id, event type, tenant id and configuration set.
+     * The returned entities are not cached.
+     */
+    List<EventSubscriptionEntity> findEventSubscriptionsForCorrelationIndex(String scopeType, Collection<String> excludedEventTypes, String afterId, int maxResults);
+
     List<EventSubscriptionEntity> findEventSubscriptionsByName(final String type, final String eventName, final String tenantId);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId);
@@ -13,12 +13,14 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
@@ -270,6 +272,16 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return getList("selectEventSubscriptionsByScopeIdAndType", params, eventSubscriptionsByScopeIdAndTypeMatcher, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventSubscriptionEntity> findEventSubscriptionsForCorrelationIndex(String scopeType, Collection<String> excludedEventTypes, String afterId, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeType", scopeType);
+        params.put("excludedEventTypes", excludedEventTypes);
+        params.put("afterId", afterId);
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectEventSubscriptionsForCorrelationIndex", new ListQueryParameterObject(params, 0, maxResults));
+    }
+
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByName(final String type, final String eventName, final String tenantId) {
 
@@ -310,7 +322,7 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         Map<String, String> params = new HashMap<>();
         params.put("oldTenantId", oldTenantId);
         params.put("newTenantId", newTenantId);
-        getDbSqlSession().update("updateTenantIdOfEventSubscriptions", params);
+        getDbSqlSession().update("updateTenantIdOfEventSubscriptions", params, getManagedEntityClass());
     }
 
     @Override
@@ -27,7 +27,6 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.editor.form.converter.FormJsonConverter;
@@ -384,11 +383,7 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
 
         // Decision cache
         if (formDefinitionCache == null) {
-            if (formDefinitionCacheLimit <= 0) {
-                formDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                formDefinitionCache = new DefaultDeploymentCache<>(formDefinitionCacheLimit);
-            }
+            formDefinitionCache = createDeploymentCache("formDefinition", formDefinitionCacheLimit);
         }
 
         deploymentManager = new DeploymentManager(formDefinitionCache, this);
@@ -110,6 +110,18 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected AsyncExecutor asyncExecutor;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
+
+    /**
+     * When enabled, an async job that was created (and locked) by this node is executed from the entity that was inserted,
+     * instead of fetching the job again from the database first.
+     */
+    protected boolean asyncExecutorJobHandOffEnabled;
+
+    /**
+     * Whether a {@link org.flowable.common.engine.impl.jfr.JobExecutionEvent} is recorded for every job executed by the async executor.
+     * Set by the engine, only enabled when the runtime provides the JDK Flight Recorder.
+     */
+    protected boolean flightRecorderEventsEnabled;
     
     protected String jobExecutionScope;
     protected Map<String, JobHandler> jobHandlers;
@@ -118,6 +130,13 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected List<JobProcessor> jobProcessors;
     
     protected List<String> enabledJobCategories;
+
+    /**
+     * The number of shards the async jobs are divided in. Every new job gets a shard and the async executors of the different nodes
+     * each acquire the jobs of their own set of shards, so they don't compete for the same jobs.
+     * All nodes need to use the same value. By default 0, which means that job sharding is not used.
+     */
+    protected int jobShardCount;
     
     protected AsyncExecutor asyncHistoryExecutor;
     protected int asyncHistoryExecutorNumberOfRetries;
@@ -130,6 +149,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected String jobTypeAsyncHistoryZipped;
     
     protected boolean asyncHistoryJsonGzipCompressionEnabled;
+    protected boolean asyncHistoryCompactFormatEnabled;
     protected boolean asyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
@@ -557,6 +577,24 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isAsyncExecutorJobHandOffEnabled() {
+        return asyncExecutorJobHandOffEnabled;
+    }
+
+    public JobServiceConfiguration setAsyncExecutorJobHandOffEnabled(boolean asyncExecutorJobHandOffEnabled) {
+        this.asyncExecutorJobHandOffEnabled = asyncExecutorJobHandOffEnabled;
+        return this;
+    }
+
+    public boolean isFlightRecorderEventsEnabled() {
+        return flightRecorderEventsEnabled;
+    }
+
+    public JobServiceConfiguration setFlightRecorderEventsEnabled(boolean flightRecorderEventsEnabled) {
+        this.flightRecorderEventsEnabled = flightRecorderEventsEnabled;
+        return this;
+    }
+
     public int getAsyncExecutorResetExpiredJobsMaxTimeout() {
         return asyncExecutorResetExpiredJobsMaxTimeout;
     }
@@ -611,6 +649,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.enabledJobCategories = enabledJobCategories;
     }
 
+    public int getJobShardCount() {
+        return jobShardCount;
+    }
+
+    public JobServiceConfiguration setJobShardCount(int jobShardCount) {
+        this.jobShardCount = jobShardCount;
+        return this;
+    }
+
     public void addEnabledJobCategory(String jobCategory) {
         if (enabledJobCategories == null) {
             enabledJobCategories = new ArrayList<>();
@@ -643,6 +690,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.asyncHistoryJsonGzipCompressionEnabled = asyncHistoryJsonGzipCompressionEnabled;
     }
 
+    public boolean isAsyncHistoryCompactFormatEnabled() {
+        return asyncHistoryCompactFormatEnabled;
+    }
+
+    public void setAsyncHistoryCompactFormatEnabled(boolean asyncHistoryCompactFormatEnabled) {
+        this.asyncHistoryCompactFormatEnabled = asyncHistoryCompactFormatEnabled;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return asyncHistoryJsonGroupingEnabled;
     }
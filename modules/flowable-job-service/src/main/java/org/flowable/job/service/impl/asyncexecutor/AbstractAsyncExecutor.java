@@ -19,6 +19,7 @@ import java.util.UUID;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -60,6 +61,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime = 5 * 1000;
 
+    // When enabled, the acquisition size and wait times are adapted to the outcome of previous acquisitions, see AdaptiveJobAcquisitionController.
+    // The max jobs per acquisition and default wait times above are then the upper bound of the acquisition size and the first idle wait time.
+    protected boolean adaptiveAcquisitionEnabled;
+    protected int adaptiveAcquisitionMinWaitTimeInMillis = 1000;
+    protected int adaptiveAcquisitionMaxWaitTimeInMillis = 60 * 1000;
+
     protected String lockOwner = UUID.randomUUID().toString();
     protected int timerLockTimeInMillis = 60 * 60 * 1000;
     protected int asyncJobLockTimeInMillis = 60 * 60 * 1000;
@@ -146,6 +153,11 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
             timerJobRunnable.setLockWaitTime(timerLockWaitTime);
             timerJobRunnable.setLockPollRate(timerLockPollRate);
+
+            if (adaptiveAcquisitionEnabled) {
+                timerJobRunnable.setAcquisitionController(new AdaptiveJobAcquisitionController(maxTimerJobsPerAcquisition,
+                        defaultTimerJobAcquireWaitTimeInMillis, adaptiveAcquisitionMinWaitTimeInMillis, adaptiveAcquisitionMaxWaitTimeInMillis));
+            }
         }
 
         JobInfoEntityManager<? extends JobInfoEntity> jobEntityManagerToUse = jobEntityManager != null
@@ -165,6 +177,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
             asyncJobsDueRunnable.setLockWaitTime(asyncJobsGlobalLockWaitTime);
             asyncJobsDueRunnable.setLockPollRate(asyncJobsGlobalLockPollRate);
+
+            if (adaptiveAcquisitionEnabled) {
+                asyncJobsDueRunnable.setAcquisitionController(new AdaptiveJobAcquisitionController(maxAsyncJobsDuePerAcquisition,
+                        defaultAsyncJobAcquireWaitTimeInMillis, adaptiveAcquisitionMinWaitTimeInMillis, adaptiveAcquisitionMaxWaitTimeInMillis));
+            }
+
+            // With the global acquire lock, only one node acquires at a time, so sharding the acquisition has no use
+            if (jobServiceConfiguration.getJobShardCount() > 0 && !globalAcquireLockEnabled && jobEntityManagerToUse instanceof JobEntityManager) {
+                asyncJobsDueRunnable.setJobShardManager(new JobShardManager(this, jobServiceConfiguration.getJobShardCount(), globalAcquireLockPrefix));
+            }
         }
     }
 
@@ -337,6 +359,30 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.defaultQueueSizeFullWaitTime = defaultQueueSizeFullWaitTime;
     }
 
+    public boolean isAdaptiveAcquisitionEnabled() {
+        return adaptiveAcquisitionEnabled;
+    }
+
+    public void setAdaptiveAcquisitionEnabled(boolean adaptiveAcquisitionEnabled) {
+        this.adaptiveAcquisitionEnabled = adaptiveAcquisitionEnabled;
+    }
+
+    public int getAdaptiveAcquisitionMinWaitTimeInMillis() {
+        return adaptiveAcquisitionMinWaitTimeInMillis;
+    }
+
+    public void setAdaptiveAcquisitionMinWaitTimeInMillis(int adaptiveAcquisitionMinWaitTimeInMillis) {
+        this.adaptiveAcquisitionMinWaitTimeInMillis = adaptiveAcquisitionMinWaitTimeInMillis;
+    }
+
+    public int getAdaptiveAcquisitionMaxWaitTimeInMillis() {
+        return adaptiveAcquisitionMaxWaitTimeInMillis;
+    }
+
+    public void setAdaptiveAcquisitionMaxWaitTimeInMillis(int adaptiveAcquisitionMaxWaitTimeInMillis) {
+        this.adaptiveAcquisitionMaxWaitTimeInMillis = adaptiveAcquisitionMaxWaitTimeInMillis;
+    }
+
     public void setAsyncJobsDueRunnable(AcquireAsyncJobsDueRunnable asyncJobsDueRunnable) {
         this.asyncJobsDueRunnable = asyncJobsDueRunnable;
     }
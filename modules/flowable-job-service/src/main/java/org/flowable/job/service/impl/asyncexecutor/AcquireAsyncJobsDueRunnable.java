@@ -24,6 +24,7 @@ import org.flowable.common.engine.impl.lock.LockManager;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireJobsWithGlobalAcquireLockCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -88,6 +89,16 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected Duration lockPollRate = Duration.ofMillis(500);
     protected LockManager lockManager;
 
+    /**
+     * When set, decides the number of jobs to acquire and the time to wait between acquisitions (instead of the fixed settings of the async executor).
+     */
+    protected AdaptiveJobAcquisitionController acquisitionController;
+
+    /**
+     * When set, only the jobs of the shards owned by this node are acquired.
+     */
+    protected JobShardManager jobShardManager;
+
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
@@ -145,6 +156,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
             }
 
         }
+
+        if (jobShardManager != null) {
+            jobShardManager.unregister();
+        }
         LOGGER.info("stopped async job due acquisition for engine {}", getEngineName());
     }
 
@@ -164,7 +179,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 LOGGER.debug("acquired and queued new jobs for engine {}; sleeping for {} ms", getEngineName(), millisToWait);
             }
         } else {
-            millisToWait = asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
+            if (acquisitionController != null) {
+                millisToWait = acquisitionController.capacityExhausted(asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis());
+            } else {
+                millisToWait = asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
+            }
 
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("queue is full for engine {}; sleeping for {} ms", getEngineName(), millisToWait);
@@ -178,12 +197,18 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
+            int acquireSize = acquisitionController != null ? acquisitionController.getNextAcquireSize(remainingCapacity) : remainingCapacity;
+
             List<? extends JobInfoEntity> acquiredJobs;
             if (globalAcquireLockEnabled) {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, acquireSize, jobEntityManager));
+
+            } else if (jobShardManager != null) {
+                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, acquireSize, (JobEntityManager) jobEntityManager,
+                        jobShardManager.getOwnedShards()));
 
             } else {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, acquireSize, jobEntityManager));
 
             }
 
@@ -197,8 +222,14 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 lifecycleListener.rejectedJobs(getEngineName(), rejectedJobs.size(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
+                if (acquisitionController != null) {
+                    return acquisitionController.rejected(rejectedJobs.size(), asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis());
+                }
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
             }
+            if (acquisitionController != null) {
+                return acquisitionController.acquired(Math.min(acquireSize, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()), acquiredJobs.size());
+            }
             if (acquiredJobs.size() >= asyncExecutor.getMaxAsyncJobsDuePerAcquisition()) {
                 return 0L; // the maximum amount of jobs were acquired, so we can expect more.
             }
@@ -220,6 +251,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                         getEngineName(), optimisticLockingException.getMessage());
 
             }
+
+            if (acquisitionController != null) {
+                return acquisitionController.optimisticLockingFailure();
+            }
         } catch (Throwable e) {
             LOGGER.error("exception for engine {} during async job acquisition: {}", getEngineName(), e.getMessage(), e);
         }
@@ -310,4 +345,20 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     public void setLockPollRate(Duration lockPollRate) {
         this.lockPollRate = lockPollRate;
     }
+
+    public AdaptiveJobAcquisitionController getAcquisitionController() {
+        return acquisitionController;
+    }
+
+    public void setAcquisitionController(AdaptiveJobAcquisitionController acquisitionController) {
+        this.acquisitionController = acquisitionController;
+    }
+
+    public JobShardManager getJobShardManager() {
+        return jobShardManager;
+    }
+
+    public void setJobShardManager(JobShardManager jobShardManager) {
+        this.jobShardManager = jobShardManager;
+    }
 }
@@ -82,6 +82,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
     protected Duration lockPollRate = Duration.ofMillis(500);
     protected LockManager lockManager;
 
+    /**
+     * When set, decides the number of timer jobs to acquire and the time to wait between acquisitions (instead of the fixed settings of the async executor).
+     */
+    protected AdaptiveJobAcquisitionController acquisitionController;
+
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
@@ -158,6 +163,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         List<TimerJobEntity> timerJobs = Collections.emptyList();
         long millisToWait = 0L;
+        int acquireSize = acquisitionController != null ? acquisitionController.getNextAcquireSize(-1) : asyncExecutor.getMaxTimerJobsPerAcquisition();
 
         try {
 
@@ -167,7 +173,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 // In the move phase, other nodes can already acquire timer jobs themselves (as the lock is free).
                 try {
                     timerJobs = lockManager.waitForLockRunAndRelease(lockWaitTime, () -> {
-                        return commandExecutor.execute(new AcquireTimerJobsWithGlobalAcquireLockCmd(asyncExecutor));
+                        return commandExecutor.execute(new AcquireTimerJobsWithGlobalAcquireLockCmd(asyncExecutor, acquireSize));
                     });
 
                 } catch (Exception e) {
@@ -179,7 +185,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 }
 
             } else {
-                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, acquireSize));
 
             }
 
@@ -195,7 +201,13 @@ public class AcquireTimerJobsRunnable implements Runnable {
             int nrOfJobsAcquired = timerJobs.size();
             lifecycleListener.acquiredJobs(getEngineName(), nrOfJobsAcquired, asyncExecutor.getMaxTimerJobsPerAcquisition());
 
-            if (nrOfJobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+            if (acquisitionController != null) {
+                millisToWait = acquisitionController.acquired(acquireSize, nrOfJobsAcquired);
+                if (millisToWait == 0 && globalAcquireLockEnabled) {
+                    millisToWait = lockPollRate.toMillis();
+                }
+
+            } else if (nrOfJobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
 
                 if (globalAcquireLockEnabled) {
                     // Always wait when running with global acquire lock, to let other nodes have the ability to fill the queue
@@ -212,6 +224,9 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
             logOptimisticLockingException(optimisticLockingException);
+            if (acquisitionController != null) {
+                millisToWait = acquisitionController.optimisticLockingFailure();
+            }
 
         } catch (Throwable e) {
             LOGGER.error("exception during timer job acquisition: {}", e.getMessage(), e);
@@ -335,4 +350,12 @@ public class AcquireTimerJobsRunnable implements Runnable {
         this.lockPollRate = lockPollRate;
     }
 
+    public AdaptiveJobAcquisitionController getAcquisitionController() {
+        return acquisitionController;
+    }
+
+    public void setAcquisitionController(AdaptiveJobAcquisitionController acquisitionController) {
+        this.acquisitionController = acquisitionController;
+    }
+
 }
@@ -0,0 +1,222 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapts the number of jobs fetched per acquisition and the time waited between two acquisitions,
+ * instead of always fetching the configured maximum and waiting the configured default wait time.
+ * 
+ * The decisions are based on the outcome of every acquire cycle:
+ * <ul>
+ *     <li>A full batch means there is a backlog: the batch size grows (up to the maximum) and the next acquisition is done immediately.</li>
+ *     <li>A partial batch means the backlog is drained: the minimum wait time is used.</li>
+ *     <li>An empty batch means the node is idle: the wait time doubles with every empty cycle, up to the maximum wait time.</li>
+ *     <li>An optimistic locking failure means other nodes compete for the same jobs: the batch size is halved and a random wait is added,
+ *     so that the nodes don't retry at the same moment.</li>
+ *     <li>Rejected jobs or no remaining capacity means the executor is saturated: the batch size is halved and the queue full wait time is used.</li>
+ * </ul>
+ * 
+ * The signals used for these decisions (hit ratio, optimistic lock failure rate and remaining capacity) are exposed through getters,
+ * together with counters, to be able to see why a node is or isn't acquiring jobs.
+ * 
+ * Instances are updated by one acquisition thread, but can be read from any thread.
+ */
+public class AdaptiveJobAcquisitionController {
+
+    /**
+     * The weight of the last cycle in the moving averages of the hit ratio and the optimistic lock failure rate.
+     */
+    protected static final double SMOOTHING_FACTOR = 0.2;
+
+    protected final int minAcquireSize;
+    protected final int maxAcquireSize;
+    protected final long minWaitTimeInMillis;
+    protected final long maxWaitTimeInMillis;
+    protected final long idleWaitTimeInMillis;
+
+    protected volatile int acquireSize;
+    protected volatile long waitTimeInMillis;
+    protected volatile double hitRatio = 1.0;
+    protected volatile double optimisticLockFailureRate;
+    protected volatile int remainingCapacity = -1;
+
+    protected final AtomicLong acquireCycles = new AtomicLong();
+    protected final AtomicLong acquiredJobs = new AtomicLong();
+    protected final AtomicLong emptyAcquireCycles = new AtomicLong();
+    protected final AtomicLong rejectedJobs = new AtomicLong();
+    protected final AtomicLong optimisticLockFailures = new AtomicLong();
+    protected final AtomicLong capacityExhaustedCycles = new AtomicLong();
+
+    /**
+     * @param maxAcquireSize the maximum number of jobs acquired in one cycle, also the size of the first acquisition
+     * @param idleWaitTimeInMillis the wait time after the first empty acquisition, doubled after every next empty acquisition
+     * @param minWaitTimeInMillis the wait time after a partial acquisition
+     * @param maxWaitTimeInMillis the maximum wait time between two acquisitions
+     */
+    public AdaptiveJobAcquisitionController(int maxAcquireSize, long idleWaitTimeInMillis, long minWaitTimeInMillis, long maxWaitTimeInMillis) {
+        this.minAcquireSize = Math.min(1, maxAcquireSize);
+        this.maxAcquireSize = maxAcquireSize;
+        this.minWaitTimeInMillis = minWaitTimeInMillis;
+        this.maxWaitTimeInMillis = Math.max(maxWaitTimeInMillis, minWaitTimeInMillis);
+        this.idleWaitTimeInMillis = Math.min(Math.max(idleWaitTimeInMillis, minWaitTimeInMillis), this.maxWaitTimeInMillis);
+
+        this.acquireSize = maxAcquireSize;
+    }
+
+    /**
+     * @return the number of jobs to acquire in the next cycle, given the remaining capacity of the executor (-1 when unknown)
+     */
+    public int getNextAcquireSize(int remainingCapacity) {
+        this.remainingCapacity = remainingCapacity;
+        if (remainingCapacity >= 0) {
+            return Math.min(acquireSize, remainingCapacity);
+        }
+        return acquireSize;
+    }
+
+    /**
+     * @return the time to wait before the next acquisition
+     */
+    public long acquired(int requested, int acquired) {
+        acquireCycles.incrementAndGet();
+        acquiredJobs.addAndGet(acquired);
+        hitRatio = average(hitRatio, requested > 0 ? Math.min(1.0, (double) acquired / requested) : 0.0);
+        optimisticLockFailureRate = average(optimisticLockFailureRate, 0.0);
+
+        if (acquired > 0 && acquired >= requested) {
+            acquireSize = (int) Math.min(maxAcquireSize, 2L * acquireSize);
+            waitTimeInMillis = 0L;
+
+        } else if (acquired > 0) {
+            waitTimeInMillis = minWaitTimeInMillis;
+
+        } else {
+            emptyAcquireCycles.incrementAndGet();
+            waitTimeInMillis = waitTimeInMillis < idleWaitTimeInMillis ? idleWaitTimeInMillis : Math.min(maxWaitTimeInMillis, 2L * waitTimeInMillis);
+
+        }
+
+        return waitTimeInMillis;
+    }
+
+    /**
+     * @return the time to wait before the next acquisition
+     */
+    public long rejected(int rejected, long queueFullWaitTimeInMillis) {
+        rejectedJobs.addAndGet(rejected);
+        shrinkAcquireSize();
+        waitTimeInMillis = queueFullWaitTimeInMillis;
+        return waitTimeInMillis;
+    }
+
+    /**
+     * @return the time to wait before the next acquisition
+     */
+    public long capacityExhausted(long queueFullWaitTimeInMillis) {
+        capacityExhaustedCycles.incrementAndGet();
+        shrinkAcquireSize();
+        waitTimeInMillis = queueFullWaitTimeInMillis;
+        return waitTimeInMillis;
+    }
+
+    /**
+     * @return the time to wait before the next acquisition
+     */
+    public long optimisticLockingFailure() {
+        acquireCycles.incrementAndGet();
+        optimisticLockFailures.incrementAndGet();
+        optimisticLockFailureRate = average(optimisticLockFailureRate, 1.0);
+        shrinkAcquireSize();
+
+        long jitter = minWaitTimeInMillis > 0 ? ThreadLocalRandom.current().nextLong(minWaitTimeInMillis) : 0L;
+        waitTimeInMillis = minWaitTimeInMillis + jitter;
+        return waitTimeInMillis;
+    }
+
+    protected void shrinkAcquireSize() {
+        acquireSize = Math.max(minAcquireSize, acquireSize / 2);
+    }
+
+    protected double average(double currentAverage, double value) {
+        return currentAverage + SMOOTHING_FACTOR * (value - currentAverage);
+    }
+
+    public int getAcquireSize() {
+        return acquireSize;
+    }
+
+    public long getWaitTimeInMillis() {
+        return waitTimeInMillis;
+    }
+
+    /**
+     * @return the moving average of acquired jobs compared to the requested number of jobs, between 0 and 1
+     */
+    public double getHitRatio() {
+        return hitRatio;
+    }
+
+    /**
+     * @return the moving average of acquire cycles that ended with an optimistic locking exception, between 0 and 1
+     */
+    public double getOptimisticLockFailureRate() {
+        return optimisticLockFailureRate;
+    }
+
+    /**
+     * @return the remaining capacity of the executor at the start of the last cycle, -1 if unknown
+     */
+    public int getRemainingCapacity() {
+        return remainingCapacity;
+    }
+
+    public int getMaxAcquireSize() {
+        return maxAcquireSize;
+    }
+
+    public long getMinWaitTimeInMillis() {
+        return minWaitTimeInMillis;
+    }
+
+    public long getMaxWaitTimeInMillis() {
+        return maxWaitTimeInMillis;
+    }
+
+    public long getAcquireCycles() {
+        return acquireCycles.get();
+    }
+
+    public long getAcquiredJobs() {
+        return acquiredJobs.get();
+    }
+
+    public long getEmptyAcquireCycles() {
+        return emptyAcquireCycles.get();
+    }
+
+    public long getRejectedJobs() {
+        return rejectedJobs.get();
+    }
+
+    public long getOptimisticLockFailures() {
+        return optimisticLockFailures.get();
+    }
+
+    public long getCapacityExhaustedCycles() {
+        return capacityExhaustedCycles.get();
+    }
+
+}
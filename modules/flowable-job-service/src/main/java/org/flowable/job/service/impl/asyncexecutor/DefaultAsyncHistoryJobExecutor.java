@@ -12,8 +12,31 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAsyncHistoryJobExecutor.class);
+
+    /**
+     * The number of history jobs that are executed together in one transaction by the {@link HistoryJobBatchWriter}.
+     * By default (1), every history job is executed in its own transaction and no batch writer is started.
+     */
+    protected int historyJobBatchSize = 1;
+
+    /**
+     * The number of history jobs that can be buffered for the {@link HistoryJobBatchWriter}.
+     * When the buffer is full, the history jobs are executed one by one.
+     */
+    protected int historyJobBatchQueueSize = 2048;
+
+    protected String historyJobBatchWriterThreadName = "flowable-history-job-batch-writer";
+    protected HistoryJobBatchWriter historyJobBatchWriter;
+    protected Thread historyJobBatchWriterThread;
+
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
         setAcquireRunnableThreadName("flowable-acquire-history-jobs");
@@ -32,4 +55,81 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
     protected ResetExpiredJobsRunnable createResetExpiredJobsRunnable(String resetRunnableName) {
         return new ResetExpiredJobsRunnable(resetRunnableName, this, jobServiceConfiguration.getHistoryJobEntityManager());
     }
+
+    @Override
+    public boolean executeAsyncJob(JobInfo job) {
+        if (historyJobBatchWriter != null && isActive && job instanceof HistoryJobEntity && historyJobBatchWriter.offer((HistoryJobEntity) job)) {
+            return true;
+        }
+        return super.executeAsyncJob(job);
+    }
+
+    /**
+     * Executes the history job in its own transaction, used when it could not be executed as part of a batch.
+     */
+    protected boolean executeHistoryJobWithoutBatching(JobInfo job) {
+        return super.executeAsyncJob(job);
+    }
+
+    @Override
+    protected void startAdditionalComponents() {
+        super.startAdditionalComponents();
+        startHistoryJobBatchWriterThread();
+    }
+
+    @Override
+    protected void shutdownAdditionalComponents() {
+        // The buffered jobs are written before the threads that could execute them are stopped
+        stopHistoryJobBatchWriterThread();
+        super.shutdownAdditionalComponents();
+    }
+
+    protected void startHistoryJobBatchWriterThread() {
+        if (historyJobBatchSize > 1 && !isMessageQueueMode) {
+            historyJobBatchWriter = new HistoryJobBatchWriter(historyJobBatchWriterThreadName, this, historyJobBatchQueueSize, historyJobBatchSize);
+            historyJobBatchWriterThread = new Thread(historyJobBatchWriter);
+            historyJobBatchWriterThread.start();
+        }
+    }
+
+    protected void stopHistoryJobBatchWriterThread() {
+        if (historyJobBatchWriter != null) {
+            historyJobBatchWriter.stop();
+            try {
+                historyJobBatchWriterThread.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the history job batch writer thread to terminate", e);
+            }
+            historyJobBatchWriter = null;
+            historyJobBatchWriterThread = null;
+        }
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
+
+    public int getHistoryJobBatchQueueSize() {
+        return historyJobBatchQueueSize;
+    }
+
+    public void setHistoryJobBatchQueueSize(int historyJobBatchQueueSize) {
+        this.historyJobBatchQueueSize = historyJobBatchQueueSize;
+    }
+
+    public String getHistoryJobBatchWriterThreadName() {
+        return historyJobBatchWriterThreadName;
+    }
+
+    public void setHistoryJobBatchWriterThreadName(String historyJobBatchWriterThreadName) {
+        this.historyJobBatchWriterThreadName = historyJobBatchWriterThreadName;
+    }
+
+    public HistoryJobBatchWriter getHistoryJobBatchWriter() {
+        return historyJobBatchWriter;
+    }
 }
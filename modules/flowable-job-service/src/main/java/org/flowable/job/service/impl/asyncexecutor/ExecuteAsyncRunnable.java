@@ -20,6 +20,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.jfr.JobExecutionEvent;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
@@ -29,6 +30,7 @@ import org.flowable.job.service.impl.cmd.ExecuteAsyncRunnableJobCmd;
 import org.flowable.job.service.impl.cmd.LockExclusiveJobCmd;
 import org.flowable.job.service.impl.cmd.UnlockExclusiveJobCmd;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -123,11 +125,19 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
 
     protected void executeJob(final boolean unlock) {
+        JobExecutionEvent jobExecutionEvent = null;
+        if (jobServiceConfiguration.isFlightRecorderEventsEnabled()) {
+            jobExecutionEvent = new JobExecutionEvent();
+            jobExecutionEvent.begin();
+        }
+
         try {
-            jobServiceConfiguration.getCommandExecutor().execute(
-                new ExecuteAsyncRunnableJobCmd(jobId, jobEntityManager, jobServiceConfiguration, unlock));
+            jobServiceConfiguration.getCommandExecutor().execute(createExecuteJobCmd(unlock));
 
         } catch (final FlowableOptimisticLockingException e) {
+            if (jobExecutionEvent != null) {
+                jobExecutionEvent.setExceptionClass(e.getClass().getName());
+            }
 
             try {
                 handleFailedJob(e);
@@ -143,10 +153,56 @@ public class ExecuteAsyncRunnable implements Runnable {
             }
 
         } catch (Throwable exception) {
+            if (jobExecutionEvent != null) {
+                jobExecutionEvent.setExceptionClass(exception.getClass().getName());
+            }
             handleFailedJob(exception);
+
+        } finally {
+            if (jobExecutionEvent != null) {
+                commitJobExecutionEvent(jobExecutionEvent);
+            }
         }
     }
 
+    protected void commitJobExecutionEvent(JobExecutionEvent jobExecutionEvent) {
+        jobExecutionEvent.end();
+        if (jobExecutionEvent.shouldCommit()) {
+            jobExecutionEvent.setJobId(jobId);
+            if (job != null) {
+                jobExecutionEvent.setJobHandlerType(job.getJobHandlerType());
+                jobExecutionEvent.setTenantId(job.getTenantId());
+            }
+            if (job instanceof Job) {
+                Job runtimeJob = (Job) job;
+                jobExecutionEvent.setProcessDefinitionId(runtimeJob.getProcessDefinitionId() != null ? runtimeJob.getProcessDefinitionId() : runtimeJob.getScopeDefinitionId());
+            }
+            jobExecutionEvent.commit();
+        }
+    }
+
+    protected ExecuteAsyncRunnableJobCmd createExecuteJobCmd(boolean unlock) {
+        if (isHandedOffJob()) {
+            return new ExecuteAsyncRunnableJobCmd((JobEntity) job, jobEntityManager, jobServiceConfiguration, unlock);
+        }
+        return new ExecuteAsyncRunnableJobCmd(jobId, jobEntityManager, jobServiceConfiguration, unlock);
+    }
+
+    /**
+     * A job is handed off when this runnable got the entity that was inserted by this node (and not one that was fetched by the acquisition),
+     * which was locked for the async executor of this node in that same insert.
+     */
+    protected boolean isHandedOffJob() {
+        if (!jobServiceConfiguration.isAsyncExecutorJobHandOffEnabled() || !(job instanceof JobEntity)) {
+            return false;
+        }
+
+        JobEntity jobEntity = (JobEntity) job;
+        AsyncExecutor asyncExecutor = jobServiceConfiguration.getAsyncExecutor();
+        return jobEntity.isInserted() && asyncExecutor != null && jobEntity.getLockOwner() != null
+                && jobEntity.getLockOwner().equals(asyncExecutor.getLockOwner());
+    }
+
     protected void unlockJobIfNeeded() {
         if (this.job instanceof HistoryJob) {
             return;
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.flowable.job.service.impl.cmd.ExecuteHistoryJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runnable that executes the history jobs handed to the {@link DefaultAsyncHistoryJobExecutor} in batches.
+ * 
+ * The jobs are buffered in a bounded queue. The writer takes as many jobs from the queue as fit in one batch
+ * and executes them in one transaction, so the historic entities of many runtime transactions are written with a few bulk statements.
+ * 
+ * The history jobs stay the durable record of the history data: when a job can't be buffered because the queue is full,
+ * or when its batch fails, the job is executed on its own by the async history executor, with the usual retries.
+ */
+public class HistoryJobBatchWriter implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryJobBatchWriter.class);
+
+    protected final String name;
+    protected final DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+    protected final BlockingQueue<HistoryJobEntity> queue;
+    protected final int batchSize;
+    protected final long pollWaitTimeInMillis;
+
+    protected volatile boolean isInterrupted;
+
+    public HistoryJobBatchWriter(String name, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor, int queueSize, int batchSize) {
+        this.name = name;
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.pollWaitTimeInMillis = 500L;
+    }
+
+    /**
+     * @return whether the job was buffered. If not, the caller needs to execute the job itself.
+     */
+    public boolean offer(HistoryJobEntity historyJob) {
+        return !isInterrupted && queue.offer(historyJob);
+    }
+
+    @Override
+    public void run() {
+        LOGGER.info("starting to write history jobs in batches for engine {}", asyncHistoryExecutor.getJobServiceConfiguration().getEngineName());
+        Thread.currentThread().setName(name);
+
+        // The jobs that are still buffered are written before stopping
+        while (!isInterrupted || !queue.isEmpty()) {
+            try {
+                HistoryJobEntity historyJob = queue.poll(pollWaitTimeInMillis, TimeUnit.MILLISECONDS);
+                if (historyJob != null) {
+                    List<HistoryJobEntity> batch = new ArrayList<>(batchSize);
+                    batch.add(historyJob);
+                    queue.drainTo(batch, batchSize - 1);
+                    writeBatch(batch);
+                }
+
+            } catch (InterruptedException e) {
+                LOGGER.debug("history job batch writer wait interrupted");
+            }
+        }
+
+        LOGGER.info("stopped writing history jobs in batches for engine {}", asyncHistoryExecutor.getJobServiceConfiguration().getEngineName());
+    }
+
+    protected void writeBatch(List<HistoryJobEntity> batch) {
+        try {
+            List<String> historyJobIds = batch.stream().map(HistoryJobEntity::getId).collect(Collectors.toList());
+            asyncHistoryExecutor.getJobServiceConfiguration().getCommandExecutor()
+                    .execute(new ExecuteHistoryJobsCmd(historyJobIds, asyncHistoryExecutor.getJobServiceConfiguration()));
+
+        } catch (Throwable e) {
+            LOGGER.debug("Could not execute a batch of {} history jobs, executing them one by one. Caught exception: {}", batch.size(), e.getMessage());
+            for (HistoryJobEntity historyJob : batch) {
+                asyncHistoryExecutor.executeHistoryJobWithoutBatching(historyJob);
+            }
+        }
+    }
+
+    public void stop() {
+        isInterrupted = true;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+}
@@ -0,0 +1,191 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.lock.LockManager;
+import org.flowable.common.engine.impl.lock.LockManagerImpl;
+import org.flowable.job.service.impl.cmd.RegisterJobShardNodeCmd;
+import org.flowable.job.service.impl.cmd.UnregisterJobShardNodeCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides which job shards are acquired by the async executor of this node, when job sharding is enabled
+ * (see {@link org.flowable.job.service.JobServiceConfiguration#getJobShardCount()}).
+ * 
+ * Every node periodically registers itself (while holding a global rebalance lock) and gets back the sorted list of all nodes that are alive.
+ * The shards are divided round-robin over that list, so all nodes come to the same division without any further coordination.
+ * When a node joins, it is part of the list after its first registration. When a node stops, it removes its registration.
+ * When a node dies, its registration expires and the other nodes take over its shards.
+ * 
+ * Until all nodes have rebalanced, two nodes can own the same shard for a short time. This is safe: the optimistic locking of the job acquisition
+ * still guarantees that a job is only acquired once.
+ */
+public class JobShardManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobShardManager.class);
+
+    private static final String REBALANCE_LOCK = "jobShardRebalanceLock";
+    private static final String NODE_PROPERTY_PREFIX = "jobShardNode-";
+
+    // The name of a property is at most 64 characters long
+    private static final int MAX_NODE_ID_LENGTH = 36;
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final int shardCount;
+    protected final String nodeId;
+    protected final String nodePropertyPrefix;
+    protected final String engineName;
+
+    protected Duration rebalanceInterval = Duration.ofSeconds(10);
+    protected Duration nodeExpiration = Duration.ofMinutes(1);
+    protected Duration lockWaitTime = Duration.ofSeconds(10);
+    protected Duration lockPollRate = Duration.ofMillis(500);
+
+    protected LockManager lockManager;
+    protected CommandConfig commandConfig = new CommandConfig(false, TransactionPropagation.REQUIRES_NEW);
+
+    protected volatile List<Integer> ownedShards = Collections.emptyList();
+    protected volatile int nrOfNodes;
+    protected long nextRebalanceTime;
+
+    public JobShardManager(AsyncExecutor asyncExecutor, int shardCount, String globalAcquireLockPrefix) {
+        this.asyncExecutor = asyncExecutor;
+        this.shardCount = shardCount;
+        this.engineName = asyncExecutor.getJobServiceConfiguration().getEngineName();
+        this.nodeId = createNodeId(asyncExecutor.getLockOwner());
+        this.nodePropertyPrefix = globalAcquireLockPrefix + NODE_PROPERTY_PREFIX;
+        this.lockManager = new LockManagerImpl(getCommandExecutor(), globalAcquireLockPrefix + REBALANCE_LOCK, lockPollRate, engineName);
+    }
+
+    protected String createNodeId(String lockOwner) {
+        if (lockOwner.length() <= MAX_NODE_ID_LENGTH) {
+            return lockOwner;
+        }
+        return UUID.nameUUIDFromBytes(lockOwner.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * @return the shards of which this node acquires the jobs, rebalancing first when the rebalance interval has passed
+     */
+    public List<Integer> getOwnedShards() {
+        if (System.currentTimeMillis() >= nextRebalanceTime) {
+            rebalance();
+        }
+        return ownedShards;
+    }
+
+    public void rebalance() {
+        nextRebalanceTime = System.currentTimeMillis() + rebalanceInterval.toMillis();
+        try {
+            List<String> nodeIds = lockManager.waitForLockRunAndRelease(lockWaitTime,
+                    () -> getCommandExecutor().execute(commandConfig, new RegisterJobShardNodeCmd(nodePropertyPrefix, nodeId, nodeExpiration, engineName)));
+
+            List<Integer> shards = determineShards(nodeIds.indexOf(nodeId), nodeIds.size());
+            if (!shards.equals(ownedShards)) {
+                LOGGER.info("Async executor {} of engine {} now acquires the jobs of shards {} ({} nodes)", nodeId, engineName, shards, nodeIds.size());
+            }
+            this.ownedShards = shards;
+            this.nrOfNodes = nodeIds.size();
+
+        } catch (Exception e) {
+            // Keep the current shards, rebalancing will be retried next time.
+            // If this node can't renew its registration in time, the other nodes will take over its shards.
+            if (e instanceof FlowableException) {
+                LOGGER.debug("Could not rebalance job shards for engine {}", engineName, e);
+            } else {
+                LOGGER.warn("Error while rebalancing job shards for engine {}", engineName, e);
+            }
+        }
+    }
+
+    protected List<Integer> determineShards(int nodeIndex, int nrOfNodes) {
+        List<Integer> shards = new ArrayList<>();
+        for (int shard = nodeIndex; shard < shardCount; shard += nrOfNodes) {
+            shards.add(shard);
+        }
+        return shards;
+    }
+
+    /**
+     * Removes the registration of this node, so the other nodes take over its shards at their next rebalance.
+     */
+    public void unregister() {
+        try {
+            getCommandExecutor().execute(commandConfig, new UnregisterJobShardNodeCmd(nodePropertyPrefix + nodeId, engineName));
+        } catch (Exception e) {
+            LOGGER.debug("Could not unregister job shard node {} for engine {}. The registration will expire.", nodeId, engineName, e);
+        }
+        this.ownedShards = Collections.emptyList();
+        this.nextRebalanceTime = 0L;
+    }
+
+    protected CommandExecutor getCommandExecutor() {
+        return asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int getNrOfNodes() {
+        return nrOfNodes;
+    }
+
+    public Duration getRebalanceInterval() {
+        return rebalanceInterval;
+    }
+
+    public void setRebalanceInterval(Duration rebalanceInterval) {
+        this.rebalanceInterval = rebalanceInterval;
+    }
+
+    public Duration getNodeExpiration() {
+        return nodeExpiration;
+    }
+
+    public void setNodeExpiration(Duration nodeExpiration) {
+        this.nodeExpiration = nodeExpiration;
+    }
+
+    public Duration getLockWaitTime() {
+        return lockWaitTime;
+    }
+
+    public void setLockWaitTime(Duration lockWaitTime) {
+        this.lockWaitTime = lockWaitTime;
+    }
+
+    public LockManager getLockManager() {
+        return lockManager;
+    }
+
+    public void setLockManager(LockManager lockManager) {
+        this.lockManager = lockManager;
+    }
+}
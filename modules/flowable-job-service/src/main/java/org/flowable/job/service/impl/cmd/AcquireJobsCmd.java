@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -21,6 +22,7 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 
@@ -34,6 +36,7 @@ public class AcquireJobsCmd implements Command<List<? extends JobInfoEntity>> {
     protected AsyncExecutor asyncExecutor;
     protected int remainingCapacity;
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected List<Integer> shards;
 
     public AcquireJobsCmd(AsyncExecutor asyncExecutor) {
         this(asyncExecutor, Integer.MAX_VALUE, asyncExecutor.getJobServiceConfiguration().getJobEntityManager());
@@ -45,11 +48,28 @@ public class AcquireJobsCmd implements Command<List<? extends JobInfoEntity>> {
         this.jobEntityManager = jobEntityManager;
     }
 
+    /**
+     * Only acquires the jobs of the given shards (see {@link JobServiceConfiguration#getJobShardCount()}).
+     */
+    public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobEntityManager jobEntityManager, List<Integer> shards) {
+        this(asyncExecutor, remainingCapacity, jobEntityManager);
+        this.shards = shards;
+    }
+
     @Override
     public List<? extends JobInfoEntity> execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
         List<String> enabledCategories = asyncExecutor.getJobServiceConfiguration().getEnabledJobCategories();
-        List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(enabledCategories, new Page(0, maxResults));
+        List<? extends JobInfoEntity> jobs;
+        if (shards != null) {
+            if (shards.isEmpty()) {
+                return Collections.emptyList();
+            }
+            int shardCount = asyncExecutor.getJobServiceConfiguration().getJobShardCount();
+            jobs = ((JobEntityManager) jobEntityManager).findJobsToExecute(enabledCategories, shards, shardCount, new Page(0, maxResults));
+        } else {
+            jobs = jobEntityManager.findJobsToExecute(enabledCategories, new Page(0, maxResults));
+        }
 
         for (JobInfoEntity job : jobs) {
             lockJob(job, asyncExecutor.getAsyncJobLockTimeInMillis(), asyncExecutor.getJobServiceConfiguration());
@@ -30,9 +30,15 @@ import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 public class AcquireTimerJobsCmd implements Command<List<TimerJobEntity>> {
 
     protected AsyncExecutor asyncExecutor;
+    protected int maxTimerJobsPerAcquisition;
 
     public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
+        this(asyncExecutor, asyncExecutor.getMaxTimerJobsPerAcquisition());
+    }
+
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, int maxTimerJobsPerAcquisition) {
         this.asyncExecutor = asyncExecutor;
+        this.maxTimerJobsPerAcquisition = maxTimerJobsPerAcquisition;
     }
 
     @Override
@@ -40,7 +46,7 @@ public class AcquireTimerJobsCmd implements Command<List<TimerJobEntity>> {
         JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
         List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
         List<TimerJobEntity> timerJobs = jobServiceConfiguration.getTimerJobEntityManager()
-            .findJobsToExecute(enabledCategories, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+            .findJobsToExecute(enabledCategories, new Page(0, maxTimerJobsPerAcquisition));
 
         for (TimerJobEntity job : timerJobs) {
             lockJob(commandContext, job, asyncExecutor.getTimerLockTimeInMillis(), jobServiceConfiguration);
@@ -19,6 +19,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -43,6 +44,7 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected JobServiceConfiguration jobServiceConfiguration;
     protected boolean unlock;
+    protected JobEntity handedOffJob;
 
     public ExecuteAsyncRunnableJobCmd(String jobId, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
             JobServiceConfiguration jobServiceConfiguration, boolean unlock) {
@@ -53,6 +55,17 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
         this.unlock = unlock;
     }
 
+    /**
+     * Executes a job that was created and locked by this node in a transaction that has been committed,
+     * using the inserted entity instead of fetching the job again.
+     */
+    public ExecuteAsyncRunnableJobCmd(JobEntity handedOffJob, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            JobServiceConfiguration jobServiceConfiguration, boolean unlock) {
+
+        this(handedOffJob.getId(), jobEntityManager, jobServiceConfiguration, unlock);
+        this.handedOffJob = handedOffJob;
+    }
+
     @Override
     public Object execute(CommandContext commandContext) {
         
@@ -70,7 +83,7 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
         // However, the async task jobs could already have been fetched and put in the queue.... while in reality they have been deleted.
         // A refetch is thus needed here to be sure that it exists for this transaction.
 
-        JobInfoEntity job = jobEntityManager.findById(jobId);
+        JobInfoEntity job = handedOffJob != null ? attachHandedOffJob(commandContext) : jobEntityManager.findById(jobId);
         if (job == null) {
             LOGGER.debug("Job does not exist anymore and will not be executed. It has most likely been deleted "
                     + "as part of another concurrent part of the process instance.");
@@ -103,6 +116,20 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
         return null;
     }
 
+    protected JobInfoEntity attachHandedOffJob(CommandContext commandContext) {
+        if (handedOffJob.isDeleted()) {
+            // Deleted in the same transaction that created it
+            return null;
+        }
+
+        // The job was inserted with the lock of this node and not changed since, so the entity is the current state of the row.
+        // Should the job have been deleted concurrently after all, the delete at the end of the execution fails on its revision
+        // and the transaction is rolled back.
+        handedOffJob.setInserted(false);
+        commandContext.getSession(EntityCache.class).put(handedOffJob, true);
+        return handedOffJob;
+    }
+
     public String getJobId() {
         return jobId;
     }
@@ -135,4 +162,12 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
         this.unlock = unlock;
     }
 
+    public JobEntity getHandedOffJob() {
+        return handedOffJob;
+    }
+
+    public void setHandedOffJob(JobEntity handedOffJob) {
+        this.handedOffJob = handedOffJob;
+    }
+
 }
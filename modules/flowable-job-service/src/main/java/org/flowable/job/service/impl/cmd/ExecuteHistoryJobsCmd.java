@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Collection;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction, in the given order.
+ * The historic entities written by all jobs are flushed together, which allows the inserts to be bulk inserts.
+ * When one job fails, none of the jobs of the batch is executed.
+ */
+public class ExecuteHistoryJobsCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteHistoryJobsCmd.class);
+
+    protected Collection<String> historyJobIds;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteHistoryJobsCmd(Collection<String> historyJobIds, JobServiceConfiguration jobServiceConfiguration) {
+        this.historyJobIds = historyJobIds;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (historyJobIds == null) {
+            throw new FlowableIllegalArgumentException("historyJobIds is null");
+        }
+
+        FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
+        for (String historyJobId : historyJobIds) {
+
+            // As with a single job, the job is fetched again, as it could have been executed or deleted in the meantime
+            HistoryJobEntity historyJobEntity = jobServiceConfiguration.getHistoryJobEntityManager().findById(historyJobId);
+            if (historyJobEntity == null) {
+                LOGGER.debug("History job {} does not exist anymore and will not be executed", historyJobId);
+                continue;
+            }
+
+            LOGGER.debug("Executing history job {} as part of a batch", historyJobId);
+            jobServiceConfiguration.getJobManager().execute(historyJobEntity);
+
+            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, historyJobEntity),
+                        jobServiceConfiguration.getEngineName());
+            }
+        }
+
+        return null;
+    }
+
+    public Collection<String> getHistoryJobIds() {
+        return historyJobIds;
+    }
+
+}
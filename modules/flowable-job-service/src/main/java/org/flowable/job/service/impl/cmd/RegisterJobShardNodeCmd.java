@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+
+/**
+ * Registers (or renews) a node that takes part in the sharded job acquisition and returns the ids of all nodes that are currently alive, sorted.
+ * 
+ * Every node is a property (named the property prefix followed by the node id) with the time until which the node is considered alive as value.
+ * Nodes that didn't renew their registration in time are removed.
+ */
+public class RegisterJobShardNodeCmd implements Command<List<String>> {
+
+    protected String nodePropertyPrefix;
+    protected String nodeId;
+    protected Duration nodeExpiration;
+    protected String engineType;
+
+    public RegisterJobShardNodeCmd(String nodePropertyPrefix, String nodeId, Duration nodeExpiration, String engineType) {
+        this.nodePropertyPrefix = nodePropertyPrefix;
+        this.nodeId = nodeId;
+        this.nodeExpiration = nodeExpiration;
+        this.engineType = engineType;
+    }
+
+    @Override
+    public List<String> execute(CommandContext commandContext) {
+        PropertyEntityManager propertyEntityManager = commandContext.getEngineConfigurations().get(engineType).getPropertyEntityManager();
+        Instant now = Instant.now();
+
+        List<String> nodeIds = new ArrayList<>();
+        PropertyEntity nodeProperty = null;
+        for (PropertyEntity property : propertyEntityManager.findAll()) {
+            if (!property.getName().startsWith(nodePropertyPrefix)) {
+                continue;
+            }
+
+            String propertyNodeId = property.getName().substring(nodePropertyPrefix.length());
+            if (nodeId.equals(propertyNodeId)) {
+                nodeProperty = property;
+
+            } else if (isExpired(property.getValue(), now)) {
+                propertyEntityManager.delete(property);
+
+            } else {
+                nodeIds.add(propertyNodeId);
+
+            }
+        }
+
+        String expirationTime = now.plus(nodeExpiration).toString();
+        if (nodeProperty == null) {
+            nodeProperty = propertyEntityManager.create();
+            nodeProperty.setName(nodePropertyPrefix + nodeId);
+            nodeProperty.setValue(expirationTime);
+            propertyEntityManager.insert(nodeProperty);
+        } else {
+            nodeProperty.setValue(expirationTime);
+        }
+        nodeIds.add(nodeId);
+
+        Collections.sort(nodeIds);
+        return nodeIds;
+    }
+
+    protected boolean isExpired(String expirationTime, Instant now) {
+        if (expirationTime == null) {
+            return true;
+        }
+
+        try {
+            return Instant.parse(expirationTime).isBefore(now);
+        } catch (DateTimeParseException e) {
+            return true;
+        }
+    }
+}
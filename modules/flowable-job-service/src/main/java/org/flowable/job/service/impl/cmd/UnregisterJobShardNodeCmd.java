@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+
+/**
+ * Removes the registration of a node that takes part in the sharded job acquisition (see {@link RegisterJobShardNodeCmd}),
+ * so that the other nodes take over its shards without waiting for the registration to expire.
+ */
+public class UnregisterJobShardNodeCmd implements Command<Void> {
+
+    protected String nodePropertyName;
+    protected String engineType;
+
+    public UnregisterJobShardNodeCmd(String nodePropertyName, String engineType) {
+        this.nodePropertyName = nodePropertyName;
+        this.engineType = engineType;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        PropertyEntityManager propertyEntityManager = commandContext.getEngineConfigurations().get(engineType).getPropertyEntityManager();
+        PropertyEntity property = propertyEntityManager.findById(nodePropertyName);
+        if (property != null) {
+            propertyEntityManager.delete(property);
+        }
+        return null;
+    }
+}
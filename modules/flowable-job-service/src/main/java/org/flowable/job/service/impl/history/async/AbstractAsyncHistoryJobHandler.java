@@ -15,12 +15,14 @@ package org.flowable.job.service.impl.history.async;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryCompactFormat;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.slf4j.Logger;
@@ -28,7 +30,6 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandler {
@@ -53,59 +54,24 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         ObjectMapper objectMapper = commandContext.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
 
+            byte[] bytes;
             JsonNode historyNode;
             try {
-                byte[] bytes = getJobBytes(job);
-                historyNode = objectMapper.readTree(bytes);
+                bytes = getJobBytes(job);
+                historyNode = AsyncHistoryCompactFormat.isCompactFormat(bytes) ? null : objectMapper.readTree(bytes);
             } catch (Exception e) {
                 // The transaction will be rolled back and the job retries decremented,
                 // which is different from unacquiring the job where the retries are not changed.
                 throw new FlowableException("Could not deserialize async history json for job (id=" + job.getId() + ")", e);
             }
 
-            if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
-                List<ObjectNode> failedNodes = null;
-                Exception exception = null;
-                ArrayNode arrayNode = (ArrayNode) historyNode;
-                for (JsonNode jsonNode : arrayNode) {
-                    try {
-                        processHistoryJson(commandContext, job, jsonNode);
-
-                    } catch (Exception ex) {
-                        if (failedNodes == null) {
-                            failedNodes = new ArrayList<>();
-                        }
-                        failedNodes.add((ObjectNode) jsonNode);
-
-                        exception = new FlowableException("Failed to process async history json. See suppressed exceptions.");
-                        exception.addSuppressed(ex);
-                    }
-                }
+            if (historyNode == null) {
+                // Compact jobs are always grouped and are decoded one history node at a time
+                processHistoryNodes(job, AsyncHistoryCompactFormat.readHistoryNodes(bytes), commandContext, jobServiceConfiguration);
+
+            } else if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
+                processHistoryNodes(job, historyNode.elements(), commandContext, jobServiceConfiguration);
 
-                if (failedNodes != null && !failedNodes.isEmpty()) {
-                    AsyncHistorySession historySession = commandContext.getSession(AsyncHistorySession.class);
-                    List<HistoryJobEntity> newHistoryJobs = historySession.getAsyncHistoryListener()
-                            .historyDataGenerated(jobServiceConfiguration, failedNodes);
-
-                    StringWriter stringWriter = new StringWriter();
-                    exception.printStackTrace(new PrintWriter(stringWriter));
-                    String exceptionStacktrace = stringWriter.toString();
-
-                    for (HistoryJobEntity historyJob : newHistoryJobs) {
-                        historyJob.setExceptionMessage(exception.getMessage());
-                        historyJob.setExceptionStacktrace(exceptionStacktrace);
-                        if (job.getRetries() == 0) {
-                            // If the job has no more retries then we should create a dead letter job out of it
-                            DeadLetterJobEntity deadLetterJob = jobServiceConfiguration.getJobManager().createDeadLetterJobFromHistoryJob(historyJob);
-                            jobServiceConfiguration.getDeadLetterJobDataManager().insert(deadLetterJob);
-                            jobServiceConfiguration.getHistoryJobEntityManager().deleteNoCascade(historyJob); // no cascade -> the bytearray ref is reused for either the new history job or the deadletter job
-                        } else {
-                            // The historyJob is a new job with new data
-                            // However, we still should decrement the retries
-                            historyJob.setRetries(job.getRetries() - 1);
-                        }
-                    }
-                }
             } else {
                 try {
                     processHistoryJson(commandContext, job, historyNode);
@@ -128,6 +94,52 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    protected void processHistoryNodes(HistoryJobEntity job, Iterator<JsonNode> historyNodes, CommandContext commandContext,
+            JobServiceConfiguration jobServiceConfiguration) {
+        List<ObjectNode> failedNodes = null;
+        Exception exception = null;
+        while (historyNodes.hasNext()) {
+            JsonNode jsonNode = historyNodes.next();
+            try {
+                processHistoryJson(commandContext, job, jsonNode);
+
+            } catch (Exception ex) {
+                if (failedNodes == null) {
+                    failedNodes = new ArrayList<>();
+                }
+                failedNodes.add((ObjectNode) jsonNode);
+
+                exception = new FlowableException("Failed to process async history json. See suppressed exceptions.");
+                exception.addSuppressed(ex);
+            }
+        }
+
+        if (failedNodes != null && !failedNodes.isEmpty()) {
+            AsyncHistorySession historySession = commandContext.getSession(AsyncHistorySession.class);
+            List<HistoryJobEntity> newHistoryJobs = historySession.getAsyncHistoryListener()
+                    .historyDataGenerated(jobServiceConfiguration, failedNodes);
+
+            StringWriter stringWriter = new StringWriter();
+            exception.printStackTrace(new PrintWriter(stringWriter));
+            String exceptionStacktrace = stringWriter.toString();
+
+            for (HistoryJobEntity historyJob : newHistoryJobs) {
+                historyJob.setExceptionMessage(exception.getMessage());
+                historyJob.setExceptionStacktrace(exceptionStacktrace);
+                if (job.getRetries() == 0) {
+                    // If the job has no more retries then we should create a dead letter job out of it
+                    DeadLetterJobEntity deadLetterJob = jobServiceConfiguration.getJobManager().createDeadLetterJobFromHistoryJob(historyJob);
+                    jobServiceConfiguration.getDeadLetterJobDataManager().insert(deadLetterJob);
+                    jobServiceConfiguration.getHistoryJobEntityManager().deleteNoCascade(historyJob); // no cascade -> the bytearray ref is reused for either the new history job or the deadletter job
+                } else {
+                    // The historyJob is a new job with new data
+                    // However, we still should decrement the retries
+                    historyJob.setRetries(job.getRetries() - 1);
+                }
+            }
+        }
+    }
+
     protected byte[] getJobBytes(HistoryJobEntity job) {
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(job.getScopeType());
     }
@@ -23,6 +23,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryCompactFormat;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -48,6 +49,11 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
         if (jobServiceConfiguration.isAsyncHistoryJsonGroupingEnabled() && historyObjectNodes.size() >= jobServiceConfiguration.getAsyncHistoryJsonGroupingThreshold()) {
             String jobType = getJobType(jobServiceConfiguration, true);
             HistoryJobEntity jobEntity = createJob(commandContext, asyncHistorySession, jobServiceConfiguration, jobType);
+            if (jobServiceConfiguration.isAsyncHistoryCompactFormatEnabled()) {
+                jobEntity.setAdvancedJobHandlerConfigurationBytes(AsyncHistoryCompactFormat.write(historyObjectNodes));
+                return Collections.singletonList(jobEntity);
+            }
+
             ArrayNode arrayNode = jobServiceConfiguration.getObjectMapper().createArrayNode();
             for (ObjectNode historyJsonNode : historyObjectNodes) {
                 arrayNode.add(historyJsonNode);
@@ -109,7 +115,8 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     }
 
     protected String getJobType(JobServiceConfiguration jobServiceConfiguration, boolean groupingEnabled) {
-        if (groupingEnabled) {
+        if (groupingEnabled && !jobServiceConfiguration.isAsyncHistoryCompactFormatEnabled()) {
+            // The compact format is already compressed and is recognized by the regular async history job handler
             return jobServiceConfiguration.isAsyncHistoryJsonGzipCompressionEnabled() ?
                 jobServiceConfiguration.getJobTypeAsyncHistoryZipped() : jobServiceConfiguration.getJobTypeAsyncHistory();
         } else {
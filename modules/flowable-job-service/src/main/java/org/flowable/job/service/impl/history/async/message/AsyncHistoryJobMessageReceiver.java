@@ -23,6 +23,7 @@ import org.flowable.job.api.HistoryJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.HistoryJobQueryImpl;
 import org.flowable.job.service.impl.asyncexecutor.message.AsyncJobMessageReceiver;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryCompactFormat;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
 
@@ -95,8 +96,14 @@ public class AsyncHistoryJobMessageReceiver {
     protected JsonNode getHistoryJobData(CommandContext commandContext, HistoryJobEntity job) {
         ObjectMapper objectMapper = jobServiceConfiguration.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+            byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName());
+            if (AsyncHistoryCompactFormat.isCompactFormat(bytes)) {
+                // Compact history jobs are always grouped, the handler gets the array of history nodes they were created from
+                return AsyncHistoryCompactFormat.toArrayNode(bytes);
+            }
+
             try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName()));
+                return objectMapper.readTree(bytes);
             } catch (IOException e) {
                 throw new FlowableException("Could not deserialize json for history job data", e);
             }
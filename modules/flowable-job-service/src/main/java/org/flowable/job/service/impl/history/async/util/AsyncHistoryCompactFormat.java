@@ -0,0 +1,384 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Compact binary representation of a list of async history json nodes.
+ *
+ * <p>
+ * The history json of one transaction repeats the same field names (and often the same values, such as ids and dates)
+ * for every event. This format writes every short string only once: the first occurrence is stored inline and added to
+ * a dictionary, every later occurrence is stored as a reference into that dictionary. Numbers are stored as variable
+ * length integers and the whole payload is deflated.
+ * </p>
+ *
+ * <p>
+ * The history nodes are read back one at a time through {@link #readHistoryNodes(byte[])}, so a job handler never needs
+ * the complete tree of a (potentially large) grouped history job in memory.
+ * </p>
+ */
+public class AsyncHistoryCompactFormat {
+
+    protected static final byte[] HEADER = { 'F', 'H', 'C', 1 };
+
+    /**
+     * Strings longer than this (e.g. serialized variable values) are written inline and are not added to the dictionary.
+     */
+    protected static final int MAX_DICTIONARY_STRING_LENGTH = 128;
+
+    protected static final int TAG_END = 0;
+    protected static final int TAG_NULL = 1;
+    protected static final int TAG_TRUE = 2;
+    protected static final int TAG_FALSE = 3;
+    protected static final int TAG_LONG = 4;
+    protected static final int TAG_DOUBLE = 5;
+    protected static final int TAG_DECIMAL = 6;
+    protected static final int TAG_BIG_INTEGER = 7;
+    protected static final int TAG_STRING = 8;
+    protected static final int TAG_DICTIONARY_STRING = 9;
+    protected static final int TAG_DICTIONARY_REFERENCE = 10;
+    protected static final int TAG_BINARY = 11;
+    protected static final int TAG_OBJECT = 12;
+    protected static final int TAG_ARRAY = 13;
+    protected static final int TAG_INT = 14;
+
+    public static boolean isCompactFormat(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; i++) {
+            if (bytes[i] != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static byte[] write(List<? extends JsonNode> historyNodes) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        byteArrayOutputStream.write(HEADER, 0, HEADER.length);
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(byteArrayOutputStream, deflater))) {
+            Writer writer = new Writer(out);
+            for (JsonNode historyNode : historyNodes) {
+                writer.writeValue(historyNode);
+            }
+            out.write(TAG_END);
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not write compact async history data", e);
+
+        } finally {
+            deflater.end();
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * @return an iterator that decodes the next history node each time it is asked for one.
+     */
+    public static Iterator<JsonNode> readHistoryNodes(byte[] bytes) {
+        if (!isCompactFormat(bytes)) {
+            throw new FlowableException("Bytes are not in the compact async history format");
+        }
+        return new Reader(bytes);
+    }
+
+    public static ArrayNode toArrayNode(byte[] bytes) {
+        ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
+        Iterator<JsonNode> historyNodes = readHistoryNodes(bytes);
+        while (historyNodes.hasNext()) {
+            arrayNode.add(historyNodes.next());
+        }
+        return arrayNode;
+    }
+
+    protected static class Writer {
+
+        protected final DataOutputStream out;
+        protected final Map<String, Integer> dictionary = new HashMap<>();
+
+        protected Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        protected void writeValue(JsonNode node) throws IOException {
+            if (node == null || node.isNull() || node.isMissingNode()) {
+                out.write(TAG_NULL);
+
+            } else if (node.isObject()) {
+                out.write(TAG_OBJECT);
+                writeVarInt(node.size());
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    writeString(field.getKey());
+                    writeValue(field.getValue());
+                }
+
+            } else if (node.isArray()) {
+                out.write(TAG_ARRAY);
+                writeVarInt(node.size());
+                for (JsonNode element : node) {
+                    writeValue(element);
+                }
+
+            } else if (node.isTextual()) {
+                writeString(node.textValue());
+
+            } else if (node.isBoolean()) {
+                out.write(node.booleanValue() ? TAG_TRUE : TAG_FALSE);
+
+            } else if (node.isInt() || node.isShort()) {
+                out.write(TAG_INT);
+                writeVarLong(node.longValue());
+
+            } else if (node.isLong()) {
+                out.write(TAG_LONG);
+                writeVarLong(node.longValue());
+
+            } else if (node.isBigInteger()) {
+                out.write(TAG_BIG_INTEGER);
+                writeBytes(node.bigIntegerValue().toByteArray());
+
+            } else if (node.isBigDecimal()) {
+                out.write(TAG_DECIMAL);
+                writeBytes(node.decimalValue().toString().getBytes(StandardCharsets.UTF_8));
+
+            } else if (node.isFloatingPointNumber()) {
+                out.write(TAG_DOUBLE);
+                out.writeDouble(node.doubleValue());
+
+            } else if (node.isBinary()) {
+                out.write(TAG_BINARY);
+                writeBytes(node.binaryValue());
+
+            } else {
+                // POJO nodes and other exotic node types are stored by their textual representation
+                writeString(node.asText());
+            }
+        }
+
+        protected void writeString(String value) throws IOException {
+            if (value.length() > MAX_DICTIONARY_STRING_LENGTH) {
+                out.write(TAG_STRING);
+                writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            Integer index = dictionary.get(value);
+            if (index != null) {
+                out.write(TAG_DICTIONARY_REFERENCE);
+                writeVarInt(index);
+
+            } else {
+                dictionary.put(value, dictionary.size());
+                out.write(TAG_DICTIONARY_STRING);
+                writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        protected void writeBytes(byte[] bytes) throws IOException {
+            writeVarInt(bytes.length);
+            out.write(bytes);
+        }
+
+        protected void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+
+        protected void writeVarLong(long value) throws IOException {
+            long zigZag = (value << 1) ^ (value >> 63);
+            while ((zigZag & ~0x7FL) != 0) {
+                out.write((int) ((zigZag & 0x7F) | 0x80));
+                zigZag >>>= 7;
+            }
+            out.write((int) zigZag);
+        }
+    }
+
+    protected static class Reader implements Iterator<JsonNode> {
+
+        protected final DataInputStream in;
+        protected final List<String> dictionary = new ArrayList<>();
+        protected final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+        protected int nextTag;
+
+        protected Reader(byte[] bytes) {
+            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes, HEADER.length, bytes.length - HEADER.length);
+            this.in = new DataInputStream(new InflaterInputStream(byteArrayInputStream));
+            this.nextTag = readTag();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextTag != TAG_END;
+        }
+
+        @Override
+        public JsonNode next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                JsonNode historyNode = readValue(nextTag);
+                nextTag = readTag();
+                return historyNode;
+
+            } catch (IOException e) {
+                throw new FlowableException("Could not read compact async history data", e);
+            }
+        }
+
+        protected int readTag() {
+            try {
+                return in.readUnsignedByte();
+            } catch (IOException e) {
+                throw new FlowableException("Could not read compact async history data", e);
+            }
+        }
+
+        protected JsonNode readValue(int tag) throws IOException {
+            switch (tag) {
+                case TAG_NULL:
+                    return nodeFactory.nullNode();
+                case TAG_TRUE:
+                    return nodeFactory.booleanNode(true);
+                case TAG_FALSE:
+                    return nodeFactory.booleanNode(false);
+                case TAG_INT:
+                    return nodeFactory.numberNode((int) readVarLong());
+                case TAG_LONG:
+                    return nodeFactory.numberNode(readVarLong());
+                case TAG_DOUBLE:
+                    return nodeFactory.numberNode(in.readDouble());
+                case TAG_DECIMAL:
+                    return nodeFactory.numberNode(new BigDecimal(new String(readBytes(), StandardCharsets.UTF_8)));
+                case TAG_BIG_INTEGER:
+                    return nodeFactory.numberNode(new BigInteger(readBytes()));
+                case TAG_BINARY:
+                    return nodeFactory.binaryNode(readBytes());
+                case TAG_STRING:
+                case TAG_DICTIONARY_STRING:
+                case TAG_DICTIONARY_REFERENCE:
+                    return nodeFactory.textNode(readString(tag));
+                case TAG_OBJECT:
+                    int fieldCount = readVarInt();
+                    ObjectNode objectNode = nodeFactory.objectNode();
+                    for (int i = 0; i < fieldCount; i++) {
+                        String fieldName = readString(in.readUnsignedByte());
+                        objectNode.set(fieldName, readValue(in.readUnsignedByte()));
+                    }
+                    return objectNode;
+                case TAG_ARRAY:
+                    int elementCount = readVarInt();
+                    ArrayNode arrayNode = nodeFactory.arrayNode(elementCount);
+                    for (int i = 0; i < elementCount; i++) {
+                        arrayNode.add(readValue(in.readUnsignedByte()));
+                    }
+                    return arrayNode;
+                default:
+                    throw new FlowableException("Unknown tag " + tag + " in compact async history data");
+            }
+        }
+
+        protected String readString(int tag) throws IOException {
+            if (tag == TAG_DICTIONARY_REFERENCE) {
+                int index = readVarInt();
+                if (index >= dictionary.size()) {
+                    throw new FlowableException("Invalid dictionary reference " + index + " in compact async history data");
+                }
+                return dictionary.get(index);
+            }
+
+            String value = new String(readBytes(), StandardCharsets.UTF_8);
+            if (tag == TAG_DICTIONARY_STRING) {
+                dictionary.add(value);
+            } else if (tag != TAG_STRING) {
+                throw new FlowableException("Expected a string but found tag " + tag + " in compact async history data");
+            }
+            return value;
+        }
+
+        protected byte[] readBytes() throws IOException {
+            byte[] bytes = new byte[readVarInt()];
+            in.readFully(bytes);
+            return bytes;
+        }
+
+        protected int readVarInt() throws IOException {
+            int value = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+                if (shift > 35) {
+                    throw new EOFException("Malformed variable length integer");
+                }
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        protected long readVarLong() throws IOException {
+            long zigZag = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = in.readUnsignedByte();
+                zigZag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+                if (shift > 70) {
+                    throw new EOFException("Malformed variable length long");
+                }
+            } while ((b & 0x80) != 0);
+            return (zigZag >>> 1) ^ -(zigZag & 1);
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryCompactFormat;
 
 /**
  * History Job entity.
@@ -138,6 +139,13 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public String getAdvancedJobHandlerConfiguration() {
+        if (advancedJobHandlerConfigurationByteArrayRef != null) {
+            byte[] bytes = advancedJobHandlerConfigurationByteArrayRef.getBytes(getEngineType());
+            if (AsyncHistoryCompactFormat.isCompactFormat(bytes)) {
+                // Compact history jobs are returned as the json they were created from
+                return AsyncHistoryCompactFormat.toArrayNode(bytes).toString();
+            }
+        }
         return getJobByteArrayRefAsString(advancedJobHandlerConfigurationByteArrayRef);
     }
 
@@ -20,4 +20,11 @@ package org.flowable.job.service.impl.persistence.entity;
  */
 public interface JobEntity extends JobInfoEntity, AbstractRuntimeJobEntity {
 
+    /**
+     * The shard of the job, used to divide the jobs over the async executors of different nodes. Null if job sharding isn't used.
+     */
+    Integer getShard();
+
+    void setShard(Integer shard);
+
 }
@@ -27,6 +27,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
 
     protected String lockOwner;
     protected Date lockExpirationTime;
+    protected Integer shard;
 
     @Override
     @SuppressWarnings("unchecked")
@@ -34,6 +35,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
         Map<String, Object> persistentState = (Map<String, Object>) super.getPersistentState();
         persistentState.put("lockOwner", lockOwner);
         persistentState.put("lockExpirationTime", lockExpirationTime);
+        persistentState.put("shard", shard);
 
         return persistentState;
     }
@@ -60,6 +62,16 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
         this.lockExpirationTime = claimedUntil;
     }
 
+    @Override
+    public Integer getShard() {
+        return shard;
+    }
+
+    @Override
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+
     @Override
     public String toString() {
         return "JobEntity [id=" + id + "]";
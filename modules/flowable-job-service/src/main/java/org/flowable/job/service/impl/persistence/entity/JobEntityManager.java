@@ -14,6 +14,7 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -45,5 +46,11 @@ public interface JobEntityManager extends EntityManager<JobEntity>, JobInfoEntit
      * Same as {@link #findJobsByQueryCriteria(JobQueryImpl)}, but only returns a count and not the instances itself.
      */
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
+
+    /**
+     * Same as {@link #findJobsToExecute(List, Page)}, but only returns the jobs of the given shards.
+     * Jobs without a shard, or with a shard that isn't lower than the shard count, are returned when the given shards contain shard 0.
+     */
+    List<JobEntity> findJobsToExecute(List<String> enabledCategories, List<Integer> shards, int shardCount, Page page);
     
 }
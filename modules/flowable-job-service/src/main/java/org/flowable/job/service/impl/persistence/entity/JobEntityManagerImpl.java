@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -58,10 +59,32 @@ public class JobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (jobEntity.getShard() == null && serviceConfiguration.getJobShardCount() > 0) {
+            jobEntity.setShard(determineShard(jobEntity, serviceConfiguration.getJobShardCount()));
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
 
+    protected int determineShard(JobEntity jobEntity, int shardCount) {
+        // Jobs of the same process or case instance end up in the same shard (and thus are executed by the same node),
+        // which avoids that exclusive jobs of one instance are executed on different nodes at the same time
+        String shardKey;
+        if (jobEntity.getProcessInstanceId() != null) {
+            shardKey = jobEntity.getProcessInstanceId();
+        } else if (jobEntity.getScopeId() != null) {
+            shardKey = jobEntity.getScopeId();
+        } else {
+            shardKey = jobEntity.getCorrelationId();
+        }
+        return Math.floorMod(shardKey.hashCode(), shardCount);
+    }
+
+    @Override
+    public List<JobEntity> findJobsToExecute(List<String> enabledCategories, List<Integer> shards, int shardCount, Page page) {
+        return dataManager.findJobsToExecute(enabledCategories, shards, shardCount, page);
+    }
+
     @Override
     public JobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
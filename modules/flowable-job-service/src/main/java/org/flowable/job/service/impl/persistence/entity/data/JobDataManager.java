@@ -14,6 +14,7 @@ package org.flowable.job.service.impl.persistence.entity.data;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -31,5 +32,7 @@ public interface JobDataManager extends DataManager<JobEntity>, JobInfoDataManag
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
 
     void deleteJobsByExecutionId(String executionId);
+
+    List<JobEntity> findJobsToExecute(List<String> enabledCategories, List<Integer> shards, int shardCount, Page page);
     
 }
@@ -104,7 +104,7 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateHistoryJobTenantIdForDeployment", params);
+        getDbSqlSession().update("updateHistoryJobTenantIdForDeployment", params, getManagedEntityClass());
     }
 
     @Override
@@ -120,7 +120,7 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
     public void resetExpiredJob(String jobId) {
         Map<String, Object> params = new HashMap<>(2);
         params.put("id", jobId);
-        getDbSqlSession().update("resetExpiredHistoryJob", params);
+        getDbSqlSession().update("resetExpiredHistoryJob", params, getManagedEntityClass());
     }
 
     @Override
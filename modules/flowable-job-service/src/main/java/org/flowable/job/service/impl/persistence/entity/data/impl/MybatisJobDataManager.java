@@ -69,6 +69,22 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", params, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsToExecute(List<String> enabledCategories, List<Integer> shards, int shardCount, Page page) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+
+        if (enabledCategories != null && enabledCategories.size() > 0) {
+            params.put("enabledCategories", enabledCategories);
+        }
+
+        params.put("shards", shards);
+        params.put("shardCount", shardCount);
+        params.put("includeUnsharded", shards.contains(0));
+        return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -125,7 +141,7 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateJobTenantIdForDeployment", params);
+        getDbSqlSession().update("updateJobTenantIdForDeployment", params, getManagedEntityClass());
     }
 
     @Override
@@ -142,7 +158,7 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         Map<String, Object> params = new HashMap<>(2);
         params.put("id", jobId);
         params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
-        getDbSqlSession().update("resetExpiredJob", params);
+        getDbSqlSession().update("resetExpiredJob", params, getManagedEntityClass());
     }
     
     @Override
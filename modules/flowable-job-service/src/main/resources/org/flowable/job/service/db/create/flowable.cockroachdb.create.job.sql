@@ -26,6 +26,7 @@ CREATE TABLE ACT_RU_JOB (
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
     TENANT_ID_ varchar(255) default '',
+    SHARD_ integer,
     primary key (ID_)
 );
 
@@ -26,6 +26,7 @@ create table ACT_RU_JOB (
     CUSTOM_VALUES_ID_ nvarchar(64),
     CREATE_TIME_ datetime2 NULL,
     TENANT_ID_ nvarchar(255) default '',
+    SHARD_ int,
     primary key (ID_)
 );
 
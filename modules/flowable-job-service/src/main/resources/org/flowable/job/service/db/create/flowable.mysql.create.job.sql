@@ -26,6 +26,7 @@ create table ACT_RU_JOB (
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp(3) NULL,
     TENANT_ID_ varchar(255) default '',
+    SHARD_ integer,
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
 
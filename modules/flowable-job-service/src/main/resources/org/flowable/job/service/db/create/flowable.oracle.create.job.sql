@@ -26,6 +26,7 @@ create table ACT_RU_JOB (
     CUSTOM_VALUES_ID_ NVARCHAR2(64),
     CREATE_TIME_ TIMESTAMP(6),
     TENANT_ID_ NVARCHAR2(255) DEFAULT '',
+    SHARD_ INTEGER,
     primary key (ID_)
 );
 
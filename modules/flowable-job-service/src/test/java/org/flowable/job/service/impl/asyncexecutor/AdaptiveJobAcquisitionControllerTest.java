@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveJobAcquisitionControllerTest {
+
+    @Test
+    void fullBatchesGrowSizeAndPollImmediately() {
+        AdaptiveJobAcquisitionController controller = new AdaptiveJobAcquisitionController(64, 10000L, 1000L, 60000L);
+        controller.optimisticLockingFailure();
+        controller.optimisticLockingFailure();
+        assertThat(controller.getAcquireSize()).isEqualTo(16);
+
+        int acquireSize = controller.getNextAcquireSize(1000);
+        assertThat(controller.acquired(acquireSize, acquireSize)).isZero();
+        assertThat(controller.getAcquireSize()).isEqualTo(32);
+
+        acquireSize = controller.getNextAcquireSize(1000);
+        controller.acquired(acquireSize, acquireSize);
+        acquireSize = controller.getNextAcquireSize(1000);
+        controller.acquired(acquireSize, acquireSize);
+        assertThat(controller.getAcquireSize()).isEqualTo(64);
+        assertThat(controller.getAcquiredJobs()).isEqualTo(16 + 32 + 64);
+    }
+
+    @Test
+    void acquireSizeIsLimitedByRemainingCapacity() {
+        AdaptiveJobAcquisitionController controller = new AdaptiveJobAcquisitionController(64, 10000L, 1000L, 60000L);
+        assertThat(controller.getNextAcquireSize(10)).isEqualTo(10);
+        assertThat(controller.getRemainingCapacity()).isEqualTo(10);
+        assertThat(controller.getNextAcquireSize(-1)).isEqualTo(64);
+    }
+
+    @Test
+    void emptyBatchesBackOffUntilMaxWaitTime() {
+        AdaptiveJobAcquisitionController controller = new AdaptiveJobAcquisitionController(64, 10000L, 1000L, 60000L);
+        assertThat(controller.acquired(64, 0)).isEqualTo(10000L);
+        assertThat(controller.acquired(64, 0)).isEqualTo(20000L);
+        assertThat(controller.acquired(64, 0)).isEqualTo(40000L);
+        assertThat(controller.acquired(64, 0)).isEqualTo(60000L);
+        assertThat(controller.acquired(64, 0)).isEqualTo(60000L);
+        assertThat(controller.getEmptyAcquireCycles()).isEqualTo(5);
+        assertThat(controller.getHitRatio()).isLessThan(0.5);
+
+        // Work arrives again
+        assertThat(controller.acquired(64, 10)).isEqualTo(1000L);
+        assertThat(controller.acquired(64, 64)).isZero();
+        assertThat(controller.acquired(64, 0)).isEqualTo(10000L);
+    }
+
+    @Test
+    void optimisticLockFailuresShrinkSizeAndAddJitter() {
+        AdaptiveJobAcquisitionController controller = new AdaptiveJobAcquisitionController(64, 10000L, 1000L, 60000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(controller.optimisticLockingFailure()).isBetween(1000L, 1999L);
+        }
+        assertThat(controller.getAcquireSize()).isEqualTo(1);
+        assertThat(controller.getOptimisticLockFailures()).isEqualTo(10);
+        assertThat(controller.getOptimisticLockFailureRate()).isGreaterThan(0.8);
+
+        controller.acquired(1, 1);
+        assertThat(controller.getOptimisticLockFailureRate()).isLessThan(0.8);
+    }
+
+    @Test
+    void saturationShrinksSize() {
+        AdaptiveJobAcquisitionController controller = new AdaptiveJobAcquisitionController(64, 10000L, 1000L, 60000L);
+        assertThat(controller.rejected(5, 5000L)).isEqualTo(5000L);
+        assertThat(controller.getAcquireSize()).isEqualTo(32);
+        assertThat(controller.capacityExhausted(5000L)).isEqualTo(5000L);
+        assertThat(controller.getAcquireSize()).isEqualTo(16);
+        assertThat(controller.getRejectedJobs()).isEqualTo(5);
+        assertThat(controller.getCapacityExhaustedCycles()).isEqualTo(1);
+    }
+
+}
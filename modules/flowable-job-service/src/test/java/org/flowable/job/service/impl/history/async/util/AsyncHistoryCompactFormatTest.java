@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class AsyncHistoryCompactFormatTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void historyNodesAreReadBackUnchanged() throws Exception {
+        ObjectNode first = (ObjectNode) objectMapper.readTree("{\"type\": \"activity-start\", \"data\": {\"processInstanceId\": \"123\","
+                + " \"activityId\": \"theStart\", \"startTime\": \"2021-03-04T10:15:30.123Z\", \"revision\": 1, \"duration\": -5000000000,"
+                + " \"amount\": 12.5, \"price\": 1234567890.123456789, \"ended\": false, \"tenantId\": null,"
+                + " \"names\": [\"a\", \"é\", 3, true]}}");
+        ObjectNode second = (ObjectNode) objectMapper.readTree("{\"type\": \"activity-end\", \"data\": {\"processInstanceId\": \"123\","
+                + " \"activityId\": \"theStart\", \"endTime\": \"2021-03-04T10:15:30.123Z\", \"revision\": 2, \"ended\": true}}");
+        second.with("data").put("price", new BigDecimal("1234567890.123456789"));
+        second.with("data").put("bytes", new byte[] { 1, 2, 3 });
+        second.with("data").put("longText", String.join("", Collections.nCopies(50, "abcd")));
+
+        byte[] bytes = AsyncHistoryCompactFormat.write(Arrays.asList(first, second));
+        assertThat(AsyncHistoryCompactFormat.isCompactFormat(bytes)).isTrue();
+
+        List<JsonNode> historyNodes = new ArrayList<>();
+        Iterator<JsonNode> iterator = AsyncHistoryCompactFormat.readHistoryNodes(bytes);
+        while (iterator.hasNext()) {
+            historyNodes.add(iterator.next());
+        }
+
+        assertThat(historyNodes).containsExactly(first, second);
+        assertThat(AsyncHistoryCompactFormat.toArrayNode(bytes)).containsExactly(first, second);
+    }
+
+    @Test
+    void repeatedHistoryDataIsSmallerThanJson() throws Exception {
+        List<ObjectNode> historyNodes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ObjectNode historyNode = objectMapper.createObjectNode();
+            historyNode.put("type", "variable-created");
+            ObjectNode dataNode = historyNode.putObject("data");
+            dataNode.put("processInstanceId", "a6c7b1f2-7d2a-11eb-9439-0242ac130002");
+            dataNode.put("executionId", "a6c7b1f2-7d2a-11eb-9439-0242ac130002");
+            dataNode.put("name", "variable" + i);
+            dataNode.put("variableType", "string");
+            dataNode.put("createTime", "2021-03-04T10:15:30.123Z");
+            dataNode.put("revision", 0);
+            historyNodes.add(historyNode);
+        }
+
+        byte[] compactBytes = AsyncHistoryCompactFormat.write(historyNodes);
+        byte[] jsonBytes = objectMapper.writeValueAsBytes(historyNodes);
+
+        assertThat(compactBytes.length).isLessThan(jsonBytes.length / 5);
+        assertThat(AsyncHistoryCompactFormat.isCompactFormat(jsonBytes)).isFalse();
+        assertThat(AsyncHistoryCompactFormat.toArrayNode(compactBytes)).containsExactlyElementsOf(historyNodes);
+    }
+
+}
@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.micrometer;
+
+/**
+ * The names of the meters published by {@link MicrometerEngineConfigurator}.
+ * All meters have an {@link #TAG_ENGINE engine} tag with the scope type of the engine (e.g. bpmn or cmmn).
+ */
+public interface FlowableMeterNames {
+
+    String TAG_ENGINE = "engine";
+
+    /** Timer of each executed command, tagged with the command class and the exception it failed with (none when successful). */
+    String COMMAND = "flowable.command";
+
+    /** Counter of the commands that failed with an optimistic locking exception, tagged with the command class. */
+    String COMMAND_OPTIMISTIC_LOCK_FAILURES = "flowable.command.optimistic.lock.failures";
+
+    /** Timer of each executed MyBatis statement, tagged with the statement id and type. */
+    String DB_STATEMENT = "flowable.db.statement";
+
+    /** Distribution of the number of rows selected or changed by each MyBatis statement, tagged with the statement id and type. */
+    String DB_STATEMENT_ROWS = "flowable.db.statement.rows";
+
+    /** Number of requests to a definition cache, tagged with the name of the cache and whether it was a hit or a miss. */
+    String DEPLOYMENT_CACHE_REQUESTS = "flowable.deployment.cache.requests";
+
+    /** Number of definitions in a definition cache, tagged with the name of the cache. */
+    String DEPLOYMENT_CACHE_SIZE = "flowable.deployment.cache.size";
+
+    /** Number of jobs waiting in the queue of the async executor. */
+    String ASYNC_EXECUTOR_QUEUE_SIZE = "flowable.async.executor.queue.size";
+
+    /** Number of jobs the async executor can still accept. */
+    String ASYNC_EXECUTOR_REMAINING_CAPACITY = "flowable.async.executor.remaining.capacity";
+
+    /** Counter of the async jobs acquired by the async executor. */
+    String JOBS_ACQUIRED = "flowable.job.acquired";
+
+    /** Counter of the acquired async jobs the async executor had no capacity for. */
+    String JOBS_REJECTED = "flowable.job.rejected";
+
+    /** Counter of the async job acquisitions that failed with an optimistic locking exception. */
+    String JOB_ACQUISITION_OPTIMISTIC_LOCK_FAILURES = "flowable.job.acquisition.optimistic.lock.failures";
+
+    /** Counter of the executed jobs, tagged with the outcome (success or failure). */
+    String JOBS_EXECUTED = "flowable.job.executed";
+
+    /** Counter of the failed jobs that are retried later. */
+    String JOB_RETRIES = "flowable.job.retries";
+
+}
@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.micrometer;
+
+import java.util.Collection;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the hits and misses of the lookups in a {@link DeploymentCache}.
+ *
+ * @see FlowableMeterNames#DEPLOYMENT_CACHE_REQUESTS
+ * @see FlowableMeterNames#DEPLOYMENT_CACHE_SIZE
+ */
+public class MeteredDeploymentCache<T> implements DeploymentCache<T> {
+
+    protected final DeploymentCache<T> delegate;
+    protected final Counter hits;
+    protected final Counter misses;
+
+    public MeteredDeploymentCache(DeploymentCache<T> delegate, MeterRegistry meterRegistry, String engine, String cacheName) {
+        this.delegate = delegate;
+        this.hits = Counter.builder(FlowableMeterNames.DEPLOYMENT_CACHE_REQUESTS)
+                .tag(FlowableMeterNames.TAG_ENGINE, engine)
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(FlowableMeterNames.DEPLOYMENT_CACHE_REQUESTS)
+                .tag(FlowableMeterNames.TAG_ENGINE, engine)
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(FlowableMeterNames.DEPLOYMENT_CACHE_SIZE, delegate, DeploymentCache::size)
+                .tag(FlowableMeterNames.TAG_ENGINE, engine)
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public T get(String id) {
+        T object = delegate.get(id);
+        if (object != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return object;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return delegate.contains(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        delegate.add(id, object);
+    }
+
+    @Override
+    public void remove(String id) {
+        delegate.remove(id);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    public DeploymentCache<T> getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.micrometer;
+
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueLifecycleListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the acquired and rejected async jobs, and the acquisitions that failed with an optimistic locking exception.
+ * All calls are passed on to the listener that was configured on the async executor before, if any.
+ *
+ * @see FlowableMeterNames#JOBS_ACQUIRED
+ * @see FlowableMeterNames#JOBS_REJECTED
+ * @see FlowableMeterNames#JOB_ACQUISITION_OPTIMISTIC_LOCK_FAILURES
+ */
+public class MicrometerAsyncJobsDueLifecycleListener implements AcquireAsyncJobsDueLifecycleListener {
+
+    protected final AcquireAsyncJobsDueLifecycleListener delegate;
+    protected final Counter acquiredJobs;
+    protected final Counter rejectedJobs;
+    protected final Counter optimisticLockFailures;
+
+    public MicrometerAsyncJobsDueLifecycleListener(AcquireAsyncJobsDueLifecycleListener delegate, MeterRegistry meterRegistry, String engine) {
+        this.delegate = delegate;
+        this.acquiredJobs = meterRegistry.counter(FlowableMeterNames.JOBS_ACQUIRED, FlowableMeterNames.TAG_ENGINE, engine);
+        this.rejectedJobs = meterRegistry.counter(FlowableMeterNames.JOBS_REJECTED, FlowableMeterNames.TAG_ENGINE, engine);
+        this.optimisticLockFailures = meterRegistry.counter(FlowableMeterNames.JOB_ACQUISITION_OPTIMISTIC_LOCK_FAILURES, FlowableMeterNames.TAG_ENGINE, engine);
+    }
+
+    @Override
+    public void startAcquiring(String engineName, int remainingCapacity, int maxAsyncJobsDuePerAcquisition) {
+        if (delegate != null) {
+            delegate.startAcquiring(engineName, remainingCapacity, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void stopAcquiring(String engineName) {
+        if (delegate != null) {
+            delegate.stopAcquiring(engineName);
+        }
+    }
+
+    @Override
+    public void acquiredJobs(String engineName, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        acquiredJobs.increment(jobsAcquired);
+        if (delegate != null) {
+            delegate.acquiredJobs(engineName, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void rejectedJobs(String engineName, int jobsRejected, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        rejectedJobs.increment(jobsRejected);
+        if (delegate != null) {
+            delegate.rejectedJobs(engineName, jobsRejected, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void optimistLockingException(String engineName, int maxAsyncJobsDuePerAcquisition) {
+        optimisticLockFailures.increment();
+        if (delegate != null) {
+            delegate.optimistLockingException(engineName, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void startWaiting(String engineName, long millisToWait) {
+        if (delegate != null) {
+            delegate.startWaiting(engineName, millisToWait);
+        }
+    }
+}
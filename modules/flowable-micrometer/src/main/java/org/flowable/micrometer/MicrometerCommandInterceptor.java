@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.micrometer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the latency of every command executed through the command interceptor chain, and counts the commands that failed with an optimistic locking exception.
+ *
+ * @see FlowableMeterNames#COMMAND
+ * @see FlowableMeterNames#COMMAND_OPTIMISTIC_LOCK_FAILURES
+ */
+public class MicrometerCommandInterceptor extends AbstractCommandInterceptor {
+
+    protected static final String NO_EXCEPTION = "none";
+
+    protected final MeterRegistry meterRegistry;
+    protected final String engine;
+    protected final boolean publishPercentileHistogram;
+
+    /** Command names by command class, lambdas all get the same name to keep the number of tags bounded */
+    protected final ConcurrentMap<Class<?>, String> commandNames = new ConcurrentHashMap<>();
+
+    public MicrometerCommandInterceptor(MeterRegistry meterRegistry, String engine, boolean publishPercentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.engine = engine;
+        this.publishPercentileHistogram = publishPercentileHistogram;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        String commandName = commandNames.computeIfAbsent(command.getClass(), this::getCommandName);
+        String exception = NO_EXCEPTION;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return next.execute(config, command, commandExecutor);
+
+        } catch (FlowableOptimisticLockingException e) {
+            exception = e.getClass().getSimpleName();
+            Counter.builder(FlowableMeterNames.COMMAND_OPTIMISTIC_LOCK_FAILURES)
+                    .tag(FlowableMeterNames.TAG_ENGINE, engine)
+                    .tag("command", commandName)
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+
+        } catch (RuntimeException | Error e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+
+        } finally {
+            sample.stop(Timer.builder(FlowableMeterNames.COMMAND)
+                    .tag(FlowableMeterNames.TAG_ENGINE, engine)
+                    .tag("command", commandName)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram(publishPercentileHistogram)
+                    .register(meterRegistry));
+        }
+    }
+
+    protected String getCommandName(Class<?> commandClass) {
+        if (commandClass.isSynthetic() || commandClass.isAnonymousClass()) {
+            return "lambda";
+        }
+        return commandClass.getSimpleName();
+    }
+
+}
@@ -0,0 +1,211 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.micrometer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.common.engine.impl.EngineConfigurator;
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheDecorator;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * An {@link EngineConfigurator} that publishes the metrics of an engine to a Micrometer {@link MeterRegistry}:
+ * <ul>
+ * <li>the latency of the commands and the number of optimistic locking failures, see {@link MicrometerCommandInterceptor}</li>
+ * <li>the timings and row counts of the MyBatis statements, see {@link MicrometerMybatisInterceptor}</li>
+ * <li>the hit ratio of the definition caches the engine creates, see {@link MeteredDeploymentCache}</li>
+ * <li>the queue depth of the async executor and the acquired, executed, failed and retried jobs</li>
+ * </ul>
+ * The names of the meters are listed in {@link FlowableMeterNames}. Each part can be switched off with the setters of this configurator.
+ */
+public class MicrometerEngineConfigurator implements EngineConfigurator {
+
+    protected MeterRegistry meterRegistry;
+
+    protected boolean commandMetricsEnabled = true;
+    protected boolean publishCommandPercentileHistogram = true;
+    protected boolean sqlMetricsEnabled = true;
+    protected boolean deploymentCacheMetricsEnabled = true;
+    protected boolean jobMetricsEnabled = true;
+
+    public MicrometerEngineConfigurator(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeInit(AbstractEngineConfiguration engineConfiguration) {
+        String engine = getEngineTag(engineConfiguration);
+
+        if (commandMetricsEnabled) {
+            List<CommandInterceptor> customPreCommandInterceptors = engineConfiguration.getCustomPreCommandInterceptors();
+            if (customPreCommandInterceptors == null) {
+                customPreCommandInterceptors = new ArrayList<>();
+                engineConfiguration.setCustomPreCommandInterceptors(customPreCommandInterceptors);
+            }
+            // First in the chain, so that the time spent in the transaction and the flush of the command context is included
+            customPreCommandInterceptors.add(0, new MicrometerCommandInterceptor(meterRegistry, engine, publishCommandPercentileHistogram));
+        }
+
+        if (sqlMetricsEnabled) {
+            if (engineConfiguration.getCustomMybatisInterceptors() == null) {
+                engineConfiguration.setCustomMybatisInterceptors(new ArrayList<>());
+            }
+            engineConfiguration.getCustomMybatisInterceptors().add(new MicrometerMybatisInterceptor(meterRegistry, engine));
+        }
+
+        if (deploymentCacheMetricsEnabled && engineConfiguration.getDeploymentCacheDecorator() == null) {
+            engineConfiguration.setDeploymentCacheDecorator(new DeploymentCacheDecorator() {
+
+                @Override
+                public <T> DeploymentCache<T> decorate(String cacheName, DeploymentCache<T> deploymentCache) {
+                    return new MeteredDeploymentCache<>(deploymentCache, meterRegistry, engine, cacheName != null ? cacheName : "unknown");
+                }
+            });
+        }
+
+        if (jobMetricsEnabled) {
+            Map<String, List<FlowableEventListener>> typedEventListeners = engineConfiguration.getTypedEventListeners();
+            if (typedEventListeners == null) {
+                typedEventListeners = new HashMap<>();
+                engineConfiguration.setTypedEventListeners(typedEventListeners);
+            }
+            typedEventListeners.computeIfAbsent(MicrometerJobEventListener.EVENT_TYPES, types -> new ArrayList<>())
+                    .add(new MicrometerJobEventListener(meterRegistry, engine));
+        }
+    }
+
+    @Override
+    public void configure(AbstractEngineConfiguration engineConfiguration) {
+        if (!jobMetricsEnabled) {
+            return;
+        }
+
+        AbstractServiceConfiguration jobServiceConfiguration = engineConfiguration.getServiceConfigurations().get(EngineConfigurationConstants.KEY_JOB_SERVICE_CONFIG);
+        if (jobServiceConfiguration instanceof JobServiceConfiguration) {
+            AsyncExecutor asyncExecutor = ((JobServiceConfiguration) jobServiceConfiguration).getAsyncExecutor();
+            if (asyncExecutor != null) {
+                bindAsyncExecutor(asyncExecutor, getEngineTag(engineConfiguration));
+            }
+        }
+    }
+
+    protected void bindAsyncExecutor(AsyncExecutor asyncExecutor, String engine) {
+        if (asyncExecutor instanceof AbstractAsyncExecutor) {
+            AbstractAsyncExecutor abstractAsyncExecutor = (AbstractAsyncExecutor) asyncExecutor;
+            if (!(abstractAsyncExecutor.getAsyncJobsDueLifecycleListener() instanceof MicrometerAsyncJobsDueLifecycleListener)) {
+                abstractAsyncExecutor.setAsyncJobsDueLifecycleListener(
+                        new MicrometerAsyncJobsDueLifecycleListener(abstractAsyncExecutor.getAsyncJobsDueLifecycleListener(), meterRegistry, engine));
+            }
+        }
+
+        // The task executor is only created when the async executor is started, so it is looked up for every measurement
+        Gauge.builder(FlowableMeterNames.ASYNC_EXECUTOR_QUEUE_SIZE, asyncExecutor, MicrometerEngineConfigurator::getQueueSize)
+                .tag(FlowableMeterNames.TAG_ENGINE, engine)
+                .register(meterRegistry);
+        Gauge.builder(FlowableMeterNames.ASYNC_EXECUTOR_REMAINING_CAPACITY, asyncExecutor, MicrometerEngineConfigurator::getRemainingCapacity)
+                .tag(FlowableMeterNames.TAG_ENGINE, engine)
+                .register(meterRegistry);
+    }
+
+    protected static double getQueueSize(AsyncExecutor asyncExecutor) {
+        AsyncTaskExecutor taskExecutor = asyncExecutor.getTaskExecutor();
+        if (taskExecutor instanceof DefaultAsyncTaskExecutor && ((DefaultAsyncTaskExecutor) taskExecutor).getThreadPoolQueue() != null) {
+            return ((DefaultAsyncTaskExecutor) taskExecutor).getThreadPoolQueue().size();
+        }
+        return Double.NaN;
+    }
+
+    protected static double getRemainingCapacity(AsyncExecutor asyncExecutor) {
+        AsyncTaskExecutor taskExecutor = asyncExecutor.getTaskExecutor();
+        return taskExecutor != null ? taskExecutor.getRemainingCapacity() : Double.NaN;
+    }
+
+    protected String getEngineTag(AbstractEngineConfiguration engineConfiguration) {
+        return engineConfiguration.getEngineScopeType();
+    }
+
+    @Override
+    public int getPriority() {
+        // Before the configurators of the other engines, so the metrics are in place when they start their engines
+        return 0;
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isCommandMetricsEnabled() {
+        return commandMetricsEnabled;
+    }
+
+    public MicrometerEngineConfigurator setCommandMetricsEnabled(boolean commandMetricsEnabled) {
+        this.commandMetricsEnabled = commandMetricsEnabled;
+        return this;
+    }
+
+    public boolean isPublishCommandPercentileHistogram() {
+        return publishCommandPercentileHistogram;
+    }
+
+    public MicrometerEngineConfigurator setPublishCommandPercentileHistogram(boolean publishCommandPercentileHistogram) {
+        this.publishCommandPercentileHistogram = publishCommandPercentileHistogram;
+        return this;
+    }
+
+    public boolean isSqlMetricsEnabled() {
+        return sqlMetricsEnabled;
+    }
+
+    public MicrometerEngineConfigurator setSqlMetricsEnabled(boolean sqlMetricsEnabled) {
+        this.sqlMetricsEnabled = sqlMetricsEnabled;
+        return this;
+    }
+
+    public boolean isDeploymentCacheMetricsEnabled() {
+        return deploymentCacheMetricsEnabled;
+    }
+
+    public MicrometerEngineConfigurator setDeploymentCacheMetricsEnabled(boolean deploymentCacheMetricsEnabled) {
+        this.deploymentCacheMetricsEnabled = deploymentCacheMetricsEnabled;
+        return this;
+    }
+
+    public boolean isJobMetricsEnabled() {
+        return jobMetricsEnabled;
+    }
+
+    public MicrometerEngineConfigurator setJobMetricsEnabled(boolean jobMetricsEnabled) {
+        this.jobMetricsEnabled = jobMetricsEnabled;
+        return this;
+    }
+}
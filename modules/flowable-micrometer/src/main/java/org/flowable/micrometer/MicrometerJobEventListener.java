@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.micrometer;
+
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the executed, failed and retried jobs.
+ *
+ * @see FlowableMeterNames#JOBS_EXECUTED
+ * @see FlowableMeterNames#JOB_RETRIES
+ */
+public class MicrometerJobEventListener extends AbstractFlowableEventListener {
+
+    public static final String EVENT_TYPES = FlowableEngineEventType.JOB_EXECUTION_SUCCESS + ","
+            + FlowableEngineEventType.JOB_EXECUTION_FAILURE + ","
+            + FlowableEngineEventType.JOB_RETRIES_DECREMENTED;
+
+    protected final Counter succeededJobs;
+    protected final Counter failedJobs;
+    protected final Counter retriedJobs;
+
+    public MicrometerJobEventListener(MeterRegistry meterRegistry, String engine) {
+        this.succeededJobs = meterRegistry.counter(FlowableMeterNames.JOBS_EXECUTED, FlowableMeterNames.TAG_ENGINE, engine, "outcome", "success");
+        this.failedJobs = meterRegistry.counter(FlowableMeterNames.JOBS_EXECUTED, FlowableMeterNames.TAG_ENGINE, engine, "outcome", "failure");
+        this.retriedJobs = meterRegistry.counter(FlowableMeterNames.JOB_RETRIES, FlowableMeterNames.TAG_ENGINE, engine);
+    }
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (event.getType() == FlowableEngineEventType.JOB_EXECUTION_SUCCESS) {
+            succeededJobs.increment();
+        } else if (event.getType() == FlowableEngineEventType.JOB_EXECUTION_FAILURE) {
+            failedJobs.increment();
+        } else if (event.getType() == FlowableEngineEventType.JOB_RETRIES_DECREMENTED) {
+            retriedJobs.increment();
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.micrometer;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Properties;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the execution time and the number of selected or changed rows of every statement executed by the MyBatis executor,
+ * like {@link org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin} does for the log.
+ *
+ * @see FlowableMeterNames#DB_STATEMENT
+ * @see FlowableMeterNames#DB_STATEMENT_ROWS
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "query",
+                args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+        @Signature(type= Executor.class, method = "update", args = { MappedStatement.class, Object.class})
+})
+public class MicrometerMybatisInterceptor implements Interceptor {
+
+    protected final MeterRegistry meterRegistry;
+    protected final String engine;
+
+    public MicrometerMybatisInterceptor(MeterRegistry meterRegistry, String engine) {
+        this.meterRegistry = meterRegistry;
+        this.engine = engine;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        String statementType = mappedStatement.getSqlCommandType().name().toLowerCase(Locale.ROOT);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result = invocation.proceed();
+        sample.stop(Timer.builder(FlowableMeterNames.DB_STATEMENT)
+                .tag(FlowableMeterNames.TAG_ENGINE, engine)
+                .tag("statement", mappedStatement.getId())
+                .tag("type", statementType)
+                .register(meterRegistry));
+
+        int rows = -1;
+        if (result instanceof Collection) {
+            rows = ((Collection<?>) result).size();
+        } else if (result instanceof Integer) {
+            rows = (Integer) result;
+        }
+        if (rows >= 0) {
+            DistributionSummary.builder(FlowableMeterNames.DB_STATEMENT_ROWS)
+                    .tag(FlowableMeterNames.TAG_ENGINE, engine)
+                    .tag("statement", mappedStatement.getId())
+                    .tag("type", statementType)
+                    .register(meterRegistry)
+                    .record(rows);
+        }
+
+        return result;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+
+    }
+}
@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.micrometer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.job.api.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MicrometerEngineConfiguratorTest {
+
+    protected SimpleMeterRegistry meterRegistry;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-micrometer;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setEngineName("micrometerTest");
+        processEngineConfiguration.addConfigurator(new MicrometerEngineConfigurator(meterRegistry));
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Test
+    public void testEngineMetrics() {
+        Deployment deployment = processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/micrometer/oneTaskProcess.bpmn20.xml")
+                .deploy();
+        try {
+            ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getProcessDefinitionCache().clear();
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+            assertThat(meterRegistry.get(FlowableMeterNames.COMMAND)
+                    .tag(FlowableMeterNames.TAG_ENGINE, "bpmn")
+                    .tag("command", "StartProcessInstanceCmd")
+                    .tag("exception", "none")
+                    .timer().count()).isEqualTo(2);
+
+            assertThat(meterRegistry.get(FlowableMeterNames.DB_STATEMENT)
+                    .tag("type", "insert")
+                    .timers()).isNotEmpty();
+
+            assertThat(meterRegistry.get(FlowableMeterNames.DEPLOYMENT_CACHE_REQUESTS)
+                    .tag("cache", "processDefinition")
+                    .tag("result", "miss")
+                    .counter().count()).isGreaterThanOrEqualTo(1);
+            assertThat(meterRegistry.get(FlowableMeterNames.DEPLOYMENT_CACHE_REQUESTS)
+                    .tag("cache", "processDefinition")
+                    .tag("result", "hit")
+                    .counter().count()).isGreaterThanOrEqualTo(1);
+
+            assertThat(meterRegistry.get(FlowableMeterNames.ASYNC_EXECUTOR_QUEUE_SIZE).gauge()).isNotNull();
+
+        } finally {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testJobMetrics() {
+        Deployment deployment = processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/micrometer/asyncServiceTaskProcess.bpmn20.xml")
+                .deploy();
+        try {
+            ManagementService managementService = processEngine.getManagementService();
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncServiceTaskProcess", Collections.singletonMap("fail", false));
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncServiceTaskProcess", Collections.singletonMap("fail", false));
+            String failingProcessInstanceId = processEngine.getRuntimeService()
+                    .startProcessInstanceByKey("asyncServiceTaskProcess", Collections.singletonMap("fail", true)).getId();
+
+            for (Job job : managementService.createJobQuery().list()) {
+                if (job.getProcessInstanceId().equals(failingProcessInstanceId)) {
+                    assertThatThrownBy(() -> managementService.executeJob(job.getId())).isInstanceOf(FlowableException.class);
+                } else {
+                    managementService.executeJob(job.getId());
+                }
+            }
+
+            assertThat(meterRegistry.get(FlowableMeterNames.JOBS_EXECUTED)
+                    .tag(FlowableMeterNames.TAG_ENGINE, "bpmn")
+                    .tag("outcome", "success")
+                    .counter().count()).isEqualTo(2);
+            assertThat(meterRegistry.get(FlowableMeterNames.JOBS_EXECUTED)
+                    .tag(FlowableMeterNames.TAG_ENGINE, "bpmn")
+                    .tag("outcome", "failure")
+                    .counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get(FlowableMeterNames.JOB_RETRIES)
+                    .tag(FlowableMeterNames.TAG_ENGINE, "bpmn")
+                    .counter().count()).isEqualTo(1);
+
+        } finally {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import org.flowable.app.spring.SpringAppEngineConfiguration;
+import org.flowable.cmmn.spring.SpringCmmnEngineConfiguration;
+import org.flowable.dmn.spring.SpringDmnEngineConfiguration;
+import org.flowable.micrometer.MicrometerEngineConfigurator;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Publishes the metrics of the Flowable engines to the Micrometer {@link MeterRegistry} of the application,
+ * by adding a {@link MicrometerEngineConfigurator} to each engine.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({
+    MeterRegistry.class,
+    MicrometerEngineConfigurator.class
+})
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "flowable.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@AutoConfigureAfter({
+    MetricsAutoConfiguration.class,
+    CompositeMeterRegistryAutoConfiguration.class
+})
+public class FlowableMetricsAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SpringProcessEngineConfiguration.class)
+    public static class ProcessEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsProcessEngineConfigurer")
+        public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> metricsProcessEngineConfigurer(MeterRegistry meterRegistry) {
+            return processEngineConfiguration -> processEngineConfiguration.addConfigurator(new MicrometerEngineConfigurator(meterRegistry));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SpringCmmnEngineConfiguration.class)
+    public static class CmmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsCmmnEngineConfigurer")
+        public EngineConfigurationConfigurer<SpringCmmnEngineConfiguration> metricsCmmnEngineConfigurer(MeterRegistry meterRegistry) {
+            return cmmnEngineConfiguration -> cmmnEngineConfiguration.addConfigurator(new MicrometerEngineConfigurator(meterRegistry));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SpringDmnEngineConfiguration.class)
+    public static class DmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsDmnEngineConfigurer")
+        public EngineConfigurationConfigurer<SpringDmnEngineConfiguration> metricsDmnEngineConfigurer(MeterRegistry meterRegistry) {
+            return dmnEngineConfiguration -> dmnEngineConfiguration.addConfigurator(new MicrometerEngineConfigurator(meterRegistry));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SpringAppEngineConfiguration.class)
+    public static class AppEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsAppEngineConfigurer")
+        public EngineConfigurationConfigurer<SpringAppEngineConfiguration> metricsAppEngineConfigurer(MeterRegistry meterRegistry) {
+            return appEngineConfiguration -> appEngineConfiguration.addConfigurator(new MicrometerEngineConfigurator(meterRegistry));
+        }
+    }
+}
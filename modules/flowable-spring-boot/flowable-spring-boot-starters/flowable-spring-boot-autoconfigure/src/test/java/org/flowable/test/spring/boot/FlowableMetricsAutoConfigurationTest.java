@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.spring.boot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.micrometer.MicrometerEngineConfigurator;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.actuate.metrics.FlowableMetricsAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+public class FlowableMetricsAutoConfigurationTest {
+
+    private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            FlowableMetricsAutoConfiguration.class
+        ));
+
+    @Test
+    public void withMissingMeterRegistryBean() {
+        contextRunner
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(FlowableMetricsAutoConfiguration.class);
+            });
+    }
+
+    @Test
+    public void withMeterRegistryBean() {
+        contextRunner
+            .withConfiguration(AutoConfigurations.of(
+                MetricsAutoConfiguration.class,
+                SimpleMetricsExportAutoConfiguration.class,
+                CompositeMeterRegistryAutoConfiguration.class
+            ))
+            .run(context -> {
+                assertThat(context)
+                    .hasSingleBean(FlowableMetricsAutoConfiguration.class)
+                    .hasBean("metricsProcessEngineConfigurer")
+                    .hasBean("metricsCmmnEngineConfigurer");
+
+                @SuppressWarnings("unchecked")
+                EngineConfigurationConfigurer<SpringProcessEngineConfiguration> metricsProcessEngineConfigurer =
+                    (EngineConfigurationConfigurer<SpringProcessEngineConfiguration>) context
+                        .getBean("metricsProcessEngineConfigurer", EngineConfigurationConfigurer.class);
+
+                SpringProcessEngineConfiguration configuration = new SpringProcessEngineConfiguration();
+                metricsProcessEngineConfigurer.configure(configuration);
+
+                assertThat(configuration.getConfigurators())
+                    .hasSize(1)
+                    .first()
+                    .isInstanceOf(MicrometerEngineConfigurator.class);
+            });
+    }
+
+    @Test
+    public void withMetricsDisabled() {
+        contextRunner
+            .withConfiguration(AutoConfigurations.of(
+                MetricsAutoConfiguration.class,
+                SimpleMetricsExportAutoConfiguration.class,
+                CompositeMeterRegistryAutoConfiguration.class
+            ))
+            .withPropertyValues("flowable.metrics.enabled=false")
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(FlowableMetricsAutoConfiguration.class);
+            });
+    }
+}
@@ -142,12 +142,12 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateTaskTenantIdForDeployment", params);
+        getDbSqlSession().update("updateTaskTenantIdForDeployment", params, getManagedEntityClass());
     }
 
     @Override
     public void updateAllTaskRelatedEntityCountFlags(boolean newValue) {
-        getDbSqlSession().update("updateTaskRelatedEntityCountEnabled", newValue);
+        getDbSqlSession().update("updateTaskRelatedEntityCountEnabled", newValue, getManagedEntityClass());
     }
     
     @Override
@@ -13,6 +13,9 @@
 
 package org.flowable.variable.api.types;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
 /**
  * Common interface for regular and historic variable entities.
  * 
@@ -105,6 +108,17 @@ public interface ValueFields {
      */
     void setBytes(byte[] bytes);
 
+    /**
+     * Returns the byte array value as a stream, which needs to be closed by the caller.
+     * Implementations can stream the bytes from the database, such a stream needs to be consumed within the current command.
+     *
+     * @return the byte array value as a stream, if any, or null.
+     */
+    default InputStream getBytesStream() {
+        byte[] bytes = getBytes();
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
     Object getCachedValue();
 
     void setCachedValue(Object cachedValue);
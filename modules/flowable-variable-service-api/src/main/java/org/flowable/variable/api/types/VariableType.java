@@ -42,6 +42,17 @@ public interface VariableType {
      */
     boolean isAbleToStore(Object value);
 
+    /**
+     * Indicates if {@link #isAbleToStore(Object)} gives the same answer for every non-null value of the given class.
+     * When this is the case for all types that are checked, the resolved type is cached per class by the variable types.
+     * The answer is ignored for a subclass that overrides {@link #isAbleToStore(Object)} without also overriding this method.
+     *
+     * @return whether the result of {@link #isAbleToStore(Object)} depends only on the class of the value.
+     */
+    default boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return false;
+    }
+
     /**
      * Stores the specified value in the supplied {@link ValueFields}.
      */
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -109,6 +110,12 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
         return byteArrayRef.getBytes(getEngineType());
     }
 
+    @Override
+    public InputStream getBytesStream() {
+        ensureByteArrayRefInitialized();
+        return byteArrayRef.getInputStream(getEngineType());
+    }
+
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
@@ -83,6 +83,35 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         }
     }
 
+    /**
+     * Fetches the variables with the given names that are not available yet with one query and keeps them in the {@link #usedVariablesCache}.
+     * The variables that are not found on this scope are fetched on the parent scope.
+     * Afterwards, getting one of these variables no longer needs to load all variables of the scope that defines it.
+     */
+    public void prefetchVariables(Collection<String> variableNames) {
+        Set<String> variableNamesToFetch = new HashSet<>();
+        for (String variableName : variableNames) {
+            if ((transientVariables == null || !transientVariables.containsKey(variableName)) && !usedVariablesCache.containsKey(variableName)) {
+                variableNamesToFetch.add(variableName);
+            }
+        }
+
+        if (variableInstances != null) {
+            variableNamesToFetch.removeAll(variableInstances.keySet());
+
+        } else if (!variableNamesToFetch.isEmpty()) {
+            for (VariableInstanceEntity variable : getSpecificVariables(variableNamesToFetch)) {
+                usedVariablesCache.put(variable.getName(), variable);
+                variableNamesToFetch.remove(variable.getName());
+            }
+        }
+
+        VariableScopeImpl parentScope = getParentVariableScope();
+        if (parentScope != null && !variableNamesToFetch.isEmpty()) {
+            parentScope.prefetchVariables(variableNamesToFetch);
+        }
+    }
+
     /**
      * Only to be used when creating a new entity, to avoid an extra call to the database.
      */
@@ -148,6 +177,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             // Fetch variables on this scope
             List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
+                usedVariablesCache.put(variable.getName(), variable);
                 requestedVariables.put(variable.getName(), variable.getValue());
             }
 
@@ -193,6 +223,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             // Fetch variables on this scope
             List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
+                usedVariablesCache.put(variable.getName(), variable);
                 requestedVariables.put(variable.getName(), variable);
             }
 
@@ -427,6 +458,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         if (transientVariables != null && transientVariables.containsKey(variableName)) {
             return true;
         }
+        if (variableInstances == null && usedVariablesCache.containsKey(variableName)) {
+            return true;
+        }
         ensureVariableInstancesInitialized();
         return variableInstances.containsKey(variableName);
     }
@@ -523,6 +557,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
             List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
+                usedVariablesCache.put(variable.getName(), variable);
                 requestedVariables.put(variable.getName(), variable.getValue());
             }
 
@@ -558,6 +593,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
             List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
+                usedVariablesCache.put(variable.getName(), variable);
                 requestedVariables.put(variable.getName(), variable);
             }
 
@@ -815,6 +851,8 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     public void removeVariableLocal(String variableName) {
         ensureVariableInstancesInitialized();
         VariableInstanceEntity variableInstance = variableInstances.remove(variableName);
+        // The variable can also be in the used variables cache (e.g. when it was prefetched), which is consulted before the variable instances
+        usedVariablesCache.remove(variableName);
         if (variableInstance != null) {
             deleteVariableInstanceForExplicitUserCall(variableInstance);
         }
@@ -62,4 +62,9 @@ public class BooleanType implements VariableType {
         }
         return Boolean.class.isAssignableFrom(value.getClass()) || boolean.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
 }
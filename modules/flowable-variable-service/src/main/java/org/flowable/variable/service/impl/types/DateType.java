@@ -42,6 +42,11 @@ public class DateType implements VariableType {
         return Date.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
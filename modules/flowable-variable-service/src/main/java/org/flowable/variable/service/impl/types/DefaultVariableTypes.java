@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.variable.api.types.VariableType;
@@ -29,9 +30,33 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Whether a variable type class implements isAbleToStoreDeterminedByClass in the same class as isAbleToStore, or in a subclass of it.
+     * When a subclass overrides isAbleToStore only, the inherited isAbleToStoreDeterminedByClass doesn't describe that implementation.
+     */
+    private static final ClassValue<Boolean> DETERMINED_BY_CLASS_APPLIES_TO_IS_ABLE_TO_STORE = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> typeClass) {
+            try {
+                Class<?> isAbleToStoreClass = typeClass.getMethod("isAbleToStore", Object.class).getDeclaringClass();
+                Class<?> determinedByClassClass = typeClass.getMethod("isAbleToStoreDeterminedByClass", Class.class).getDeclaringClass();
+                return isAbleToStoreClass.isAssignableFrom(determinedByClassClass);
+            } catch (NoSuchMethodException e) {
+                return Boolean.FALSE;
+            }
+        }
+    };
+
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
 
+    /**
+     * The type found per value class. A ClassValue keeps the value classes (and their class loaders) collectable.
+     * It is replaced when the types change, as a ClassValue can't be cleared.
+     */
+    private transient volatile ClassValue<AtomicReference<VariableType>> typesByValueClass;
+
     @Override
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
@@ -41,6 +66,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        typesByValueClass = null;
         return this;
     }
 
@@ -51,6 +77,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        this.typesByValueClass = null;
     }
 
     @Override
@@ -60,14 +87,49 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     @Override
     public VariableType findVariableType(Object value) {
+        Class<?> valueClass = value != null ? value.getClass() : null;
+        AtomicReference<VariableType> cachedType = null;
+        if (valueClass != null) {
+            cachedType = getTypesByValueClass().get(valueClass);
+            VariableType type = cachedType.get();
+            if (type != null) {
+                return type;
+            }
+        }
+
+        // The found type can only be cached when none of the checked types looked at more than the class of the value
+        boolean determinedByClass = valueClass != null;
         for (VariableType type : typesList) {
+            determinedByClass = determinedByClass && isAbleToStoreDeterminedByClass(type, valueClass);
             if (type.isAbleToStore(value)) {
+                if (determinedByClass) {
+                    cachedType.set(type);
+                }
                 return type;
             }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    protected boolean isAbleToStoreDeterminedByClass(VariableType type, Class<?> valueClass) {
+        return type.isAbleToStoreDeterminedByClass(valueClass) && DETERMINED_BY_CLASS_APPLIES_TO_IS_ABLE_TO_STORE.get(type.getClass());
+    }
+
+    protected ClassValue<AtomicReference<VariableType>> getTypesByValueClass() {
+        ClassValue<AtomicReference<VariableType>> currentTypesByValueClass = typesByValueClass;
+        if (currentTypesByValueClass == null) {
+            currentTypesByValueClass = new ClassValue<AtomicReference<VariableType>>() {
+
+                @Override
+                protected AtomicReference<VariableType> computeValue(Class<?> valueClass) {
+                    return new AtomicReference<>();
+                }
+            };
+            typesByValueClass = currentTypesByValueClass;
+        }
+        return currentTypesByValueClass;
+    }
+
     @Override
     public int getTypeIndex(VariableType type) {
         return typesList.indexOf(type);
@@ -87,6 +149,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        typesByValueClass = null;
         return this;
     }
 
@@ -51,4 +51,9 @@ public class DoubleType implements VariableType {
         }
         return Double.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
 }
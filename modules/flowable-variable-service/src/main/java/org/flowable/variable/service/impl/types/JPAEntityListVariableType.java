@@ -85,6 +85,12 @@ public class JPAEntityListVariableType implements VariableType, CacheableVariabl
         return canStore;
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        // lists are stored based on their content
+        return !List.class.isAssignableFrom(valueClass);
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         EntityManagerSession entityManagerSession = Context.getCommandContext().getSession(EntityManagerSession.class);
@@ -13,6 +13,7 @@
 package org.flowable.variable.service.impl.types;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
@@ -94,15 +95,19 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
                 LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
             }
         } else {
-            byte[] bytes = valueFields.getBytes();
-            if (bytes != null && bytes.length > 0) {
-                try {
-                    jsonValue = objectMapper.readTree(bytes);
-                    valueFields.setCachedValue(jsonValue);
-                    traceValue(jsonValue, valueFields);
-                } catch (IOException e) {
-                    LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
+            // Parse straight from the (possibly database backed) stream, without keeping a copy of the bytes
+            try (InputStream bytesStream = valueFields.getBytesStream()) {
+                if (bytesStream != null) {
+                    JsonNode parsedValue = objectMapper.readTree(bytesStream);
+                    // empty content is read as null or as a missing node
+                    if (parsedValue != null && !parsedValue.isMissingNode()) {
+                        jsonValue = parsedValue;
+                        valueFields.setCachedValue(jsonValue);
+                        traceValue(jsonValue, valueFields);
+                    }
                 }
+            } catch (IOException e) {
+                LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
             }
         }
         return jsonValue;
@@ -198,4 +203,9 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         }
         return value instanceof JsonNode;
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
 }
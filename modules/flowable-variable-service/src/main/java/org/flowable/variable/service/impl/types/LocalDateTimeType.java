@@ -44,6 +44,11 @@ public class LocalDateTimeType implements VariableType {
         return LocalDateTime.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
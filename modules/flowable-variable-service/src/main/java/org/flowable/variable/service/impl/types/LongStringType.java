@@ -40,4 +40,10 @@ public class LongStringType extends SerializableType {
         }
         return false;
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        // strings are stored based on their length
+        return !String.class.isAssignableFrom(valueClass);
+    }
 }
@@ -44,6 +44,11 @@ public class NullType implements VariableType {
         return (value == null);
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
     }
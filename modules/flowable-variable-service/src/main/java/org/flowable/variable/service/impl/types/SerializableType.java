@@ -46,6 +46,12 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
 
     public static final String TYPE_NAME = "serializable";
 
+    /**
+     * Whether changes to deserialized runtime variable values are detected and stored when the command ends.
+     * This needs the original bytes, so when enabled (the default in the engine configurations), runtime variables read
+     * within a command are loaded into memory before they are deserialized. Only the other reads (e.g. historic variables)
+     * deserialize straight from the {@link ValueFields#getBytesStream() bytes stream}.
+     */
     protected boolean trackDeserializedObjects;
 
     @Override
@@ -67,14 +73,27 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
             return cachedObject;
         }
 
-        byte[] bytes = (byte[]) super.getValue(valueFields);
-        if (bytes != null) {
+        if (isTraced(valueFields)) {
+            // The original bytes are needed to detect changes of the deserialized object
+            byte[] bytes = (byte[]) super.getValue(valueFields);
+            if (bytes != null) {
 
-            Object deserializedObject = deserialize(bytes, valueFields);
-            valueFields.setCachedValue(deserializedObject);
+                Object deserializedObject = deserialize(bytes, valueFields);
+                valueFields.setCachedValue(deserializedObject);
+
+                traceValue(valueFields.getCachedValue(), bytes, valueFields);
 
-            traceValue(valueFields.getCachedValue(), bytes, valueFields);
+                return deserializedObject;
+            }
+            return null; // byte array is null
+        }
 
+        // Not tracked (e.g. historic variables, or tracking is disabled):
+        // deserialize straight from the (possibly database backed) stream, without keeping a copy of the bytes
+        InputStream bytesStream = valueFields.getBytesStream();
+        if (bytesStream != null) {
+            Object deserializedObject = deserialize(bytesStream, valueFields);
+            valueFields.setCachedValue(deserializedObject);
             return deserializedObject;
         }
         return null; // byte array is null
@@ -90,6 +109,10 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         traceValue(valueFields.getCachedValue(), bytes, valueFields);
     }
 
+    protected boolean isTraced(ValueFields valueFields) {
+        return trackDeserializedObjects && valueFields instanceof VariableInstanceEntity && Context.getCommandContext() != null;
+    }
+
     protected void traceValue(Object value, byte[] valueBytes, ValueFields valueFields) {
         if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity) {
             CommandContext commandContext = Context.getCommandContext();
@@ -144,16 +167,22 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
     }
 
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
-        ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+        return deserialize(new ByteArrayInputStream(bytes), valueFields);
+    }
+
+    /**
+     * Deserializes the object from the given stream and closes the stream.
+     */
+    public Object deserialize(InputStream bytesStream, ValueFields valueFields) {
         try {
-            ObjectInputStream ois = createObjectInputStream(bais);
+            ObjectInputStream ois = createObjectInputStream(bytesStream);
             Object deserializedObject = ois.readObject();
 
             return deserializedObject;
         } catch (Exception e) {
             throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "'", e);
         } finally {
-            IoUtil.closeSilently(bais);
+            IoUtil.closeSilently(bytesStream);
         }
     }
     
@@ -190,6 +219,11 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         return value instanceof Serializable;
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             @Override
@@ -58,4 +58,10 @@ public class StringType implements VariableType {
         }
         return false;
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        // strings are stored based on their length
+        return !String.class.isAssignableFrom(valueClass);
+    }
 }